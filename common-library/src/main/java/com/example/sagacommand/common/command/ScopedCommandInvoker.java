@@ -1,9 +1,15 @@
 package com.example.sagacommand.common.command;
 
+import com.example.sagacommand.common.jfr.SagaFlightRecorder;
+import com.example.sagacommand.common.journal.JournaledCommand;
+import com.example.sagacommand.common.journal.SagaJournal;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.UUID;
 
 @Slf4j
 public class ScopedCommandInvoker implements AutoCloseable {
@@ -11,7 +17,22 @@ public class ScopedCommandInvoker implements AutoCloseable {
     private final CommandInvoker commandInvoker;
 
     public ScopedCommandInvoker() {
-        this.commandInvoker = new CommandInvoker();
+        this(ObservationRegistry.NOOP);
+    }
+
+    /**
+     * @param observationRegistry 커맨드 execute/undo 마다 "saga.command" 관측(span)을 기록할 레지스트리
+     *                            (JFR 기록 중이면 com.example.saga.Command 이벤트도 함께 기록)
+     */
+    public ScopedCommandInvoker(ObservationRegistry observationRegistry) {
+        this(observationRegistry, SagaJournal.NOOP);
+    }
+
+    /**
+     * @param journal beginSaga ~ endSaga 사이에 실행되는 JournaledCommand 의 의도/완료/되돌리기를 기록할 저널
+     */
+    public ScopedCommandInvoker(ObservationRegistry observationRegistry, SagaJournal journal) {
+        this.commandInvoker = new CommandInvoker(observationRegistry, journal);
     }
 
     public <T> T executeCommand(Command<T> command) {
@@ -26,6 +47,22 @@ public class ScopedCommandInvoker implements AutoCloseable {
         commandInvoker.undoAllCommands();
     }
 
+    /**
+     * 현재 스레드에서 Saga(이벤트 하나의 처리)를 시작합니다. endSaga 전까지 실행되는 커맨드가 저널에 기록됩니다.
+     *
+     * @param orderId 알 수 없으면 null
+     */
+    public void beginSaga(UUID orderId, String eventType) {
+        commandInvoker.beginSaga(orderId, eventType);
+    }
+
+    /**
+     * Saga 를 정상 종료로 기록합니다. 종료가 기록되지 않은 Saga 는 재시작 시 완료된 커맨드가 되돌려집니다.
+     */
+    public void endSaga() {
+        commandInvoker.endSaga();
+    }
+
     public void clear() {
         commandInvoker.clear();
     }
@@ -37,41 +74,87 @@ public class ScopedCommandInvoker implements AutoCloseable {
 
     private static class CommandInvoker {
 
-        private final ThreadLocal<Deque<Command<?>>> commandHistoryHolder =
+        private final ThreadLocal<Deque<Executed>> commandHistoryHolder =
                 ThreadLocal.withInitial(ArrayDeque::new);
+        private final ThreadLocal<SagaScope> sagaHolder = new ThreadLocal<>();
+        private final ObservationRegistry observationRegistry;
+        private final SagaJournal journal;
 
-        private CommandInvoker() {
+        private CommandInvoker(ObservationRegistry observationRegistry, SagaJournal journal) {
+            this.observationRegistry = observationRegistry;
+            this.journal = journal;
         }
 
         public <T> T executeCommand(Command<T> command) {
-            T result = command.execute();
-            commandHistoryHolder.get().push(command);
+            SagaScope saga = sagaHolder.get();
+            if (saga == null || !(command instanceof JournaledCommand journaled)) {
+                T result = execute(command);
+                commandHistoryHolder.get().push(new Executed(command, -1));
+                return result;
+            }
+
+            int seq = saga.nextSeq++;
+            journal.intent(saga.id, seq, journaled.getJournalType());
+            T result = execute(command);
+            journal.completed(saga.id, seq, journaled.getJournalType(), journaled.getUndoState());
+            commandHistoryHolder.get().push(new Executed(command, seq));
             return result;
         }
 
+        private <T> T execute(Command<T> command) {
+            return observation(command, "execute")
+                    .observe(() -> SagaFlightRecorder.command(command, "execute", command::execute));
+        }
+
         public void undoLastCommand() {
-            Deque<Command<?>> history = commandHistoryHolder.get();
+            Deque<Executed> history = commandHistoryHolder.get();
 
             if (!history.isEmpty()) {
-                Command<?> command = history.pop();
-                try {
-                    command.undo();
-                } catch (Exception e) {
-                    log.warn("Undo failed for command {}: {}", command.getClass().getSimpleName(), e.getMessage(), e);
-                }
+                undo(history.pop());
             }
         }
 
         public void undoAllCommands() {
-            Deque<Command<?>> history = commandHistoryHolder.get();
+            Deque<Executed> history = commandHistoryHolder.get();
 
             while (!history.isEmpty()) {
-                Command<?> command = history.pop();
-                try {
-                    command.undo();
-                } catch (Exception e) {
-                    log.warn("Undo failed for command {}: {}", command.getClass().getSimpleName(), e.getMessage(), e);
+                undo(history.pop());
+            }
+        }
+
+        private void undo(Executed executed) {
+            Command<?> command = executed.command();
+            try {
+                observation(command, "undo").observe(() -> SagaFlightRecorder.command(command, "undo", command::undo));
+                SagaScope saga = sagaHolder.get();
+                if (saga != null && executed.seq() >= 0) {
+                    journal.undone(saga.id, executed.seq());
                 }
+            } catch (Exception e) {
+                log.warn("Undo failed for command {}: {}", command.getClass().getSimpleName(), e.getMessage(), e);
+            }
+        }
+
+        private Observation observation(Command<?> command, String phase) {
+            String commandName = command.getClass().getSimpleName();
+            return Observation.createNotStarted("saga.command", observationRegistry)
+                    .contextualName(commandName + " " + phase)
+                    .lowCardinalityKeyValue("command", commandName)
+                    .lowCardinalityKeyValue("phase", phase);
+        }
+
+        public void beginSaga(UUID orderId, String eventType) {
+            if (journal == SagaJournal.NOOP) {
+                return;
+            }
+            sagaHolder.set(new SagaScope(journal.begin(orderId, eventType)));
+        }
+
+        public void endSaga() {
+            SagaScope saga = sagaHolder.get();
+            if (saga != null) {
+                sagaHolder.remove();
+                journal.end(saga.id);
             }
         }
 
@@ -79,4 +162,16 @@ public class ScopedCommandInvoker implements AutoCloseable {
             commandHistoryHolder.remove();
         }
     }
+
+    private record Executed(Command<?> command, int seq) {
+    }
+
+    private static final class SagaScope {
+        private final long id;
+        private int nextSeq;
+
+        private SagaScope(long id) {
+            this.id = id;
+        }
+    }
 }
@@ -1,5 +1,19 @@
 package com.example.sagacommand.common.event;
 
+import java.util.List;
+
 public interface EventProcessor {
     void processEvent(Event event);
+
+    void processEvent(EventView<?> eventView);
+
+    /**
+     * 배치로 수신한 이벤트를 처리합니다. 같은 주문의 이벤트가 여러 건 섞여 있을 수 있습니다.
+     * 기본 구현은 수신 순서대로 한 건씩 처리합니다.
+     */
+    default void processEvents(List<? extends EventView<?>> eventViews) {
+        for (EventView<?> eventView : eventViews) {
+            processEvent(eventView);
+        }
+    }
 }
@@ -0,0 +1,36 @@
+package com.example.sagacommand.common.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아직 전체가 디코딩되지 않은 이벤트에 대한 뷰입니다.
+ * Saga 이벤트는 모두 주문 ID를 가지므로 주문 ID는 즉시 제공하고,
+ * 나머지 필드는 get()을 호출할 때 처음 디코딩합니다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public interface EventView<T> {
+    Class<T> getType();
+
+    UUID getOrderId();
+
+    /**
+     * 전체 이벤트를 디코딩하여 반환합니다. (최초 호출 시 1회만 디코딩)
+     */
+    T get();
+
+    /**
+     * 주문별로 묶습니다. 그룹은 처음 등장한 순서대로, 그룹 안의 이벤트는 수신 순서대로 둡니다.
+     */
+    static Map<UUID, List<EventView<?>>> groupByOrder(List<? extends EventView<?>> eventViews) {
+        Map<UUID, List<EventView<?>>> groups = new LinkedHashMap<>();
+        for (EventView<?> eventView : eventViews) {
+            groups.computeIfAbsent(eventView.getOrderId(), key -> new ArrayList<>()).add(eventView);
+        }
+        return groups;
+    }
+}
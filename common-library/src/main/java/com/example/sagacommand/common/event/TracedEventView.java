@@ -0,0 +1,52 @@
+package com.example.sagacommand.common.event;
+
+import io.micrometer.observation.Observation;
+
+import java.util.UUID;
+
+/**
+ * 이벤트를 받은 레코드의 수신 관측(span)을 함께 전달하는 뷰입니다.
+ * <p>
+ * 배치로 받은 이벤트는 묶음 처리나 슬로 레인 때문에 수신한 스레드의 관측 범위 밖에서 처리될 수 있으므로,
+ * 관측을 뷰에 실어 보내고 SagaOrchestrator 가 "saga.event" 의 부모로 사용합니다.
+ * 그래서 발행 측 trace 가 레코드 헤더에서 이어져 처리 스레드와 상관없이 같은 trace 에 남습니다.
+ *
+ * @param <T> 이벤트 타입
+ */
+public final class TracedEventView<T> implements EventView<T> {
+    private final EventView<T> delegate;
+    private final Observation parent;
+
+    private TracedEventView(EventView<T> delegate, Observation parent) {
+        this.delegate = delegate;
+        this.parent = parent;
+    }
+
+    public static <T> TracedEventView<T> of(EventView<T> eventView, Observation parent) {
+        return new TracedEventView<>(eventView, parent);
+    }
+
+    public Observation getParent() {
+        return parent;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return delegate.getType();
+    }
+
+    @Override
+    public UUID getOrderId() {
+        return delegate.getOrderId();
+    }
+
+    @Override
+    public T get() {
+        return delegate.get();
+    }
+
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
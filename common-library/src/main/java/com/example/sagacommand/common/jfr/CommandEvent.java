@@ -0,0 +1,36 @@
+package com.example.sagacommand.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 커맨드 execute/undo 한 번입니다. Saga 단계 안에서 실행되면 그 단계의 이벤트 타입과 주문 ID 를 함께 기록합니다.
+ */
+@Name(SagaFlightRecorder.COMMAND_EVENT)
+@Label("Saga Command")
+@Category({"Saga", "Command"})
+@Description("커맨드 execute/undo 실행")
+@StackTrace(false)
+class CommandEvent extends jdk.jfr.Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
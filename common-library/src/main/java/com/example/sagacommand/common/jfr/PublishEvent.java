@@ -0,0 +1,33 @@
+package com.example.sagacommand.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 이벤트 발행 호출 구간입니다 (직렬화, 파티션 결정, 전송 버퍼 적재까지. 브로커 응답은 포함하지 않음).
+ */
+@Name(SagaFlightRecorder.PUBLISH_EVENT)
+@Label("Saga Publish")
+@Category({"Saga", "Publish"})
+@Description("도메인 이벤트 발행")
+@StackTrace(false)
+class PublishEvent extends jdk.jfr.Event {
+
+    @Label("Topic")
+    String topic;
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
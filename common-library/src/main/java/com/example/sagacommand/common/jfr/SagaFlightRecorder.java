@@ -0,0 +1,148 @@
+package com.example.sagacommand.common.jfr;
+
+import com.example.sagacommand.common.command.Command;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 커맨드, Saga 단계, 이벤트 발행을 JDK Flight Recorder 이벤트로 기록합니다.
+ * <p>
+ * JFR 기록 중이 아니거나 해당 이벤트가 꺼져 있으면 이벤트 객체 생성과 활성 여부 확인만 하고 바로 실행하므로
+ * 비용이 거의 없습니다 (필드 값은 커밋할 때만 채움).
+ * Saga 단계 안에서 실행되는 커맨드는 단계의 이벤트 타입과 주문 ID 를 이어받습니다 (같은 스레드).
+ * 기록 설정은 order-service 의 jfr/saga.jfc, 요약은 {@link SagaRecordingAnalyzer} 를 사용합니다.
+ */
+public final class SagaFlightRecorder {
+
+    public static final String COMMAND_EVENT = "com.example.saga.Command";
+    public static final String STEP_EVENT = "com.example.saga.Step";
+    public static final String PUBLISH_EVENT = "com.example.saga.Publish";
+
+    static final String SUCCESS = "SUCCESS";
+    static final String FAILURE = "FAILURE";
+
+    private static final ThreadLocal<Step> CURRENT_STEP = new ThreadLocal<>();
+
+    private SagaFlightRecorder() {
+    }
+
+    public static <T> T command(Command<?> command, String phase, Supplier<T> action) {
+        CommandEvent event = new CommandEvent();
+        if (!event.isEnabled()) {
+            return action.get();
+        }
+        event.begin();
+        try {
+            T result = action.get();
+            commit(event, command, phase, null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            commit(event, command, phase, e);
+            throw e;
+        }
+    }
+
+    public static void command(Command<?> command, String phase, Runnable action) {
+        command(command, phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * @param orderId 알 수 없으면 null
+     */
+    public static void sagaStep(String eventType, String handler, UUID orderId, Runnable action) {
+        SagaStepEvent event = new SagaStepEvent();
+        if (!event.isEnabled() && !new CommandEvent().isEnabled()) {
+            action.run();
+            return;
+        }
+        Step previous = CURRENT_STEP.get();
+        CURRENT_STEP.set(new Step(eventType, orderId == null ? null : orderId.toString()));
+        event.begin();
+        try {
+            action.run();
+            commit(event, handler, null);
+        } catch (RuntimeException | Error e) {
+            commit(event, handler, e);
+            throw e;
+        } finally {
+            if (previous == null) {
+                CURRENT_STEP.remove();
+            } else {
+                CURRENT_STEP.set(previous);
+            }
+        }
+    }
+
+    public static void publish(String topic, String key, Object payload, Runnable action) {
+        PublishEvent event = new PublishEvent();
+        if (!event.isEnabled()) {
+            action.run();
+            return;
+        }
+        event.begin();
+        try {
+            action.run();
+            commit(event, topic, key, payload, null);
+        } catch (RuntimeException | Error e) {
+            commit(event, topic, key, payload, e);
+            throw e;
+        }
+    }
+
+    private static void commit(CommandEvent event, Command<?> command, String phase, Throwable failure) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.command = nameOf(command.getClass());
+        event.phase = phase;
+        Step step = CURRENT_STEP.get();
+        if (step != null) {
+            event.eventType = step.eventType();
+            event.orderId = step.orderId();
+        }
+        event.outcome = failure == null ? SUCCESS : FAILURE;
+        event.error = failure == null ? null : failure.getClass().getName();
+        event.commit();
+    }
+
+    private static void commit(SagaStepEvent event, String handler, Throwable failure) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        Step step = CURRENT_STEP.get();
+        event.eventType = step.eventType();
+        event.orderId = step.orderId();
+        event.handler = handler;
+        event.outcome = failure == null ? SUCCESS : FAILURE;
+        event.error = failure == null ? null : failure.getClass().getName();
+        event.commit();
+    }
+
+    private static void commit(PublishEvent event, String topic, String key, Object payload, Throwable failure) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.topic = topic;
+        event.orderId = key;
+        event.eventType = payload == null ? null : nameOf(payload.getClass());
+        event.outcome = failure == null ? SUCCESS : FAILURE;
+        event.error = failure == null ? null : failure.getClass().getName();
+        event.commit();
+    }
+
+    // 관측(Observation) 태그와 같은 단순 이름 (익명/람다 클래스는 전체 이름)
+    private static String nameOf(Class<?> type) {
+        String simpleName = type.getSimpleName();
+        return simpleName.isEmpty() ? type.getName() : simpleName;
+    }
+
+    private record Step(String eventType, String orderId) {
+    }
+}
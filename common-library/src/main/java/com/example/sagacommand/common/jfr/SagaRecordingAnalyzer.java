@@ -0,0 +1,131 @@
+package com.example.sagacommand.common.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록에서 Saga 이벤트(커맨드, 단계, 발행)를 모아 항목별 지연 시간 분포를 요약합니다.
+ * <p>
+ * 커맨드는 "클래스 단계"(예: "UpdateOrderStatusCommand execute"), 단계는 이벤트 타입, 발행은 "이벤트 타입 → 토픽"으로 묶습니다.
+ * 명령행 실행은 tools 소스 세트의 SagaRecordingSummary 를 사용합니다.
+ */
+public final class SagaRecordingAnalyzer {
+
+    // 1µs 부터 2배씩, 마지막 구간은 그 이상 전부
+    private static final int BUCKETS = 26;
+    private static final int BAR_WIDTH = 40;
+
+    private SagaRecordingAnalyzer() {
+    }
+
+    /**
+     * 기록을 읽어 이벤트 종류(Command/Step/Publish)별, 항목별 요약을 반환합니다.
+     */
+    public static Map<String, Map<String, LatencySummary>> summarize(Path recording) throws IOException {
+        Map<String, Map<String, List<Long>>> samples = new TreeMap<>();
+        Map<String, Map<String, Integer>> failures = new TreeMap<>();
+
+        for (RecordedEvent event : RecordingFile.readAllEvents(recording)) {
+            String kind;
+            String key;
+            switch (event.getEventType().getName()) {
+                case SagaFlightRecorder.COMMAND_EVENT -> {
+                    kind = "Command";
+                    key = event.getString("command") + " " + event.getString("phase");
+                }
+                case SagaFlightRecorder.STEP_EVENT -> {
+                    kind = "Step";
+                    key = event.getString("eventType");
+                }
+                case SagaFlightRecorder.PUBLISH_EVENT -> {
+                    kind = "Publish";
+                    key = event.getString("eventType") + " → " + event.getString("topic");
+                }
+                default -> {
+                    continue;
+                }
+            }
+            samples.computeIfAbsent(kind, k -> new TreeMap<>())
+                    .computeIfAbsent(key, k -> new ArrayList<>())
+                    .add(event.getDuration().toNanos());
+            if (SagaFlightRecorder.FAILURE.equals(event.getString("outcome"))) {
+                failures.computeIfAbsent(kind, k -> new TreeMap<>()).merge(key, 1, Integer::sum);
+            }
+        }
+
+        Map<String, Map<String, LatencySummary>> summaries = new TreeMap<>();
+        samples.forEach((kind, byKey) -> byKey.forEach((key, durations) -> {
+            int failed = failures.getOrDefault(kind, Map.of()).getOrDefault(key, 0);
+            summaries.computeIfAbsent(kind, k -> new TreeMap<>()).put(key, LatencySummary.of(durations, failed));
+        }));
+        return summaries;
+    }
+
+    public static String format(Map<String, Map<String, LatencySummary>> summaries) {
+        StringBuilder out = new StringBuilder();
+        summaries.forEach((kind, byKey) -> {
+            out.append("== ").append(kind).append(" ==\n");
+            byKey.forEach((key, summary) -> {
+                out.append(String.format("%s%n  count=%d failures=%d p50=%s p90=%s p99=%s max=%s%n",
+                        key, summary.count(), summary.failures(), micros(summary.p50Nanos()),
+                        micros(summary.p90Nanos()), micros(summary.p99Nanos()), micros(summary.maxNanos())));
+                long[] histogram = summary.histogram();
+                long peak = Arrays.stream(histogram).max().orElse(1);
+                for (int i = 0; i < histogram.length; i++) {
+                    if (histogram[i] == 0) {
+                        continue;
+                    }
+                    String bound = i == histogram.length - 1 ? ">" + micros(upperBoundNanos(i - 1)) : "≤" + micros(upperBoundNanos(i));
+                    int bar = (int) Math.max(1, histogram[i] * BAR_WIDTH / peak);
+                    out.append(String.format("  %10s | %-" + BAR_WIDTH + "s %d%n", bound, "#".repeat(bar), histogram[i]));
+                }
+            });
+        });
+        return out.toString();
+    }
+
+    private static long upperBoundNanos(int bucket) {
+        return 1_000L << bucket;
+    }
+
+    private static String micros(long nanos) {
+        if (nanos >= 1_000_000L) {
+            return String.format("%.1fms", nanos / 1_000_000.0);
+        }
+        return (nanos / 1_000L) + "µs";
+    }
+
+    /**
+     * 항목 하나의 지연 시간 요약입니다. histogram[i] 는 (2^(i-1)µs, 2^i µs] 구간의 건수입니다.
+     */
+    public record LatencySummary(int count, int failures, long p50Nanos, long p90Nanos, long p99Nanos, long maxNanos,
+                                 long[] histogram) {
+
+        static LatencySummary of(List<Long> durations, int failures) {
+            long[] sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+            long[] histogram = new long[BUCKETS];
+            for (long nanos : sorted) {
+                int bucket = 0;
+                while (bucket < BUCKETS - 1 && nanos > upperBoundNanos(bucket)) {
+                    bucket++;
+                }
+                histogram[bucket]++;
+            }
+            return new LatencySummary(sorted.length, failures, percentile(sorted, 0.50), percentile(sorted, 0.90),
+                    percentile(sorted, 0.99), sorted[sorted.length - 1], histogram);
+        }
+
+        private static long percentile(long[] sorted, double quantile) {
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
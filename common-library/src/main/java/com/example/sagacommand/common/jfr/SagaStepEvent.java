@@ -0,0 +1,33 @@
+package com.example.sagacommand.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * SagaOrchestrator 가 이벤트 하나를 핸들러로 처리한 구간입니다.
+ */
+@Name(SagaFlightRecorder.STEP_EVENT)
+@Label("Saga Step")
+@Category({"Saga", "Step"})
+@Description("Saga 이벤트 핸들러 실행")
+@StackTrace(false)
+class SagaStepEvent extends jdk.jfr.Event {
+
+    @Label("Event Type")
+    String eventType;
+
+    @Label("Handler")
+    String handler;
+
+    @Label("Order Id")
+    String orderId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
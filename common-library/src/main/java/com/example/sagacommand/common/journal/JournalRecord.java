@@ -0,0 +1,135 @@
+package com.example.sagacommand.common.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.CRC32C;
+
+/**
+ * 저널 레코드와 그 바이너리 형식입니다.
+ * <pre>[int 길이][int CRC32C][byte 종류][long sagaId][int seq][본문]</pre>
+ * 길이와 CRC 는 종류부터 본문 끝까지를 대상으로 하며, 길이가 0 이거나 CRC 가 맞지 않으면 기록의 끝으로 봅니다.
+ */
+record JournalRecord(byte type, long sagaId, int seq, UUID orderId, String name, byte[] state) {
+
+    static final byte BEGIN = 1;
+    static final byte INTENT = 2;
+    static final byte DONE = 3;
+    static final byte UNDONE = 4;
+    static final byte END = 5;
+
+    static final int HEADER = Integer.BYTES * 2;
+    private static final int FIXED = Byte.BYTES + Long.BYTES + Integer.BYTES;
+
+    static JournalRecord begin(long sagaId, UUID orderId, String eventType) {
+        return new JournalRecord(BEGIN, sagaId, 0, orderId, eventType, null);
+    }
+
+    static JournalRecord intent(long sagaId, int seq, String journalType) {
+        return new JournalRecord(INTENT, sagaId, seq, null, journalType, null);
+    }
+
+    static JournalRecord done(long sagaId, int seq, String journalType, byte[] undoState) {
+        return new JournalRecord(DONE, sagaId, seq, null, journalType, undoState);
+    }
+
+    static JournalRecord undone(long sagaId, int seq) {
+        return new JournalRecord(UNDONE, sagaId, seq, null, null, null);
+    }
+
+    static JournalRecord end(long sagaId) {
+        return new JournalRecord(END, sagaId, 0, null, null, null);
+    }
+
+    byte[] encode() {
+        byte[] nameBytes = name == null ? new byte[0] : name.getBytes(StandardCharsets.UTF_8);
+        int bodyLength = switch (type) {
+            case BEGIN -> Long.BYTES * 2 + Short.BYTES + nameBytes.length;
+            case INTENT -> Short.BYTES + nameBytes.length;
+            case DONE -> Short.BYTES + nameBytes.length + Integer.BYTES + (state == null ? 0 : state.length);
+            default -> 0;
+        };
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER + FIXED + bodyLength);
+        buffer.putInt(FIXED + bodyLength).putInt(0);
+        buffer.put(type).putLong(sagaId).putInt(seq);
+        switch (type) {
+            case BEGIN -> {
+                buffer.putLong(orderId == null ? 0L : orderId.getMostSignificantBits());
+                buffer.putLong(orderId == null ? 0L : orderId.getLeastSignificantBits());
+                buffer.putShort((short) nameBytes.length).put(nameBytes);
+            }
+            case INTENT -> buffer.putShort((short) nameBytes.length).put(nameBytes);
+            case DONE -> {
+                buffer.putShort((short) nameBytes.length).put(nameBytes);
+                buffer.putInt(state == null ? -1 : state.length);
+                if (state != null) {
+                    buffer.put(state);
+                }
+            }
+            default -> {
+            }
+        }
+        byte[] bytes = buffer.array();
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, checksum(bytes, HEADER, bytes.length - HEADER));
+        return bytes;
+    }
+
+    /**
+     * buffer 의 현재 위치에서 레코드 하나를 읽습니다. 기록의 끝(빈 공간, 잘린 쓰기)이면 null 을 반환하고 위치를 옮기지 않습니다.
+     */
+    static JournalRecord read(ByteBuffer buffer) {
+        int start = buffer.position();
+        if (buffer.remaining() < HEADER + FIXED) {
+            return null;
+        }
+        int length = buffer.getInt(start);
+        if (length < FIXED || length > buffer.remaining() - HEADER) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(start + HEADER, bytes);
+        if (checksum(bytes, 0, length) != buffer.getInt(start + Integer.BYTES)) {
+            return null;
+        }
+        buffer.position(start + HEADER + length);
+
+        ByteBuffer body = ByteBuffer.wrap(bytes);
+        byte type = body.get();
+        long sagaId = body.getLong();
+        int seq = body.getInt();
+        return switch (type) {
+            case BEGIN -> {
+                long most = body.getLong();
+                long least = body.getLong();
+                UUID orderId = most == 0L && least == 0L ? null : new UUID(most, least);
+                yield begin(sagaId, orderId, readString(body));
+            }
+            case INTENT -> intent(sagaId, seq, readString(body));
+            case DONE -> {
+                String journalType = readString(body);
+                int stateLength = body.getInt();
+                byte[] state = null;
+                if (stateLength >= 0) {
+                    state = new byte[stateLength];
+                    body.get(state);
+                }
+                yield done(sagaId, seq, journalType, state);
+            }
+            case UNDONE -> undone(sagaId, seq);
+            case END -> end(sagaId);
+            default -> throw new IllegalStateException("알 수 없는 저널 레코드 종류: " + type);
+        };
+    }
+
+    private static String readString(ByteBuffer body) {
+        byte[] bytes = new byte[Short.toUnsignedInt(body.getShort())];
+        body.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int checksum(byte[] bytes, int offset, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
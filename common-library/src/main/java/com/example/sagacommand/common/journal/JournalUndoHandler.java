@@ -0,0 +1,11 @@
+package com.example.sagacommand.common.journal;
+
+/**
+ * 저널 복구 시 커맨드 객체 없이 기록된 상태만으로 커맨드를 되돌립니다.
+ */
+public interface JournalUndoHandler {
+
+    String getJournalType();
+
+    void undo(byte[] undoState);
+}
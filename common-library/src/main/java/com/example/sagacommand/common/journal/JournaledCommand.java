@@ -0,0 +1,15 @@
+package com.example.sagacommand.common.journal;
+
+/**
+ * Saga 저널에 기록되어, 프로세스 재시작 후에도 되돌릴 수 있는 커맨드입니다.
+ * 재시작 시에는 커맨드 객체가 없으므로 같은 journalType 의 {@link JournalUndoHandler} 가 undoState 로 되돌립니다.
+ */
+public interface JournaledCommand {
+
+    String getJournalType();
+
+    /**
+     * execute 직후 호출되며, 되돌릴 것이 없으면(변경 없음) null 을 반환합니다.
+     */
+    byte[] getUndoState();
+}
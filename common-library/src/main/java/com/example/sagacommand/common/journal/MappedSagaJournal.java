@@ -0,0 +1,443 @@
+package com.example.sagacommand.common.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 파일에 추가만 하는(append-only) Saga 저널입니다.
+ * <p>
+ * 레코드는 고정 크기 세그먼트(saga-journal-{번호}.seg)에 순서대로 쓰고, 세그먼트가 차면 다음 세그먼트로 넘어갑니다.
+ * 쓰기는 매핑된 메모리 복사뿐이라 DB 왕복이 없으며, 프로세스가 죽어도 페이지 캐시의 내용은 파일에 남습니다.
+ * 커맨드 완료 기록은 장비 장애에도 남도록 디스크 반영(force)까지 기다리는데, 반영은 전용 스레드가 모아서 한 번에 하므로
+ * 동시에 기다리는 여러 Saga 가 한 번의 force 를 나눠 씁니다 (그룹 커밋).
+ * <p>
+ * 열 때 모든 세그먼트를 읽어 끝나지 않은 Saga 의 완료된 커맨드를 역순으로 되돌리고(JournalUndoHandler), 종료를 기록합니다.
+ * 진행 중인 Saga 가 없는 오래된 세그먼트는 세그먼트를 넘길 때 삭제합니다 (압축).
+ */
+@Slf4j
+public class MappedSagaJournal implements SagaJournal, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "saga-journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int SEGMENT_MAGIC = 0x53474A31; // "SGJ1"
+    private static final int SEGMENT_HEADER = Integer.BYTES;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean sync;
+    private final long groupCommitWindowNanos;
+
+    private final Object appendLock = new Object();
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    // 진행 중인 Saga → 첫 레코드가 있는 세그먼트 번호 (이보다 앞선 세그먼트만 삭제 가능)
+    private final Map<Long, Long> activeSagas = new ConcurrentHashMap<>();
+    private final AtomicLong nextSagaId = new AtomicLong(1);
+    private final AtomicLong groupCommits = new AtomicLong();
+    private volatile Segment current;
+    // 지금까지 쓴 바이트 수 (appendLock 안에서만 증가)
+    private volatile long appended;
+
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushRequested = flushLock.newCondition();
+    private final Condition flushed = flushLock.newCondition();
+    private long durable;
+    private boolean flushPending;
+    private volatile boolean running = true;
+    private Thread flusher;
+
+    private MappedSagaJournal(Path directory, int segmentSize, boolean sync, Duration groupCommitWindow) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.groupCommitWindowNanos = groupCommitWindow.toNanos();
+    }
+
+    /**
+     * 저널을 열고 끝나지 않은 Saga 를 복구합니다.
+     *
+     * @param sync              커맨드 완료 기록마다 디스크 반영을 기다릴지 여부 (false 면 프로세스 장애까지만 보장)
+     * @param groupCommitWindow 디스크 반영 전에 다른 커밋을 모으는 시간
+     * @param undoHandlers      journalType 별 복구용 되돌리기
+     */
+    public static MappedSagaJournal open(Path directory, int segmentSize, boolean sync, Duration groupCommitWindow,
+                                         List<JournalUndoHandler> undoHandlers) {
+        if (segmentSize <= SEGMENT_HEADER) {
+            throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentSize);
+        }
+        MappedSagaJournal journal = new MappedSagaJournal(directory, segmentSize, sync, groupCommitWindow);
+        try {
+            Files.createDirectories(directory);
+            journal.recover(undoHandlers);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Saga 저널을 열 수 없습니다: " + directory, e);
+        }
+        if (sync) {
+            journal.startFlusher();
+        }
+        return journal;
+    }
+
+    @Override
+    public long begin(UUID orderId, String eventType) {
+        long sagaId = nextSagaId.getAndIncrement();
+        append(JournalRecord.begin(sagaId, orderId, eventType));
+        return sagaId;
+    }
+
+    @Override
+    public void intent(long sagaId, int seq, String journalType) {
+        append(JournalRecord.intent(sagaId, seq, journalType));
+    }
+
+    @Override
+    public void completed(long sagaId, int seq, String journalType, byte[] undoState) {
+        awaitDurable(append(JournalRecord.done(sagaId, seq, journalType, undoState)));
+    }
+
+    @Override
+    public void undone(long sagaId, int seq) {
+        append(JournalRecord.undone(sagaId, seq));
+    }
+
+    @Override
+    public void end(long sagaId) {
+        append(JournalRecord.end(sagaId));
+        activeSagas.remove(sagaId);
+    }
+
+    public int getActiveSagas() {
+        return activeSagas.size();
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getGroupCommits() {
+        return groupCommits.get();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            try {
+                flusher.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (appendLock) {
+            current.force();
+        }
+        // 기다리던 커밋은 위의 force 로 반영됨
+        markDurable(appended);
+    }
+
+    /**
+     * 레코드를 현재 세그먼트에 쓰고, 이 레코드까지 쓴 바이트 수(그룹 커밋 대기 기준)를 반환합니다.
+     */
+    private long append(JournalRecord record) {
+        byte[] bytes = record.encode();
+        if (bytes.length > segmentSize - SEGMENT_HEADER) {
+            throw new IllegalArgumentException("세그먼트보다 큰 저널 레코드: " + bytes.length + " bytes");
+        }
+        synchronized (appendLock) {
+            if (current.remaining() < bytes.length) {
+                roll();
+            }
+            current.write(bytes);
+            if (record.type() == JournalRecord.BEGIN) {
+                activeSagas.put(record.sagaId(), current.index);
+            }
+            appended += bytes.length;
+            return appended;
+        }
+    }
+
+    // appendLock 안에서 호출
+    private void roll() {
+        current.force();
+        Segment next = Segment.create(segmentPath(current.index + 1), current.index + 1, segmentSize);
+        segments.put(next.index, next);
+        current = next;
+        compact();
+    }
+
+    // 진행 중인 Saga 의 레코드가 없는 이전 세그먼트를 삭제 (appendLock 안 또는 열 때 호출)
+    private void compact() {
+        long keepFrom = current.index;
+        for (long first : activeSagas.values()) {
+            keepFrom = Math.min(keepFrom, first);
+        }
+        Iterator<Segment> obsolete = segments.headMap(keepFrom, false).values().iterator();
+        while (obsolete.hasNext()) {
+            Segment segment = obsolete.next();
+            try {
+                Files.deleteIfExists(segment.path);
+                obsolete.remove();
+                log.debug("Saga 저널 세그먼트 삭제: {}", segment.path.getFileName());
+            } catch (IOException e) {
+                log.warn("Saga 저널 세그먼트 삭제 실패: {}, 이유: {}", segment.path, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private void awaitDurable(long position) {
+        if (!sync) {
+            return;
+        }
+        flushLock.lock();
+        try {
+            while (durable < position && running) {
+                flushPending = true;
+                flushRequested.signal();
+                flushed.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void startFlusher() {
+        flusher = new Thread(this::flushLoop, "saga-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    private void flushLoop() {
+        while (running) {
+            flushLock.lock();
+            try {
+                while (!flushPending && running) {
+                    flushRequested.await();
+                }
+                flushPending = false;
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                flushLock.unlock();
+            }
+            // 창 동안 들어온 커밋을 같은 force 로 반영
+            if (groupCommitWindowNanos > 0) {
+                LockSupport.parkNanos(groupCommitWindowNanos);
+            }
+            // 세그먼트를 넘길 때 이전 세그먼트는 force 되므로, target 이전 기록은 현재 세그먼트만 반영하면 됨
+            long target = appended;
+            current.force();
+            groupCommits.incrementAndGet();
+            markDurable(target);
+        }
+    }
+
+    private void markDurable(long position) {
+        flushLock.lock();
+        try {
+            durable = Math.max(durable, position);
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void recover(List<JournalUndoHandler> undoHandlers) throws IOException {
+        Map<String, JournalUndoHandler> handlers = new LinkedHashMap<>();
+        undoHandlers.forEach(handler -> handlers.put(handler.getJournalType(), handler));
+
+        Map<Long, RecoveredSaga> sagas = new TreeMap<>();
+        long lastIndex = 0;
+        long maxSagaId = 0;
+        for (Path path : existingSegments()) {
+            long index = indexOf(path);
+            lastIndex = index;
+            segments.put(index, Segment.existing(path, index));
+            for (JournalRecord record : readSegment(path)) {
+                maxSagaId = Math.max(maxSagaId, record.sagaId());
+                apply(sagas, record, index);
+            }
+        }
+        nextSagaId.set(maxSagaId + 1);
+
+        // 항상 새 세그먼트에서 이어서 씀 (마지막 세그먼트의 잘린 쓰기 뒤에 덧붙이지 않음)
+        current = Segment.create(segmentPath(lastIndex + 1), lastIndex + 1, segmentSize);
+        segments.put(current.index, current);
+
+        for (Map.Entry<Long, RecoveredSaga> entry : sagas.entrySet()) {
+            compensate(entry.getKey(), entry.getValue(), handlers);
+        }
+        current.force();
+        compact();
+        log.info("Saga 저널 열림: {}, 복구한 Saga {}건, 남은 세그먼트 {}개", directory, sagas.size(), segments.size());
+    }
+
+    private static void apply(Map<Long, RecoveredSaga> sagas, JournalRecord record, long segmentIndex) {
+        if (record.type() == JournalRecord.BEGIN) {
+            sagas.put(record.sagaId(), new RecoveredSaga(segmentIndex, record.orderId(), record.name()));
+            return;
+        }
+        RecoveredSaga saga = sagas.get(record.sagaId());
+        if (saga == null) {
+            return;
+        }
+        switch (record.type()) {
+            case JournalRecord.INTENT -> saga.intents.put(record.seq(), record.name());
+            case JournalRecord.DONE -> {
+                saga.intents.remove(record.seq());
+                if (record.state() != null) {
+                    saga.completed.put(record.seq(), record);
+                }
+            }
+            case JournalRecord.UNDONE -> saga.completed.remove(record.seq());
+            case JournalRecord.END -> sagas.remove(record.sagaId());
+            default -> {
+            }
+        }
+    }
+
+    // 끝나지 않은 Saga 의 완료된 커맨드를 역순으로 되돌리고 종료를 기록
+    private void compensate(long sagaId, RecoveredSaga saga, Map<String, JournalUndoHandler> handlers) {
+        saga.intents.forEach((seq, journalType) -> log.warn(
+                "완료 여부를 알 수 없는 커맨드는 되돌리지 않음: saga={}, 주문={}, 커맨드={}", sagaId, saga.orderId, journalType));
+
+        for (JournalRecord done : saga.completed.descendingMap().values()) {
+            JournalUndoHandler handler = handlers.get(done.name());
+            if (handler == null) {
+                log.warn("되돌리기 처리기가 없는 커맨드: saga={}, 주문={}, 커맨드={}", sagaId, saga.orderId, done.name());
+                continue;
+            }
+            try {
+                handler.undo(done.state());
+                append(JournalRecord.undone(sagaId, done.seq()));
+            } catch (RuntimeException e) {
+                // 종료를 기록하지 않으므로 다음 기동 때 남은 커맨드부터 다시 되돌림
+                log.error("Saga 복구 실패: saga={}, 주문={}, 커맨드={}, 이유: {}", sagaId, saga.orderId, done.name(), e.getMessage(), e);
+                activeSagas.put(sagaId, saga.firstSegment);
+                return;
+            }
+        }
+        append(JournalRecord.end(sagaId));
+        log.info("중단된 Saga 복구 완료: saga={}, 주문={}, 이벤트={}", sagaId, saga.orderId, saga.eventType);
+    }
+
+    private List<Path> existingSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparingLong(MappedSagaJournal::indexOf))
+                    .toList();
+        }
+    }
+
+    private static List<JournalRecord> readSegment(Path path) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < SEGMENT_HEADER || buffer.getInt() != SEGMENT_MAGIC) {
+                log.warn("Saga 저널 세그먼트 형식이 아님, 건너뜀: {}", path);
+                return records;
+            }
+            JournalRecord record;
+            while ((record = JournalRecord.read(buffer)) != null) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class RecoveredSaga {
+        private final long firstSegment;
+        private final UUID orderId;
+        private final String eventType;
+        private final Map<Integer, String> intents = new TreeMap<>();
+        private final NavigableMap<Integer, JournalRecord> completed = new TreeMap<>();
+
+        private RecoveredSaga(long firstSegment, UUID orderId, String eventType) {
+            this.firstSegment = firstSegment;
+            this.orderId = orderId;
+            this.eventType = eventType;
+        }
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final long index;
+        // 이전 실행의 세그먼트(삭제 대상 추적용)는 매핑하지 않음
+        private final MappedByteBuffer buffer;
+        private int position = SEGMENT_HEADER;
+
+        private Segment(Path path, long index, MappedByteBuffer buffer) {
+            this.path = path;
+            this.index = index;
+            this.buffer = buffer;
+        }
+
+        static Segment existing(Path path, long index) {
+            return new Segment(path, index, null);
+        }
+
+        static Segment create(Path path, long index, int size) {
+            try (FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(0, SEGMENT_MAGIC);
+                return new Segment(path, index, buffer);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Saga 저널 세그먼트를 만들 수 없습니다: " + path, e);
+            }
+        }
+
+        int remaining() {
+            return buffer.capacity() - position;
+        }
+
+        void write(byte[] bytes) {
+            buffer.put(position, bytes);
+            position += bytes.length;
+        }
+
+        void force() {
+            buffer.force();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.sagacommand.common.journal;
+
+import java.util.UUID;
+
+/**
+ * Saga 실행 중 커맨드의 의도(intent)와 완료를 기록하는 저널입니다.
+ * 프로세스가 Saga 도중에 죽으면, 재시작 시 완료된 커맨드를 역순으로 되돌려(undo) 보상 상태를 복구합니다.
+ * 기록 대상은 {@link JournaledCommand} 를 구현한 커맨드뿐입니다.
+ */
+public interface SagaJournal {
+
+    SagaJournal NOOP = new SagaJournal() {
+        @Override
+        public long begin(UUID orderId, String eventType) {
+            return 0L;
+        }
+
+        @Override
+        public void intent(long sagaId, int seq, String journalType) {
+        }
+
+        @Override
+        public void completed(long sagaId, int seq, String journalType, byte[] undoState) {
+        }
+
+        @Override
+        public void undone(long sagaId, int seq) {
+        }
+
+        @Override
+        public void end(long sagaId) {
+        }
+    };
+
+    /**
+     * Saga(이벤트 하나의 처리)를 시작하고 ID 를 반환합니다.
+     *
+     * @param orderId 알 수 없으면 null
+     */
+    long begin(UUID orderId, String eventType);
+
+    /**
+     * 커맨드를 실행하기 직전에 기록합니다. 완료 기록이 없는 의도는 복구 시 되돌리지 않고 경고만 남깁니다.
+     */
+    void intent(long sagaId, int seq, String journalType);
+
+    /**
+     * 커맨드 완료와 되돌리기에 필요한 상태를 기록하고, 기록이 디스크에 반영될 때까지 기다립니다 (그룹 커밋).
+     *
+     * @param undoState 되돌릴 것이 없으면 null
+     */
+    void completed(long sagaId, int seq, String journalType, byte[] undoState);
+
+    void undone(long sagaId, int seq);
+
+    void end(long sagaId);
+}
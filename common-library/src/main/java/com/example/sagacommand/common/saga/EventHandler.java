@@ -1,6 +1,7 @@
 package com.example.sagacommand.common.saga;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
 
 /**
  * 특정 이벤트를 처리하기 위한 핸들러입니다.
@@ -15,4 +16,27 @@ public interface EventHandler<T> {
      * @param invoker Saga 내부에서 사용할 명령 인보커
      */
     void handle(T event, ScopedCommandInvoker invoker);
+
+    /**
+     * 아직 디코딩되지 않은 이벤트 뷰를 처리합니다.
+     * 기본 구현은 전체 이벤트를 디코딩하여 handle(T, ...)에 위임합니다.
+     * 주문 ID만 필요한 핸들러는 재정의하여 디코딩 비용을 줄일 수 있습니다.
+     *
+     * @param eventView 이벤트 뷰
+     * @param invoker   Saga 내부에서 사용할 명령 인보커
+     */
+    default void handleView(EventView<T> eventView, ScopedCommandInvoker invoker) {
+        handle(eventView.get(), invoker);
+    }
+
+    /**
+     * 이 핸들러가 처리하는 이벤트 타입을 반환합니다.
+     * 구현체가 클래스 리터럴을 직접 반환하면 등록 시 제네릭 타입 리플렉션을 거치지 않으므로
+     * AOT 처리 시점에 등록 정보가 확정됩니다.
+     *
+     * @return 이벤트 타입 (null이면 제네릭 타입 정보로부터 추출)
+     */
+    default Class<T> getEventType() {
+        return null;
+    }
 }
@@ -0,0 +1,79 @@
+package com.example.sagacommand.common.saga;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 변경이 저장된 뒤에만 해야 하는 Saga 기록(합류 도착 기록 등)을 저장 시점까지 미룹니다.
+ * <p>
+ * 여러 이벤트를 메모리에서 이어서 적용한 뒤 한 번에 저장하는 작업 단위는 {@link #capture(Runnable)} 안에서 처리하고,
+ * 저장한 뒤 {@link #runCommitted(List, Set)} 로 저장된 주문의 작업만 실행합니다.
+ * 저장하지 못한 주문의 작업은 버려지며, 그 주문의 이벤트를 다시 처리할 때 다시 등록됩니다.
+ * 수집 중이 아니면(변경이 곧바로 저장되는 경로) 등록 즉시 실행합니다.
+ */
+@Slf4j
+public final class SagaCommit {
+
+    private static final ThreadLocal<List<Pending>> CURRENT = new ThreadLocal<>();
+
+    public record Pending(UUID orderId, Runnable action) {
+    }
+
+    private SagaCommit() {
+    }
+
+    /**
+     * work 를 실행하고, 그동안 등록된 저장 후 작업을 등록 순서대로 반환합니다.
+     */
+    public static List<Pending> capture(Runnable work) {
+        List<Pending> pending = new ArrayList<>();
+        List<Pending> previous = CURRENT.get();
+        CURRENT.set(pending);
+        try {
+            work.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        return pending;
+    }
+
+    public static boolean isCapturing() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * orderId 의 변경이 저장된 뒤 action 을 실행합니다. 수집 중이 아니면 바로 실행합니다.
+     */
+    public static void afterCommit(UUID orderId, Runnable action) {
+        List<Pending> pending = CURRENT.get();
+        if (pending == null) {
+            action.run();
+            return;
+        }
+        pending.add(new Pending(orderId, action));
+    }
+
+    /**
+     * notCommitted 에 없는 주문의 작업을 등록 순서대로 실행합니다. 작업 하나가 실패해도 나머지는 실행합니다.
+     */
+    public static void runCommitted(List<Pending> pending, Set<UUID> notCommitted) {
+        for (Pending each : pending) {
+            if (notCommitted.contains(each.orderId())) {
+                continue;
+            }
+            try {
+                each.action().run();
+            } catch (RuntimeException e) {
+                log.error("저장 후 작업 실패: 주문={}", each.orderId(), e);
+            }
+        }
+    }
+}
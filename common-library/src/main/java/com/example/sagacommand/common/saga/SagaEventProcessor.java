@@ -2,6 +2,7 @@ package com.example.sagacommand.common.saga;
 
 import com.example.sagacommand.common.event.Event;
 import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
@@ -12,4 +13,9 @@ public class SagaEventProcessor implements EventProcessor {
     public void processEvent(Event event) {
         sagaOrchestrator.processEvent(event);
     }
+
+    @Override
+    public void processEvent(EventView<?> eventView) {
+        sagaOrchestrator.processEvent(eventView);
+    }
 }
@@ -1,11 +1,18 @@
 package com.example.sagacommand.common.saga;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.TracedEventView;
+import com.example.sagacommand.common.jfr.SagaFlightRecorder;
+import com.example.sagacommand.common.saga.join.SagaJoinCoordinator;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * SagaOrchestrator는 Saga 패턴에서 이벤트를 받아서
@@ -16,6 +23,9 @@ public class SagaOrchestrator {
 
     private final ScopedCommandInvoker commandInvoker;
     private final EventHandlerRegistry handlerRegistry;
+    private final ObservationRegistry observationRegistry;
+    private final SagaJoinCoordinator joinCoordinator;
+    private final boolean propagateErrors;
 
     /**
      * 생성자에서는 핸들러들을 자동으로 등록합니다.
@@ -27,9 +37,53 @@ public class SagaOrchestrator {
             ScopedCommandInvoker commandInvoker,
             EventHandlerRegistry handlerRegistry,
             List<EventHandler<?>> eventHandlers
+    ) {
+        this(commandInvoker, handlerRegistry, eventHandlers, ObservationRegistry.NOOP);
+    }
+
+    /**
+     * @param observationRegistry 이벤트 처리("saga.event")와 핸들러 실행("saga.handler")을 관측(span)할 레지스트리
+     *                            (JFR 기록 중이면 핸들러 실행을 com.example.saga.Step 이벤트로도 기록)
+     */
+    public SagaOrchestrator(
+            ScopedCommandInvoker commandInvoker,
+            EventHandlerRegistry handlerRegistry,
+            List<EventHandler<?>> eventHandlers,
+            ObservationRegistry observationRegistry
+    ) {
+        this(commandInvoker, handlerRegistry, eventHandlers, observationRegistry, null);
+    }
+
+    /**
+     * @param joinCoordinator 병렬 요청의 응답을 모으는 합류 단계 (없으면 null). 응답 이벤트의 핸들러 실행 뒤에 도착을 기록함
+     */
+    public SagaOrchestrator(
+            ScopedCommandInvoker commandInvoker,
+            EventHandlerRegistry handlerRegistry,
+            List<EventHandler<?>> eventHandlers,
+            ObservationRegistry observationRegistry,
+            SagaJoinCoordinator joinCoordinator
+    ) {
+        this(commandInvoker, handlerRegistry, eventHandlers, observationRegistry, joinCoordinator, false);
+    }
+
+    /**
+     * @param propagateErrors 핸들러 실패를 기록한 뒤 호출자에게 다시 던질지 여부.
+     *                        Kafka 트랜잭션으로 처리할 때 배치를 중단시켜 발행과 오프셋 확정을 함께 되돌리기 위해 사용
+     */
+    public SagaOrchestrator(
+            ScopedCommandInvoker commandInvoker,
+            EventHandlerRegistry handlerRegistry,
+            List<EventHandler<?>> eventHandlers,
+            ObservationRegistry observationRegistry,
+            SagaJoinCoordinator joinCoordinator,
+            boolean propagateErrors
     ) {
         this.commandInvoker = commandInvoker;
         this.handlerRegistry = handlerRegistry;
+        this.observationRegistry = observationRegistry;
+        this.joinCoordinator = joinCoordinator;
+        this.propagateErrors = propagateErrors;
         registerHandlers(eventHandlers); // 이벤트 핸들러 자동 등록
     }
 
@@ -42,7 +96,7 @@ public class SagaOrchestrator {
 
         for (EventHandler<?> handler : eventHandlers) {
             try {
-                Class<?> eventType = extractEventType(handler); // 제네릭 타입 추출
+                Class<?> eventType = resolveEventType(handler); // 이벤트 타입 결정
                 handlerRegistry.registerHandler(eventType, handler); // 등록
                 log.debug("핸들러 등록 완료: [{}] → [{}]", eventType.getSimpleName(), handler.getClass().getSimpleName());
             } catch (Exception e) {
@@ -54,6 +108,18 @@ public class SagaOrchestrator {
         log.info("Saga 이벤트 핸들러 등록 완료 (총 {}개)", eventHandlers.size());
     }
 
+    /**
+     * 핸들러가 선언한 이벤트 타입을 우선 사용하고,
+     * 선언하지 않은 핸들러에 한해 제네릭 타입 정보를 리플렉션으로 추출합니다.
+     */
+    private Class<?> resolveEventType(EventHandler<?> handler) {
+        Class<?> declaredType = handler.getEventType();
+        if (declaredType != null) {
+            return declaredType;
+        }
+        return extractEventType(handler);
+    }
+
     /**
      * 제네릭 타입 EventHandler<T>에서 이벤트 타입(T)을 추출하는 헬퍼 메서드입니다.
      * handler 클래스가 implements EventHandler<T> 를 명시했을 때만 동작합니다.
@@ -77,13 +143,15 @@ public class SagaOrchestrator {
      * 실제 외부에서 이벤트를 전달받아 처리하는 핵심 메서드입니다.
      * 이벤트 타입에 맞는 핸들러가 존재하면 실행하고,
      * 존재하지 않으면 경고 로그를 출력합니다.
+     * 핸들러 실패는 기록만 하고 넘어가며, propagateErrors 면 호출자에게 다시 던집니다.
+     * EventView 가 전달되면 뷰의 타입으로 핸들러를 찾고, 디코딩 여부는 핸들러에 맡깁니다.
      */
     public final void processEvent(Object event) {
         if (event == null) {
             throw new IllegalArgumentException("이벤트는 null일 수 없습니다");
         }
 
-        Class<?> eventType = event.getClass();
+        Class<?> eventType = event instanceof EventView<?> eventView ? eventView.getType() : event.getClass();
         String eventName = eventType.getSimpleName();
 
         // 등록되지 않은 이벤트인 경우 처리하지 않음
@@ -94,21 +162,57 @@ public class SagaOrchestrator {
 
         log.info("Saga 이벤트 처리 시작: {}", eventName);
 
-        try {
+        Observation eventObservation = Observation.createNotStarted("saga.event", observationRegistry)
+                .contextualName("saga " + eventName)
+                .lowCardinalityKeyValue("event", eventName);
+        // 레코드의 수신 관측이 실려 왔으면(발행 측 trace 를 이어받은 span) 처리 스레드와 상관없이 그 아래에 둠
+        if (event instanceof TracedEventView<?> traced && traced.getParent() != null) {
+            eventObservation.parentObservation(traced.getParent());
+        }
+        eventObservation.start();
+        UUID orderId = event instanceof EventView<?> eventView ? eventView.getOrderId() : null;
+        try (Observation.Scope scope = eventObservation.openScope()) {
+            // Saga 저널이 있으면 이 이벤트의 커맨드 실행을 하나의 Saga 로 기록 (중단 시 재시작하며 되돌림)
+            commandInvoker.beginSaga(orderId, eventName);
             // 핸들러 꺼내서 실행 (타입 안전성을 위해 캐스팅)
             @SuppressWarnings("unchecked")
             EventHandler<Object> handler = handlerRegistry.getHandler((Class<Object>) eventType);
-            handler.handle(event, commandInvoker);
+            String handlerName = handler.getClass().getSimpleName();
+            Observation.createNotStarted("saga.handler", observationRegistry)
+                    .contextualName(handlerName)
+                    .lowCardinalityKeyValue("event", eventName)
+                    .lowCardinalityKeyValue("handler", handlerName)
+                    .observe(() -> SagaFlightRecorder.sagaStep(eventName, handlerName, orderId,
+                            () -> dispatch(handler, event)));
+            // 합류 단계의 응답이면 도착을 기록하고, 모두 모였으면 같은 Saga 안에서 합류 처리
+            if (joinCoordinator != null) {
+                joinCoordinator.onReply(eventType, orderId, commandInvoker);
+            }
             log.info("Saga 이벤트 처리 완료: {}", eventName);
         } catch (Exception e) {
+            eventObservation.error(e);
             log.error("Saga 이벤트 처리 중 오류 ({}): {}", eventName, e.getMessage(), e);
+            if (propagateErrors) {
+                throw e instanceof RuntimeException runtime ? runtime : new IllegalStateException("Saga 이벤트 처리 실패: " + eventName, e);
+            }
         } finally {
             // 커맨드 인보커 종료
             try {
+                commandInvoker.endSaga();
                 commandInvoker.close();
             } catch (Exception e) {
                 log.warn("commandInvoker 종료 중 예외 발생", e);
             }
+            eventObservation.stop();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void dispatch(EventHandler<Object> handler, Object event) {
+        if (event instanceof EventView<?> eventView) {
+            handler.handleView((EventView<Object>) eventView, commandInvoker);
+        } else {
+            handler.handle(event, commandInvoker);
         }
     }
 }
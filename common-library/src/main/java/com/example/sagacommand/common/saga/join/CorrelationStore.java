@@ -0,0 +1,225 @@
+package com.example.sagacommand.common.saga.join;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 합류 단계마다 아직 도착하지 않은 응답을 상관관계 ID(주문 ID)별로 추적하는 저장소입니다.
+ * <p>
+ * 메모리에는 최대 maxEntries 개만 두고, 오래된 항목(생성 후 ttl 경과)부터 내보냅니다.
+ * 상태가 바뀔 때마다 {@link Backing} 에 먼저 기록(write-through)하므로, 내보낸 항목이나 재시작 전의 항목은
+ * 다음 응답이 올 때 Backing 에서 다시 읽어 이어서 추적합니다.
+ * <p>
+ * 같은 ID 의 응답이 여러 스레드(예: 결제/재고 토픽의 서로 다른 컨슈머)에서 동시에 와도 ID 별로 한 번에 하나씩 반영됩니다.
+ */
+@Slf4j
+public class CorrelationStore {
+
+    public enum State {
+        WAITING, JOINED, FAILED
+    }
+
+    public enum Progress {
+        // 아직 기다리는 응답이 있음
+        WAITING,
+        // 모든 응답이 도착함 (합류 처리 후 complete 호출 필요)
+        READY,
+        // 실패 응답으로 합류가 중단됨
+        FAILED,
+        // 중단된 뒤에 성공 응답이 도착함
+        LATE,
+        // 중복 응답이거나 이미 합류가 끝남
+        IGNORED
+    }
+
+    /**
+     * @param arrived 도착한 성공 응답의 비트 집합
+     */
+    public record Correlation(int arrived, State state) {
+        static final Correlation EMPTY = new Correlation(0, State.WAITING);
+    }
+
+    /**
+     * 추적 상태의 영속 저장소입니다. 재시작 후 복구와 메모리에서 내보낸 항목의 재적재에 사용됩니다.
+     */
+    public interface Backing {
+
+        Backing NONE = new Backing() {
+            @Override
+            public Correlation load(UUID correlationId) {
+                return null;
+            }
+
+            @Override
+            public void save(UUID correlationId, Correlation correlation) {
+            }
+        };
+
+        /**
+         * @return 기록이 없으면 null
+         */
+        Correlation load(UUID correlationId);
+
+        void save(UUID correlationId, Correlation correlation);
+    }
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Backing backing;
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong recoveries = new AtomicLong();
+
+    public CorrelationStore(Backing backing, int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries 는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.backing = backing;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 성공 응답의 도착을 기록합니다.
+     *
+     * @param replyBit     응답의 비트 (1 << 응답 순번)
+     * @param expectedMask 모든 응답이 도착했을 때의 비트 집합
+     */
+    public Progress arrive(UUID correlationId, int replyBit, int expectedMask) {
+        return update(correlationId, entry -> {
+            Correlation current = entry.correlation;
+            if (current.state() == State.FAILED) {
+                return Progress.LATE;
+            }
+            if (current.state() == State.JOINED) {
+                return Progress.IGNORED;
+            }
+            // 마지막 응답이 다시 전달된 경우(합류 처리 중 장애 등)에도 합류를 다시 시도
+            if ((current.arrived() & replyBit) != 0) {
+                return current.arrived() == expectedMask ? Progress.READY : Progress.IGNORED;
+            }
+            Correlation next = new Correlation(current.arrived() | replyBit, State.WAITING);
+            entry.apply(next);
+            return next.arrived() == expectedMask ? Progress.READY : Progress.WAITING;
+        });
+    }
+
+    /**
+     * 실패 응답의 도착을 기록합니다.
+     */
+    public Progress fail(UUID correlationId) {
+        return update(correlationId, entry -> {
+            if (entry.correlation.state() != State.WAITING) {
+                return Progress.IGNORED;
+            }
+            entry.apply(new Correlation(entry.correlation.arrived(), State.FAILED));
+            return Progress.FAILED;
+        });
+    }
+
+    /**
+     * 도착을 새로 기록하지 않고 현재 진행 상태를 확인합니다. 실패한 합류 처리를 다시 시도하기 전에 사용합니다.
+     *
+     * @return 모든 응답이 도착했고 아직 합류하지 않았으면 READY
+     */
+    public Progress progress(UUID correlationId, int expectedMask) {
+        return update(correlationId, entry -> switch (entry.correlation.state()) {
+            case JOINED -> Progress.IGNORED;
+            case FAILED -> Progress.FAILED;
+            case WAITING -> entry.correlation.arrived() == expectedMask ? Progress.READY : Progress.WAITING;
+        });
+    }
+
+    /**
+     * 합류 처리가 끝났음을 기록합니다. 이후 도착하는 같은 ID 의 응답은 무시됩니다.
+     */
+    public void complete(UUID correlationId) {
+        update(correlationId, entry -> {
+            entry.apply(new Correlation(entry.correlation.arrived(), State.JOINED));
+            return Progress.IGNORED;
+        });
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    /**
+     * 메모리에 없어 Backing 에서 다시 읽은 횟수
+     */
+    public long getRecoveries() {
+        return recoveries.get();
+    }
+
+    private Progress update(UUID correlationId, Function<Entry, Progress> change) {
+        try {
+            while (true) {
+                Entry entry = entries.computeIfAbsent(correlationId, this::load);
+                synchronized (entry) {
+                    // 내보내는 중인 항목이면 Backing 에서 다시 읽음 (내보내기 전의 기록은 모두 Backing 에 있음)
+                    if (!entry.evicted) {
+                        return change.apply(entry);
+                    }
+                }
+            }
+        } finally {
+            evictIfNeeded();
+        }
+    }
+
+    private Entry load(UUID correlationId) {
+        Correlation stored = backing.load(correlationId);
+        if (stored != null) {
+            recoveries.incrementAndGet();
+            log.debug("합류 상태 복구: {} ({})", correlationId, stored);
+        }
+        Entry entry = new Entry(correlationId, stored != null ? stored : Correlation.EMPTY);
+        insertionOrder.add(entry);
+        return entry;
+    }
+
+    private void evictIfNeeded() {
+        long now = System.nanoTime();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (entries.size() > maxEntries || now - oldest.createdNanos > ttlNanos)) {
+            if (insertionOrder.remove(oldest)) {
+                synchronized (oldest) {
+                    oldest.evicted = true;
+                    entries.remove(oldest.correlationId, oldest);
+                }
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    private final class Entry {
+        private final UUID correlationId;
+        private final long createdNanos = System.nanoTime();
+        private Correlation correlation;
+        private boolean evicted;
+
+        private Entry(UUID correlationId, Correlation correlation) {
+            this.correlationId = correlationId;
+            this.correlation = correlation;
+        }
+
+        // Backing 에 먼저 기록한 뒤 메모리에 반영 (기록 실패 시 메모리 상태도 그대로)
+        void apply(Correlation next) {
+            backing.save(correlationId, next);
+            correlation = next;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.sagacommand.common.saga.join;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 병렬로 요청한(scatter) 응답들을 모아(gather) 처리하는 Saga 단계입니다.
+ * <p>
+ * 응답 이벤트마다 등록된 핸들러는 그대로 실행되고, 이어서 {@link SagaJoinCoordinator} 가 도착을 기록합니다.
+ * 모든 응답이 도착하면 {@link #onJoined} 가 한 번 실행되고, 실패 응답이 먼저 오면 더 기다리지 않습니다 (실패 보상은 실패 이벤트의 핸들러 몫).
+ * 하나의 상관관계 ID(주문 ID)는 한 번에 하나의 합류 단계에만 참여합니다.
+ */
+public interface SagaJoin {
+
+    String getName();
+
+    /**
+     * 모두 도착해야 합류하는 성공 응답 이벤트 타입 (최대 31개)
+     */
+    List<Class<?>> getReplyTypes();
+
+    /**
+     * 도착하면 합류를 중단(short-circuit)시키는 실패 응답 이벤트 타입
+     */
+    Set<Class<?>> getFailureTypes();
+
+    /**
+     * 모든 성공 응답이 도착했을 때 실행됩니다. 합류를 반영하지 못했으면 예외를 던져야 하며, 그때는 합류가 끝난 것으로 기록되지 않고
+     * 다시 실행됩니다 (재시도 또는 마지막 응답의 재전달). 따라서 멱등이어야 합니다.
+     */
+    void onJoined(UUID correlationId, ScopedCommandInvoker invoker);
+
+    /**
+     * 합류가 실패로 끝난 뒤에 성공 응답이 도착했을 때 실행됩니다. 이미 끝난 요청의 결과를 보상할 때 사용합니다.
+     */
+    default void onLateReply(UUID correlationId, Class<?> replyType, ScopedCommandInvoker invoker) {
+    }
+}
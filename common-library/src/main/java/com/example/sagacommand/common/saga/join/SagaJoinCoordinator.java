@@ -0,0 +1,181 @@
+package com.example.sagacommand.common.saga.join;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.saga.SagaCommit;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 응답 이벤트를 처리한 뒤 해당 합류 단계({@link SagaJoin})에 도착을 기록하고,
+ * 모든 응답이 모이면 합류 처리를, 실패 뒤에 온 성공 응답이면 뒤늦은 응답 처리를 실행합니다.
+ * SagaOrchestrator 가 핸들러 실행과 같은 Saga 범위(같은 커맨드 인보커/저널) 안에서 호출합니다.
+ * <p>
+ * 도착은 핸들러의 변경이 저장되는 시점에 기록합니다 ({@link SagaCommit}). 여러 이벤트를 모아 한 번에 저장하는 경로에서는
+ * 저장이 끝난 뒤 별도 Saga 로 기록/합류하고, 저장하지 못한 주문의 도착은 기록하지 않습니다.
+ * <p>
+ * 합류 처리({@link SagaJoin#onJoined})가 예외로 끝나면 JOINED 로 기록하지 않고 예외를 다시 던지며,
+ * {@link #retryPending(ScopedCommandInvoker)} 가 최대 {@value #MAX_JOIN_ATTEMPTS}번까지 다시 시도합니다.
+ */
+@Slf4j
+public class SagaJoinCoordinator {
+
+    private static final int FAILURE = -1;
+    static final int MAX_JOIN_ATTEMPTS = 10;
+
+    private final Map<Class<?>, Step> steps = new HashMap<>();
+    private final CorrelationStore store;
+    // 합류 처리가 실패해 다시 시도할 주문 (주문 ID -> 단계, 시도 횟수)
+    private final Map<UUID, PendingJoin> pendingJoins = new ConcurrentHashMap<>();
+    private final AtomicLong joinFailures = new AtomicLong();
+
+    public SagaJoinCoordinator(List<SagaJoin> joins, CorrelationStore store) {
+        this.store = store;
+        for (SagaJoin join : joins) {
+            List<Class<?>> replyTypes = join.getReplyTypes();
+            if (replyTypes.isEmpty() || replyTypes.size() > Integer.SIZE - 1) {
+                throw new IllegalArgumentException("합류 응답 타입은 1~31개여야 합니다: " + join.getName());
+            }
+            int expectedMask = (1 << replyTypes.size()) - 1;
+            for (int i = 0; i < replyTypes.size(); i++) {
+                register(replyTypes.get(i), new Step(join, 1 << i, expectedMask));
+            }
+            for (Class<?> failureType : join.getFailureTypes()) {
+                register(failureType, new Step(join, FAILURE, expectedMask));
+            }
+        }
+    }
+
+    private void register(Class<?> eventType, Step step) {
+        Step previous = steps.putIfAbsent(eventType, step);
+        if (previous != null) {
+            throw new IllegalStateException("이벤트 " + eventType.getSimpleName() + " 는 이미 합류 단계 "
+                    + previous.join().getName() + " 에 등록되어 있습니다");
+        }
+    }
+
+    /**
+     * @param correlationId 응답의 주문 ID (알 수 없으면 합류를 추적하지 않음)
+     */
+    public void onReply(Class<?> eventType, UUID correlationId, ScopedCommandInvoker invoker) {
+        Step step = steps.get(eventType);
+        if (step == null) {
+            return;
+        }
+        if (correlationId == null) {
+            log.warn("주문 ID 를 알 수 없는 응답은 합류를 추적하지 않음: {}", eventType.getSimpleName());
+            return;
+        }
+        // 수집 중이면 현재 Saga 는 저장 전에 끝나므로, 저장 뒤에 별도 Saga 로 기록
+        boolean separateSaga = SagaCommit.isCapturing();
+        SagaCommit.afterCommit(correlationId, () -> {
+            if (!separateSaga) {
+                record(eventType, correlationId, step, invoker);
+                return;
+            }
+            invoker.beginSaga(correlationId, step.join().getName());
+            try {
+                record(eventType, correlationId, step, invoker);
+            } finally {
+                invoker.endSaga();
+                invoker.clear();
+            }
+        });
+    }
+
+    /**
+     * 합류 처리가 실패한 주문의 합류를 다시 시도합니다. 주기적으로 호출합니다.
+     *
+     * @return 이번에 합류한 주문 수
+     */
+    public int retryPending(ScopedCommandInvoker invoker) {
+        int joined = 0;
+        for (Map.Entry<UUID, PendingJoin> pending : pendingJoins.entrySet()) {
+            UUID correlationId = pending.getKey();
+            Step step = pending.getValue().step();
+            // 그사이 응답이 다시 전달되어 합류했거나 중단된 주문은 제외
+            if (store.progress(correlationId, step.expectedMask()) != CorrelationStore.Progress.READY) {
+                pendingJoins.remove(correlationId);
+                continue;
+            }
+            invoker.beginSaga(correlationId, step.join().getName());
+            try {
+                join(correlationId, step, invoker);
+                joined++;
+            } catch (RuntimeException e) {
+                log.warn("합류 재시도 실패: {}, 주문={}", step.join().getName(), correlationId, e);
+            } finally {
+                invoker.endSaga();
+                invoker.clear();
+            }
+        }
+        return joined;
+    }
+
+    /**
+     * 다시 시도할 합류 수
+     */
+    public int getPendingJoinCount() {
+        return pendingJoins.size();
+    }
+
+    /**
+     * 합류 처리가 예외로 끝난 횟수 (재시도 포함)
+     */
+    public long getJoinFailures() {
+        return joinFailures.get();
+    }
+
+    private void record(Class<?> eventType, UUID correlationId, Step step, ScopedCommandInvoker invoker) {
+        SagaJoin join = step.join();
+
+        if (step.bit() == FAILURE) {
+            if (store.fail(correlationId) == CorrelationStore.Progress.FAILED) {
+                pendingJoins.remove(correlationId);
+                log.info("합류 중단: {}, 주문={}, 실패 응답={}", join.getName(), correlationId, eventType.getSimpleName());
+            }
+            return;
+        }
+
+        switch (store.arrive(correlationId, step.bit(), step.expectedMask())) {
+            case READY -> join(correlationId, step, invoker);
+            case LATE -> {
+                log.warn("합류 중단 뒤 도착한 응답: {}, 주문={}, 응답={}", join.getName(), correlationId, eventType.getSimpleName());
+                join.onLateReply(correlationId, eventType, invoker);
+            }
+            case WAITING -> log.debug("합류 대기: {}, 주문={}, 도착={}", join.getName(), correlationId, eventType.getSimpleName());
+            default -> log.debug("중복 응답 무시: {}, 주문={}, 응답={}", join.getName(), correlationId, eventType.getSimpleName());
+        }
+    }
+
+    // 합류 처리가 끝난 경우에만 JOINED 로 기록. 실패하면 재시도 대상으로 두고 예외를 다시 던짐
+    private void join(UUID correlationId, Step step, ScopedCommandInvoker invoker) {
+        SagaJoin join = step.join();
+        try {
+            join.onJoined(correlationId, invoker);
+        } catch (RuntimeException e) {
+            joinFailures.incrementAndGet();
+            PendingJoin pending = pendingJoins.merge(correlationId, new PendingJoin(step, 1),
+                    (previous, ignored) -> new PendingJoin(step, previous.attempts() + 1));
+            if (pending.attempts() >= MAX_JOIN_ATTEMPTS) {
+                pendingJoins.remove(correlationId);
+                log.error("합류 처리 재시도 횟수 초과, 응답이 다시 전달될 때까지 보류: {}, 주문={}", join.getName(), correlationId);
+            }
+            throw e;
+        }
+        store.complete(correlationId);
+        pendingJoins.remove(correlationId);
+        log.info("합류 완료: {}, 주문={}", join.getName(), correlationId);
+    }
+
+    private record PendingJoin(Step step, int attempts) {
+    }
+
+    private record Step(SagaJoin join, int bit, int expectedMask) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.sagacommand.common.jfr;
+
+import com.example.sagacommand.common.command.Command;
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SagaRecordingAnalyzerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("커맨드/단계/발행 이벤트를 기록하고 항목별 지연 시간 분포로 요약한다")
+    void shouldSummarizeRecordedSagaEvents() throws Exception {
+        Path file = tempDir.resolve("saga.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(SagaFlightRecorder.COMMAND_EVENT).withoutThreshold();
+            recording.enable(SagaFlightRecorder.STEP_EVENT).withoutThreshold();
+            recording.enable(SagaFlightRecorder.PUBLISH_EVENT).withoutThreshold();
+            recording.start();
+
+            ScopedCommandInvoker invoker = new ScopedCommandInvoker();
+            SagaFlightRecorder.sagaStep("PaymentCompletedEvent", "PaymentCompletedEventHandler", UUID.randomUUID(), () -> {
+                invoker.executeCommand(new ConfirmCommand());
+                invoker.undoLastCommand();
+            });
+            assertThrows(IllegalStateException.class, () -> invoker.executeCommand(new FailingCommand()));
+            SagaFlightRecorder.publish("order-events", UUID.randomUUID().toString(), "payload", () -> { });
+            invoker.clear();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, Map<String, SagaRecordingAnalyzer.LatencySummary>> summaries = SagaRecordingAnalyzer.summarize(file);
+
+        Map<String, SagaRecordingAnalyzer.LatencySummary> commands = summaries.get("Command");
+        assertEquals(1, commands.get("ConfirmCommand execute").count());
+        assertEquals(1, commands.get("ConfirmCommand undo").count());
+        assertEquals(1, commands.get("FailingCommand execute").failures());
+        assertEquals(1, summaries.get("Step").get("PaymentCompletedEvent").count());
+        assertEquals(1, summaries.get("Publish").get("String → order-events").count());
+        assertTrue(SagaRecordingAnalyzer.format(summaries).contains("ConfirmCommand execute"));
+    }
+
+    private static class ConfirmCommand implements Command<String> {
+        @Override
+        public String execute() {
+            return "confirmed";
+        }
+
+        @Override
+        public void undo() {
+        }
+    }
+
+    private static class FailingCommand implements Command<String> {
+        @Override
+        public String execute() {
+            throw new IllegalStateException("실패");
+        }
+
+        @Override
+        public void undo() {
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.sagacommand.common.journal;
+
+import com.example.sagacommand.common.command.Command;
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MappedSagaJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private final List<String> undone = new ArrayList<>();
+
+    @Test
+    @DisplayName("종료가 기록되지 않은 Saga 는 다시 열 때 완료된 커맨드만 역순으로 되돌리고, 두 번 되돌리지 않는다")
+    void shouldUndoCompletedCommandsOfIncompleteSaga_onReopen() {
+        try (MappedSagaJournal journal = open()) {
+            ScopedCommandInvoker invoker = new ScopedCommandInvoker(ObservationRegistry.NOOP, journal);
+
+            // 정상 종료된 Saga
+            invoker.beginSaga(UUID.randomUUID(), "PaymentFailedEvent");
+            invoker.executeCommand(new StepCommand("finished"));
+            invoker.endSaga();
+
+            // 상태 변경 후 다음 커맨드 실행 전에 중단된 Saga
+            invoker.beginSaga(UUID.randomUUID(), "InventoryReservationFailedEvent");
+            invoker.executeCommand(new StepCommand("status"));
+            invoker.executeCommand(new StepCommand("refund"));
+        }
+
+        try (MappedSagaJournal journal = open()) {
+            assertEquals(0, journal.getActiveSagas());
+        }
+        assertEquals(List.of("refund", "status"), undone);
+
+        try (MappedSagaJournal ignored = open()) {
+            assertEquals(List.of("refund", "status"), undone);
+        }
+    }
+
+    @Test
+    @DisplayName("실행 중에 되돌린 커맨드는 복구 시 다시 되돌리지 않는다")
+    void shouldNotUndoAgain_whenUndoneBeforeCrash() {
+        try (MappedSagaJournal journal = open()) {
+            ScopedCommandInvoker invoker = new ScopedCommandInvoker(ObservationRegistry.NOOP, journal);
+            invoker.beginSaga(UUID.randomUUID(), "PaymentCompletedEvent");
+            invoker.executeCommand(new StepCommand("first"));
+            invoker.executeCommand(new StepCommand("second"));
+            invoker.undoLastCommand();
+        }
+
+        try (MappedSagaJournal ignored = open()) {
+            assertEquals(List.of("first"), undone);
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 세그먼트로 넘어가고, 끝난 Saga 만 있는 세그먼트는 삭제한다")
+    void shouldRollAndCompactSegments() throws Exception {
+        try (MappedSagaJournal journal = MappedSagaJournal.open(directory, 256, false, Duration.ZERO, List.of())) {
+            for (int i = 0; i < 100; i++) {
+                long saga = journal.begin(UUID.randomUUID(), "PaymentCompletedEvent");
+                journal.intent(saga, 0, StepCommand.TYPE);
+                journal.completed(saga, 0, StepCommand.TYPE, new byte[16]);
+                journal.end(saga);
+            }
+            assertTrue(journal.getSegmentCount() <= 2, "segments=" + journal.getSegmentCount());
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertTrue(files.count() <= 2);
+        }
+    }
+
+    private MappedSagaJournal open() {
+        return MappedSagaJournal.open(directory, SEGMENT_SIZE, true, Duration.ZERO, List.of(new JournalUndoHandler() {
+            @Override
+            public String getJournalType() {
+                return StepCommand.TYPE;
+            }
+
+            @Override
+            public void undo(byte[] undoState) {
+                undone.add(new String(undoState, StandardCharsets.UTF_8));
+            }
+        }));
+    }
+
+    private static class StepCommand implements Command<String>, JournaledCommand {
+        static final String TYPE = "step";
+        private final String name;
+
+        StepCommand(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String execute() {
+            return name;
+        }
+
+        @Override
+        public void undo() {
+        }
+
+        @Override
+        public String getJournalType() {
+            return TYPE;
+        }
+
+        @Override
+        public byte[] getUndoState() {
+            return name.getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.sagacommand.common.saga.join;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.saga.SagaCommit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SagaJoinCoordinatorTest {
+
+    private final ScopedCommandInvoker invoker = new ScopedCommandInvoker();
+    private final RecordingJoin join = new RecordingJoin();
+    private final MapBacking backing = new MapBacking();
+
+    @Test
+    @DisplayName("두 응답이 어떤 순서로 와도 모두 도착했을 때 한 번만 합류한다")
+    void shouldJoinOnce_whenAllRepliesArriveInAnyOrder() {
+        SagaJoinCoordinator coordinator = coordinator(100);
+        UUID paidFirst = UUID.randomUUID();
+        UUID reservedFirst = UUID.randomUUID();
+
+        coordinator.onReply(PaymentReply.class, paidFirst, invoker);
+        coordinator.onReply(InventoryReply.class, reservedFirst, invoker);
+        assertTrue(join.joined.isEmpty());
+
+        coordinator.onReply(InventoryReply.class, paidFirst, invoker);
+        coordinator.onReply(PaymentReply.class, reservedFirst, invoker);
+        coordinator.onReply(PaymentReply.class, reservedFirst, invoker);
+
+        assertEquals(List.of(paidFirst, reservedFirst), join.joined);
+        assertEquals(CorrelationStore.State.JOINED, backing.rows.get(paidFirst).state());
+    }
+
+    @Test
+    @DisplayName("실패 응답이 오면 합류하지 않고, 뒤에 온 성공 응답은 뒤늦은 응답으로 처리한다")
+    void shouldShortCircuit_whenFailureArrives() {
+        SagaJoinCoordinator coordinator = coordinator(100);
+        UUID orderId = UUID.randomUUID();
+
+        coordinator.onReply(InventoryReply.class, orderId, invoker);
+        coordinator.onReply(FailureReply.class, orderId, invoker);
+        coordinator.onReply(PaymentReply.class, orderId, invoker);
+
+        assertTrue(join.joined.isEmpty());
+        assertEquals(List.of(orderId), join.late);
+    }
+
+    @Test
+    @DisplayName("메모리에서 내보냈거나 재시작한 뒤에도 기록된 도착 상태로 이어서 합류한다")
+    void shouldResumeFromBacking_whenEvictedOrRestarted() {
+        UUID evicted = UUID.randomUUID();
+        UUID restarted = UUID.randomUUID();
+
+        SagaJoinCoordinator beforeRestart = coordinator(1);
+        beforeRestart.onReply(PaymentReply.class, evicted, invoker);
+        beforeRestart.onReply(PaymentReply.class, restarted, invoker);  // evicted 를 내보냄
+        beforeRestart.onReply(InventoryReply.class, evicted, invoker);
+        assertEquals(List.of(evicted), join.joined);
+
+        SagaJoinCoordinator afterRestart = coordinator(1);
+        afterRestart.onReply(InventoryReply.class, restarted, invoker);
+        assertEquals(List.of(evicted, restarted), join.joined);
+    }
+
+    @Test
+    @DisplayName("합류 처리가 실패하면 JOINED 로 기록하지 않고, 재시도에서 성공했을 때 기록한다")
+    void shouldNotMarkJoined_whenJoinFails_andRetryLater() {
+        SagaJoinCoordinator coordinator = coordinator(100);
+        UUID orderId = UUID.randomUUID();
+        join.failuresLeft = 1;
+
+        coordinator.onReply(PaymentReply.class, orderId, invoker);
+        assertThrows(IllegalStateException.class, () -> coordinator.onReply(InventoryReply.class, orderId, invoker));
+
+        assertEquals(CorrelationStore.State.WAITING, backing.rows.get(orderId).state());
+        assertEquals(1, coordinator.getPendingJoinCount());
+        assertEquals(1, coordinator.getJoinFailures());
+
+        assertEquals(1, coordinator.retryPending(invoker));
+        assertEquals(List.of(orderId), join.joined);
+        assertEquals(CorrelationStore.State.JOINED, backing.rows.get(orderId).state());
+        assertEquals(0, coordinator.getPendingJoinCount());
+    }
+
+    @Test
+    @DisplayName("모아서 저장하는 작업 단위에서는 저장된 주문의 도착만 저장 뒤에 기록한다")
+    void shouldRecordArrival_onlyAfterCommit() {
+        SagaJoinCoordinator coordinator = coordinator(100);
+        UUID committed = UUID.randomUUID();
+        UUID conflicted = UUID.randomUUID();
+        coordinator.onReply(PaymentReply.class, committed, invoker);
+        coordinator.onReply(PaymentReply.class, conflicted, invoker);
+
+        List<SagaCommit.Pending> afterCommit = SagaCommit.capture(() -> {
+            coordinator.onReply(InventoryReply.class, committed, invoker);
+            coordinator.onReply(InventoryReply.class, conflicted, invoker);
+        });
+        assertTrue(join.joined.isEmpty());
+        assertEquals(1, backing.rows.get(committed).arrived());
+
+        SagaCommit.runCommitted(afterCommit, Set.of(conflicted));
+
+        assertEquals(List.of(committed), join.joined);
+        assertEquals(CorrelationStore.State.JOINED, backing.rows.get(committed).state());
+        assertEquals(1, backing.rows.get(conflicted).arrived());
+        assertEquals(0, coordinator.getPendingJoinCount());
+    }
+
+    private SagaJoinCoordinator coordinator(int maxEntries) {
+        return new SagaJoinCoordinator(List.of(join), new CorrelationStore(backing, maxEntries, Duration.ofMinutes(1)));
+    }
+
+    private static class PaymentReply {
+    }
+
+    private static class InventoryReply {
+    }
+
+    private static class FailureReply {
+    }
+
+    private static class RecordingJoin implements SagaJoin {
+        final List<UUID> joined = new ArrayList<>();
+        final List<UUID> late = new ArrayList<>();
+        int failuresLeft;
+
+        @Override
+        public String getName() {
+            return "test";
+        }
+
+        @Override
+        public List<Class<?>> getReplyTypes() {
+            return List.of(PaymentReply.class, InventoryReply.class);
+        }
+
+        @Override
+        public Set<Class<?>> getFailureTypes() {
+            return Set.of(FailureReply.class);
+        }
+
+        @Override
+        public void onJoined(UUID correlationId, ScopedCommandInvoker invoker) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("합류 조건 불충족");
+            }
+            joined.add(correlationId);
+        }
+
+        @Override
+        public void onLateReply(UUID correlationId, Class<?> replyType, ScopedCommandInvoker invoker) {
+            late.add(correlationId);
+        }
+    }
+
+    private static class MapBacking implements CorrelationStore.Backing {
+        final Map<UUID, CorrelationStore.Correlation> rows = new HashMap<>();
+
+        @Override
+        public CorrelationStore.Correlation load(UUID correlationId) {
+            return rows.get(correlationId);
+        }
+
+        @Override
+        public void save(UUID correlationId, CorrelationStore.Correlation correlation) {
+            rows.put(correlationId, correlation);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.sagacommand.common.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * JFR 기록 요약 CLI 입니다. 라이브러리 jar 에는 포함되지 않는 tools 소스 세트에 있습니다.
+ * <pre>./gradlew :order-service:jfrSummary -Precording=saga.jfr</pre>
+ */
+public final class SagaRecordingSummary {
+
+    private SagaRecordingSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("사용법: SagaRecordingSummary <recording.jfr>");
+            System.exit(2);
+        }
+        System.out.print(SagaRecordingAnalyzer.format(SagaRecordingAnalyzer.summarize(Path.of(args[0]))));
+    }
+}
@@ -0,0 +1,79 @@
+-- orders 테이블을 생성 월(created_at) 기준 RANGE 파티션으로 생성합니다.
+-- MySQL 은 파티션 키가 모든 고유 키에 포함되어야 하므로 기본 키를 (value, created_at) 으로 둡니다.
+-- 그 결과 주문 ID(value) 만으로는 유일성이 보장되지 않고, ID 로 찾는 조회는 created_at 조건이 없어 파티션을 좁히지 못합니다.
+--   * 유일성: 파티션하지 않는 order_key(value 기본 키)에 트리거로 함께 기록하여 같은 ID 의 두 번째 INSERT 를 실패시킵니다.
+--   * 조회: 기본 키의 첫 컬럼이 value 이므로 파티션마다 기본 키 인덱스를 한 번씩 찾습니다(전체 스캔은 아님).
+--     파티션 수만큼 비용이 늘어나므로 오래된 주문은 보관 작업과 파티션 정리로 운영 테이블에서 줄여 둡니다.
+-- 파티션 테이블은 외래 키를 지원하지 않으므로 order_item.order_id 에는 FK 가 없습니다.
+-- 금액(amount)은 기본 통화(KRW)의 최소 단위 개수입니다. BigDecimal 로 저장하던 때의 컬럼 이름을 그대로 씁니다.
+-- 다음 달 이후 파티션은 OrderPartitionMaintainer(app.orders.partitioning.enabled=true)가 p_future 에서 잘라 추가합니다.
+USE orderdb;
+
+CREATE TABLE IF NOT EXISTS orders (
+    `value`        BINARY(16)   NOT NULL,
+    customer_id    BINARY(16),
+    status         ENUM ('CREATED', 'PAID', 'PAYMENT_FAILED', 'INVENTORY_RESERVED', 'INVENTORY_FAILED',
+                         'POINTS_APPLIED', 'POINTS_FAILED', 'COMPLETED', 'CANCELLED'),
+    previous_status ENUM ('CREATED', 'PAID', 'PAYMENT_FAILED', 'INVENTORY_RESERVED', 'INVENTORY_FAILED',
+                          'POINTS_APPLIED', 'POINTS_FAILED', 'COMPLETED', 'CANCELLED'),
+    payment_id     BINARY(16),
+    applied_points INT,
+    amount         BIGINT,
+    version        BIGINT       NOT NULL DEFAULT 0,
+    created_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (`value`, created_at),
+    KEY idx_orders_status_created_at (status, created_at)
+)
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 주문 ID 유일성 보장용 (orders 는 파티션 키를 포함한 기본 키만 가질 수 있음)
+CREATE TABLE IF NOT EXISTS order_key (
+    `value`    BINARY(16)  NOT NULL PRIMARY KEY,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE TRIGGER orders_key_insert AFTER INSERT ON orders
+    FOR EACH ROW INSERT INTO order_key (`value`, created_at) VALUES (NEW.`value`, NEW.created_at);
+
+CREATE TRIGGER orders_key_delete AFTER DELETE ON orders
+    FOR EACH ROW DELETE FROM order_key WHERE `value` = OLD.`value`;
+
+CREATE TABLE IF NOT EXISTS order_item (
+    id         BINARY(16) NOT NULL PRIMARY KEY,
+    product_id BINARY(16),
+    quantity   INT        NOT NULL,
+    amount     BIGINT,
+    order_id   BINARY(16),
+    KEY idx_order_item_order_id (order_id)
+);
+
+CREATE TABLE IF NOT EXISTS orders_archive (
+    order_id       BINARY(16)  NOT NULL PRIMARY KEY,
+    customer_id    BINARY(16),
+    status          VARCHAR(32),
+    previous_status VARCHAR(32),
+    payment_id      BINARY(16),
+    applied_points  INT,
+    total_amount    BIGINT      NOT NULL,
+    items           LONGTEXT,
+    created_at      DATETIME(6),
+    archived_at     DATETIME(6),
+    version         BIGINT      NOT NULL DEFAULT 0
+);
+
+-- 결제/재고 응답 합류 상태 (app.saga.join.enabled=true 일 때 사용)
+CREATE TABLE IF NOT EXISTS saga_correlation (
+    order_id   BINARY(16)  NOT NULL PRIMARY KEY,
+    arrived    INT         NOT NULL,
+    state      VARCHAR(16),
+    updated_at DATETIME(6)
+);
+
+-- 상태별 주문 수 요약 (app.orders.status-counts.enabled=true 일 때 사용, 비어 있으면 기동 시 orders 에서 집계)
+CREATE TABLE IF NOT EXISTS order_status_summary (
+    status      VARCHAR(32) NOT NULL PRIMARY KEY,
+    order_count BIGINT      NOT NULL,
+    updated_at  DATETIME(6)
+);
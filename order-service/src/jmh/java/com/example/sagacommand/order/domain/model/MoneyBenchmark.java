@@ -0,0 +1,73 @@
+package com.example.sagacommand.order.domain.model;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 총액 계산 비용을 BigDecimal 기반 구현과 long 최소 단위 기반 구현으로 비교합니다.
+ * gc 프로파일러의 gc.alloc.rate.norm 값이 연산당 할당 바이트입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MoneyBenchmark {
+
+    // CreateOrderRequest 가 허용하는 최대 상품 수
+    @Param({"10", "100"})
+    private int itemCount;
+
+    private List<OrderItem> items;
+    private List<BigDecimalLine> bigDecimalLines;
+
+    @Setup
+    public void setUp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        items = new ArrayList<>(itemCount);
+        bigDecimalLines = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            long price = random.nextLong(100, 1_000_000);
+            int quantity = random.nextInt(1, 10);
+            items.add(OrderItem.create(UUID.randomUUID(), quantity, Money.ofMinor(price)));
+            bigDecimalLines.add(new BigDecimalLine(new BigDecimalMoney(BigDecimal.valueOf(price)), quantity));
+        }
+    }
+
+    // Order.calculateTotalAmount 가 호출하는 운영 코드를 그대로 측정
+    @Benchmark
+    public void longMinorUnits(Blackhole blackhole) {
+        blackhole.consume(Order.totalOf(items).getValue());
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole blackhole) {
+        BigDecimalMoney total = bigDecimalLines.stream()
+                .map(line -> line.price().multiply(line.quantity()))
+                .reduce(BigDecimalMoney.ZERO, BigDecimalMoney::add);
+        blackhole.consume(total.amount());
+    }
+
+    /**
+     * 변경 전 Money 구현 (비교 기준)
+     */
+    private record BigDecimalMoney(BigDecimal amount) {
+        static final BigDecimalMoney ZERO = new BigDecimalMoney(BigDecimal.ZERO);
+
+        BigDecimalMoney multiply(int multiplier) {
+            return new BigDecimalMoney(amount.multiply(BigDecimal.valueOf(multiplier)));
+        }
+
+        BigDecimalMoney add(BigDecimalMoney other) {
+            return new BigDecimalMoney(amount.add(other.amount));
+        }
+    }
+
+    private record BigDecimalLine(BigDecimalMoney price, int quantity) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+
+import java.util.*;
+
+/**
+ * 한 주문에 대한 여러 이벤트를 메모리에서 이어서 적용하기 위한 작업 단위입니다.
+ * <ul>
+ *     <li>조회: 주문을 처음 한 번만 읽고 이후에는 메모리의 애그리거트를 반환합니다.</li>
+ *     <li>저장/상태 전이: 메모리의 애그리거트에만 적용합니다 (전이 표 검증은 도메인에서 동일하게 수행).</li>
+ *     <li>발행: 발행할 이벤트를 순서대로 모아 둡니다.</li>
+ * </ul>
+ * {@link #commit()}에서 변경된 주문을 한 번만 저장한 뒤, 모아 둔 이벤트를 원래 순서대로 발행합니다.
+ * 따라서 최종 상태와 발행 이벤트는 한 건씩 처리한 결과와 같고, 저장 횟수만 줄어듭니다.
+ * <p>
+ * 저장은 처음 읽은 시점의 버전을 조건으로 하므로({@link OrderRepository#saveIfVersion}), 그 사이 다른 작업이
+ * 같은 주문을 바꿨다면 덮어쓰지 않고 충돌로 알립니다. 호출자는 새 작업 단위로 그 주문의 이벤트를 다시 처리합니다.
+ * 커맨드가 발행하는 이벤트의 키는 주문 ID 입니다.
+ */
+public class CoalescedOrderSession implements OrderRepository, OrderEventPublisher {
+
+    private final OrderRepository orderRepository;
+    private final OrderEventPublisher orderEventPublisher;
+
+    private final Map<UUID, Optional<Order>> orders = new HashMap<>();
+    // 처음 읽은 시점의 버전 (저장 조건). 이 작업 단위에서 새로 만든 주문은 없음
+    private final Map<UUID, Long> loadedVersions = new HashMap<>();
+    private final Set<UUID> dirty = new LinkedHashSet<>();
+    private final List<PendingEvent> pendingEvents = new ArrayList<>();
+    private int coalescedWrites;
+
+    public CoalescedOrderSession(OrderRepository orderRepository, OrderEventPublisher orderEventPublisher) {
+        this.orderRepository = orderRepository;
+        this.orderEventPublisher = orderEventPublisher;
+    }
+
+    @Override
+    public Order save(Order order) {
+        orders.put(order.getId(), Optional.of(order));
+        if (!dirty.add(order.getId())) {
+            coalescedWrites++;
+        }
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return orders.computeIfAbsent(orderId.getValue(), id -> loaded(orderRepository.findById(orderId)));
+    }
+
+    /**
+     * 아직 읽지 않은 주문을 한 번의 일괄 조회로 미리 읽어 둡니다. 없는 주문도 없음으로 기억합니다.
+     */
+    public void prefetch(Collection<OrderId> orderIds) {
+        List<OrderId> unloaded = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            if (!orders.containsKey(orderId.getValue())) {
+                unloaded.add(orderId);
+                orders.put(orderId.getValue(), Optional.empty());
+            }
+        }
+        if (!unloaded.isEmpty()) {
+            for (Order order : orderRepository.findAllByIds(unloaded)) {
+                orders.put(order.getId(), loaded(Optional.of(order)));
+            }
+        }
+    }
+
+    @Override
+    public void publishEvent(String key, Object event) {
+        pendingEvents.add(new PendingEvent(key, event));
+    }
+
+    /**
+     * 변경된 주문을 읽은 시점의 버전을 조건으로 저장하고, 저장된 주문의 이벤트를 원래 순서대로 발행합니다.
+     * 버전이 달라 저장하지 못한 주문의 이벤트는 발행하지 않습니다.
+     *
+     * @return 버전이 달라 저장하지 못한 주문 ID (없으면 빈 집합)
+     */
+    public Set<UUID> commit() {
+        Set<UUID> conflicts = new LinkedHashSet<>();
+        for (UUID id : dirty) {
+            Optional<Order> order = orders.get(id);
+            if (order.isEmpty()) {
+                continue;
+            }
+            Long loadedVersion = loadedVersions.get(id);
+            if (loadedVersion == null) {
+                orderRepository.save(order.get());
+            } else if (!orderRepository.saveIfVersion(order.get(), loadedVersion)) {
+                conflicts.add(id);
+            }
+        }
+
+        Set<String> skipped = new HashSet<>();
+        conflicts.forEach(id -> skipped.add(id.toString()));
+        for (PendingEvent pending : pendingEvents) {
+            if (!skipped.contains(pending.key())) {
+                orderEventPublisher.publishEvent(pending.key(), pending.event());
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * @return 병합되어 생략된 저장 횟수
+     */
+    public int getCoalescedWrites() {
+        return coalescedWrites;
+    }
+
+    private Optional<Order> loaded(Optional<Order> order) {
+        order.ifPresent(found -> loadedVersions.put(found.getId(), found.getVersion()));
+        return order;
+    }
+
+    private record PendingEvent(String key, Object event) {
+    }
+}
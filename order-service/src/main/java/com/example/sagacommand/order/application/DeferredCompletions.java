@@ -0,0 +1,47 @@
+package com.example.sagacommand.order.application;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 이벤트 배치 처리 중 다른 스레드로 넘겨진 주문별 작업(슬로 레인 등)의 완료 시점을 모읍니다.
+ * <p>
+ * 리스너 스레드에서 {@link #capture(Runnable)} 안에서 처리하는 동안 {@link #register(UUID, CompletableFuture)} 로
+ * 등록된 작업만 수집되며, 그 주문의 레코드는 등록된 작업이 끝난 뒤에야 처리 완료로 봅니다.
+ * 수집 중이 아닐 때의 등록은 무시됩니다.
+ */
+public final class DeferredCompletions {
+
+    private static final ThreadLocal<Map<UUID, CompletableFuture<Void>>> CURRENT = new ThreadLocal<>();
+
+    private DeferredCompletions() {
+    }
+
+    /**
+     * processing 을 실행하고, 그동안 등록된 주문별 비동기 작업을 반환합니다.
+     */
+    public static Map<UUID, CompletableFuture<Void>> capture(Runnable processing) {
+        Map<UUID, CompletableFuture<Void>> deferred = new HashMap<>();
+        Map<UUID, CompletableFuture<Void>> previous = CURRENT.get();
+        CURRENT.set(deferred);
+        try {
+            processing.run();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+        return deferred;
+    }
+
+    public static void register(UUID orderId, CompletableFuture<Void> completion) {
+        Map<UUID, CompletableFuture<Void>> deferred = CURRENT.get();
+        if (deferred != null) {
+            deferred.merge(orderId, completion, CompletableFuture::allOf);
+        }
+    }
+}
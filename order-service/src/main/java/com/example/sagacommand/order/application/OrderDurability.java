@@ -0,0 +1,14 @@
+package com.example.sagacommand.order.application;
+
+/**
+ * 주문 변경의 영속화 시점 정책입니다.
+ * 저장소가 변경을 지연 반영(write-behind)하는 경우, 메시지 오프셋 커밋처럼
+ * "지금까지의 변경이 DB에 반영된 뒤"에만 해야 하는 작업을 미룰 수 있게 합니다.
+ */
+public interface OrderDurability {
+    /**
+     * 호출 시점까지 저장된 모든 주문 변경이 DB에 반영되면 action 을 실행합니다.
+     * 즉시 반영되는 저장소에서는 바로 실행됩니다.
+     */
+    void whenDurable(Runnable action);
+}
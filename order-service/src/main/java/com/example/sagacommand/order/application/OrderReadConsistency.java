@@ -0,0 +1,22 @@
+package com.example.sagacommand.order.application;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 조회 경로의 일관성 정책입니다.
+ * 복제본(replica) 조회를 사용하는 환경에서 클라이언트가 방금 변경한 주문은
+ * 복제 지연과 무관하게 최신 상태로 읽히도록 보장합니다.
+ * 변경을 기록한 인스턴스에서 조회할 때만 적용되는 인스턴스 단위 보장입니다.
+ */
+public interface OrderReadConsistency {
+    /**
+     * 주문이 변경되었음을 기록합니다.
+     */
+    void recordWrite(UUID orderId);
+
+    /**
+     * 주문 조회를 실행합니다. 최근 변경된 주문이면 원본(primary)에서 조회합니다.
+     */
+    <T> T read(UUID orderId, Supplier<T> query);
+}
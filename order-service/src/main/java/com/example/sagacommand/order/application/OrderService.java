@@ -1,8 +1,9 @@
 package com.example.sagacommand.order.application;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
-import com.example.sagacommand.common.event.Event;
 import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.TracedEventView;
 import com.example.sagacommand.order.application.command.CancelOrderCommand;
 import com.example.sagacommand.order.application.command.CreateOrderCommand;
 import com.example.sagacommand.order.application.command.OrderCommandFactory;
@@ -14,33 +15,57 @@ import com.example.sagacommand.order.application.exception.OrderNotFoundExceptio
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
 import com.example.sagacommand.order.domain.repository.OrderRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.ReceiverContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class OrderService {
 
+    // 워밍업(app.warmup)이 끝난 뒤 KafkaListenerEndpointRegistry 에서 찾아 시작할 때 사용
+    public static final String SAGA_LISTENER_ID = "saga-events";
+
     private final OrderCommandFactory orderCommandFactory;
     private final ScopedCommandInvoker commandInvoker;
     private final EventProcessor eventProcessor;
     private final OrderRepository orderRepository;
+    private final OrderReadConsistency orderReadConsistency;
+    private final SagaEventAcknowledger sagaEventAcknowledger;
+    private final ObservationRegistry observationRegistry;
 
     // 주문 생성 - 커맨드 실행
     public OrderResult createOrder(OrderCreation request) {
         try {
             CreateOrderCommand command = orderCommandFactory.createOrderCommand(request);
             Order order = commandInvoker.executeCommand(command);
+            orderReadConsistency.recordWrite(order.getId());
             log.info("주문 생성 성공: {}", order.getId());
             return OrderResult.from(order);
         } catch (Exception e) {
             log.error("주문 생성 실패: {}", e.getMessage());
             throw new OrderCreationException("주문 생성 중 오류 발생: " + e.getMessage());
+        } finally {
+            // 요청 스레드(풀에서 재사용됨)의 커맨드 이력을 비워 커맨드/주문 참조가 남지 않게 함
+            commandInvoker.clear();
         }
     }
 
@@ -49,11 +74,14 @@ public class OrderService {
         try {
             CancelOrderCommand command = orderCommandFactory.cancelOrderCommand(UUID.fromString(orderId));
             Order order = commandInvoker.executeCommand(command);
+            orderReadConsistency.recordWrite(order.getId());
             log.info("주문 취소 성공: {}", order.getId());
             return OrderResult.from(order);
         } catch (Exception e) {
             log.error("주문 취소 실패: {}", e.getMessage());
             throw new OrderCancellationException("주문 취소 중 오류 발생: " + e.getMessage());
+        } finally {
+            commandInvoker.clear();
         }
     }
 
@@ -62,20 +90,76 @@ public class OrderService {
         1. 커맨드 패턴 사용: 애플리케이션의 일관성을 유지하고 싶거나, 추후 복잡한 조회 로직이 추가될 가능성이 있는 경우
         ex) GetOrderCommand, SearchOrderCommand
         2. 리포지토리 직접 사용: 간단한 조회만 필요하고 커맨드 패턴의 오버헤드를 줄이고 싶은 경우
+
+    읽기 전용 트랜잭션이므로 복제본 라우팅이 활성화되어 있으면 복제본에서 조회합니다.
+    (단, 이 인스턴스에서 방금 변경한 주문은 원본에서 조회. 다른 인스턴스의 변경은 복제 지연만큼 늦게 보일 수 있음)
      */
+    @Transactional(readOnly = true)
     public OrderResult getOrder(String orderId) {
-        return OrderResult.from(orderRepository.findById(OrderId.of(UUID.fromString(orderId)))
+        UUID id = UUID.fromString(orderId);
+        return orderReadConsistency.read(id, () -> OrderResult.from(orderRepository.findById(OrderId.of(id))
                 .orElseThrow(() -> {
                     log.warn("주문을 찾을 수 없음: {}", orderId);
                     return new OrderNotFoundException("주문을 찾을 수 없습니다: " + orderId);
-                }));
+                })));
+    }
 
+    // 조건부 조회(If-None-Match)용: 주문 항목을 읽지 않고 버전만 조회
+    // 빈 값이면(주문 없음, 보관된 주문 등) 호출자가 getOrder 로 전체 조회
+    @Transactional(readOnly = true)
+    public Optional<Long> getOrderVersion(String orderId) {
+        UUID id = UUID.fromString(orderId);
+        return orderReadConsistency.read(id, () -> orderRepository.findVersion(OrderId.of(id)));
     }
 
     // 이벤트 리스너 - 카프카에서 이벤트 수신
-    @KafkaListener(topics = {"payment-events", "inventory-events"})
-    public void handlePaymentEvents(Event event) {
-        log.info("이벤트 수신: {}", event.getClass().getSimpleName());
-        eventProcessor.processEvent(event);
+    // 핸들러가 없는 이벤트는 역직렬화 단계에서 걸러지고(filter), 나머지는 지연 디코딩 뷰로 전달됨
+    // 배치로 수신하여 같은 주문의 이벤트는 묶어서 처리 (주문별 조회/저장 1회)
+    // 오프셋은 처리 결과가 DB에 반영된 뒤 커밋되므로, 반영 전 장애 시 이벤트가 다시 전달됨
+    // 슬로 레인 등으로 순서와 다르게 끝나는 레코드는 파티션별로 완료를 추적하여 연속 완료 구간까지만 커밋 (app.saga.offsets)
+    // exactly-once 프로필에서는 배치 전체가 Kafka 트랜잭션 하나이며, 오프셋은 발행과 함께 트랜잭션으로 커밋됨
+    // 배치 리스너는 레코드마다 관측을 만들지 않으므로, 레코드 헤더(traceparent)에서 발행 측 trace 를 이어받는 수신 관측을
+    // 레코드마다 만들고 이벤트와 함께 넘겨 saga.event 의 부모로 사용 (묶음 처리/슬로 레인에서도 같은 trace 에 이어짐)
+    // 우선순위 레인(app.saga.lanes)을 켜면 이 리스너는 시작하지 않고 레인 컨테이너가 이 메서드를 호출함
+    // in-process 프로필처럼 spring.kafka.listener.auto-startup=false 이면 시작하지 않음
+    // 워밍업을 켜면 기동 시 시작하지 않고 워밍업이 끝난 뒤 시작함 (idIsGroup=false: 컨슈머 그룹은 설정값 유지)
+    @KafkaListener(id = SAGA_LISTENER_ID, idIsGroup = false,
+            topics = {"payment-events", "inventory-events"}, filter = "unhandledEventFilter", batch = "true",
+            autoStartup = "#{!${app.saga.lanes.enabled:false} && !${app.warmup.enabled:false} && ${spring.kafka.listener.auto-startup:true}}")
+    public void handlePaymentEvents(List<ConsumerRecord<String, EventView<?>>> records,
+                                    Acknowledgment acknowledgment,
+                                    Consumer<?, ?> consumer) {
+        log.info("이벤트 수신: {}건", records.size());
+        List<EventView<?>> events = new ArrayList<>(records.size());
+        List<Observation> received = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, EventView<?>> record : records) {
+            Observation observation = receive(record);
+            received.add(observation);
+            events.add(TracedEventView.of(record.value(), observation));
+        }
+        Map<UUID, CompletableFuture<Void>> deferred;
+        try {
+            deferred = DeferredCompletions.capture(() -> eventProcessor.processEvents(events));
+        } catch (RuntimeException e) {
+            received.forEach(observation -> observation.error(e));
+            throw e;
+        } finally {
+            // 슬로 레인으로 넘어간 이벤트의 saga.event 는 이 span 이 끝난 뒤에 끝날 수 있음 (부모-자식 관계는 유지)
+            received.forEach(Observation::stop);
+        }
+        sagaEventAcknowledger.processed(records, deferred, acknowledgment, consumer);
+    }
+
+    private Observation receive(ConsumerRecord<String, EventView<?>> record) {
+        ReceiverContext<ConsumerRecord<String, EventView<?>>> context = new ReceiverContext<>((carrier, key) -> {
+            Header header = carrier.headers().lastHeader(key);
+            return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+        });
+        context.setCarrier(record);
+        context.setRemoteServiceName("Apache Kafka");
+        return Observation.createNotStarted("saga.record", () -> context, observationRegistry)
+                .contextualName(record.topic() + " receive")
+                .lowCardinalityKeyValue("topic", record.topic())
+                .start();
     }
 }
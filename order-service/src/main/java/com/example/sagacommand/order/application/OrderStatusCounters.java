@@ -0,0 +1,30 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.order.domain.model.Order;
+
+/**
+ * 상태별 주문 수 카운터입니다. 주문 커맨드가 상태를 바꿀 때마다 증감하므로
+ * orders 테이블을 GROUP BY 하지 않고 상태 분포를 조회할 수 있습니다.
+ */
+public interface OrderStatusCounters {
+
+    OrderStatusCounters NOOP = new OrderStatusCounters() {
+        @Override
+        public void recordTransition(Order.OrderStatus from, Order.OrderStatus to) {
+        }
+
+        @Override
+        public void recordRemoved(Order.OrderStatus status, long count) {
+        }
+    };
+
+    /**
+     * @param from 새 주문이면 null
+     */
+    void recordTransition(Order.OrderStatus from, Order.OrderStatus to);
+
+    /**
+     * orders 테이블에서 빠진 주문(보관 등)을 반영합니다.
+     */
+    void recordRemoved(Order.OrderStatus status, long count);
+}
@@ -0,0 +1,18 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.order.domain.model.Money;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 상품 가격 조회 포트입니다.
+ * 주문 한 건의 상품을 한 번에 조회할 수 있도록 대량(bulk) 조회만 제공합니다.
+ */
+public interface ProductCatalog {
+    /**
+     * @return 상품 ID 별 단가. 카탈로그에 없는 상품은 결과에 포함되지 않음
+     */
+    Map<UUID, Money> findPrices(Set<UUID> productIds);
+}
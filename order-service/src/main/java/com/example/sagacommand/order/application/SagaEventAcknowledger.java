@@ -0,0 +1,38 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.common.event.EventView;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Saga 이벤트 배치의 수신 오프셋 확정 정책입니다.
+ * 리스너 스레드에서 배치 처리가 끝나면 호출되며, 레코드가 실제로 완료된 뒤(비동기 작업 종료, DB 반영)에만 오프셋을 확정합니다.
+ */
+public interface SagaEventAcknowledger {
+
+    /**
+     * @param records        처리한 레코드 (필터에서 버린 레코드 제외, 모두 버려졌으면 빈 목록)
+     * @param deferred       아직 끝나지 않은 주문별 비동기 작업. 해당 주문의 레코드는 작업이 끝난 뒤 완료로 봅니다
+     * @param acknowledgment 컨테이너의 배치 확정
+     * @param consumer       리스너 스레드의 컨슈머 (리스너 스레드에서만 사용)
+     */
+    void processed(List<ConsumerRecord<String, EventView<?>>> records,
+                   Map<UUID, CompletableFuture<Void>> deferred,
+                   Acknowledgment acknowledgment,
+                   Consumer<?, ?> consumer);
+
+    /**
+     * 오프셋을 컨테이너 대신 직접 커밋하면 true 입니다.
+     * 이 경우 필터에서 모두 버려진 배치도 Acknowledgment 로 확정하면 안 됩니다 (처리 중인 앞선 레코드를 건너뛰게 됨).
+     * 버려진 레코드의 오프셋은 구현이 컨슈머 위치로 직접 커밋합니다.
+     */
+    default boolean commitsOffsets() {
+        return false;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.order.domain.model.Order;
+
+import java.util.UUID;
+
+/**
+ * Saga 진행 중인(종료 상태가 아닌) 주문의 현재 상태 색인입니다.
+ * 주문 커맨드가 상태를 바꿀 때마다 갱신되며, 종료 상태가 되면 색인에서 빠집니다.
+ */
+public interface SagaStatusIndex {
+
+    SagaStatusIndex NOOP = (orderId, status) -> {
+    };
+
+    void recordStatus(UUID orderId, Order.OrderStatus status);
+}
@@ -2,6 +2,7 @@ package com.example.sagacommand.order.application.command;
 
 import com.example.sagacommand.common.command.Command;
 import com.example.sagacommand.common.event.OrderCancelledEvent;
+import com.example.sagacommand.common.journal.JournaledCommand;
 import com.example.sagacommand.order.application.OrderEventPublisher;
 import com.example.sagacommand.order.application.exception.OrderNotFoundException;
 import com.example.sagacommand.order.domain.model.Order;
@@ -13,7 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @RequiredArgsConstructor
-public class CancelOrderCommand implements Command<Order> {
+public class CancelOrderCommand implements Command<Order>, JournaledCommand {
     private final OrderId orderId;
     private final OrderRepository orderRepository;
     private final OrderEventPublisher orderEventPublisher;
@@ -32,7 +33,7 @@ public class CancelOrderCommand implements Command<Order> {
 
         Order savedOrder = orderRepository.save(order);
 
-        // 주문 취소 이벤트 발행
+        // 주문 취소 이벤트 발행 (이미 취소된 주문이어도 다시 발행: 재전달된 이벤트라면 이전 발행이 중단된 Kafka 트랜잭션과 함께 버려졌을 수 있음)
         OrderCancelledEvent event = OrderCancelledEvent.of(savedOrder.getId());
         orderEventPublisher.publishEvent(savedOrder.getId().toString(), event);
 
@@ -41,32 +42,31 @@ public class CancelOrderCommand implements Command<Order> {
         return savedOrder;
     }
 
+    @Override
+    public String getJournalType() {
+        return OrderStatusUndoState.JOURNAL_TYPE;
+    }
+
+    // undo 와 같은 조건: 이미 취소되어 있던 주문은 되돌릴 것이 없음
+    @Override
+    public byte[] getUndoState() {
+        if (order == null || previousStatus == null || previousStatus == Order.OrderStatus.CANCELLED) {
+            return null;
+        }
+        return new OrderStatusUndoState(orderId, Order.OrderStatus.CANCELLED, previousStatus).encode();
+    }
+
     @Override
     @Transactional
     public void undo() {
-        if (order != null && previousStatus != null) {
-            // 이전 상태로 되돌림 (실제로는 상태 관리가 더 복잡할 수 있음)
-            Order refreshedOrder = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new OrderNotFoundException(orderId.toString()));
-
-            // 상태를 수동으로 롤백 (실제로는 이벤트 소싱 등을 활용해 더 견고하게 구현 필요)
-            switch (previousStatus) {
-                case CREATED:
-                    refreshedOrder.markAsCreated();
-                    break;
-                case PAID:
-                    refreshedOrder.markAsPaid();
-                    break;
-                case INVENTORY_RESERVED:
-                    refreshedOrder.markAsInventoryReserved();
-                    break;
-                // 다른 상태에 대한 처리...
-                default:
-                    break;
+        // 이미 취소되어 있던 주문이면 이번 실행으로 바뀐 것이 없으므로 되돌리지 않음
+        if (order != null && previousStatus != null && previousStatus != Order.OrderStatus.CANCELLED) {
+            // 취소 직후 상태일 때만 취소 전 상태로 되돌림
+            if (orderRepository.revertStatus(orderId, Order.OrderStatus.CANCELLED, previousStatus)) {
+                log.info("주문 취소 취소(Undo): {}, 이전 상태: {}", orderId, previousStatus);
+            } else {
+                log.warn("주문 취소 취소(Undo) 생략: {} (취소 상태가 아님)", orderId);
             }
-
-            orderRepository.save(refreshedOrder);
-            log.info("주문 취소 취소(Undo): {}, 이전 상태: {}", refreshedOrder.getId(), previousStatus);
         }
     }
 }
@@ -4,8 +4,8 @@ import com.example.sagacommand.common.command.Command;
 import com.example.sagacommand.common.event.OrderCancelledEvent;
 import com.example.sagacommand.common.event.OrderCreatedEvent;
 import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.ProductCatalog;
 import com.example.sagacommand.order.application.dto.OrderCreation;
-import com.example.sagacommand.order.domain.model.Money;
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
 import com.example.sagacommand.order.domain.model.OrderItem;
@@ -15,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
-import java.util.UUID;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -23,13 +22,14 @@ public class CreateOrderCommand implements Command<Order> {
     private final OrderCreation request;
     private final OrderRepository orderRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final ProductCatalog productCatalog;
     private OrderId orderId;
 
     @Override
     @Transactional
     public Order execute() {
         orderId = OrderId.generate();
-        List<OrderItem> items = request.items().stream().map(e -> OrderItem.create(UUID.randomUUID(), 1, Money.ZERO)).toList();
+        List<OrderItem> items = new OrderPricing(productCatalog).price(request.items());
 
         Order savedOrder = orderRepository.save(Order.create(orderId, request.customerId(), items));
         OrderCreatedEvent event = OrderCreatedEvent.of(savedOrder.getId(), savedOrder.getCustomerId());
@@ -1,37 +1,157 @@
 package com.example.sagacommand.order.application.command;
 
 import com.example.sagacommand.common.command.CommandFactory;
+import com.example.sagacommand.order.application.OrderDurability;
 import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.application.SagaStatusIndex;
 import com.example.sagacommand.order.application.dto.OrderCreation;
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
 import com.example.sagacommand.order.domain.repository.OrderRepository;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.UUID;
+import java.util.function.Supplier;
 
 @Component
-@RequiredArgsConstructor
 public class OrderCommandFactory implements CommandFactory {
     private final OrderRepository orderRepository;
     private final OrderEventPublisher orderEventPublisher;
+    private final ProductCatalog productCatalog;
+    // Saga 상태 색인(app.saga.index)이 켜져 있으면 커맨드의 상태 변경을 색인에 반영
+    private final SagaStatusIndex statusIndex;
+    // 상태별 주문 수 카운터(app.orders.status-counts)가 켜져 있으면 커맨드의 상태 전이를 카운터에 반영
+    private final OrderStatusCounters statusCounters;
+    // 카운터 변경분을 주문 변경이 DB 에 반영된 뒤에 더하기 위한 시점 정책
+    private final OrderDurability orderDurability;
+
+    // 현재 스레드에서 생성되는 커맨드가 사용할 저장소/발행기 (배치 병합 처리 중일 때만 설정됨)
+    private final ThreadLocal<Scope> scope = new ThreadLocal<>();
+
+    public OrderCommandFactory(OrderRepository orderRepository,
+                               OrderEventPublisher orderEventPublisher,
+                               ProductCatalog productCatalog) {
+        this(orderRepository, orderEventPublisher, productCatalog, SagaStatusIndex.NOOP, OrderStatusCounters.NOOP);
+    }
+
+    @Autowired
+    public OrderCommandFactory(OrderRepository orderRepository,
+                               OrderEventPublisher orderEventPublisher,
+                               ProductCatalog productCatalog,
+                               ObjectProvider<SagaStatusIndex> statusIndex,
+                               ObjectProvider<OrderStatusCounters> statusCounters,
+                               ObjectProvider<OrderDurability> orderDurability) {
+        this(orderRepository, orderEventPublisher, productCatalog,
+                statusIndex.getIfAvailable(() -> SagaStatusIndex.NOOP),
+                statusCounters.getIfAvailable(() -> OrderStatusCounters.NOOP),
+                orderDurability.getIfAvailable(() -> Runnable::run));
+    }
+
+    OrderCommandFactory(OrderRepository orderRepository,
+                        OrderEventPublisher orderEventPublisher,
+                        ProductCatalog productCatalog,
+                        SagaStatusIndex statusIndex,
+                        OrderStatusCounters statusCounters) {
+        this(orderRepository, orderEventPublisher, productCatalog, statusIndex, statusCounters, Runnable::run);
+    }
+
+    OrderCommandFactory(OrderRepository orderRepository,
+                        OrderEventPublisher orderEventPublisher,
+                        ProductCatalog productCatalog,
+                        SagaStatusIndex statusIndex,
+                        OrderStatusCounters statusCounters,
+                        OrderDurability orderDurability) {
+        this.statusIndex = statusIndex;
+        this.statusCounters = statusCounters;
+        this.orderDurability = orderDurability;
+        this.orderRepository = track(orderRepository);
+        this.orderEventPublisher = orderEventPublisher;
+        this.productCatalog = productCatalog;
+    }
 
     public CreateOrderCommand createOrderCommand(OrderCreation creation) {
-        return new CreateOrderCommand(creation, orderRepository, orderEventPublisher);
+        return new CreateOrderCommand(creation, repository(), publisher(), productCatalog);
     }
 
     // 주문 취소 명령 객체 생성
     public CancelOrderCommand cancelOrderCommand(UUID orderId) {
-        return new CancelOrderCommand(OrderId.of(orderId), orderRepository, orderEventPublisher);
+        return new CancelOrderCommand(OrderId.of(orderId), repository(), publisher());
     }
 
     // 주문 상태 업데이트 명령 객체 생성
     public UpdateOrderStatusCommand updateOrderStatusCommand(UUID orderId, Order.OrderStatus newStatus) {
-        return new UpdateOrderStatusCommand(OrderId.of(orderId), newStatus, orderRepository);
+        return new UpdateOrderStatusCommand(OrderId.of(orderId), newStatus, repository());
+    }
+
+    // 현재 상태가 requiredStatus 일 때만 전이
+    public UpdateOrderStatusCommand updateOrderStatusCommand(UUID orderId,
+                                                             Order.OrderStatus requiredStatus,
+                                                             Order.OrderStatus newStatus) {
+        return new UpdateOrderStatusCommand(OrderId.of(orderId), newStatus, repository(), requiredStatus);
     }
 
     public RefundPaymentCommand refundPaymentCommand(UUID orderId) {
-        return new RefundPaymentCommand(OrderId.of(orderId), orderRepository, orderEventPublisher);
+        return new RefundPaymentCommand(OrderId.of(orderId), repository(), publisher());
+    }
+
+    /**
+     * work 실행 중 이 스레드에서 생성되는 커맨드가 주어진 저장소와 발행기를 사용하도록 합니다.
+     * 여러 이벤트를 메모리에서 이어서 적용한 뒤 한 번에 반영하는 배치 병합 처리에 사용됩니다.
+     */
+    public <T> T withScope(OrderRepository repository, OrderEventPublisher publisher, Supplier<T> work) {
+        return withScope(new Scope(repository, publisher, true), work);
+    }
+
+    /**
+     * withScope 와 같지만 상태 색인/카운터에 반영하지 않습니다.
+     * 저장되지 않는 합성 주문(기동 워밍업 등)에 사용합니다.
+     */
+    public <T> T withUntrackedScope(OrderRepository repository, OrderEventPublisher publisher, Supplier<T> work) {
+        return withScope(new Scope(repository, publisher, false), work);
+    }
+
+    private <T> T withScope(Scope next, Supplier<T> work) {
+        Scope previous = scope.get();
+        scope.set(next);
+        try {
+            return work.get();
+        } finally {
+            if (previous == null) {
+                scope.remove();
+            } else {
+                scope.set(previous);
+            }
+        }
+    }
+
+    private OrderRepository repository() {
+        Scope current = scope.get();
+        if (current == null) {
+            return orderRepository;
+        }
+        return current.tracked() ? track(current.repository()) : current.repository();
+    }
+
+    private OrderRepository track(OrderRepository repository) {
+        OrderRepository tracked = repository;
+        if (statusCounters != OrderStatusCounters.NOOP) {
+            tracked = new StatusCountingOrderRepository(tracked, statusCounters, orderDurability);
+        }
+        if (statusIndex != SagaStatusIndex.NOOP) {
+            tracked = new StatusIndexingOrderRepository(tracked, statusIndex);
+        }
+        return tracked;
+    }
+
+    private OrderEventPublisher publisher() {
+        Scope current = scope.get();
+        return current != null ? current.publisher() : orderEventPublisher;
+    }
+
+    private record Scope(OrderRepository repository, OrderEventPublisher publisher, boolean tracked) {
     }
 }
@@ -0,0 +1,46 @@
+package com.example.sagacommand.order.application.command;
+
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 생성 시 요청한 상품 목록을 가격이 매겨진 주문 항목으로 바꾸는 단계입니다.
+ * 같은 상품이 여러 번 요청되면 수량으로 합치고, 모든 상품의 가격을 카탈로그 대량 조회 한 번으로 가져옵니다.
+ */
+@RequiredArgsConstructor
+class OrderPricing {
+    private final ProductCatalog productCatalog;
+
+    /**
+     * @throws IllegalArgumentException 카탈로그에 없는 상품이 있는 경우
+     */
+    List<OrderItem> price(List<UUID> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        // 요청 순서대로 항목을 만들기 위해 처음 나온 순서를 유지
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        for (UUID productId : productIds) {
+            quantities.merge(productId, 1, Integer::sum);
+        }
+
+        Map<UUID, Money> prices = productCatalog.findPrices(quantities.keySet());
+        List<OrderItem> items = new ArrayList<>(quantities.size());
+        for (Map.Entry<UUID, Integer> entry : quantities.entrySet()) {
+            Money price = prices.get(entry.getKey());
+            if (price == null) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다: " + entry.getKey());
+            }
+            items.add(OrderItem.create(entry.getKey(), entry.getValue(), price));
+        }
+        return items;
+    }
+}
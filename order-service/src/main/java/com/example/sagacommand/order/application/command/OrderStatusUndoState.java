@@ -0,0 +1,55 @@
+package com.example.sagacommand.order.application.command;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 상태 전이 커맨드(UpdateOrderStatusCommand, CancelOrderCommand)를 저널에서 되돌리기 위한 상태입니다.
+ * 두 커맨드 모두 "주문이 아직 appliedStatus 이면 커맨드가 기록한 출발 상태 priorStatus 로 되돌림"
+ * (OrderRepository#revertStatus)으로 되돌립니다.
+ * <pre>[long 주문 ID 상위][long 주문 ID 하위][byte 적용 상태 이름 길이][적용 상태 이름 UTF-8][출발 상태 이름 UTF-8]</pre>
+ * 출발 상태를 기록하기 전 형식 {@code [long 주문 ID 상위][long 주문 ID 하위][적용 상태 이름 UTF-8]} 도 읽으며,
+ * 이때 priorStatus 는 null 입니다 (상태 이름은 영문 대문자로 시작하므로 길이 바이트와 구분됨).
+ */
+public record OrderStatusUndoState(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+
+    public static final String JOURNAL_TYPE = "order-status";
+
+    // 이전 형식은 UUID 바로 뒤가 상태 이름의 첫 글자(영문 대문자)
+    private static final byte LEGACY_FIRST_CHAR = 'A';
+
+    public byte[] encode() {
+        byte[] applied = appliedStatus.name().getBytes(StandardCharsets.UTF_8);
+        byte[] prior = priorStatus.name().getBytes(StandardCharsets.UTF_8);
+        UUID id = orderId.getValue();
+        return ByteBuffer.allocate(Long.BYTES * 2 + 1 + applied.length + prior.length)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .put((byte) applied.length)
+                .put(applied)
+                .put(prior)
+                .array();
+    }
+
+    public static OrderStatusUndoState decode(byte[] state) {
+        ByteBuffer buffer = ByteBuffer.wrap(state);
+        OrderId orderId = OrderId.of(new UUID(buffer.getLong(), buffer.getLong()));
+        if (buffer.get(buffer.position()) >= LEGACY_FIRST_CHAR) {
+            byte[] applied = new byte[buffer.remaining()];
+            buffer.get(applied);
+            return new OrderStatusUndoState(orderId,
+                    Order.OrderStatus.valueOf(new String(applied, StandardCharsets.UTF_8)), null);
+        }
+        byte[] applied = new byte[buffer.get()];
+        buffer.get(applied);
+        byte[] prior = new byte[buffer.remaining()];
+        buffer.get(prior);
+        return new OrderStatusUndoState(orderId,
+                Order.OrderStatus.valueOf(new String(applied, StandardCharsets.UTF_8)),
+                Order.OrderStatus.valueOf(new String(prior, StandardCharsets.UTF_8)));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.sagacommand.order.application.command;
 
 import com.example.sagacommand.common.command.Command;
 import com.example.sagacommand.common.event.PaymentRefundRequestedEvent;
+import com.example.sagacommand.common.journal.JournaledCommand;
 import com.example.sagacommand.order.application.OrderEventPublisher;
 import com.example.sagacommand.order.application.exception.OrderNotFoundException;
 import com.example.sagacommand.order.domain.model.Order;
@@ -10,21 +11,27 @@ import com.example.sagacommand.order.domain.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.ByteBuffer;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * 결제 환불을 요청하는 커맨드입니다.
  * 주문에 결제 정보가 존재할 경우 환불 요청 이벤트를 발행합니다.
+ * 발행한 요청은 되돌릴 수 없으므로 Saga 저널 복구 시에도 수동 처리 대상으로 경고만 남깁니다.
  */
 @Slf4j
 @RequiredArgsConstructor
-public class RefundPaymentCommand implements Command<Boolean> {
+public class RefundPaymentCommand implements Command<Boolean>, JournaledCommand {
+
+    public static final String JOURNAL_TYPE = "refund-payment";
 
     private final OrderId orderId;
     private final OrderRepository orderRepository;
     private final OrderEventPublisher orderEventPublisher;
 
+    private UUID requestedPaymentId;
+
     @Override
     public Boolean execute() {
         Order order = orderRepository.findById(orderId)
@@ -38,6 +45,7 @@ public class RefundPaymentCommand implements Command<Boolean> {
         }
 
         publishRefundEvent(orderId, paymentId);
+        requestedPaymentId = paymentId;
         return true;
     }
 
@@ -49,6 +57,24 @@ public class RefundPaymentCommand implements Command<Boolean> {
         log.info("결제 환불 요청 이벤트 발행: 주문={}, 결제={}", orderId, paymentId);
     }
 
+    @Override
+    public String getJournalType() {
+        return JOURNAL_TYPE;
+    }
+
+    // [주문 ID][결제 ID] (각 UUID 16바이트)
+    @Override
+    public byte[] getUndoState() {
+        if (requestedPaymentId == null) {
+            return null;
+        }
+        UUID id = orderId.getValue();
+        return ByteBuffer.allocate(Long.BYTES * 4)
+                .putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits())
+                .putLong(requestedPaymentId.getMostSignificantBits()).putLong(requestedPaymentId.getLeastSignificantBits())
+                .array();
+    }
+
     @Override
     public void undo() {
         log.warn("환불 취소 요청됨 (수동 처리 필요): 주문={}", orderId);
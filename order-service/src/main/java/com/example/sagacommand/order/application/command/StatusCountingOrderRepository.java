@@ -0,0 +1,118 @@
+package com.example.sagacommand.order.application.command;
+
+import com.example.sagacommand.common.saga.SagaCommit;
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 커맨드가 사용하는 저장소를 감싸, 상태 전이를 상태별 주문 수 카운터에 반영합니다.
+ * <p>
+ * 저장(생성, 취소)은 애그리거트의 직전 상태 → 현재 상태로 집계합니다.
+ * 조건부 UPDATE 로 전이한 경우 출발 상태가 하나뿐이면 그대로 쓰고, 여럿이면 직전 상태 컬럼 하나만 조회합니다.
+ * 보상으로 되돌린 경우는 커맨드가 넘긴 출발 상태로 돌아가므로 조회 없이 집계합니다.
+ * <p>
+ * 변경분은 커맨드 실행 시점이 아니라 변경이 DB 에 남는 시점에 반영합니다. 여러 이벤트를 모아 저장하는 작업 단위
+ * ({@link SagaCommit} 수집 중)에서는 저장에 성공한 주문만, 지연 반영(write-behind) 저장소에서는 DB 반영 뒤에 반영하므로
+ * 충돌로 버려진 작업 단위나 반영 전에 사라진 변경이 카운터에 남지 않습니다.
+ */
+@RequiredArgsConstructor
+class StatusCountingOrderRepository implements OrderRepository {
+
+    private final OrderRepository delegate;
+    private final OrderStatusCounters counters;
+    private final OrderDurability durability;
+
+    @Override
+    public Order save(Order entity) {
+        // merge 로 다른 인스턴스가 반환될 수 있으므로 저장 전에 인자에서 확인
+        boolean changed = entity.isStatusChanged();
+        Order.OrderStatus from = entity.getPreviousStatus();
+        Order.OrderStatus to = entity.getStatus();
+        Order saved = delegate.save(entity);
+        if (changed) {
+            entity.clearStatusChanged();
+            saved.clearStatusChanged();
+            record(saved.getId(), from, to);
+        }
+        return saved;
+    }
+
+    @Override
+    public boolean saveIfVersion(Order entity, long expectedVersion) {
+        boolean changed = entity.isStatusChanged();
+        Order.OrderStatus from = entity.getPreviousStatus();
+        Order.OrderStatus to = entity.getStatus();
+        boolean saved = delegate.saveIfVersion(entity, expectedVersion);
+        if (saved && changed) {
+            entity.clearStatusChanged();
+            record(entity.getId(), from, to);
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public List<Order> findAllByIds(Collection<OrderId> orderIds) {
+        return delegate.findAllByIds(orderIds);
+    }
+
+    @Override
+    public Optional<Long> findVersion(OrderId orderId) {
+        return delegate.findVersion(orderId);
+    }
+
+    @Override
+    public Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        return delegate.findPreviousStatus(orderId);
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        boolean changed = delegate.transitionStatus(orderId, target);
+        if (changed) {
+            Set<Order.OrderStatus> sources = OrderStatusTransitions.sourcesOf(target);
+            Optional<Order.OrderStatus> from = sources.size() == 1
+                    ? Optional.of(sources.iterator().next())
+                    : delegate.findPreviousStatus(orderId);
+            from.ifPresent(status -> record(orderId.getValue(), status, target));
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        boolean changed = delegate.transitionStatus(orderId, expected, target);
+        if (changed) {
+            record(orderId.getValue(), expected, target);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        boolean reverted = delegate.revertStatus(orderId, appliedStatus, priorStatus);
+        if (reverted) {
+            record(orderId.getValue(), appliedStatus, priorStatus);
+        }
+        return reverted;
+    }
+
+    private void record(UUID orderId, Order.OrderStatus from, Order.OrderStatus to) {
+        SagaCommit.afterCommit(orderId, () -> durability.whenDurable(() -> counters.recordTransition(from, to)));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.sagacommand.order.application.command;
+
+import com.example.sagacommand.order.application.SagaStatusIndex;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 커맨드가 사용하는 저장소를 감싸, 상태가 바뀐 주문을 Saga 상태 색인에 반영합니다.
+ * 저장소 호출은 그대로 위임하므로 조건부 UPDATE 등 위임 저장소의 구현이 그대로 쓰입니다.
+ */
+@RequiredArgsConstructor
+class StatusIndexingOrderRepository implements OrderRepository {
+
+    private final OrderRepository delegate;
+    private final SagaStatusIndex index;
+
+    @Override
+    public Order save(Order entity) {
+        Order saved = delegate.save(entity);
+        index.recordStatus(saved.getId(), saved.getStatus());
+        return saved;
+    }
+
+    @Override
+    public boolean saveIfVersion(Order entity, long expectedVersion) {
+        boolean saved = delegate.saveIfVersion(entity, expectedVersion);
+        if (saved) {
+            index.recordStatus(entity.getId(), entity.getStatus());
+        }
+        return saved;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public List<Order> findAllByIds(Collection<OrderId> orderIds) {
+        return delegate.findAllByIds(orderIds);
+    }
+
+    @Override
+    public Optional<Long> findVersion(OrderId orderId) {
+        return delegate.findVersion(orderId);
+    }
+
+    @Override
+    public Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        return delegate.findPreviousStatus(orderId);
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        boolean changed = delegate.transitionStatus(orderId, target);
+        if (changed) {
+            index.recordStatus(orderId.getValue(), target);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        boolean changed = delegate.transitionStatus(orderId, expected, target);
+        if (changed) {
+            index.recordStatus(orderId.getValue(), target);
+        }
+        return changed;
+    }
+
+    @Override
+    public boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        boolean reverted = delegate.revertStatus(orderId, appliedStatus, priorStatus);
+        if (reverted) {
+            index.recordStatus(orderId.getValue(), priorStatus);
+        }
+        return reverted;
+    }
+}
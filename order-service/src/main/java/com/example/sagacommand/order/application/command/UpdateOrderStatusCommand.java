@@ -1,70 +1,97 @@
 package com.example.sagacommand.order.application.command;
 
 import com.example.sagacommand.common.command.Command;
+import com.example.sagacommand.common.journal.JournaledCommand;
 import com.example.sagacommand.order.application.exception.OrderNotFoundException;
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
 import com.example.sagacommand.order.domain.repository.OrderRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.Set;
+
+/**
+ * 주문 상태를 전이하는 커맨드입니다.
+ * 애그리거트를 읽지 않고 저장소의 조건부 상태 변경을 사용하며, 변경되지 않은 경우에만 원인 확인을 위해 조회합니다.
+ * 변경했을 때만 출발 상태를 기록해 Saga 저널에 되돌리기 상태로 남기고, undo 는 그 출발 상태로 되돌립니다.
+ * requiredStatus 를 지정하면 현재 상태가 그 상태일 때만 전이합니다 (출발 상태가 여럿인 전이를 한 경로로 제한).
+ */
 @RequiredArgsConstructor
 @Slf4j
-public class UpdateOrderStatusCommand implements Command<Order> {
+public class UpdateOrderStatusCommand implements Command<Boolean>, JournaledCommand {
     private final OrderId orderId;
     private final Order.OrderStatus newStatus;
     private final OrderRepository orderRepository;
+    private final Order.OrderStatus requiredStatus;  // null 이면 전이 표의 모든 출발 상태 허용
 
-    private Order.OrderStatus previousStatus;  // undo를 위한 상태 저장
+    private Order.OrderStatus priorStatus;  // 이번 실행으로 전이하기 전 상태 (null 이면 undo 대상 아님)
 
-    @Override
-    @Transactional
-    public Order execute() {
-        Order order = orderRepository.findById(OrderId.of(orderId.getValue()))
-                .orElseThrow(() -> new OrderNotFoundException(orderId.toString()));
+    public UpdateOrderStatusCommand(OrderId orderId, Order.OrderStatus newStatus, OrderRepository orderRepository) {
+        this(orderId, newStatus, orderRepository, null);
+    }
 
-        previousStatus = order.getStatus();  // 이전 상태 저장
+    /**
+     * @return 상태가 변경되었으면 true, 이미 newStatus 상태였거나 그 다음 상태로 넘어가 있었으면 false (중복 이벤트)
+     */
+    @Override
+    public Boolean execute() {
+        boolean changed = requiredStatus != null
+                ? orderRepository.transitionStatus(orderId, requiredStatus, newStatus)
+                : orderRepository.transitionStatus(orderId, newStatus);
+        if (changed) {
+            priorStatus = requiredStatus != null ? requiredStatus : priorStatus();
+            log.info("주문 상태 업데이트: {} -> {}", orderId, newStatus);
+            return true;
+        }
 
-        switch (newStatus) {
-            case PAID:
-                order.markAsPaid();
-                break;
-            case PAYMENT_FAILED:
-                order.markAsPaymentFailed();
-                break;
-            case INVENTORY_FAILED:
-                order.markAsInventoryFailed();
-                break;
-            default:
-                throw new IllegalArgumentException("지원하지 않는 상태: " + newStatus);
+        // 영향받은 행이 없을 때만 원인을 확인
+        Order order = orderRepository.findById(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId.toString()));
+        if (order.getStatus() == newStatus) {
+            log.info("이미 {} 상태인 주문: {}", newStatus, orderId);
+            return false;
         }
+        // 실패 상태처럼 다음 상태가 하나뿐인 전이는 이미 그 다음 상태면 적용된 것 (재전달된 실패 이벤트의 보상을 다시 실행하도록)
+        if (OrderStatusTransitions.isFollowedOnlyBy(newStatus, order.getStatus())) {
+            log.info("이미 {} 이후 상태({})인 주문: {}", newStatus, order.getStatus(), orderId);
+            return false;
+        }
+        throw new IllegalStateException("허용되지 않는 주문 상태 전이: " + order.getStatus() + " -> " + newStatus);
+    }
 
-        log.info("주문 상태 업데이트: {} -> {}", previousStatus, newStatus);
-        return orderRepository.save(order);
+    // 출발 상태가 하나뿐인 전이는 그대로 쓰고, 여럿이면 같은 UPDATE 문장에서 기록된 직전 상태 컬럼만 읽음
+    // (주문별 이벤트는 한 스레드에서 순서대로 처리되므로 그 사이 다른 전이가 끼어들지 않음)
+    private Order.OrderStatus priorStatus() {
+        Set<Order.OrderStatus> sources = OrderStatusTransitions.sourcesOf(newStatus);
+        if (sources.size() == 1) {
+            return sources.iterator().next();
+        }
+        return orderRepository.findPreviousStatus(orderId)
+                .orElseThrow(() -> new OrderNotFoundException(orderId.toString()));
     }
 
     @Override
-    @Transactional
-    public void undo() {
-        if (previousStatus != null) {
-            Order order = orderRepository.findById(OrderId.of(orderId.getValue()))
-                    .orElseThrow(() -> new OrderNotFoundException(orderId.toString()));
+    public String getJournalType() {
+        return OrderStatusUndoState.JOURNAL_TYPE;
+    }
 
-            // 이전 상태로 되돌리기
-            switch (previousStatus) {
-                case CREATED:
-                    order.markAsCreated();
-                    break;
-                case PAID:
-                    order.markAsPaid();
-                    break;
-                default:
-                    break;
-            }
+    @Override
+    public byte[] getUndoState() {
+        return priorStatus != null ? new OrderStatusUndoState(orderId, newStatus, priorStatus).encode() : null;
+    }
 
-            orderRepository.save(order);
-            log.info("주문 상태 롤백: {} -> {}", order.getStatus(), previousStatus);
+    @Override
+    public void undo() {
+        if (priorStatus == null) {
+            return;
+        }
+        if (orderRepository.revertStatus(orderId, newStatus, priorStatus)) {
+            log.info("주문 상태 롤백: {} ({} -> {})", orderId, newStatus, priorStatus);
+        } else {
+            log.warn("주문 상태 롤백 생략: {} (현재 상태가 {} 가 아님)", orderId, newStatus);
         }
+        priorStatus = null;
     }
-}
\ No newline at end of file
+}
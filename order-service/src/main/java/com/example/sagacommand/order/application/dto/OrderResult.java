@@ -14,7 +14,8 @@ public record OrderResult(
         UUID paymentId,
         Integer appliedPoints,
         BigDecimal totalAmount,
-        List<OrderItemResult> items
+        List<OrderItemResult> items,
+        long version
 ) {
     public record OrderItemResult(
             UUID productId,
@@ -40,7 +41,8 @@ public record OrderResult(
                 order.getTotalAmount().getValue(),
                 order.getOrderItems().stream()
                         .map(OrderItemResult::from)
-                        .toList()
+                        .toList(),
+                order.getVersion()
         );
     }
 }
@@ -1,37 +1,94 @@
 package com.example.sagacommand.order.domain.model;
 
-import jakarta.persistence.Access;
-import jakarta.persistence.AccessType;
-import jakarta.persistence.Embeddable;
 import lombok.EqualsAndHashCode;
 
 import java.math.BigDecimal;
+import java.util.Currency;
 
-@Embeddable
-@Access(AccessType.FIELD)
+/**
+ * 금액 값 객체입니다.
+ * 통화의 최소 단위(minor unit) 개수를 long으로 보관하는 고정 소수점 표현이므로
+ * 연산 시 BigDecimal 할당이 발생하지 않습니다.
+ * 모든 연산은 오버플로 발생 시 ArithmeticException을 던집니다.
+ */
 @EqualsAndHashCode
-public class Money {
-    public static final Money ZERO = new Money(BigDecimal.ZERO);
+public final class Money {
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("KRW");
+    public static final Money ZERO = new Money(0L, DEFAULT_CURRENCY);
 
-    private BigDecimal amount; // JPA를 위해 final 제거
+    private final long minorUnits;
+    private final Currency currency;
 
-    protected Money() {
-        // JPA 기본 생성자
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
     }
 
-    public Money(BigDecimal amount) {
-        this.amount = amount;
+    public static Money ofMinor(long minorUnits) {
+        return ofMinor(minorUnits, DEFAULT_CURRENCY);
     }
 
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        if (minorUnits == 0L && DEFAULT_CURRENCY.equals(currency)) {
+            return ZERO;
+        }
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * 통화의 소수 자릿수를 넘는 금액은 반올림하지 않고 예외를 던집니다.
+     */
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency) {
+        return ofMinor(amount.movePointRight(scaleOf(currency)).longValueExact(), currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    // 응답/이벤트 등 외부 경계에서만 BigDecimal로 변환
     public BigDecimal getValue() {
-        return amount;
+        return BigDecimal.valueOf(minorUnits, scaleOf(currency));
     }
 
     public Money multiply(int multiplier) {
-        return new Money(this.amount.multiply(BigDecimal.valueOf(multiplier)));
+        return ofMinor(Math.multiplyExact(minorUnits, multiplier), currency);
     }
 
     public Money add(Money other) {
-        return new Money(this.amount.add(other.amount));
+        checkSameCurrency(other);
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money subtract(Money other) {
+        checkSameCurrency(other);
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public boolean isZero() {
+        return minorUnits == 0L;
+    }
+
+    private void checkSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("통화가 다른 금액은 연산할 수 없습니다: " + currency + ", " + other.currency);
+        }
+    }
+
+    private static int scaleOf(Currency currency) {
+        return Math.max(currency.getDefaultFractionDigits(), 0);
+    }
+
+    @Override
+    public String toString() {
+        return getValue().toPlainString() + " " + currency.getCurrencyCode();
     }
 }
@@ -3,6 +3,7 @@ package com.example.sagacommand.order.domain.model;
 import jakarta.persistence.*;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
@@ -20,53 +21,135 @@ public class Order {
     @Enumerated(EnumType.STRING)
     private OrderStatus status;
 
+    // 직전 상태: 마지막 전이(되돌리기 포함)의 출발 상태. 조건부 UPDATE 에서도 같은 문장 안에서 기록됨
+    // 보상(undo)은 이 값이 아니라 각 커맨드가 기록한 출발 상태로 되돌림 (여러 단계를 이어서 되돌릴 수 있도록)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus previousStatus;
+
     private UUID paymentId;
 
     private Integer appliedPoints;
 
-    @Embedded
+    // BigDecimal 로 저장하던 때의 컬럼 이름을 유지 (KRW 는 소수 자릿수가 0 이므로 기존 값이 곧 최소 단위 개수)
+    @Column(name = "amount")
     private Money totalAmount;
 
+    // orders 는 생성 월 기준 파티션 테이블이므로 (MySQL 파티션 테이블은 외래 키를 지원하지 않음) FK 제약을 두지 않음
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "order_id")
+    @JoinColumn(name = "order_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private List<OrderItem> orderItems = new ArrayList<>();
 
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 조회 응답의 ETag: 상태 전이 등 응답 내용이 바뀔 때마다 증가 (조건부 UPDATE 에서도 같은 문장 안에서 증가)
+    private long version;
+
+    // 보관(archive)에서 복원한 주문: 조회 전용이며 변경하거나 운영 테이블에 다시 저장할 수 없음 (컬럼 아님)
+    @Transient
+    private boolean readOnly;
+
+    // 상태 카운터용: 커맨드 저장소로 마지막 저장한 뒤 생성/전이로 상태가 바뀌었는지 (컬럼 아님)
+    // 저장 시 previousStatus → status 전이(새 주문이면 생성)로 집계하고 지움
+    @Transient
+    private boolean statusChanged;
+
     public static Order create(OrderId id, UUID customerId, List<OrderItem> orderItems) {
         Order order = new Order();
         order.id = id;
         order.customerId = customerId;
         order.orderItems.addAll(orderItems);
         order.status = OrderStatus.CREATED;
+        order.createdAt = LocalDateTime.now();
+        order.statusChanged = true;
         order.calculateTotalAmount();
         return order;
     }
 
+    /**
+     * 보관(archive) 데이터로부터 조회 전용 주문을 복원합니다. 버전은 보관 전 값을 이어받으므로 ETag 가 바뀌지 않습니다.
+     */
+    public static Order restore(OrderId id, UUID customerId, OrderStatus status, OrderStatus previousStatus,
+                                UUID paymentId, Integer appliedPoints, List<OrderItem> orderItems,
+                                LocalDateTime createdAt, long version) {
+        Order order = new Order();
+        order.id = id;
+        order.customerId = customerId;
+        order.status = status;
+        order.previousStatus = previousStatus;
+        order.paymentId = paymentId;
+        order.appliedPoints = appliedPoints;
+        order.orderItems.addAll(orderItems);
+        order.createdAt = createdAt;
+        order.version = version;
+        order.readOnly = true;
+        order.calculateTotalAmount();
+        return order;
+    }
+
+    /**
+     * 다른 저장소(샤드)로 옮길 사본을 만듭니다. 상태, 직전 상태, 버전은 그대로 두고
+     * 주문 항목은 새 엔티티로 만들어 대상 저장소에서 새 ID 를 받도록 합니다.
+     */
+    public Order copy() {
+        Order copy = new Order();
+        copy.id = id;
+        copy.customerId = customerId;
+        copy.status = status;
+        copy.previousStatus = previousStatus;
+        copy.paymentId = paymentId;
+        copy.appliedPoints = appliedPoints;
+        for (OrderItem item : orderItems) {
+            copy.orderItems.add(OrderItem.create(item.getProductId(), item.getQuantity(), item.getPrice()));
+        }
+        copy.totalAmount = totalAmount;
+        copy.createdAt = createdAt;
+        copy.version = version;
+        return copy;
+    }
+
+    /**
+     * 같은 저장소 안에서 넘겨줄 사본을 만듭니다. 주문 항목은 변경할 수 없는 엔티티라 그대로 공유하고
+     * 상태 변경 표시(statusChanged)는 지웁니다. 사본을 변경해도 원본에는 영향이 없습니다.
+     */
+    public Order snapshot() {
+        Order snapshot = new Order();
+        snapshot.id = id;
+        snapshot.customerId = customerId;
+        snapshot.status = status;
+        snapshot.previousStatus = previousStatus;
+        snapshot.paymentId = paymentId;
+        snapshot.appliedPoints = appliedPoints;
+        snapshot.orderItems.addAll(orderItems);
+        snapshot.totalAmount = totalAmount;
+        snapshot.createdAt = createdAt;
+        snapshot.version = version;
+        snapshot.readOnly = readOnly;
+        return snapshot;
+    }
+
+    public boolean isTerminal() {
+        return OrderStatusTransitions.isTerminal(status);
+    }
+
     public UUID getId() {
         return id.getValue();
     }
 
     public void markAsPaid() {
-        validateStatusTransition(OrderStatus.PAID);
-        this.status = OrderStatus.PAID;
+        transitionTo(OrderStatus.PAID);
     }
 
     public void markAsPaymentFailed() {
-        validateStatusTransition(OrderStatus.PAYMENT_FAILED);
-        this.status = OrderStatus.PAYMENT_FAILED;
+        transitionTo(OrderStatus.PAYMENT_FAILED);
     }
 
     public void markAsInventoryReserved() {
-        validateStatusTransition(OrderStatus.INVENTORY_RESERVED);
-        this.status = OrderStatus.INVENTORY_RESERVED;
+        transitionTo(OrderStatus.INVENTORY_RESERVED);
     }
 
     public void markAsInventoryFailed() {
-        validateStatusTransition(OrderStatus.INVENTORY_FAILED);
-        this.status = OrderStatus.INVENTORY_FAILED;
-    }
-
-    public void markAsCreated() {
-        this.status = OrderStatus.CREATED;
+        transitionTo(OrderStatus.INVENTORY_FAILED);
     }
 
     public void cancel() {
@@ -74,31 +157,102 @@ public class Order {
         if (status == OrderStatus.COMPLETED) {
             throw new IllegalStateException("이미 완료된 주문은 취소할 수 없습니다.");
         }
-        this.status = OrderStatus.CANCELLED;
+        transitionTo(OrderStatus.CANCELLED);
+    }
+
+    public boolean canTransitionTo(OrderStatus newStatus) {
+        return status == newStatus || OrderStatusTransitions.isAllowed(status, newStatus);
+    }
+
+    /**
+     * 전이 표에 따라 상태를 변경합니다. 이미 같은 상태면 아무 것도 하지 않습니다 (중복 이벤트).
+     */
+    public void transitionTo(OrderStatus newStatus) {
+        ensureWritable();
+        validateStatusTransition(newStatus);
+        if (status != newStatus) {
+            this.previousStatus = status;
+            this.status = newStatus;
+            this.statusChanged = true;
+            version++;
+        }
+    }
+
+    public boolean canRevertFrom(OrderStatus appliedStatus, OrderStatus priorStatus) {
+        return status == appliedStatus && OrderStatusTransitions.isAllowed(priorStatus, appliedStatus);
+    }
+
+    /**
+     * 보상(undo): 현재 상태가 appliedStatus 일 때만, 그 전이를 적용한 커맨드가 기록한 출발 상태 priorStatus 로 되돌립니다.
+     * 그 사이 다른 전이가 일어났다면 되돌리지 않습니다. 단계마다 출발 상태를 따로 가지므로 여러 단계를 역순으로 되돌릴 수 있습니다.
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean revertFrom(OrderStatus appliedStatus, OrderStatus priorStatus) {
+        ensureWritable();
+        if (!canRevertFrom(appliedStatus, priorStatus)) {
+            return false;
+        }
+        this.previousStatus = status;
+        this.status = priorStatus;
+        version++;
+        return true;
+    }
+
+    public void clearStatusChanged() {
+        this.statusChanged = false;
     }
 
     public void updatePaymentId(UUID paymentId){
+        ensureWritable();
         this.paymentId = paymentId;
+        version++;
     }
 
     public void applyPoints(int points) {
+        ensureWritable();
         this.appliedPoints = points;
+        version++;
     }
 
     public void removePoints() {
+        ensureWritable();
         this.appliedPoints = null;
+        version++;
     }
 
     private void calculateTotalAmount() {
-        this.totalAmount = orderItems.stream()
-                .map(item -> item.getPrice().multiply(item.getQuantity()))
-                .reduce(Money.ZERO, Money::add);
+        this.totalAmount = totalOf(orderItems);
+    }
+
+    // 항목별 Money를 만들지 않고 최소 단위(long)로 누적한 뒤 한 번만 Money를 생성 (MoneyBenchmark 가 직접 측정)
+    static Money totalOf(List<OrderItem> items) {
+        long totalMinorUnits = 0L;
+        for (OrderItem item : items) {
+            Money price = item.getPrice();
+            if (!Money.DEFAULT_CURRENCY.equals(price.getCurrency())) {
+                throw new IllegalArgumentException("지원하지 않는 통화입니다: " + price.getCurrency());
+            }
+            totalMinorUnits = Math.addExact(totalMinorUnits,
+                    Math.multiplyExact(price.getMinorUnits(), item.getQuantity()));
+        }
+        return Money.ofMinor(totalMinorUnits);
+    }
+
+    private void ensureWritable() {
+        if (readOnly) {
+            throw new IllegalStateException("보관된 주문은 변경할 수 없습니다: " + getId());
+        }
     }
 
     private void validateStatusTransition(OrderStatus newStatus) {
+        if (canTransitionTo(newStatus)) {
+            return;
+        }
         if (status == OrderStatus.CANCELLED) {
             throw new IllegalStateException("취소된 주문은 상태를 변경할 수 없습니다.");
         }
+        throw new IllegalStateException("허용되지 않는 주문 상태 전이: " + status + " -> " + newStatus);
     }
 
     public enum OrderStatus {
@@ -1,6 +1,9 @@
 package com.example.sagacommand.order.domain.model;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import lombok.Getter;
 
@@ -10,9 +13,12 @@ import java.util.UUID;
 @Getter
 public class OrderItem {
     @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
     private UUID productId;
     private int quantity;
+    // BigDecimal 로 저장하던 때의 컬럼 이름을 유지 (Order.totalAmount 와 같음)
+    @Column(name = "amount")
     private Money price;
 
     public static OrderItem create(UUID productId, int quantity, Money price) {
@@ -0,0 +1,78 @@
+package com.example.sagacommand.order.domain.model;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.sagacommand.order.domain.model.Order.OrderStatus.*;
+
+/**
+ * 주문 상태 전이 표입니다. 도메인 모델(Order)과 저장소의 조건부 UPDATE 가 같은 표를 사용합니다.
+ * <p>
+ * 표에는 정방향 전이만 둡니다. 보상(undo)으로 커맨드가 기록한 출발 상태로 되돌리는 것은
+ * "출발 상태 → 현재 상태"가 표에 있는 전이일 때만 허용됩니다.
+ */
+public final class OrderStatusTransitions {
+
+    private static final Map<OrderStatus, Set<OrderStatus>> TARGETS = new EnumMap<>(OrderStatus.class);
+    private static final Map<OrderStatus, Set<OrderStatus>> SOURCES = new EnumMap<>(OrderStatus.class);
+
+    static {
+        allow(CREATED, PAID, PAYMENT_FAILED, INVENTORY_RESERVED, INVENTORY_FAILED, CANCELLED);
+        allow(PAID, INVENTORY_RESERVED, INVENTORY_FAILED, POINTS_APPLIED, POINTS_FAILED, CANCELLED);
+        allow(PAYMENT_FAILED, CANCELLED);
+        allow(INVENTORY_RESERVED, POINTS_APPLIED, POINTS_FAILED, COMPLETED, CANCELLED);
+        allow(INVENTORY_FAILED, CANCELLED);
+        allow(POINTS_APPLIED, COMPLETED, CANCELLED);
+        allow(POINTS_FAILED, CANCELLED);
+        allow(COMPLETED);
+        allow(CANCELLED);
+
+        for (OrderStatus target : OrderStatus.values()) {
+            EnumSet<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+            TARGETS.forEach((from, targets) -> {
+                if (targets.contains(target)) {
+                    sources.add(from);
+                }
+            });
+            SOURCES.put(target, Collections.unmodifiableSet(sources));
+        }
+    }
+
+    private OrderStatusTransitions() {
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... targets) {
+        EnumSet<OrderStatus> set = EnumSet.noneOf(OrderStatus.class);
+        Collections.addAll(set, targets);
+        TARGETS.put(from, Collections.unmodifiableSet(set));
+    }
+
+    public static boolean isAllowed(OrderStatus from, OrderStatus to) {
+        return TARGETS.get(from).contains(to);
+    }
+
+    /**
+     * to 로 전이할 수 있는 상태 집합 (조건부 UPDATE 의 status IN (...) 목록)
+     */
+    public static Set<OrderStatus> sourcesOf(OrderStatus to) {
+        return SOURCES.get(to);
+    }
+
+    /**
+     * status 에서 전이할 수 있는 상태가 next 하나뿐이면 true (예: PAYMENT_FAILED → CANCELLED).
+     * 이런 상태는 곧바로 next 로 이어지므로, 현재 next 라면 status 로의 전이는 이미 적용된 것으로 봅니다.
+     */
+    public static boolean isFollowedOnlyBy(OrderStatus status, OrderStatus next) {
+        Set<OrderStatus> targets = TARGETS.get(status);
+        return targets.size() == 1 && targets.contains(next);
+    }
+
+    public static boolean isTerminal(OrderStatus status) {
+        return TARGETS.get(status).isEmpty();
+    }
+}
@@ -2,11 +2,113 @@ package com.example.sagacommand.order.domain.repository;
 
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
     Order save(Order entity);
 
     Optional<Order> findById(OrderId orderId);
+
+    /**
+     * 여러 주문을 한 번에 조회합니다. 없는 주문은 결과에서 빠지며 순서는 보장하지 않습니다.
+     * 기본 구현은 한 건씩 조회하고, DB 저장소는 IN 조회로 처리합니다.
+     */
+    default List<Order> findAllByIds(Collection<OrderId> orderIds) {
+        List<Order> found = new ArrayList<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            findById(orderId).ifPresent(found::add);
+        }
+        return found;
+    }
+
+    /**
+     * 주문의 버전만 조회합니다 (조건부 조회의 ETag 비교용).
+     * 기본 구현은 애그리거트를 읽고, DB 저장소는 주문 항목을 읽지 않고 버전 컬럼 하나만 조회합니다.
+     *
+     * @return 주문이 없으면 빈 값
+     */
+    default Optional<Long> findVersion(OrderId orderId) {
+        return findById(orderId).map(Order::getVersion);
+    }
+
+    /**
+     * 주문의 직전 상태만 조회합니다 (조건부 UPDATE 로 전이한 뒤 어느 상태에서 왔는지 확인용).
+     * 기본 구현은 애그리거트를 읽고, DB 저장소는 직전 상태 컬럼 하나만 조회합니다.
+     */
+    default Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        return findById(orderId).map(Order::getPreviousStatus);
+    }
+
+    /**
+     * 저장된 주문의 버전이 expectedVersion 일 때만 저장합니다. 읽은 뒤 다른 작업이 같은 주문을 바꿨다면 덮어쓰지 않습니다.
+     * 기본 구현은 버전을 조회해 비교한 뒤 저장하므로 한 스레드만 쓰는 저장소용이며,
+     * DB 저장소는 행을 잠그고 비교한 뒤 같은 트랜잭션에서 저장합니다.
+     *
+     * @return 저장했으면 true, 주문이 없거나 버전이 다르면 false
+     */
+    default boolean saveIfVersion(Order order, long expectedVersion) {
+        if (findVersion(OrderId.of(order.getId())).filter(version -> version == expectedVersion).isEmpty()) {
+            return false;
+        }
+        save(order);
+        return true;
+    }
+
+    /**
+     * 현재 상태에서 target 으로의 전이가 전이 표에 있을 때만 상태를 변경합니다.
+     * 기본 구현은 애그리거트를 읽어서 변경하며, DB 저장소는 읽지 않고 조건부 UPDATE 한 문장으로 처리합니다.
+     *
+     * @return 변경되었으면 true, 주문이 없거나 허용되지 않는 전이(이미 target 상태 포함)면 false
+     */
+    default boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        return findById(orderId)
+                .filter(order -> order.getStatus() != target && order.canTransitionTo(target))
+                .map(order -> {
+                    order.transitionTo(target);
+                    save(order);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 현재 상태가 expected 일 때만 target 으로 전이합니다 ("expected → target"이 전이 표에 있어야 함).
+     * 출발 상태가 여럿인 전이에서 특정 단계를 거친 주문만 진행시킬 때 사용합니다 (예: 결제/재고 합류의 PAID → INVENTORY_RESERVED).
+     *
+     * @return 변경되었으면 true
+     */
+    default boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        if (!OrderStatusTransitions.isAllowed(expected, target)) {
+            return false;
+        }
+        return findById(orderId)
+                .filter(order -> order.getStatus() == expected)
+                .map(order -> {
+                    order.transitionTo(target);
+                    save(order);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 현재 상태가 appliedStatus 일 때만 priorStatus 로 되돌립니다 (보상 트랜잭션).
+     * priorStatus 는 전이를 적용한 커맨드가 기록한 출발 상태이며, "priorStatus → appliedStatus"가 전이 표에 있어야 합니다.
+     *
+     * @return 되돌렸으면 true
+     */
+    default boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        return findById(orderId)
+                .filter(order -> order.revertFrom(appliedStatus, priorStatus))
+                .map(order -> {
+                    save(order);
+                    return true;
+                })
+                .orElse(false);
+    }
 }
@@ -0,0 +1,200 @@
+package com.example.sagacommand.order.infrastructure.catalog;
+
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.domain.model.Money;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카탈로그 앞에 두는 near-cache 입니다.
+ * <p>
+ * 가격은 최대 maxEntries 개까지, 읽어온 뒤 ttl 동안만 메모리에 둡니다 (넘치면 먼저 읽은 상품부터 내보냄).
+ * 캐시에 없는 상품만 모아 위임 카탈로그를 한 번 대량 조회합니다.
+ * 여러 요청이 동시에 같은 상품을 찾으면 먼저 조회를 시작한 요청의 결과를 함께 기다리므로(request coalescing),
+ * 인기 상품의 캐시가 만료되어도 카탈로그 조회는 한 번만 나갑니다.
+ * 카탈로그에 없는 상품은 캐시하지 않습니다.
+ */
+public class CachingProductCatalog implements ProductCatalog {
+
+    private final ProductCatalog delegate;
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final ConcurrentHashMap<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // 조회 중인 상품: 같은 상품을 찾는 다른 요청은 새로 조회하지 않고 이 결과를 기다림 (없는 상품이면 null 로 완료)
+    private final ConcurrentHashMap<UUID, CompletableFuture<Money>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public CachingProductCatalog(ProductCatalog delegate, int maxEntries, Duration ttl) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries 는 1 이상이어야 합니다: " + maxEntries);
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    @Override
+    public Map<UUID, Money> findPrices(Set<UUID> productIds) {
+        Map<UUID, Money> found = new HashMap<>();
+        Map<UUID, CompletableFuture<Money>> owned = new HashMap<>();
+        Map<UUID, CompletableFuture<Money>> waiting = new HashMap<>();
+
+        long now = System.nanoTime();
+        for (UUID productId : productIds) {
+            Money cached = cached(productId, now);
+            if (cached != null) {
+                hits.incrementAndGet();
+                found.put(productId, cached);
+                continue;
+            }
+            CompletableFuture<Money> pending = new CompletableFuture<>();
+            CompletableFuture<Money> existing = inFlight.putIfAbsent(productId, pending);
+            if (existing != null) {
+                coalesced.incrementAndGet();
+                waiting.put(productId, existing);
+                continue;
+            }
+            // 확인과 등록 사이에 다른 요청이 조회를 끝냈을 수 있으므로 한 번 더 확인
+            cached = cached(productId, System.nanoTime());
+            if (cached != null) {
+                inFlight.remove(productId, pending);
+                pending.complete(cached);
+                hits.incrementAndGet();
+                found.put(productId, cached);
+            } else {
+                misses.incrementAndGet();
+                owned.put(productId, pending);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            load(owned, found);
+        }
+        waiting.forEach((productId, pending) -> {
+            Money price = await(pending);
+            if (price != null) {
+                found.put(productId, price);
+            }
+        });
+        return found;
+    }
+
+    private void load(Map<UUID, CompletableFuture<Money>> owned, Map<UUID, Money> found) {
+        try {
+            lookups.incrementAndGet();
+            Map<UUID, Money> loaded = delegate.findPrices(owned.keySet());
+            owned.forEach((productId, pending) -> {
+                Money price = loaded.get(productId);
+                if (price != null) {
+                    put(productId, price);
+                    found.put(productId, price);
+                }
+                pending.complete(price);
+            });
+        } catch (RuntimeException e) {
+            owned.values().forEach(pending -> pending.completeExceptionally(e));
+            throw e;
+        } finally {
+            owned.forEach(inFlight::remove);
+            evictIfNeeded();
+        }
+    }
+
+    private Money cached(UUID productId, long now) {
+        Entry entry = entries.get(productId);
+        if (entry == null || now - entry.loadedNanos > ttlNanos) {
+            return null;
+        }
+        return entry.price;
+    }
+
+    private void put(UUID productId, Money price) {
+        Entry entry = new Entry(productId, price);
+        entries.put(productId, entry);
+        insertionOrder.add(entry);
+    }
+
+    private static Money await(CompletableFuture<Money> pending) {
+        try {
+            return pending.join();
+        } catch (CompletionException e) {
+            // 함께 기다린 조회가 실패하면 같은 예외로 실패
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void evictIfNeeded() {
+        long now = System.nanoTime();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (entries.size() > maxEntries || now - oldest.loadedNanos > ttlNanos)) {
+            if (insertionOrder.remove(oldest)) {
+                // 다시 읽어 교체된 항목이면 큐에서만 빠지고 새 항목은 유지됨
+                if (entries.remove(oldest.productId, oldest)) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    public int getSize() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * 다른 요청이 이미 조회 중이어서 그 결과를 함께 기다린 상품 수
+     */
+    public long getCoalesced() {
+        return coalesced.get();
+    }
+
+    /**
+     * 위임 카탈로그를 대량 조회한 횟수
+     */
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    // 같은 상품을 다시 읽으면 새 항목으로 교체되므로 항목은 동일성(identity)으로 비교
+    private static final class Entry {
+        private final UUID productId;
+        private final Money price;
+        private final long loadedNanos = System.nanoTime();
+
+        private Entry(UUID productId, Money price) {
+            this.productId = productId;
+            this.price = price;
+        }
+    }
+}
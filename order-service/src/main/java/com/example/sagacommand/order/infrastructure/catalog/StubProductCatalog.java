@@ -0,0 +1,61 @@
+package com.example.sagacommand.order.infrastructure.catalog;
+
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.domain.model.Money;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 외부 카탈로그 없이 동작하는 로컬 카탈로그입니다 (로컬 실행, 테스트용).
+ * 등록된 상품은 등록된 가격으로, 나머지 상품은 기본 가격으로 응답합니다. 기본 가격이 없으면 없는 상품으로 봅니다.
+ */
+public class StubProductCatalog implements ProductCatalog {
+    private final Map<UUID, Money> prices;
+    private final Money defaultPrice;
+    private final AtomicLong lookups = new AtomicLong();
+    private final AtomicLong requestedProducts = new AtomicLong();
+
+    public StubProductCatalog(Money defaultPrice) {
+        this(Map.of(), defaultPrice);
+    }
+
+    /**
+     * @param defaultPrice 등록되지 않은 상품의 가격 (null 이면 등록된 상품만 조회됨)
+     */
+    public StubProductCatalog(Map<UUID, Money> prices, Money defaultPrice) {
+        this.prices = Map.copyOf(prices);
+        this.defaultPrice = defaultPrice;
+    }
+
+    @Override
+    public Map<UUID, Money> findPrices(Set<UUID> productIds) {
+        lookups.incrementAndGet();
+        requestedProducts.addAndGet(productIds.size());
+        Map<UUID, Money> found = new HashMap<>();
+        for (UUID productId : productIds) {
+            Money price = prices.getOrDefault(productId, defaultPrice);
+            if (price != null) {
+                found.put(productId, price);
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 대량 조회 호출 수
+     */
+    public long getLookups() {
+        return lookups.get();
+    }
+
+    /**
+     * 대량 조회로 요청된 상품 수의 합
+     */
+    public long getRequestedProducts() {
+        return requestedProducts.get();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.order.infrastructure.messaging.hotkey.HotKeyDetector;
+import com.example.sagacommand.order.infrastructure.messaging.hotkey.HotKeyEndpoint;
+import com.example.sagacommand.order.infrastructure.messaging.hotkey.HotKeyIsolatingEventProcessor;
+import com.example.sagacommand.order.infrastructure.messaging.hotkey.SlowLane;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * 핫 키 격리: SagaConfig 의 eventProcessor 를 감싸서 핫 키 이벤트만 슬로 레인으로 보냅니다.
+ * 슬로 레인 이벤트는 리스너가 반환된 뒤에 끝나므로, 완료된 레코드까지만 오프셋을 커밋하는 설정과 함께 명시적으로 켭니다.
+ * 같은 이유로 Kafka 트랜잭션(exactly-once)과는 함께 켤 수 없습니다 ({@link KafkaTransactionConfig}).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.hot-key", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(HotKeyProperties.class)
+public class HotKeyConfig {
+
+    @Bean
+    public HotKeyDetector hotKeyDetector(HotKeyProperties properties) {
+        return new HotKeyDetector(
+                properties.getThreshold(),
+                properties.getWindow(),
+                properties.getCooldown(),
+                properties.getMaxTracked(),
+                properties.getSketchDepth(),
+                properties.getSketchWidth()
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    public SlowLane slowLane(HotKeyProperties properties, MeterRegistry meterRegistry) {
+        SlowLane slowLane = new SlowLane(properties.getSlowLaneCapacity());
+        Gauge.builder("saga.slow-lane.queue.size", slowLane, SlowLane::getQueueSize).register(meterRegistry);
+        return slowLane;
+    }
+
+    @Bean
+    @Primary
+    public HotKeyIsolatingEventProcessor hotKeyIsolatingEventProcessor(
+            @Qualifier("eventProcessor") EventProcessor eventProcessor,
+            HotKeyDetector hotKeyDetector,
+            SlowLane slowLane
+    ) {
+        return new HotKeyIsolatingEventProcessor(eventProcessor, hotKeyDetector, slowLane);
+    }
+
+    @Bean
+    public HotKeyEndpoint hotKeyEndpoint(HotKeyDetector hotKeyDetector, SlowLane slowLane) {
+        return new HotKeyEndpoint(hotKeyDetector, slowLane);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Saga 이벤트 핫 키 격리 설정 (app.saga.hot-key)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.hot-key")
+public class HotKeyProperties {
+    private boolean enabled = false;
+
+    // window 안에서 한 주문에 이 수 이상의 이벤트가 들어오면 핫 키로 판단
+    private long threshold = 50;
+    private Duration window = Duration.ofSeconds(10);
+    // 마지막으로 임계치를 넘은 뒤 이 시간이 지나면 핫 키에서 해제
+    private Duration cooldown = Duration.ofSeconds(30);
+    private int maxTracked = 1_000;
+
+    private int sketchDepth = 4;
+    private int sketchWidth = 2_048;
+
+    private int slowLaneCapacity = 1_000;
+}
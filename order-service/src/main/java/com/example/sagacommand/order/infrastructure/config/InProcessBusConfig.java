@@ -0,0 +1,66 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.order.infrastructure.messaging.inprocess.InProcessEventBus;
+import com.example.sagacommand.order.infrastructure.messaging.inprocess.InProcessEventPublisher;
+import com.example.sagacommand.order.infrastructure.messaging.inprocess.InProcessSagaConsumer;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * in-process 프로필: Saga 이벤트를 Kafka 대신 같은 JVM 의 링 버퍼 버스로 주고받습니다.
+ * 개발/CI 와 단일 노드 배포용이며, 키에 따른 파티션과 파티션 내 순서는 Kafka 경로와 같습니다.
+ * 같은 JVM 의 참여 서비스(또는 테스트)는 InProcessEventBus 로 payment-events/inventory-events 에 발행하고 order-events 를 구독합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.messaging.in-process", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(InProcessBusProperties.class)
+public class InProcessBusConfig {
+
+    private static final String[] SAGA_TOPICS = {"payment-events", "inventory-events"};
+
+    @Bean(destroyMethod = "close")
+    public InProcessEventBus inProcessEventBus(InProcessBusProperties properties, MeterRegistry meterRegistry) {
+        InProcessEventBus bus = new InProcessEventBus(
+                properties.getPartitions(),
+                properties.getCapacity(),
+                properties.getMaxBatch(),
+                properties.getProducerType(),
+                properties.getPublishTimeout(),
+                properties.getIdlePark(),
+                properties.getMaxIdlePark(),
+                properties.getDeliveryAttempts(),
+                properties.getRetryBackoff(),
+                properties.getMaxParkedBatches()
+        );
+        Gauge.builder("in-process-bus.pending", bus, InProcessEventBus::getPendingCount).register(meterRegistry);
+        Gauge.builder("in-process-bus.parked", bus, InProcessEventBus::getParkedBatchCount).register(meterRegistry);
+        FunctionCounter.builder("in-process-bus.dropped", bus, InProcessEventBus::getDroppedCount).register(meterRegistry);
+        FunctionCounter.builder("in-process-bus.failed", bus, InProcessEventBus::getFailedBatchCount).register(meterRegistry);
+        return bus;
+    }
+
+    @Bean
+    @Primary
+    public InProcessEventPublisher inProcessEventPublisher(InProcessEventBus inProcessEventBus) {
+        return new InProcessEventPublisher(inProcessEventBus);
+    }
+
+    @Bean
+    public InProcessSagaConsumer inProcessSagaConsumer(InProcessEventBus inProcessEventBus,
+                                                       EventProcessor eventProcessor,
+                                                       EventHandlerRegistry eventHandlerRegistry) {
+        InProcessSagaConsumer consumer = new InProcessSagaConsumer(eventProcessor, eventHandlerRegistry);
+        for (String topic : SAGA_TOPICS) {
+            inProcessEventBus.subscribe(topic, consumer::onBatch);
+        }
+        return consumer;
+    }
+}
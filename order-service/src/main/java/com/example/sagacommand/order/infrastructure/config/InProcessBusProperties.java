@@ -0,0 +1,39 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.infrastructure.messaging.inprocess.ProducerType;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인프로세스 이벤트 버스 설정 (app.messaging.in-process)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.messaging.in-process")
+public class InProcessBusProperties {
+    private boolean enabled = false;
+
+    // 토픽별 파티션(링 버퍼 + 소비자 스레드) 수
+    private int partitions = 1;
+    // 파티션별 링 버퍼 슬롯 수 (2의 거듭제곱)
+    private int capacity = 8_192;
+    // 소비자가 한 번에 꺼내 처리할 최대 이벤트 수
+    private int maxBatch = 256;
+    // HTTP 요청 스레드와 Saga 처리 스레드가 함께 발행하므로 기본은 MULTI
+    private ProducerType producerType = ProducerType.MULTI;
+    // 버퍼가 가득 찼을 때 발행자가 기다리는 최대 시간
+    private Duration publishTimeout = Duration.ofSeconds(5);
+    // 이벤트가 없을 때 소비자 스레드가 처음 쉬는 시간 (한가한 동안 두 배씩 늘어남)
+    private Duration idlePark = Duration.ofNanos(50_000);
+    // 한가한 소비자 스레드가 한 번에 쉬는 최대 시간 (발행 시 바로 깨어남)
+    private Duration maxIdlePark = Duration.ofMillis(10);
+    // 구독자가 실패한 배치를 보류하기 전까지 전달하는 횟수 (첫 시도 포함)
+    private int deliveryAttempts = 3;
+    // 첫 재전달 전 대기 시간 (재시도마다 두 배)
+    private Duration retryBackoff = Duration.ofMillis(50);
+    // 보류 목록에 남겨 둘 최대 배치 수 (넘으면 가장 오래된 배치부터 버림)
+    private int maxParkedBatches = 1_024;
+}
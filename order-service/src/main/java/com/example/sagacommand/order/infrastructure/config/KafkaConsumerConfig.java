@@ -0,0 +1,36 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.order.infrastructure.messaging.SagaEventDeserializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaConsumerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+@Configuration
+public class KafkaConsumerConfig {
+
+    /**
+     * Saga 이벤트 수신 시 핸들러가 없는 타입은 헤더만 보고 건너뛰고,
+     * 핸들러가 있는 타입은 지연 디코딩 뷰(EventView)로 전달하도록 값 역직렬화기를 교체합니다.
+     */
+    @Bean
+    @SuppressWarnings("unchecked")
+    public DefaultKafkaConsumerFactoryCustomizer sagaEventDeserializerCustomizer(
+            EventHandlerRegistry handlerRegistry,
+            MeterRegistry meterRegistry
+    ) {
+        return factory -> ((DefaultKafkaConsumerFactory<Object, Object>) factory)
+                .setValueDeserializerSupplier(() -> new SagaEventDeserializer(handlerRegistry, meterRegistry));
+    }
+
+    /**
+     * 역직렬화 단계에서 생략된(값이 null인) 레코드를 리스너 호출 전에 버립니다.
+     */
+    @Bean
+    public RecordFilterStrategy<Object, Object> unhandledEventFilter() {
+        return record -> record.value() == null;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.orm.jpa.JpaTransactionManager;
+
+/**
+ * exactly-once 프로필(spring.kafka.producer.transaction-id-prefix 지정) 검증 설정입니다.
+ * <p>
+ * 트랜잭션 ID 접두사가 있으면 Spring Boot 가 KafkaTransactionManager 를 만들어 리스너 컨테이너에 연결하므로,
+ * 배치 리스너 한 번(poll 한 번)이 Kafka 트랜잭션 하나가 됩니다.
+ * 그 안에서 order-events 발행과 수신 오프셋(Acknowledgment → sendOffsetsToTransaction)이 함께 커밋/중단됩니다.
+ * 트랜잭션 비용은 배치 크기(max-poll-records)만큼 나눠집니다.
+ * <p>
+ * 오프셋은 리스너 스레드에서 트랜잭션이 끝나기 전에 확정되어야 하므로, 처리나 확정을 다른 스레드로 미루는
+ * 지연 반영(app.orders.write-behind), 핫 키 슬로 레인(app.saga.hot-key)과는 함께 사용할 수 없습니다.
+ * 슬로 레인 작업은 트랜잭션이 커밋된 뒤에 실행되어 그 발행과 저장이 트랜잭션 밖에 남기 때문입니다.
+ * <p>
+ * 핸들러 실패는 리스너까지 전달되어(SagaConfig) 배치 트랜잭션이 중단되고, 배치를 다시 전달받습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.kafka.producer", name = "transaction-id-prefix")
+public class KafkaTransactionConfig {
+
+    public KafkaTransactionConfig(KafkaProperties kafkaProperties, Environment environment) {
+        if (environment.getProperty("app.orders.write-behind.enabled", Boolean.class, false)) {
+            throw new IllegalStateException(
+                    "Kafka 트랜잭션(exactly-once)과 주문 지연 반영(app.orders.write-behind)은 함께 사용할 수 없습니다");
+        }
+        if (environment.getProperty("app.saga.hot-key.enabled", Boolean.class, false)) {
+            throw new IllegalStateException(
+                    "Kafka 트랜잭션(exactly-once)과 핫 키 슬로 레인(app.saga.hot-key)은 함께 사용할 수 없습니다");
+        }
+        log.info("Kafka 트랜잭션 사용: transactionIdPrefix={}, isolationLevel={}, maxPollRecords={}",
+                kafkaProperties.getProducer().getTransactionIdPrefix(),
+                kafkaProperties.getConsumer().getIsolationLevel(),
+                kafkaProperties.getConsumer().getMaxPollRecords());
+    }
+
+    /**
+     * KafkaTransactionManager 가 등록되면 Spring Boot 는 JPA 트랜잭션 매니저를 만들지 않으므로 직접 등록합니다.
+     * 리스너 컨테이너는 KafkaTransactionManager 를, @Transactional 과 TransactionTemplate 은 이 매니저를 사용합니다.
+     */
+    @Bean
+    @Primary
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+}
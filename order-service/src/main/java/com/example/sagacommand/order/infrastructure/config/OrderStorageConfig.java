@@ -0,0 +1,99 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.infrastructure.persistence.archive.ArchivedOrderMapper;
+import com.example.sagacommand.order.infrastructure.persistence.archive.ArchivedOrderRepository;
+import com.example.sagacommand.order.infrastructure.persistence.archive.OrderArchiver;
+import com.example.sagacommand.order.infrastructure.persistence.partition.OrderPartitionMaintainer;
+import com.example.sagacommand.order.infrastructure.persistence.statuscount.JpaOrderStatusSummaryStore;
+import com.example.sagacommand.order.infrastructure.persistence.statuscount.OrderStatusSummaryRepository;
+import com.example.sagacommand.order.infrastructure.statuscount.OrderStatusCountEndpoint;
+import com.example.sagacommand.order.infrastructure.statuscount.StripedOrderStatusCounters;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * 주문 테이블 시간 파티션 관리, 종료 주문 보관 작업, 상태별 주문 수 집계 설정입니다.
+ * 기본 데이터소스의 orders 테이블을 대상으로 하며, 샤딩 사용 시에는 적용되지 않습니다.
+ * 상태별 주문 수(GET /actuator/orderstatus)는 OrderCommandFactory 가 전이가 저장된 뒤에 카운터에 반영하고,
+ * 보관 작업이 orders 에서 옮긴 주문은 보관 작업이 차감합니다. orders 전체를 세는 대사는 reconcile-enabled 인 인스턴스만 실행합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderStorageProperties.class)
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class OrderStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.orders.archive", name = "enabled", havingValue = "true")
+    public OrderArchiver orderArchiver(EntityManager entityManager,
+                                       ArchivedOrderRepository archivedOrderRepository,
+                                       ArchivedOrderMapper archivedOrderMapper,
+                                       PlatformTransactionManager transactionManager,
+                                       OrderStorageProperties properties,
+                                       ObjectProvider<OrderStatusCounters> statusCounters) {
+        OrderStorageProperties.Archive archive = properties.getArchive();
+        return new OrderArchiver(
+                entityManager,
+                archivedOrderRepository,
+                archivedOrderMapper,
+                new TransactionTemplate(transactionManager),
+                Clock.systemDefaultZone(),
+                archive.getMaxAge(),
+                archive.getBatchSize(),
+                archive.getThrottle(),
+                archive.getMaxBatchesPerRun(),
+                statusCounters.getIfAvailable(() -> OrderStatusCounters.NOOP)
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.orders.partitioning", name = "enabled", havingValue = "true")
+    public OrderPartitionMaintainer orderPartitionMaintainer(JdbcTemplate jdbcTemplate, OrderStorageProperties properties) {
+        return new OrderPartitionMaintainer(
+                jdbcTemplate,
+                Clock.systemDefaultZone(),
+                properties.getPartitioning().getMonthsAhead()
+        );
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "app.orders.status-counts", name = "enabled", havingValue = "true")
+    public StripedOrderStatusCounters orderStatusCounters(OrderStatusSummaryRepository summaryRepository,
+                                                          PlatformTransactionManager transactionManager,
+                                                          OrderStorageProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        Clock clock = Clock.systemDefaultZone();
+        StripedOrderStatusCounters counters = new StripedOrderStatusCounters(
+                new JpaOrderStatusSummaryStore(summaryRepository, new TransactionTemplate(transactionManager), clock),
+                clock,
+                properties.getStatusCounts().isReconcileEnabled()
+        );
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            Gauge.builder("orders.status.count", counters, c -> c.count(status))
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("orders.status.drift", counters, StripedOrderStatusCounters::getLastDrift)
+                .description("마지막 대사에서 바로잡은 주문 수 차이")
+                .register(meterRegistry);
+        return counters;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.orders.status-counts", name = "enabled", havingValue = "true")
+    public OrderStatusCountEndpoint orderStatusCountEndpoint(StripedOrderStatusCounters orderStatusCounters) {
+        return new OrderStatusCountEndpoint(orderStatusCounters);
+    }
+}
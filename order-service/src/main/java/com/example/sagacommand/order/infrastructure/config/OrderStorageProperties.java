@@ -0,0 +1,69 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 주문 테이블 파티션/보관/상태별 집계 설정 (app.orders)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.orders")
+public class OrderStorageProperties {
+    private Archive archive = new Archive();
+    private Partitioning partitioning = new Partitioning();
+    private WriteBehind writeBehind = new WriteBehind();
+    private StatusCounts statusCounts = new StatusCounts();
+
+    @Getter
+    @Setter
+    public static class Archive {
+        private boolean enabled = false;
+        // 생성 후 이 기간이 지난 종료 주문을 보관
+        private Duration maxAge = Duration.ofDays(90);
+        private int batchSize = 500;
+        // 배치 사이 대기 시간
+        private Duration throttle = Duration.ofMillis(200);
+        private int maxBatchesPerRun = 100;
+        // 실행 주기 (@Scheduled 에서 직접 참조)
+        private Duration interval = Duration.ofMinutes(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Partitioning {
+        // MySQL 에서 init-scripts 로 파티션 테이블을 만든 경우에만 활성화
+        private boolean enabled = false;
+        private int monthsAhead = 3;
+        // 실행 주기 (@Scheduled 에서 직접 참조)
+        private Duration interval = Duration.ofHours(1);
+    }
+
+    @Getter
+    @Setter
+    public static class WriteBehind {
+        private boolean enabled = false;
+        // 변경이 DB에 반영되기까지의 최대 지연 (반영 주기)
+        private Duration flushInterval = Duration.ofMillis(200);
+        private int batchSize = 200;
+        // 반영 대기 주문이 이 수에 이르면 저장 스레드에서 즉시 반영
+        private int maxPending = 5_000;
+        // 반영이 끝난 주문을 메모리에서 제거하기까지의 미사용 시간
+        private Duration idleEviction = Duration.ofMinutes(1);
+    }
+
+    @Getter
+    @Setter
+    public static class StatusCounts {
+        private boolean enabled = false;
+        // 메모리 변경분을 요약 테이블에 더하는 주기 (@Scheduled 에서 직접 참조)
+        private Duration checkpointInterval = Duration.ofSeconds(5);
+        // orders 를 상태별로 세어 요약을 바로잡는 주기 (@Scheduled 에서 직접 참조)
+        private Duration reconcileInterval = Duration.ofHours(1);
+        // 이 인스턴스가 주기 대사를 실행하는지 여부. orders 전체를 세므로 한 인스턴스에서만 켬
+        private boolean reconcileEnabled = false;
+    }
+}
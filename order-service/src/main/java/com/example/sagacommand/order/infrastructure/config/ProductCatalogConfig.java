@@ -0,0 +1,53 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.infrastructure.catalog.CachingProductCatalog;
+import com.example.sagacommand.order.infrastructure.catalog.StubProductCatalog;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 생성 시 가격을 매기는 상품 카탈로그입니다.
+ * 카탈로그 서비스가 아직 없으므로 로컬 카탈로그(StubProductCatalog)를 사용하고,
+ * app.catalog.cache.enabled=true(기본) 이면 near-cache 로 감쌉니다.
+ */
+@Configuration
+@EnableConfigurationProperties(ProductCatalogProperties.class)
+public class ProductCatalogConfig {
+
+    @Bean
+    public ProductCatalog productCatalog(ProductCatalogProperties properties, MeterRegistry meterRegistry) {
+        ProductCatalogProperties.Stub stub = properties.getStub();
+        Map<UUID, Money> prices = new HashMap<>();
+        stub.getPrices().forEach((productId, price) -> prices.put(productId, Money.of(price)));
+        ProductCatalog catalog = new StubProductCatalog(
+                prices, stub.getDefaultPrice() != null ? Money.of(stub.getDefaultPrice()) : null);
+
+        ProductCatalogProperties.Cache cache = properties.getCache();
+        if (!cache.isEnabled()) {
+            return catalog;
+        }
+        CachingProductCatalog cached = new CachingProductCatalog(catalog, cache.getMaxEntries(), cache.getTtl());
+        Gauge.builder("catalog.cache.size", cached, CachingProductCatalog::getSize).register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.hits", cached, CachingProductCatalog::getHits).register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.misses", cached, CachingProductCatalog::getMisses).register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.coalesced", cached, CachingProductCatalog::getCoalesced)
+                .description("다른 요청의 조회 결과를 함께 기다린 상품 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.lookups", cached, CachingProductCatalog::getLookups)
+                .description("카탈로그 대량 조회 횟수")
+                .register(meterRegistry);
+        FunctionCounter.builder("catalog.cache.evictions", cached, CachingProductCatalog::getEvictions)
+                .register(meterRegistry);
+        return cached;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품 카탈로그 설정 (app.catalog)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.catalog")
+public class ProductCatalogProperties {
+    private Stub stub = new Stub();
+    private Cache cache = new Cache();
+
+    /**
+     * 로컬 카탈로그: 등록된 상품 가격, 그 외 상품은 default-price (비우면 없는 상품으로 처리)
+     */
+    @Getter
+    @Setter
+    public static class Stub {
+        private Map<UUID, BigDecimal> prices = new HashMap<>();
+        private BigDecimal defaultPrice = BigDecimal.valueOf(10_000);
+    }
+
+    /**
+     * 카탈로그 앞의 near-cache
+     */
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private int maxEntries = 10_000;
+        private Duration ttl = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.messaging.replay.SagaReplayEndpoint;
+import com.example.sagacommand.order.infrastructure.messaging.replay.SagaReplayer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+
+/**
+ * Saga 이벤트 재처리 모드: 운영 리스너와 별개의 컨슈머로 지정한 범위를 다시 처리합니다. (/actuator/sagareplay)
+ * 핫 키 격리/배치 리스너를 거치지 않고 SagaConfig 의 eventProcessor 를 직접 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.replay", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplayProperties.class)
+public class ReplayConfig {
+
+    @Bean(destroyMethod = "close")
+    @SuppressWarnings("unchecked")
+    public SagaReplayer sagaReplayer(ConsumerFactory<?, ?> consumerFactory,
+                                     @Qualifier("eventProcessor") EventProcessor eventProcessor,
+                                     OrderCommandFactory commandFactory,
+                                     OrderRepository orderRepository,
+                                     KafkaTemplate<String, Object> kafkaTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ReplayProperties properties) {
+        return new SagaReplayer(
+                (ConsumerFactory<Object, Object>) consumerFactory,
+                eventProcessor,
+                commandFactory,
+                orderRepository,
+                kafkaTemplate,
+                new TransactionTemplate(transactionManager),
+                properties,
+                Clock.systemUTC()
+        );
+    }
+
+    @Bean
+    public SagaReplayEndpoint sagaReplayEndpoint(SagaReplayer sagaReplayer) {
+        return new SagaReplayEndpoint(sagaReplayer);
+    }
+}
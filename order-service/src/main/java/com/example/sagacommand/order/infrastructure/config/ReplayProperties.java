@@ -0,0 +1,35 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.infrastructure.messaging.replay.ReplayPublishMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Saga 이벤트 재처리(replay/backfill) 설정 (app.saga.replay)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.replay")
+public class ReplayProperties {
+    private boolean enabled = false;
+
+    // 운영 리스너와 오프셋이 섞이지 않도록 별도 컨슈머 그룹 사용
+    private String groupId = "order-service-replay";
+    // 요청에 토픽이 없으면 재처리할 토픽
+    private List<String> topics = new ArrayList<>(List.of("payment-events", "inventory-events"));
+
+    // 주문 단위로 나눠 동시에 처리할 작업 스레드 수 (같은 주문은 항상 같은 스레드)
+    private int parallelism = 8;
+    private int maxPollRecords = 2_000;
+    private Duration pollTimeout = Duration.ofMillis(500);
+    private Duration progressInterval = Duration.ofSeconds(5);
+
+    // 재처리 중 발생하는 order-events 발행 처리 방식 (SUPPRESS: 버림, REDIRECT: redirect-topic 으로 발행)
+    private ReplayPublishMode publishMode = ReplayPublishMode.SUPPRESS;
+    private String redirectTopic = "order-events-replay";
+}
@@ -0,0 +1,33 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 라우팅 설정 (app.datasource.replica)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private int maximumPoolSize = 10;
+
+    // 방금 변경한 주문을 원본에서 읽도록 보장하는 시간 (예상 복제 지연보다 길게)
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+    private int readYourWritesMaxEntries = 100_000;
+
+    // 복제 지연(초)을 반환하는 쿼리, 예) MySQL 8: 복제 상태 조회 결과의 Seconds_Behind_Source 를 노출하는 뷰
+    private String lagQuery;
+    // 이 값을 넘으면 복제본 조회를 중단하고 원본으로 우회
+    private Duration maxLag = Duration.ofSeconds(2);
+    private Duration lagCheckInterval = Duration.ofSeconds(1);
+}
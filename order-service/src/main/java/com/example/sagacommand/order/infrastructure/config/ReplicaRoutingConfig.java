@@ -0,0 +1,94 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.application.OrderReadConsistency;
+import com.example.sagacommand.order.infrastructure.persistence.routing.DataSourceRole;
+import com.example.sagacommand.order.infrastructure.persistence.routing.ReplicaAwareOrderReadConsistency;
+import com.example.sagacommand.order.infrastructure.persistence.routing.ReplicaLagMonitor;
+import com.example.sagacommand.order.infrastructure.persistence.routing.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * app.datasource.replica.enabled=true 일 때 원본/복제본 커넥션 풀을 분리하고
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))을 복제본으로 라우팅합니다.
+ * <p>
+ * 두 풀은 각각 빈으로 등록되므로 hikaricp.connections.* 지표가 pool=primary / pool=replica 로 따로 집계됩니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaLagMonitor(replicaDataSource, properties.getLagQuery(), properties.getMaxLag(), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤 첫 SQL 실행 시점에 커넥션을 선택하도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public OrderReadConsistency orderReadConsistency(ReplicaProperties properties) {
+        return new ReplicaAwareOrderReadConsistency(
+                properties.getReadYourWritesWindow(), properties.getReadYourWritesMaxEntries());
+    }
+}
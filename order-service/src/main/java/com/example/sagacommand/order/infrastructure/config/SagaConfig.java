@@ -2,12 +2,22 @@ package com.example.sagacommand.order.infrastructure.config;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
 import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.journal.SagaJournal;
 import com.example.sagacommand.common.saga.EventHandler;
 import com.example.sagacommand.common.saga.EventHandlerRegistry;
 import com.example.sagacommand.common.saga.SagaEventProcessor;
 import com.example.sagacommand.common.saga.SagaOrchestrator;
+import com.example.sagacommand.common.saga.join.SagaJoinCoordinator;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.messaging.coalescing.CoalescingEventProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.util.List;
 
@@ -16,10 +26,13 @@ public class SagaConfig {
     /**
      * ScopedCommandInvoker: Saga 내에서 커맨드를 실행하기 위한 유틸 컴포넌트
      * 상태를 가지고 있을 수 있으므로 요청 스코프나 명시적 종료가 중요할 수 있음
+     * 커맨드 execute/undo 는 각각 "saga.command" span 으로 기록됨
+     * Saga 저널(app.saga.journal)이 켜져 있으면 Saga 중의 커맨드 의도/완료가 저널에 기록됨
      */
     @Bean
-    public ScopedCommandInvoker scopedCommandInvoker() {
-        return new ScopedCommandInvoker();
+    public ScopedCommandInvoker scopedCommandInvoker(ObservationRegistry observationRegistry,
+                                                     ObjectProvider<SagaJournal> sagaJournal) {
+        return new ScopedCommandInvoker(observationRegistry, sagaJournal.getIfAvailable(() -> SagaJournal.NOOP));
     }
 
     /**
@@ -37,6 +50,11 @@ public class SagaConfig {
      * - commandInvoker: Saga 실행 시 내부 커맨드를 실행하는 데 사용
      * - registry: 이벤트 핸들러를 보관하고 찾아주는 역할
      * - handlers: @Component 등으로 등록된 EventHandler<?> 들이 자동 주입됨
+     * - observationRegistry: 이벤트 처리/핸들러 실행을 span 으로 기록 (OTLP 로 내보냄)
+     * - 배치 수신 시 같은 주문의 이벤트는 CoalescingEventProcessor 가 묶어서 한 번에 반영
+     * - 응답 합류(app.saga.join)가 켜져 있으면 결제/재고 응답이 모두 도착했을 때 주문을 진행
+     * - Kafka 트랜잭션(exactly-once 프로필)이면 핸들러 실패를 리스너까지 전달해 배치 트랜잭션을 중단시킴
+     *   (삼키면 실패한 이벤트의 발행 없이 오프셋만 커밋됨)
      * <p>
      * 결과적으로 이 Bean 하나로 Saga 흐름이 전부 동작하게 됨
      */
@@ -44,9 +62,19 @@ public class SagaConfig {
     public EventProcessor eventProcessor(
             ScopedCommandInvoker commandInvoker,
             EventHandlerRegistry registry,
-            List<EventHandler<?>> handlers
+            List<EventHandler<?>> handlers,
+            ObservationRegistry observationRegistry,
+            OrderCommandFactory commandFactory,
+            OrderRepository orderRepository,
+            OrderEventPublisher orderEventPublisher,
+            MeterRegistry meterRegistry,
+            ObjectProvider<SagaJoinCoordinator> joinCoordinator,
+            Environment environment
     ) {
+        boolean transactional = environment.containsProperty("spring.kafka.producer.transaction-id-prefix");
         // SagaOrchestrator를 생성하고, 이를 위임하는 EventProcessor 구현체를 생성
-        return new SagaEventProcessor(new SagaOrchestrator(commandInvoker, registry, handlers));
+        EventProcessor sagaEventProcessor = new SagaEventProcessor(new SagaOrchestrator(
+                commandInvoker, registry, handlers, observationRegistry, joinCoordinator.getIfAvailable(), transactional));
+        return new CoalescingEventProcessor(sagaEventProcessor, commandFactory, orderRepository, orderEventPublisher, meterRegistry);
     }
 }
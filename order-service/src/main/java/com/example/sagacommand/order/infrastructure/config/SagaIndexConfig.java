@@ -0,0 +1,49 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.infrastructure.saga.index.OffHeapSagaIndex;
+import com.example.sagacommand.order.infrastructure.saga.index.SagaIndexEndpoint;
+import com.example.sagacommand.order.infrastructure.saga.index.SagaIndexLoader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+/**
+ * Saga 진행 주문 색인: 주문 커맨드의 상태 변경을 힙 밖 해시 테이블에 반영하여, 테이블 스캔 없이 상태별 진행 주문 수와
+ * 오래 멈춘 주문을 조회합니다 (GET /actuator/sagaindex).
+ * 색인은 빈 생성 시(리스너 시작 전) orders 테이블에서 재구성되며, OrderCommandFactory 가 이 색인을 사용합니다.
+ * 샤딩(app.sharding) 사용 시에는 기본 데이터소스의 orders 만 읽으므로 rebuild-on-startup 을 끄고 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.index", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SagaIndexProperties.class)
+public class SagaIndexConfig {
+
+    @Bean
+    public OffHeapSagaIndex sagaStatusIndex(SagaIndexProperties properties,
+                                            JdbcTemplate jdbcTemplate,
+                                            MeterRegistry meterRegistry) {
+        OffHeapSagaIndex index = new OffHeapSagaIndex(properties.getInitialCapacity(), Clock.systemUTC());
+        if (properties.isRebuildOnStartup()) {
+            new SagaIndexLoader(jdbcTemplate).load(index);
+        }
+
+        Gauge.builder("saga.index.in-flight", index, OffHeapSagaIndex::size)
+                .description("종료되지 않은 주문 수")
+                .register(meterRegistry);
+        Gauge.builder("saga.index.off-heap", index, OffHeapSagaIndex::getOffHeapBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        return index;
+    }
+
+    @Bean
+    public SagaIndexEndpoint sagaIndexEndpoint(OffHeapSagaIndex sagaStatusIndex, SagaIndexProperties properties) {
+        return new SagaIndexEndpoint(sagaStatusIndex, properties.getDefaultOldest(), properties.getMaxOldest());
+    }
+}
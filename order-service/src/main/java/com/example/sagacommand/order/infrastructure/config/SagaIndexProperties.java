@@ -0,0 +1,24 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Saga 진행 주문 색인 설정 (app.saga.index)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.index")
+public class SagaIndexProperties {
+    private boolean enabled = false;
+
+    // 처음 잡아 둘 주문 수 (넘으면 두 배로 늘림, 주문당 약 43바이트)
+    private int initialCapacity = 1_000_000;
+    // 기동 시 orders 테이블에서 종료되지 않은 주문을 읽어 채움
+    private boolean rebuildOnStartup = true;
+
+    // 엔드포인트의 oldest 기본/최대 건수
+    private int defaultOldest = 20;
+    private int maxOldest = 1_000;
+}
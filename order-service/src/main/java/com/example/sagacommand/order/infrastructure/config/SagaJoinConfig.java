@@ -0,0 +1,74 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.saga.join.CorrelationStore;
+import com.example.sagacommand.common.saga.join.SagaJoinCoordinator;
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.infrastructure.persistence.correlation.DurableCorrelationBacking;
+import com.example.sagacommand.order.infrastructure.persistence.correlation.JpaCorrelationBacking;
+import com.example.sagacommand.order.infrastructure.persistence.correlation.SagaCorrelationRepository;
+import com.example.sagacommand.order.infrastructure.saga.join.PaymentInventoryJoin;
+import com.example.sagacommand.order.infrastructure.saga.join.SagaJoinRetrier;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * 결제/재고 응답 합류: 주문 생성 이벤트로 두 서비스가 병렬로 처리한 응답을 모아, 둘 다 도착하면 주문을 진행합니다.
+ * 도착 상태는 메모리(CorrelationStore)에서 추적하고 saga_correlation 테이블에 함께 기록하여 재시작 후에도 이어서 합류합니다.
+ * 테이블 기록은 응답을 처리한 주문 변경이 DB 에 반영된 뒤에 하며(write-behind 사용 시 반영 시점까지 지연),
+ * 합류 처리가 실패한 주문은 SagaJoinRetrier 가 retry-interval 마다 다시 시도합니다.
+ * SagaConfig 의 SagaOrchestrator 가 이 코디네이터를 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.join", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SagaJoinProperties.class)
+public class SagaJoinConfig {
+
+    @Bean
+    public CorrelationStore correlationStore(SagaJoinProperties properties,
+                                             SagaCorrelationRepository repository,
+                                             OrderDurability orderDurability,
+                                             MeterRegistry meterRegistry) {
+        CorrelationStore store = new CorrelationStore(
+                new DurableCorrelationBacking(new JpaCorrelationBacking(repository), orderDurability),
+                properties.getMaxEntries(), properties.getTtl());
+
+        Gauge.builder("saga.join.tracked", store, CorrelationStore::getSize)
+                .description("메모리에서 추적 중인 주문 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("saga.join.evictions", store, CorrelationStore::getEvictions)
+                .register(meterRegistry);
+        FunctionCounter.builder("saga.join.recoveries", store, CorrelationStore::getRecoveries)
+                .description("메모리에 없어 DB 에서 다시 읽은 횟수")
+                .register(meterRegistry);
+        return store;
+    }
+
+    @Bean
+    public SagaJoinCoordinator sagaJoinCoordinator(CorrelationStore correlationStore,
+                                                   OrderCommandFactory commandFactory,
+                                                   MeterRegistry meterRegistry) {
+        SagaJoinCoordinator coordinator =
+                new SagaJoinCoordinator(List.of(new PaymentInventoryJoin(commandFactory)), correlationStore);
+
+        Gauge.builder("saga.join.pending", coordinator, SagaJoinCoordinator::getPendingJoinCount)
+                .description("합류 처리가 실패해 재시도를 기다리는 주문 수")
+                .register(meterRegistry);
+        FunctionCounter.builder("saga.join.failures", coordinator, SagaJoinCoordinator::getJoinFailures)
+                .register(meterRegistry);
+        return coordinator;
+    }
+
+    @Bean
+    public SagaJoinRetrier sagaJoinRetrier(SagaJoinCoordinator sagaJoinCoordinator, ScopedCommandInvoker commandInvoker) {
+        return new SagaJoinRetrier(sagaJoinCoordinator, commandInvoker);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제/재고 응답 합류 설정 (app.saga.join)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.join")
+public class SagaJoinProperties {
+    private boolean enabled = false;
+
+    // 메모리에 두는 최대 주문 수. 넘치거나 ttl 이 지난 항목은 내보내고, 다음 응답이 오면 DB 에서 다시 읽음
+    private int maxEntries = 100_000;
+    private Duration ttl = Duration.ofMinutes(10);
+    // 합류 처리가 실패한 주문을 다시 시도하는 주기 (@Scheduled 에서 직접 참조)
+    private Duration retryInterval = Duration.ofSeconds(30);
+}
@@ -0,0 +1,49 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.journal.MappedSagaJournal;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.saga.journal.OrderStatusUndoHandler;
+import com.example.sagacommand.order.infrastructure.saga.journal.RefundPaymentUndoHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Saga 저널: 커맨드 의도/완료를 메모리 매핑 파일에 기록하여, Saga 도중 파드가 죽어도 재시작 시 완료된 커맨드를 되돌립니다.
+ * 저널을 열 때(리스너 시작 전) 복구가 끝나므로, 이후 다시 전달되는 이벤트는 되돌려진 상태에서 처음부터 처리됩니다.
+ * SagaConfig 의 ScopedCommandInvoker 가 이 저널을 사용합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SagaJournalProperties.class)
+public class SagaJournalConfig {
+
+    @Bean(destroyMethod = "close")
+    public MappedSagaJournal sagaJournal(SagaJournalProperties properties,
+                                         OrderRepository orderRepository,
+                                         MeterRegistry meterRegistry) {
+        MappedSagaJournal journal = MappedSagaJournal.open(
+                properties.getDirectory(),
+                Math.toIntExact(properties.getSegmentSize().toBytes()),
+                properties.isSync(),
+                properties.getGroupCommitWindow(),
+                List.of(new OrderStatusUndoHandler(orderRepository), new RefundPaymentUndoHandler())
+        );
+
+        Gauge.builder("saga.journal.active", journal, MappedSagaJournal::getActiveSagas)
+                .description("종료가 기록되지 않은 Saga 수")
+                .register(meterRegistry);
+        Gauge.builder("saga.journal.segments", journal, MappedSagaJournal::getSegmentCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("saga.journal.group-commits", journal, MappedSagaJournal::getGroupCommits)
+                .description("디스크 반영(force) 횟수")
+                .register(meterRegistry);
+        return journal;
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Saga 저널 설정 (app.saga.journal)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.journal")
+public class SagaJournalProperties {
+    private boolean enabled = false;
+
+    // 파드 재시작 후에도 남는 볼륨이어야 복구가 의미 있음
+    private Path directory = Path.of("data", "saga-journal");
+    private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+    // 커맨드 완료마다 디스크 반영(force)을 기다림. false 면 프로세스 장애만 견디고 장비 장애 시 최근 기록이 유실될 수 있음
+    private boolean sync = true;
+    // 디스크 반영 전에 다른 Saga 의 완료 기록을 모으는 시간
+    private Duration groupCommitWindow = Duration.ofMillis(1);
+}
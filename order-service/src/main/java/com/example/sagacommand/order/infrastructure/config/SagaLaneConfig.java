@@ -0,0 +1,54 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.application.OrderService;
+import com.example.sagacommand.order.application.SagaEventAcknowledger;
+import com.example.sagacommand.order.infrastructure.messaging.lane.SagaLaneEndpoint;
+import com.example.sagacommand.order.infrastructure.messaging.lane.SagaLanes;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+
+/**
+ * Saga 이벤트 우선순위 레인: 이벤트 타입별로 전용 컨슈머 그룹/스레드를 둬서
+ * 보상 이벤트가 성공 이벤트 폭주 뒤에 밀리지 않게 합니다.
+ * 활성화하면 OrderService 의 단일 리스너는 시작하지 않고, 레인 컨테이너들이 같은 처리 경로를 호출합니다.
+ * 기동 워밍업(app.warmup)을 켜면 레인은 워밍업이 끝난 뒤 시작합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.saga.lanes", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(SagaLaneProperties.class)
+public class SagaLaneConfig {
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public SagaLanes sagaLanes(ConcurrentKafkaListenerContainerFactory<?, ?> kafkaListenerContainerFactory,
+                               OrderService orderService,
+                               SagaEventAcknowledger sagaEventAcknowledger,
+                               SagaLaneProperties properties,
+                               KafkaProperties kafkaProperties,
+                               KafkaAdmin kafkaAdmin,
+                               Environment environment,
+                               MeterRegistry meterRegistry) {
+        return SagaLanes.create(
+                (ConcurrentKafkaListenerContainerFactory<Object, Object>) kafkaListenerContainerFactory,
+                properties,
+                kafkaProperties.getConsumer().getGroupId(),
+                kafkaAdmin.getConfigurationProperties(),
+                orderService::handlePaymentEvents,
+                !sagaEventAcknowledger.commitsOffsets(),
+                !environment.getProperty("app.warmup.enabled", Boolean.class, false),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public SagaLaneEndpoint sagaLaneEndpoint(SagaLanes sagaLanes) {
+        return new SagaLaneEndpoint(sagaLanes);
+    }
+}
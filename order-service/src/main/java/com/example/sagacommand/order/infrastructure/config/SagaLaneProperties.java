@@ -0,0 +1,39 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saga 이벤트 우선순위 레인 설정 (app.saga.lanes)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.lanes")
+public class SagaLaneProperties {
+    private boolean enabled = false;
+
+    // 레인들이 함께 읽을 토픽 (운영 리스너와 동일)
+    private List<String> topics = new ArrayList<>(List.of("payment-events", "inventory-events"));
+
+    // 어느 레인에도 지정되지 않은 이벤트 타입을 처리할 레인
+    private String defaultLane = "default";
+
+    private Map<String, Lane> definitions = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Lane {
+        // 이 레인에서 처리할 이벤트 클래스 이름 (예: PaymentFailedEvent)
+        private List<String> eventTypes = new ArrayList<>();
+        // 레인 전용 컨슈머 스레드 수 (토픽 파티션 수를 넘으면 남는 스레드는 놀게 됨)
+        private int concurrency = 1;
+        // 한 번에 가져올 최대 레코드 수 (레인의 처리 대기열 크기 상한)
+        private int maxPollRecords = 500;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.infrastructure.messaging.offset.BatchSagaEventAcknowledger;
+import com.example.sagacommand.order.infrastructure.messaging.offset.TrackingSagaEventAcknowledger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ContainerCustomizer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Saga 이벤트 수신 오프셋 커밋 방식을 정합니다.
+ * <p>
+ * 기본은 레코드별 완료 추적(TrackingSagaEventAcknowledger)으로, 슬로 레인/지연 반영 때문에 순서와 다르게 끝나는
+ * 레코드를 고려하여 연속 완료 구간까지만 커밋합니다.
+ * exactly-once 프로필(트랜잭션 ID 접두사 지정)에서는 오프셋이 Kafka 트랜잭션에 포함되어야 하므로 배치 단위로 확정하며,
+ * 리스너 스레드에서 완료를 기다린 뒤 연속으로 완료된 앞 구간까지만 확정합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(SagaOffsetProperties.class)
+public class SagaOffsetConfig {
+
+    private static final String TRACKING =
+            "${app.saga.offsets.tracking:true} && '${spring.kafka.producer.transaction-id-prefix:}'.isEmpty()";
+
+    @Bean
+    @ConditionalOnExpression(TRACKING)
+    public TrackingSagaEventAcknowledger trackingSagaEventAcknowledger(OrderDurability orderDurability,
+                                                                       SagaOffsetProperties properties,
+                                                                       MeterRegistry meterRegistry) {
+        TrackingSagaEventAcknowledger acknowledger = new TrackingSagaEventAcknowledger(
+                orderDurability,
+                properties.getCommitInterval(),
+                properties.getCommitCount(),
+                Timer.builder("saga.offsets.commit.latency")
+                        .description("오프셋 커밋 요청부터 브로커 응답까지")
+                        .publishPercentiles(0.5, 0.99)
+                        .register(meterRegistry),
+                Counter.builder("saga.offsets.commit.failures").register(meterRegistry),
+                System::nanoTime
+        );
+        Gauge.builder("saga.offsets.uncommitted", acknowledger, TrackingSagaEventAcknowledger::getUncommitted)
+                .description("수신했지만 커밋되지 않은 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("saga.offsets.in-flight", acknowledger, TrackingSagaEventAcknowledger::getInFlight)
+                .description("처리가 끝나지 않은 레코드 수")
+                .register(meterRegistry);
+
+        log.info("Saga 오프셋 완료 추적 커밋: commitInterval={}, commitCount={}",
+                properties.getCommitInterval(), properties.getCommitCount());
+        return acknowledger;
+    }
+
+    /**
+     * 파티션 회수 직전 커밋과, 레코드가 없을 때의 주기 커밋(유휴 이벤트)을 위해 리스너 컨테이너(레인 포함)에 연결합니다.
+     */
+    @Bean
+    @ConditionalOnExpression(TRACKING)
+    public ContainerCustomizer<Object, Object, ConcurrentMessageListenerContainer<Object, Object>> offsetTrackingContainerCustomizer(
+            TrackingSagaEventAcknowledger acknowledger,
+            SagaOffsetProperties properties
+    ) {
+        return container -> {
+            ContainerProperties containerProperties = container.getContainerProperties();
+            containerProperties.setConsumerRebalanceListener(acknowledger);
+            containerProperties.setIdleEventInterval(properties.getCommitInterval().toMillis());
+        };
+    }
+
+    @Bean
+    @ConditionalOnExpression("!(" + TRACKING + ")")
+    public BatchSagaEventAcknowledger batchSagaEventAcknowledger(OrderDurability orderDurability,
+                                                                 SagaOffsetProperties properties) {
+        return new BatchSagaEventAcknowledger(orderDurability, properties.getCompletionTimeout());
+    }
+}
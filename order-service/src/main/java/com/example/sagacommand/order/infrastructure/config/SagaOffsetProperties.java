@@ -0,0 +1,25 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Saga 이벤트 수신 오프셋 커밋 설정 (app.saga.offsets)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.saga.offsets")
+public class SagaOffsetProperties {
+    // 레코드별 완료를 추적하여 직접 커밋 (false 또는 exactly-once 프로필이면 배치 단위 Acknowledgment)
+    private boolean tracking = true;
+
+    // 마지막 커밋 후 이 시간이 지나거나 commit-count 건이 완료되면 커밋
+    private Duration commitInterval = Duration.ofSeconds(1);
+    private long commitCount = 500;
+
+    // 배치 단위 확정에서 리스너 스레드가 비동기 작업과 DB 반영을 기다리는 최대 시간 (max.poll.interval.ms 보다 짧게)
+    private Duration completionTimeout = Duration.ofSeconds(30);
+}
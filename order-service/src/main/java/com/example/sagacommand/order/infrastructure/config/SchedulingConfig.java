@@ -0,0 +1,12 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 복제 지연 측정 등 주기 작업(@Scheduled)을 활성화합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
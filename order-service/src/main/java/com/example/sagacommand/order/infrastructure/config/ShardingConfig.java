@@ -0,0 +1,102 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.infrastructure.persistence.sharding.ConsistentHashRing;
+import com.example.sagacommand.order.infrastructure.persistence.sharding.OrderShard;
+import com.example.sagacommand.order.infrastructure.persistence.sharding.ShardedOrderRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * app.sharding.enabled=true 일 때 주문 저장소를 해시 샤딩 구현체로 교체합니다.
+ * 샤드마다 별도의 커넥션 풀, EntityManagerFactory, 트랜잭션 매니저를 가집니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public ShardedOrderRepository shardedOrderRepository(ShardingProperties properties) {
+        if (properties.getShards().isEmpty()) {
+            throw new IllegalStateException("app.sharding.shards 설정이 비어 있습니다");
+        }
+
+        Map<String, OrderShard> shards = new LinkedHashMap<>();
+        properties.getShards().forEach((name, shard) ->
+                shards.put(name, OrderShard.create(name, dataSource(name, shard), properties.getJpa())));
+
+        List<String> ringNames = properties.getRing().isEmpty()
+                ? List.copyOf(shards.keySet())
+                : properties.getRing();
+        ConsistentHashRing<OrderShard> ring = ring(shards, ringNames, properties.getVirtualNodes());
+
+        List<String> previousNames = properties.getReshard().getPreviousRing();
+        ConsistentHashRing<OrderShard> previousRing = previousNames.isEmpty()
+                ? null
+                : ring(shards, previousNames, properties.getVirtualNodes());
+
+        log.info("주문 샤딩 활성화: ring={}, previousRing={}", ringNames, previousNames);
+        return new ShardedOrderRepository(ring, previousRing);
+    }
+
+    /**
+     * 리샤딩 모드로 기동되면 백그라운드에서 이전 샤드에 남은 주문을 재분배합니다.
+     * 재분배 중에도 조회/저장은 지연 이동으로 정상 동작합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebalanceOnStartup(ApplicationReadyEvent event) {
+        ShardedOrderRepository repository = event.getApplicationContext().getBean(ShardedOrderRepository.class);
+        if (!repository.isResharding()) {
+            return;
+        }
+        int batchSize = event.getApplicationContext().getBean(ShardingProperties.class).getReshard().getBatchSize();
+        CompletableFuture.supplyAsync(() -> repository.rebalance(batchSize))
+                .whenComplete((migrated, e) -> {
+                    if (e != null) {
+                        log.error("샤드 재분배 실패: {}", e.getMessage(), e);
+                    } else {
+                        log.info("샤드 재분배 완료: {}건 이동", migrated);
+                    }
+                });
+    }
+
+    private ConsistentHashRing<OrderShard> ring(Map<String, OrderShard> shards, List<String> names, int virtualNodes) {
+        Map<String, OrderShard> members = new LinkedHashMap<>();
+        for (String name : names) {
+            OrderShard shard = shards.get(name);
+            if (shard == null) {
+                throw new IllegalStateException("정의되지 않은 샤드: " + name);
+            }
+            members.put(name, shard);
+        }
+        return new ConsistentHashRing<>(members, virtualNodes);
+    }
+
+    private HikariDataSource dataSource(String name, ShardingProperties.Shard shard) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .driverClassName(shard.getDriverClassName())
+                .build();
+        dataSource.setPoolName("order-" + name);
+        dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+        return dataSource;
+    }
+}
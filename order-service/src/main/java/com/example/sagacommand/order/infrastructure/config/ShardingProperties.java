@@ -0,0 +1,53 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 저장소 샤딩 설정 (app.sharding)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sharding")
+public class ShardingProperties {
+    private boolean enabled = false;
+
+    // 샤드당 가상 노드 수
+    private int virtualNodes = 160;
+
+    // 샤드 EntityManagerFactory에 적용할 JPA 속성 (hibernate.hbm2ddl.auto 등)
+    private Map<String, String> jpa = new LinkedHashMap<>();
+
+    // 샤드 이름 → 데이터소스
+    private Map<String, Shard> shards = new LinkedHashMap<>();
+
+    // 현재 링을 구성하는 샤드 이름 (비어 있으면 모든 샤드)
+    private List<String> ring = new ArrayList<>();
+
+    private Reshard reshard = new Reshard();
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class Reshard {
+        // 리샤딩 이전 링을 구성하던 샤드 이름 (비어 있으면 리샤딩 모드 아님)
+        private List<String> previousRing = new ArrayList<>();
+        // 백그라운드 재분배 시 샤드별로 한 번에 읽어올 주문 수
+        private int batchSize = 500;
+    }
+}
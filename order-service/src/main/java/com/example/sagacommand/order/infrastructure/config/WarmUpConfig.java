@@ -0,0 +1,107 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.order.application.OrderService;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.messaging.lane.SagaLanes;
+import com.example.sagacommand.order.infrastructure.persistence.JpaOrderRepository;
+import com.example.sagacommand.order.infrastructure.warmup.OrderWarmUp;
+import com.example.sagacommand.order.infrastructure.warmup.SyntheticOrderFlow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 기동 워밍업: readiness 가 ACCEPTING_TRAFFIC 이 되기 전에 커넥션을 열고 합성 주문 흐름으로 JIT 컴파일을 끝냅니다.
+ * 쓰기 경로는 기본 데이터소스의 JPA 저장소로 실행하고 롤백하며, Saga 이벤트 리스너(레인 포함)는 워밍업이 끝난 뒤 시작합니다.
+ * 결과는 로그와 warmup.* 게이지로 남습니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(WarmUpProperties.class)
+public class WarmUpConfig {
+
+    @Bean
+    public OrderWarmUp orderWarmUp(WarmUpProperties properties,
+                                   ObjectProvider<DataSource> dataSource,
+                                   ObjectProvider<KafkaTemplate<String, Object>> kafkaTemplate,
+                                   OrderRepository orderRepository,
+                                   ObjectProvider<JpaOrderRepository> jpaOrderRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ObjectProvider<KafkaListenerEndpointRegistry> listenerRegistry,
+                                   ObjectProvider<SagaLanes> sagaLanes,
+                                   Environment environment,
+                                   OrderCommandFactory commandFactory,
+                                   List<EventHandler<?>> handlers,
+                                   ObjectMapper objectMapper,
+                                   MeterRegistry meterRegistry) {
+        // 지연 반영/샤딩 래퍼는 트랜잭션 밖에서 쓰므로 롤백되지 않음: 트랜잭션에 참여하는 JPA 저장소를 직접 사용
+        JpaOrderRepository database = jpaOrderRepository.getIfAvailable();
+        SyntheticOrderFlow flow = new SyntheticOrderFlow(commandFactory, handlers, objectMapper, properties.getProductCount(),
+                database == null ? null : new SyntheticOrderFlow.RollbackOnlyDatabase(
+                        database, database::flush, new TransactionTemplate(transactionManager)));
+        OrderWarmUp warmUp = new OrderWarmUp(
+                dataSource.getIfUnique(),
+                kafkaTemplate.getIfUnique(),
+                orderRepository,
+                flow,
+                new OrderWarmUp.Settings(
+                        properties.getDbConnections(),
+                        properties.getTopics(),
+                        properties.getDbFlows(),
+                        properties.getMinRounds(),
+                        properties.getMaxRounds(),
+                        properties.getIterationsPerRound(),
+                        properties.getCompilationPlateau(),
+                        properties.getMaxDuration()
+                ),
+                () -> startSagaListeners(listenerRegistry.getIfAvailable(), sagaLanes.getIfAvailable(), environment));
+
+        Gauge.builder("warmup.duration", warmUp, w -> w.getReport().duration().toMillis())
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("warmup.iterations", warmUp, w -> w.getReport().iterations())
+                .register(meterRegistry);
+        Gauge.builder("warmup.flow.p99", warmUp, w -> w.getReport().firstRoundP99().toNanos() / 1_000_000.0)
+                .description("첫 라운드(콜드 상태) 합성 흐름 p99")
+                .tag("round", "first")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder("warmup.flow.p99", warmUp, w -> w.getReport().lastRoundP99().toNanos() / 1_000_000.0)
+                .description("마지막 라운드(워밍업 후) 합성 흐름 p99")
+                .tag("round", "last")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return warmUp;
+    }
+
+    // 워밍업이 없을 때 기동 시 시작했을 컨테이너만 시작 (OrderService 리스너의 autoStartup 조건과 같음)
+    private static void startSagaListeners(KafkaListenerEndpointRegistry registry, SagaLanes sagaLanes, Environment environment) {
+        boolean lanesEnabled = environment.getProperty("app.saga.lanes.enabled", Boolean.class, false);
+        boolean autoStartup = environment.getProperty("spring.kafka.listener.auto-startup", Boolean.class, true);
+        if (!lanesEnabled && autoStartup && registry != null) {
+            MessageListenerContainer container = registry.getListenerContainer(OrderService.SAGA_LISTENER_ID);
+            if (container != null) {
+                container.start();
+            }
+        }
+        if (sagaLanes != null) {
+            sagaLanes.start();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 워밍업 설정 (app.warmup)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.warmup")
+public class WarmUpProperties {
+    private boolean enabled = false;
+
+    // 미리 열어 둘 DB 커넥션 수 (커넥션 풀 최대 크기 이하)
+    private int dbConnections = 10;
+    // 프로듀서 메타데이터를 미리 가져올 토픽
+    private List<String> topics = new ArrayList<>(List.of("order-events"));
+    // 실제 DB 저장소로 실행하고 롤백할 합성 흐름 수 (흐름 종류가 3가지이므로 3 이상이면 모든 쓰기 문장이 실행됨)
+    private int dbFlows = 6;
+
+    // 합성 흐름은 라운드 단위로 반복하고, 라운드 동안의 JIT 컴파일 시간이 compilation-plateau 이하이면 종료
+    private int iterationsPerRound = 200;
+    private int minRounds = 3;
+    private int maxRounds = 50;
+    private Duration compilationPlateau = Duration.ofMillis(20);
+    // 이 시간이 지나면 컴파일이 남아 있어도 종료하고 트래픽을 받음
+    private Duration maxDuration = Duration.ofSeconds(30);
+    // 합성 주문에 사용할 상품 수 (카탈로그 캐시에는 이만큼만 들어감)
+    private int productCount = 8;
+}
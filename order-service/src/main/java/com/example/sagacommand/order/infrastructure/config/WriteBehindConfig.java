@@ -0,0 +1,59 @@
+package com.example.sagacommand.order.infrastructure.config;
+
+import com.example.sagacommand.order.infrastructure.persistence.JpaOrderRepository;
+import com.example.sagacommand.order.infrastructure.persistence.writebehind.WriteBehindOrderRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * app.orders.write-behind.enabled=true 일 때 주문 저장소를 메모리 우선 지연 반영 구현체로 교체합니다.
+ * 같은 빈이 OrderDurability 로도 쓰여, 리스너의 오프셋 커밋이 DB 반영 이후로 미뤄집니다.
+ * 기본 데이터소스의 JPA 저장소를 감싸므로 샤딩(app.sharding)과 함께 사용하지 않습니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "app.orders.write-behind", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(OrderStorageProperties.class)
+public class WriteBehindConfig {
+
+    @Bean(destroyMethod = "close")
+    @Primary
+    public WriteBehindOrderRepository writeBehindOrderRepository(JpaOrderRepository jpaOrderRepository,
+                                                                 PlatformTransactionManager transactionManager,
+                                                                 OrderStorageProperties properties,
+                                                                 MeterRegistry meterRegistry) {
+        OrderStorageProperties.WriteBehind writeBehind = properties.getWriteBehind();
+        WriteBehindOrderRepository repository = new WriteBehindOrderRepository(
+                jpaOrderRepository,
+                new TransactionTemplate(transactionManager),
+                writeBehind.getFlushInterval(),
+                writeBehind.getBatchSize(),
+                writeBehind.getMaxPending(),
+                writeBehind.getIdleEviction()
+        );
+
+        Gauge.builder("order.write-behind.pending", repository, WriteBehindOrderRepository::getPendingCount)
+                .register(meterRegistry);
+        Gauge.builder("order.write-behind.cached", repository, WriteBehindOrderRepository::getCachedCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.write-behind.coalesced", repository, WriteBehindOrderRepository::getCoalescedWrites)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.write-behind.flushed", repository, WriteBehindOrderRepository::getFlushedOrders)
+                .register(meterRegistry);
+        FunctionCounter.builder("order.write-behind.flush.failures", repository, WriteBehindOrderRepository::getFailedFlushes)
+                .register(meterRegistry);
+
+        log.info("주문 지연 반영(write-behind) 활성화: flushInterval={}, batchSize={}",
+                writeBehind.getFlushInterval(), writeBehind.getBatchSize());
+        return repository;
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.sagacommand.order.infrastructure.messaging;
 
+import com.example.sagacommand.common.jfr.SagaFlightRecorder;
 import com.example.sagacommand.order.application.OrderEventPublisher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+/**
+ * order-events 토픽으로 이벤트를 발행합니다.
+ * KafkaTemplate 관측(spring.kafka.template.observation-enabled)이 켜져 있으므로
+ * 현재 trace 컨텍스트가 W3C traceparent 헤더로 레코드에 주입되고 send 구간이 span 으로 기록됩니다.
+ * <p>
+ * exactly-once 프로필(트랜잭션 템플릿)에서는 리스너 트랜잭션 안의 발행은 그 트랜잭션에 포함되고,
+ * 트랜잭션 밖(HTTP 요청, 슬로 레인)의 발행은 단건 트랜잭션으로 보냅니다.
+ * <p>
+ * JFR 기록 중이면 발행 호출 구간을 com.example.saga.Publish 이벤트로 기록합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class KafkaEventPublisher implements OrderEventPublisher {
@@ -13,6 +24,14 @@ public class KafkaEventPublisher implements OrderEventPublisher {
 
     @Override
     public void publishEvent(String key, Object event) {
+        SagaFlightRecorder.publish(ORDER_EVENT_TOPIC, key, event, () -> send(key, event));
+    }
+
+    private void send(String key, Object event) {
+        if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+            kafkaTemplate.executeInTransaction(operations -> operations.send(ORDER_EVENT_TOPIC, key, event));
+            return;
+        }
         kafkaTemplate.send(ORDER_EVENT_TOPIC, key, event);
     }
 }
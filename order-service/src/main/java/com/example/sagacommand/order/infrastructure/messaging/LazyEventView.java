@@ -0,0 +1,57 @@
+package com.example.sagacommand.order.infrastructure.messaging;
+
+import com.example.sagacommand.common.event.EventView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Kafka 레코드 값(JSON)을 보관하다가 처음 필요할 때 디코딩하는 이벤트 뷰입니다.
+ * 주문 ID는 역직렬화 단계에서 스트리밍 파서로 미리 추출해 둡니다.
+ * 리스너 스레드에서 만들어지고, 핫 키 격리로 슬로 레인에 넘어가면 그 뒤로는 슬로 레인 스레드만 사용합니다.
+ * 한 시점에 한 스레드만 사용하고 스레드 간 전달은 실행기 큐가 가시성을 보장하므로 동기화하지 않습니다.
+ */
+class LazyEventView<T> implements EventView<T> {
+    private final Class<T> type;
+    private final UUID orderId;
+    private final ObjectMapper objectMapper;
+    private byte[] payload;
+    private T decoded;
+
+    LazyEventView(Class<T> type, UUID orderId, byte[] payload, ObjectMapper objectMapper) {
+        this.type = type;
+        this.orderId = orderId;
+        this.payload = payload;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public UUID getOrderId() {
+        return orderId;
+    }
+
+    @Override
+    public T get() {
+        if (decoded == null) {
+            try {
+                decoded = objectMapper.readValue(payload, type);
+                payload = null;
+            } catch (IOException e) {
+                throw new SerializationException("이벤트 디코딩 실패: " + type.getName(), e);
+            }
+        }
+        return decoded;
+    }
+
+    @Override
+    public String toString() {
+        return type.getSimpleName() + "[orderId=" + orderId + "]";
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.sagacommand.order.infrastructure.messaging;
+
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.JacksonUtils;
+import org.springframework.kafka.support.mapping.AbstractJavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.ClassUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Saga 이벤트 전용 값 역직렬화기입니다.
+ * <p>
+ * 1. 타입 헤더(__TypeId__)만 보고 EventHandlerRegistry 에 핸들러가 없는 이벤트는 본문을 읽지 않고 null 을 반환합니다.
+ *    (null 레코드는 리스너의 필터에서 버려짐)
+ * 2. 핸들러가 있는 이벤트는 본문에서 orderId 만 스트리밍으로 읽고, 나머지는 LazyEventView 로 지연 디코딩합니다.
+ * <p>
+ * 타입 ID 매핑과 신뢰 패키지는 JsonDeserializer 와 같은 설정(spring.json.type.mapping, spring.json.trusted.packages)을 사용합니다.
+ */
+@Slf4j
+public class SagaEventDeserializer implements Deserializer<Object> {
+
+    private static final String ORDER_ID_FIELD = "orderId";
+
+    private final EventHandlerRegistry handlerRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+    private final Map<String, Class<?>> typeMapping = new ConcurrentHashMap<>();
+    private String[] trustedPackages = {};
+
+    public SagaEventDeserializer(EventHandlerRegistry handlerRegistry, MeterRegistry meterRegistry) {
+        this.handlerRegistry = handlerRegistry;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object mapping = configs.get(JsonDeserializer.TYPE_MAPPINGS);
+        if (mapping != null) {
+            for (String entry : mapping.toString().split(",")) {
+                String[] idAndClass = entry.trim().split(":");
+                if (idAndClass.length == 2) {
+                    typeMapping.put(idAndClass[0].trim(), loadClass(idAndClass[1].trim()));
+                }
+            }
+        }
+        Object trusted = configs.get(JsonDeserializer.TRUSTED_PACKAGES);
+        if (trusted != null) {
+            trustedPackages = trusted.toString().split("\\s*,\\s*");
+        }
+    }
+
+    /**
+     * 헤더 없이 호출되면(Deserializer 기본 계약만 쓰는 도구 등) 본문에 타입 정보가 없어 이벤트 타입을 알 수 없습니다.
+     * 오류 처리기(DLT 등)가 역직렬화 실패로 분류할 수 있도록 Kafka 의 SerializationException 으로 실패합니다.
+     */
+    @Override
+    public Object deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        throw new SerializationException("Saga 이벤트는 타입 헤더(" + AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME
+                + ")가 필요합니다: topic=" + topic);
+    }
+
+    @Override
+    public Object deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Class<?> type = resolveType(headers);
+        if (type == null || !handlerRegistry.hasHandler(type)) {
+            meterRegistry.counter("saga.events.skipped", "type", type == null ? "unknown" : type.getSimpleName())
+                    .increment();
+            log.debug("처리할 핸들러가 없는 이벤트, 역직렬화 생략: topic={}, type={}", topic, type);
+            return null;
+        }
+        return view(type, data);
+    }
+
+    private <T> LazyEventView<T> view(Class<T> type, byte[] data) {
+        return new LazyEventView<>(type, readOrderId(data), data, objectMapper);
+    }
+
+    private Class<?> resolveType(Headers headers) {
+        Header header = headers.lastHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+        if (header == null) {
+            return null;
+        }
+
+        String typeId = new String(header.value(), StandardCharsets.UTF_8);
+        Class<?> mapped = typeMapping.get(typeId);
+        if (mapped != null) {
+            return mapped;
+        }
+        if (!isTrusted(typeId)) {
+            log.warn("신뢰하지 않는 이벤트 타입: {}", typeId);
+            return null;
+        }
+        return typeMapping.computeIfAbsent(typeId, this::loadClass);
+    }
+
+    private boolean isTrusted(String className) {
+        for (String trustedPackage : trustedPackages) {
+            if ("*".equals(trustedPackage) || className.startsWith(trustedPackage + ".")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Class<?> loadClass(String className) {
+        try {
+            return ClassUtils.forName(className, ClassUtils.getDefaultClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new SerializationException("이벤트 타입을 찾을 수 없습니다: " + className, e);
+        }
+    }
+
+    // 최상위 orderId 필드만 읽고, 다른 필드의 값은 토큰 단위로 건너뜀
+    private UUID readOrderId(byte[] data) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(data)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SerializationException("이벤트 본문이 JSON 객체가 아닙니다");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (ORDER_ID_FIELD.equals(field) && value == JsonToken.VALUE_STRING) {
+                    return UUID.fromString(parser.getText());
+                }
+                parser.skipChildren();
+            }
+            throw new SerializationException("이벤트에 orderId 가 없습니다");
+        } catch (IOException e) {
+            throw new SerializationException("orderId 추출 실패", e);
+        }
+    }
+}
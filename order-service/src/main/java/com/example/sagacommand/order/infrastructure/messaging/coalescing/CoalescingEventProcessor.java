@@ -0,0 +1,103 @@
+package com.example.sagacommand.order.infrastructure.messaging.coalescing;
+
+import com.example.sagacommand.common.event.Event;
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.saga.SagaCommit;
+import com.example.sagacommand.order.application.CoalescedOrderSession;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 배치 안의 이벤트를 주문별로 묶어, 같은 주문의 이벤트가 여러 건이면 하나의 작업 단위
+ * ({@link CoalescedOrderSession})에서 이어서 처리하는 EventProcessor 입니다.
+ * <p>
+ * 핸들러와 커맨드는 그대로 실행되므로 상태 전이 규칙과 발행 이벤트는 한 건씩 처리할 때와 같고,
+ * 주문 조회는 한 번, 저장은 최종 상태 한 번으로 줄어듭니다.
+ * 주문 사이의 처리 순서는 바뀔 수 있지만 같은 주문의 이벤트 순서는 유지됩니다.
+ * <p>
+ * 저장은 처음 읽은 버전을 조건으로 하므로, 그 사이 다른 작업(슬로 레인, 재처리 등)이 같은 주문을 바꿨다면
+ * 최신 상태를 다시 읽어 묶음을 다시 처리합니다. 계속 충돌하면 묶지 않고 한 건씩 처리합니다.
+ */
+@Slf4j
+public class CoalescingEventProcessor implements EventProcessor {
+
+    private static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    private final EventProcessor delegate;
+    private final OrderCommandFactory commandFactory;
+    private final OrderRepository orderRepository;
+    private final OrderEventPublisher orderEventPublisher;
+    private final Counter coalescedEvents;
+    private final Counter savedWrites;
+    private final Counter conflicts;
+
+    public CoalescingEventProcessor(EventProcessor delegate,
+                                    OrderCommandFactory commandFactory,
+                                    OrderRepository orderRepository,
+                                    OrderEventPublisher orderEventPublisher,
+                                    MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.commandFactory = commandFactory;
+        this.orderRepository = orderRepository;
+        this.orderEventPublisher = orderEventPublisher;
+        this.coalescedEvents = meterRegistry.counter("saga.events.coalesced");
+        this.savedWrites = meterRegistry.counter("saga.events.coalesced.saved-writes");
+        this.conflicts = meterRegistry.counter("saga.events.coalesced.conflicts");
+    }
+
+    @Override
+    public void processEvent(Event event) {
+        delegate.processEvent(event);
+    }
+
+    @Override
+    public void processEvent(EventView<?> eventView) {
+        delegate.processEvent(eventView);
+    }
+
+    @Override
+    public void processEvents(List<? extends EventView<?>> eventViews) {
+        for (List<EventView<?>> group : EventView.groupByOrder(eventViews).values()) {
+            if (group.size() == 1) {
+                delegate.processEvent(group.get(0));
+            } else {
+                processCoalesced(group);
+            }
+        }
+    }
+
+    private void processCoalesced(List<EventView<?>> group) {
+        UUID orderId = group.get(0).getOrderId();
+        for (int attempt = 1; attempt <= MAX_COMMIT_ATTEMPTS; attempt++) {
+            CoalescedOrderSession session = new CoalescedOrderSession(orderRepository, orderEventPublisher);
+            // 합류 도착처럼 저장 뒤에 해야 하는 기록은 저장에 성공했을 때만 실행
+            List<SagaCommit.Pending> afterCommit = SagaCommit.capture(() -> commandFactory.withScope(session, session, () -> {
+                group.forEach(delegate::processEvent);
+                return null;
+            }));
+            if (session.commit().isEmpty()) {
+                SagaCommit.runCommitted(afterCommit, Set.of());
+                int saved = session.getCoalescedWrites();
+                coalescedEvents.increment(group.size());
+                savedWrites.increment(saved);
+                log.debug("주문 이벤트 병합 처리: 주문={}, 이벤트 {}건, 생략된 저장 {}건", orderId, group.size(), saved);
+                return;
+            }
+            // 저장하지 않았고 이벤트도 발행하지 않았으므로 최신 상태에서 다시 처리
+            conflicts.increment();
+            log.debug("주문 이벤트 병합 저장 충돌: 주문={}, 시도 {}회", orderId, attempt);
+        }
+
+        log.warn("주문 이벤트 병합 저장이 계속 충돌하여 한 건씩 처리: 주문={}, 이벤트 {}건", orderId, group.size());
+        group.forEach(delegate::processEvent);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기의 Count-Min Sketch 입니다.
+ * 키 개수와 무관하게 depth * width 개의 카운터만 사용하며,
+ * 추정치는 실제 빈도 이상(과대 추정만 발생)입니다.
+ */
+public class CountMinSketch {
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    /**
+     * @param depth 해시 함수(행) 수
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     */
+    public CountMinSketch(int depth, int width) {
+        if (depth < 1 || width < 1) {
+            throw new IllegalArgumentException("depth, width 는 1 이상이어야 합니다");
+        }
+        int roundedWidth = Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = Math.max(roundedWidth, 1) - 1;
+        this.counters = new AtomicLongArray(depth * (mask + 1));
+    }
+
+    /**
+     * 키의 빈도를 1 증가시키고 증가 후 추정치를 반환합니다.
+     */
+    public long add(UUID key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.incrementAndGet(index(key, row)));
+        }
+        return min;
+    }
+
+    public long estimate(UUID key) {
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(key, row)));
+        }
+        return min;
+    }
+
+    public void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0L);
+        }
+    }
+
+    private int index(UUID key, int row) {
+        long hash = mix(key.getMostSignificantBits() + 0x9e3779b97f4a7c15L * (row + 1))
+                ^ mix(key.getLeastSignificantBits() - 0x632be59bd9b4e019L * (row + 1));
+        return row * (mask + 1) + (int) (mix(hash) & mask);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
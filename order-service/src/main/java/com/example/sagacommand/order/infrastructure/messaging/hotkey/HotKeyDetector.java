@@ -0,0 +1,144 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 주문 키별 이벤트 빈도를 Count-Min Sketch 로 추적하여 핫 키를 찾습니다.
+ * <p>
+ * 두 개의 스케치를 window 단위로 교대하며, 이전 window 의 추정치를 경과 비율만큼 더해
+ * 슬라이딩 window 빈도를 근사합니다. 임계치를 넘은 키만 핫 키 목록(heavy hitters)에 올라가므로
+ * 메모리 사용량은 스케치 크기 + maxTracked 로 제한됩니다.
+ * 핫 키는 마지막으로 임계치를 넘은 뒤 cooldown 이 지나면 목록에서 빠집니다.
+ */
+@Slf4j
+public class HotKeyDetector {
+
+    private final long threshold;
+    private final long windowNanos;
+    private final long cooldownNanos;
+    private final int maxTracked;
+
+    private volatile CountMinSketch current;
+    private volatile CountMinSketch previous;
+    private volatile long windowStartedAt;
+
+    private final Map<UUID, HotKey> hotKeys = new ConcurrentHashMap<>();
+
+    public HotKeyDetector(long threshold, Duration window, Duration cooldown, int maxTracked, int sketchDepth, int sketchWidth) {
+        this.threshold = threshold;
+        this.windowNanos = window.toNanos();
+        this.cooldownNanos = cooldown.toNanos();
+        this.maxTracked = maxTracked;
+        this.current = new CountMinSketch(sketchDepth, sketchWidth);
+        this.previous = new CountMinSketch(sketchDepth, sketchWidth);
+        this.windowStartedAt = System.nanoTime();
+    }
+
+    /**
+     * 키의 이벤트 1건을 기록하고, 현재 핫 키인지 반환합니다.
+     */
+    public boolean record(UUID key) {
+        long now = System.nanoTime();
+        rotateIfExpired(now);
+
+        long elapsed = now - windowStartedAt;
+        double previousWeight = Math.max(0.0, 1.0 - (double) elapsed / windowNanos);
+        long estimate = current.add(key) + (long) (previous.estimate(key) * previousWeight);
+
+        HotKey hotKey = hotKeys.get(key);
+        if (estimate >= threshold) {
+            if (hotKey == null) {
+                if (hotKeys.size() >= maxTracked) {
+                    return false;
+                }
+                hotKey = hotKeys.computeIfAbsent(key, k -> {
+                    log.warn("핫 키 감지: 주문={}, window 내 추정 이벤트 수={}", k, estimate);
+                    return new HotKey(k);
+                });
+            }
+            hotKey.lastHotAt = now;
+        }
+
+        if (hotKey == null) {
+            return false;
+        }
+        hotKey.estimate = estimate;
+        hotKey.events.incrementAndGet();
+        return now - hotKey.lastHotAt < cooldownNanos;
+    }
+
+    /**
+     * cooldown 이 지난 핫 키를 목록에서 제거합니다.
+     *
+     * @param stillBusy 아직 처리 중인 이벤트가 남아 있어 제거하면 안 되는 키인지 판별
+     */
+    public void expire(Predicate<UUID> stillBusy) {
+        long now = System.nanoTime();
+        hotKeys.values().removeIf(hotKey -> now - hotKey.lastHotAt >= cooldownNanos && !stillBusy.test(hotKey.key));
+    }
+
+    public List<HotKeySnapshot> snapshot() {
+        return hotKeys.values().stream()
+                .map(hotKey -> new HotKeySnapshot(hotKey.key, hotKey.estimate, hotKey.events.get()))
+                .sorted(Comparator.comparingLong(HotKeySnapshot::estimatedEventsInWindow).reversed())
+                .toList();
+    }
+
+    public long getThreshold() {
+        return threshold;
+    }
+
+    public Duration getWindow() {
+        return Duration.ofNanos(windowNanos);
+    }
+
+    private void rotateIfExpired(long now) {
+        if (now - windowStartedAt < windowNanos) {
+            return;
+        }
+        synchronized (this) {
+            if (now - windowStartedAt < windowNanos) {
+                return;
+            }
+            CountMinSketch expired = previous;
+            expired.clear();
+            if (now - windowStartedAt < 2 * windowNanos) {
+                previous = current;
+                current = expired;
+            } else {
+                // window 를 두 번 이상 건너뛰었다면 직전 window 값도 의미가 없음
+                current.clear();
+                previous = expired;
+            }
+            windowStartedAt = now;
+        }
+    }
+
+    private static final class HotKey {
+        private final UUID key;
+        private final AtomicLong events = new AtomicLong();
+        private volatile long estimate;
+        private volatile long lastHotAt;
+
+        private HotKey(UUID key) {
+            this.key = key;
+        }
+    }
+
+    /**
+     * @param orderId                 핫 키(주문 ID)
+     * @param estimatedEventsInWindow 슬라이딩 window 내 추정 이벤트 수
+     * @param eventsSinceDetected     핫 키로 감지된 이후 기록된 이벤트 수
+     */
+    public record HotKeySnapshot(UUID orderId, long estimatedEventsInWindow, long eventsSinceDetected) {
+    }
+}
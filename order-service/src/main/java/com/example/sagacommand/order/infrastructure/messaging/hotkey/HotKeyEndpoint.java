@@ -0,0 +1,39 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 현재 핫 키와 슬로 레인 상태를 조회하는 액추에이터 엔드포인트입니다. (GET /actuator/hotkeys)
+ */
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeyEndpoint {
+
+    private final HotKeyDetector detector;
+    private final SlowLane slowLane;
+
+    @ReadOperation
+    public HotKeyReport hotKeys() {
+        return new HotKeyReport(
+                detector.getThreshold(),
+                detector.getWindow(),
+                slowLane.getQueueSize(),
+                slowLane.getProcessedCount(),
+                detector.snapshot()
+        );
+    }
+
+    public record HotKeyReport(
+            long threshold,
+            Duration window,
+            int slowLaneQueueSize,
+            long slowLaneProcessed,
+            List<HotKeyDetector.HotKeySnapshot> hotKeys
+    ) {
+    }
+}
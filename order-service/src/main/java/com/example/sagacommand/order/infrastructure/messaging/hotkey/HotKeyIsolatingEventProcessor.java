@@ -0,0 +1,66 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import com.example.sagacommand.common.event.Event;
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.order.application.DeferredCompletions;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 핫 키(재시도 폭주, 재처리 등으로 이벤트가 몰리는 주문)의 이벤트를 슬로 레인으로 우회시키는 EventProcessor 입니다.
+ * 같은 파티션의 다른 주문 이벤트는 핫 키에 막히지 않고 리스너 스레드에서 바로 처리됩니다.
+ * 슬로 레인으로 보낸 작업은 DeferredCompletions 에 등록되어, 끝난 뒤에야 해당 레코드의 오프셋이 커밋됩니다.
+ */
+@RequiredArgsConstructor
+public class HotKeyIsolatingEventProcessor implements EventProcessor {
+
+    private final EventProcessor delegate;
+    private final HotKeyDetector detector;
+    private final SlowLane slowLane;
+
+    @Override
+    public void processEvent(Event event) {
+        delegate.processEvent(event);
+    }
+
+    @Override
+    public void processEvent(EventView<?> eventView) {
+        UUID key = eventView.getOrderId();
+        boolean hot = detector.record(key);
+
+        // 핫 키가 풀렸더라도 슬로 레인에 남은 이벤트가 있으면 순서 보장을 위해 계속 슬로 레인으로 보냄
+        if (hot || slowLane.hasPending(key)) {
+            DeferredCompletions.register(key, slowLane.submit(key, () -> delegate.processEvent(eventView)));
+            return;
+        }
+        delegate.processEvent(eventView);
+    }
+
+    /**
+     * 배치는 주문별로 묶어서 그룹 단위로 레인을 정합니다. 같은 주문의 이벤트는 한 레인에서 순서대로 처리됩니다.
+     */
+    @Override
+    public void processEvents(List<? extends EventView<?>> eventViews) {
+        EventView.groupByOrder(eventViews).forEach((key, group) -> {
+            boolean hot = false;
+            for (int i = 0; i < group.size(); i++) {
+                hot |= detector.record(key);
+            }
+            if (hot || slowLane.hasPending(key)) {
+                DeferredCompletions.register(key, slowLane.submit(key, () -> delegate.processEvents(group)));
+                return;
+            }
+            delegate.processEvents(group);
+        });
+    }
+
+    // cooldown 이 지났고 슬로 레인에 남은 이벤트도 없는 키를 핫 키 목록에서 제거
+    @Scheduled(fixedDelayString = "${app.saga.hot-key.cooldown:30s}")
+    public void expireHotKeys() {
+        detector.expire(slowLane::hasPending);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 핫 키 이벤트를 격리하여 처리하는 단일 스레드 실행기입니다.
+ * 단일 스레드이므로 같은 키의 이벤트는 들어온 순서대로 처리됩니다.
+ * 큐가 가득 차면 제출한 리스너 스레드를 대기시켜(backpressure) 순서를 깨지 않습니다.
+ */
+@Slf4j
+public class SlowLane implements AutoCloseable {
+
+    private final ThreadPoolExecutor executor;
+    private final Map<UUID, AtomicInteger> pendingByKey = new ConcurrentHashMap<>();
+    private final AtomicLong processed = new AtomicLong();
+
+    public SlowLane(int capacity) {
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(capacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "saga-slow-lane");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                (runnable, pool) -> {
+                    try {
+                        pool.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("슬로 레인 제출 중 인터럽트", e);
+                    }
+                });
+    }
+
+    /**
+     * 작업을 제출하고, 작업이 끝나면(실패 포함) 완료되는 future 를 반환합니다.
+     */
+    public CompletableFuture<Void> submit(UUID key, Runnable task) {
+        pendingByKey.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+        CompletableFuture<Void> completion = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("슬로 레인 이벤트 처리 실패: 주문={}, 이유: {}", key, e.getMessage(), e);
+            } finally {
+                processed.incrementAndGet();
+                pendingByKey.computeIfPresent(key, (k, pending) -> pending.decrementAndGet() == 0 ? null : pending);
+                completion.complete(null);
+            }
+        });
+        return completion;
+    }
+
+    /**
+     * 키의 이벤트가 아직 슬로 레인에 남아 있는지 확인합니다.
+     * 남아 있는 동안은 같은 키의 새 이벤트도 슬로 레인으로 보내야 순서가 유지됩니다.
+     */
+    public boolean hasPending(UUID key) {
+        return pendingByKey.containsKey(key);
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long getProcessedCount() {
+        return processed.get();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("슬로 레인 종료 대기 시간 초과, 남은 이벤트 {}건", executor.getQueue().size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 미리 할당한 슬롯 배열을 재사용하는 고정 크기 링 버퍼입니다. (소비자 1, 생산자 1 또는 여러 개)
+ * <ul>
+ *     <li>생산자: 빈 슬롯이 있으면 시퀀스를 하나 확보(MULTI 는 CAS, SINGLE 은 단순 증가)하고, 슬롯에 값을 쓴 뒤
+ *     슬롯의 sequence 를 volatile 로 기록해 게시합니다. 락을 잡지 않습니다.</li>
+ *     <li>소비자: 다음 시퀀스부터 게시된 연속 구간을 최대 maxBatch 개까지 한 번에 꺼내고, 바로 released 를 올려
+ *     생산자가 슬롯을 다시 쓸 수 있게 합니다.</li>
+ * </ul>
+ * 버퍼가 가득 차면 생산자는 소비자가 따라올 때까지 기다리며(backpressure), publishTimeout 이 지나면 예외를 던집니다.
+ */
+final class EventRingBuffer {
+
+    private static final class Slot {
+        volatile long sequence = -1L;
+        String key;
+        Object value;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    private final ProducerType producerType;
+    private final long publishTimeoutNanos;
+
+    private final AtomicLong claimed = new AtomicLong();
+    private long singleClaimed;
+    // 이 값보다 작은 시퀀스는 모두 소비됨 (생산자는 sequence - capacity < released 일 때만 슬롯을 덮어씀)
+    private final AtomicLong released = new AtomicLong();
+
+    EventRingBuffer(int capacity, ProducerType producerType, Duration publishTimeout) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+        }
+        this.mask = capacity - 1;
+        this.producerType = producerType;
+        this.publishTimeoutNanos = publishTimeout.toNanos();
+    }
+
+    void publish(String key, Object value) {
+        long sequence = claim();
+        Slot slot = slots[(int) sequence & mask];
+        slot.key = key;
+        slot.value = value;
+        slot.sequence = sequence;
+    }
+
+    // 빈 슬롯이 있을 때만 시퀀스를 확보하므로, 시간 초과로 포기해도 게시되지 않은 채 남는 시퀀스가 없음
+    private long claim() {
+        long deadline = 0L;
+        int spins = 0;
+        while (true) {
+            long sequence = producerType == ProducerType.MULTI ? claimed.get() : singleClaimed;
+            if (sequence - slots.length < released.get()) {
+                if (producerType == ProducerType.SINGLE) {
+                    singleClaimed = sequence + 1;
+                    return sequence;
+                }
+                if (claimed.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+                continue;
+            }
+
+            if (deadline == 0L) {
+                deadline = System.nanoTime() + publishTimeoutNanos;
+            } else if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("인프로세스 이벤트 버스가 가득 찼습니다 (capacity=" + slots.length + ")");
+            }
+            if (++spins < 100) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(1_000L);
+            }
+        }
+    }
+
+    /**
+     * 소비자 스레드 전용: 게시된 레코드를 순서대로 최대 maxBatch 개까지 sink 에 담고 슬롯을 반환합니다.
+     *
+     * @return 꺼낸 레코드 수
+     */
+    int drain(int maxBatch, List<InProcessEventBus.KeyedEvent> sink) {
+        long next = released.get();
+        int count = 0;
+        while (count < maxBatch) {
+            Slot slot = slots[(int) (next + count) & mask];
+            if (slot.sequence != next + count) {
+                break;
+            }
+            sink.add(new InProcessEventBus.KeyedEvent(slot.key, slot.value));
+            slot.key = null;
+            slot.value = null;
+            count++;
+        }
+        if (count > 0) {
+            released.set(next + count);
+        }
+        return count;
+    }
+
+    // 소비자 스레드 전용: 다음 시퀀스가 게시되었는지 확인 (slot.sequence 를 읽으므로 SINGLE 생산자여도 정확함)
+    boolean hasPublished() {
+        long next = released.get();
+        return slots[(int) next & mask].sequence == next;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    // 게시되었지만 아직 소비되지 않은 레코드 수 (근사값)
+    long size() {
+        long produced = producerType == ProducerType.MULTI ? claimed.get() : singleClaimed;
+        return Math.max(0L, produced - released.get());
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서 Kafka 대신 사용하는 이벤트 버스입니다.
+ * <p>
+ * 토픽마다 파티션 수만큼 {@link EventRingBuffer} 와 소비자 스레드를 둡니다.
+ * 파티션은 Kafka 기본 파티셔너와 같은 murmur2(key) 로 정하므로, 같은 키의 이벤트는 항상 같은 파티션에서
+ * 발행 순서대로 처리되고 서로 다른 토픽 사이의 순서는 보장하지 않습니다 (Kafka 와 같음).
+ * 소비자는 게시된 레코드를 배치로 꺼내 구독자에게 넘깁니다.
+ * <p>
+ * 슬롯은 꺼내는 즉시 반환되므로, 구독자가 실패한 배치는 소비자 스레드에서 deliveryAttempts 번까지 간격을 늘려가며
+ * 다시 전달하고(그동안 같은 파티션의 다음 배치는 기다림), 그래도 실패하면 보류 목록에 넣어 {@link #redeliverParked()} 로
+ * 다시 전달할 수 있게 합니다. 보류 목록이 maxParkedBatches 를 넘으면 가장 오래된 배치부터 버리고 dropped 로 셉니다.
+ * <p>
+ * 한가한 소비자는 스핀과 양보 뒤 idlePark 부터 maxIdlePark 까지 두 배씩 늘려가며 쉬고, 발행자는 쉬고 있는 소비자를 깨웁니다.
+ * <p>
+ * 구독자가 없는 토픽으로 발행한 이벤트는 버려집니다.
+ */
+@Slf4j
+public class InProcessEventBus implements AutoCloseable {
+
+    private final int partitions;
+    private final int capacity;
+    private final int maxBatch;
+    private final ProducerType producerType;
+    private final Duration publishTimeout;
+    private final long idleParkNanos;
+    private final long maxIdleParkNanos;
+    private final int deliveryAttempts;
+    private final long retryBackoffNanos;
+    private final int maxParkedBatches;
+
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final Deque<ParkedBatch> parked = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger parkedCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private volatile boolean running = true;
+
+    public InProcessEventBus(int partitions,
+                             int capacity,
+                             int maxBatch,
+                             ProducerType producerType,
+                             Duration publishTimeout,
+                             Duration idlePark,
+                             Duration maxIdlePark,
+                             int deliveryAttempts,
+                             Duration retryBackoff,
+                             int maxParkedBatches) {
+        if (deliveryAttempts < 1) {
+            throw new IllegalArgumentException("deliveryAttempts 는 1 이상이어야 합니다: " + deliveryAttempts);
+        }
+        this.partitions = partitions;
+        this.capacity = capacity;
+        this.maxBatch = maxBatch;
+        this.producerType = producerType;
+        this.publishTimeout = publishTimeout;
+        this.idleParkNanos = Math.max(1L, idlePark.toNanos());
+        this.maxIdleParkNanos = Math.max(this.idleParkNanos, maxIdlePark.toNanos());
+        this.deliveryAttempts = deliveryAttempts;
+        this.retryBackoffNanos = retryBackoff.toNanos();
+        this.maxParkedBatches = maxParkedBatches;
+    }
+
+    /**
+     * 토픽을 구독합니다. 구독자는 해당 토픽 소비자 스레드에서 배치 단위로 호출되며, 같은 키의 이벤트는 발행 순서대로 전달됩니다.
+     */
+    public void subscribe(String topic, Consumer<List<KeyedEvent>> subscriber) {
+        topics.computeIfAbsent(topic, Topic::new).subscribers.add(subscriber);
+    }
+
+    public void publish(String topic, String key, Object value) {
+        Topic target = topics.get(topic);
+        if (target == null) {
+            dropped.incrementAndGet();
+            log.debug("구독자가 없는 토픽, 이벤트 버림: topic={}, key={}", topic, key);
+            return;
+        }
+        int partition = partitionOf(key);
+        target.rings[partition].publish(key, value);
+        // 게시(volatile 쓰기) 뒤에 확인하므로, 소비자가 잠들기 직전에 다시 본 링에서 놓친 이벤트는 여기서 깨워 처리됨
+        if (target.sleeping.get(partition) == 1) {
+            LockSupport.unpark(target.consumers.get(partition));
+        }
+    }
+
+    // 키가 없으면 파티션을 돌아가며 사용
+    private int partitionOf(String key) {
+        if (key == null) {
+            return Math.floorMod(roundRobin.getAndIncrement(), partitions);
+        }
+        return Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    public long getPendingCount() {
+        long pending = 0;
+        for (Topic topic : topics.values()) {
+            for (EventRingBuffer ring : topic.rings) {
+                pending += ring.size();
+            }
+        }
+        return pending;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    // 재시도까지 모두 실패해 보류된 배치 수 (누적)
+    public long getFailedBatchCount() {
+        return failed.get();
+    }
+
+    public int getParkedBatchCount() {
+        return parkedCount.get();
+    }
+
+    /**
+     * 보류된 배치를 보류된 순서대로 해당 구독자에게 한 번씩 다시 전달합니다.
+     * 다시 실패한 배치는 보류 목록 끝으로 돌아갑니다.
+     *
+     * @return 다시 전달에 성공한 배치 수
+     */
+    public int redeliverParked() {
+        int redelivered = 0;
+        for (int remaining = parkedCount.get(); remaining > 0; remaining--) {
+            ParkedBatch entry = parked.pollFirst();
+            if (entry == null) {
+                break;
+            }
+            parkedCount.decrementAndGet();
+            try {
+                entry.subscriber().accept(entry.batch());
+                redelivered++;
+            } catch (Exception e) {
+                log.warn("보류된 배치 재전달 실패: topic={}, {}건", entry.topic(), entry.batch().size(), e);
+                park(entry);
+            }
+        }
+        return redelivered;
+    }
+
+    private void park(ParkedBatch entry) {
+        parked.addLast(entry);
+        if (parkedCount.incrementAndGet() > maxParkedBatches) {
+            ParkedBatch evicted = parked.pollFirst();
+            if (evicted != null) {
+                parkedCount.decrementAndGet();
+                dropped.addAndGet(evicted.batch().size());
+                log.error("보류 목록이 가득 차 가장 오래된 배치를 버림: topic={}, {}건", evicted.topic(), evicted.batch().size());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        for (Topic topic : topics.values()) {
+            for (Thread thread : topic.consumers) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    public record KeyedEvent(String key, Object value) {
+    }
+
+    private record ParkedBatch(String topic, Consumer<List<KeyedEvent>> subscriber, List<KeyedEvent> batch) {
+    }
+
+    private final class Topic {
+        final String name;
+        final EventRingBuffer[] rings = new EventRingBuffer[partitions];
+        final List<Thread> consumers = new ArrayList<>(partitions);
+        final List<Consumer<List<KeyedEvent>>> subscribers = new CopyOnWriteArrayList<>();
+        // 파티션별 소비자가 park 중이면 1
+        final AtomicIntegerArray sleeping = new AtomicIntegerArray(partitions);
+
+        Topic(String name) {
+            this.name = name;
+            for (int partition = 0; partition < partitions; partition++) {
+                EventRingBuffer ring = new EventRingBuffer(capacity, producerType, publishTimeout);
+                rings[partition] = ring;
+                int index = partition;
+                Thread thread = new Thread(() -> consume(ring, index), "in-process-bus-" + name + "-" + partition);
+                thread.setDaemon(true);
+                consumers.add(thread);
+                thread.start();
+            }
+        }
+
+        // 바쁠 때는 스핀으로 마이크로초 단위 전달, 한가하면 양보 후 park 시간을 두 배씩 늘림 (발행 시 깨어남)
+        private void consume(EventRingBuffer ring, int partition) {
+            List<KeyedEvent> drained = new ArrayList<>(maxBatch);
+            int idle = 0;
+            long parkNanos = idleParkNanos;
+            while (running) {
+                if (ring.drain(maxBatch, drained) == 0) {
+                    if (++idle < 100) {
+                        Thread.onSpinWait();
+                    } else if (idle < 200) {
+                        Thread.yield();
+                    } else {
+                        sleeping.set(partition, 1);
+                        // 표시 후 한 번 더 확인해야 표시 직전에 게시된 이벤트를 놓치지 않음
+                        if (!ring.hasPublished() && running) {
+                            LockSupport.parkNanos(parkNanos);
+                        }
+                        sleeping.set(partition, 0);
+                        parkNanos = Math.min(parkNanos << 1, maxIdleParkNanos);
+                    }
+                    continue;
+                }
+                idle = 0;
+                parkNanos = idleParkNanos;
+                // 구독자가 배치를 보관할 수 있으므로 복사해서 전달
+                List<KeyedEvent> batch = List.copyOf(drained);
+                drained.clear();
+                deliver(batch);
+            }
+        }
+
+        private void deliver(List<KeyedEvent> batch) {
+            for (Consumer<List<KeyedEvent>> subscriber : subscribers) {
+                deliver(subscriber, batch);
+            }
+        }
+
+        // 실패한 구독자에게만 다시 전달하고, 끝내 실패하면 보류 목록에 넣음
+        private void deliver(Consumer<List<KeyedEvent>> subscriber, List<KeyedEvent> batch) {
+            long backoffNanos = retryBackoffNanos;
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    subscriber.accept(batch);
+                    return;
+                } catch (Exception e) {
+                    if (attempt >= deliveryAttempts || !running) {
+                        failed.incrementAndGet();
+                        log.error("인프로세스 버스 구독자 처리 실패, 배치 보류: topic={}, {}건, 시도={}", name, batch.size(), attempt, e);
+                        park(new ParkedBatch(name, subscriber, batch));
+                        return;
+                    }
+                    log.warn("인프로세스 버스 구독자 처리 실패, 재시도: topic={}, {}건, 시도={}", name, batch.size(), attempt, e);
+                    LockSupport.parkNanos(backoffNanos);
+                    backoffNanos <<= 1;
+                }
+            }
+        }
+    }
+}
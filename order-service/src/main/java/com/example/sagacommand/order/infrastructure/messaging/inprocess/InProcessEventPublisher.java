@@ -0,0 +1,18 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * order-events 를 Kafka 대신 인프로세스 버스로 발행합니다. 키(주문 ID)와 파티션 규칙은 Kafka 발행과 같습니다.
+ */
+@RequiredArgsConstructor
+public class InProcessEventPublisher implements OrderEventPublisher {
+    private static final String ORDER_EVENT_TOPIC = "order-events";
+    private final InProcessEventBus bus;
+
+    @Override
+    public void publishEvent(String key, Object event) {
+        bus.publish(ORDER_EVENT_TOPIC, key, event);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인프로세스 버스의 Saga 이벤트 배치를 OrderService 리스너와 같은 방식으로 처리합니다.
+ * 핸들러가 없는 타입은 건너뛰고(역직렬화기의 필터와 동일), 나머지는 EventView 로 감싸 배치로 넘깁니다.
+ * 이벤트 객체를 그대로 전달하므로 직렬화/역직렬화가 없고, 주문 ID 는 레코드 키에서 얻습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InProcessSagaConsumer {
+
+    private final EventProcessor eventProcessor;
+    private final EventHandlerRegistry handlerRegistry;
+
+    public void onBatch(List<InProcessEventBus.KeyedEvent> batch) {
+        List<EventView<?>> events = new ArrayList<>(batch.size());
+        for (InProcessEventBus.KeyedEvent record : batch) {
+            Object event = record.value();
+            if (event == null || record.key() == null || !handlerRegistry.hasHandler(event.getClass())) {
+                log.debug("처리할 핸들러가 없는 이벤트, 건너뜀: {}", event);
+                continue;
+            }
+            events.add(view(UUID.fromString(record.key()), event));
+        }
+        if (!events.isEmpty()) {
+            log.info("이벤트 수신(인프로세스): {}건", events.size());
+            eventProcessor.processEvents(events);
+        }
+    }
+
+    private static <T> EventView<T> view(UUID orderId, T event) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) event.getClass();
+        return new InProcessEventView<>(type, orderId, event);
+    }
+
+    private record InProcessEventView<T>(Class<T> type, UUID orderId, T event) implements EventView<T> {
+        @Override
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        public UUID getOrderId() {
+            return orderId;
+        }
+
+        @Override
+        public T get() {
+            return event;
+        }
+    }
+}
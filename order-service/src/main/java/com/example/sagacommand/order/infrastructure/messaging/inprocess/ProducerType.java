@@ -0,0 +1,11 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+/**
+ * 링 버퍼에 발행하는 스레드 구성
+ */
+public enum ProducerType {
+    // publish 를 한 스레드에서만 호출하는 경우 (시퀀스 확보에 CAS 를 쓰지 않음)
+    SINGLE,
+    // 여러 스레드가 동시에 publish 하는 경우
+    MULTI
+}
@@ -0,0 +1,41 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import com.example.sagacommand.common.event.EventView;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.listener.BatchAcknowledgingConsumerAwareMessageListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레인 컨테이너의 배치 리스너입니다. 운영 리스너와 같은 처리 경로(handler)로 넘기고,
+ * 레코드가 발행된 시각부터 처리가 끝날 때까지의 지연 시간을 레인별로 기록합니다.
+ */
+class LaneListener implements BatchAcknowledgingConsumerAwareMessageListener<Object, Object> {
+
+    private final SagaBatchHandler handler;
+    private final Timer latency;
+    private final Clock clock;
+
+    LaneListener(SagaBatchHandler handler, Timer latency, Clock clock) {
+        this.handler = handler;
+        this.latency = latency;
+        this.clock = clock;
+    }
+
+    // 필터를 통과한 레코드의 값은 모두 EventView, 키는 문자열(StringDeserializer)
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onMessage(List<ConsumerRecord<Object, Object>> records, Acknowledgment acknowledgment, Consumer<?, ?> consumer) {
+        handler.handle((List<ConsumerRecord<String, EventView<?>>>) (List<?>) records, acknowledgment, consumer);
+
+        long now = clock.millis();
+        for (ConsumerRecord<Object, Object> record : records) {
+            latency.record(Math.max(0L, now - record.timestamp()), TimeUnit.MILLISECONDS);
+        }
+    }
+}
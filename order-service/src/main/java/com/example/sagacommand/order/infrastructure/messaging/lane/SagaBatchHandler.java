@@ -0,0 +1,16 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import com.example.sagacommand.common.event.EventView;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+/**
+ * 레인이 필터링한 이벤트 배치를 넘길 처리 경로입니다 (운영 리스너와 동일한 OrderService#handlePaymentEvents).
+ */
+@FunctionalInterface
+public interface SagaBatchHandler {
+    void handle(List<ConsumerRecord<String, EventView<?>>> records, Acknowledgment acknowledgment, Consumer<?, ?> consumer);
+}
@@ -0,0 +1,73 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 하나의 우선순위 레인: 전용 컨슈머 그룹의 리스너 컨테이너와 레인별 지연 시간 지표를 묶습니다.
+ */
+public class SagaLane {
+
+    private static final String RECORDS_LAG = "records-lag";
+
+    private final String name;
+    private final String groupId;
+    private final Set<String> eventTypes;
+    private final MessageListenerContainer container;
+    private final Timer latency;
+
+    SagaLane(String name, String groupId, Set<String> eventTypes, MessageListenerContainer container, Timer latency) {
+        this.name = name;
+        this.groupId = groupId;
+        this.eventTypes = eventTypes;
+        this.container = container;
+        this.latency = latency;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    public Set<String> getEventTypes() {
+        return eventTypes;
+    }
+
+    MessageListenerContainer getContainer() {
+        return container;
+    }
+
+    public Timer getLatency() {
+        return latency;
+    }
+
+    /**
+     * 레인이 아직 가져오지 않은 레코드 수 (파티션별 컨슈머 lag 합계).
+     * 다른 레인의 이벤트도 같은 토픽에 섞여 있으므로 실제 처리 대상보다 크게 잡힐 수 있습니다.
+     */
+    public long getQueueDepth() {
+        long depth = 0;
+        for (Map<MetricName, ? extends Metric> clientMetrics : container.metrics().values()) {
+            for (Map.Entry<MetricName, ? extends Metric> entry : clientMetrics.entrySet()) {
+                MetricName metricName = entry.getKey();
+                if (RECORDS_LAG.equals(metricName.name()) && metricName.tags().containsKey("partition")
+                        && entry.getValue().metricValue() instanceof Number lag && !Double.isNaN(lag.doubleValue())) {
+                    depth += lag.longValue();
+                }
+            }
+        }
+        return depth;
+    }
+
+    public boolean isRunning() {
+        return container.isRunning();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 레인별 대기 레코드 수와 처리 지연 시간을 조회하는 액추에이터 엔드포인트입니다. (GET /actuator/sagalanes)
+ */
+@Endpoint(id = "sagalanes")
+@RequiredArgsConstructor
+public class SagaLaneEndpoint {
+
+    private final SagaLanes sagaLanes;
+
+    @ReadOperation
+    public List<LaneReport> lanes() {
+        return sagaLanes.getLanes().stream()
+                .map(lane -> {
+                    Timer latency = lane.getLatency();
+                    return new LaneReport(
+                            lane.getName(),
+                            lane.getEventTypes(),
+                            lane.isRunning(),
+                            lane.getQueueDepth(),
+                            latency.count(),
+                            latency.mean(TimeUnit.MILLISECONDS),
+                            latency.max(TimeUnit.MILLISECONDS)
+                    );
+                })
+                .toList();
+    }
+
+    public record LaneReport(
+            String lane,
+            Set<String> eventTypes,
+            boolean running,
+            long queueDepth,
+            long processed,
+            double meanLatencyMillis,
+            double maxLatencyMillis
+    ) {
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import com.example.sagacommand.order.infrastructure.config.SagaLaneProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 타입(클래스 이름)을 레인 이름으로 매핑합니다. 지정되지 않은 타입은 기본 레인으로 갑니다.
+ */
+public class SagaLaneRouter {
+
+    private final Map<String, String> laneByType;
+    private final String defaultLane;
+
+    SagaLaneRouter(Map<String, String> laneByType, String defaultLane) {
+        this.laneByType = Map.copyOf(laneByType);
+        this.defaultLane = defaultLane;
+    }
+
+    public static SagaLaneRouter from(SagaLaneProperties properties) {
+        if (!properties.getDefinitions().containsKey(properties.getDefaultLane())) {
+            throw new IllegalStateException("기본 레인이 정의되어 있지 않습니다: " + properties.getDefaultLane());
+        }
+        Map<String, String> laneByType = new HashMap<>();
+        properties.getDefinitions().forEach((lane, definition) -> {
+            for (String eventType : definition.getEventTypes()) {
+                String previous = laneByType.put(eventType, lane);
+                if (previous != null && !previous.equals(lane)) {
+                    throw new IllegalStateException(
+                            "이벤트 타입이 여러 레인에 지정되었습니다: " + eventType + " (" + previous + ", " + lane + ")");
+                }
+            }
+        });
+        return new SagaLaneRouter(laneByType, properties.getDefaultLane());
+    }
+
+    public String laneOf(Class<?> eventType) {
+        return laneByType.getOrDefault(eventType.getSimpleName(), defaultLane);
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.order.infrastructure.config.SagaLaneProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.adapter.FilteringBatchMessageListenerAdapter;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Saga 이벤트 우선순위 레인들의 생명주기를 관리합니다.
+ * <p>
+ * 레인마다 전용 컨슈머 그룹({기본 그룹}-lane-{레인})의 리스너 컨테이너를 두고, 각 레인은 같은 토픽을 읽되
+ * 자기 레인의 이벤트 타입만 처리합니다 (나머지는 필터에서 버림).
+ * 레인마다 컨슈머, 스레드, 오프셋 진행이 따로이므로 PaymentCompletedEvent 가 몰려도
+ * 보상 이벤트(PaymentFailedEvent 등)는 뒤에 밀리지 않습니다.
+ * <p>
+ * 같은 주문의 이벤트라도 레인이 다르면 처리 순서가 보장되지 않습니다.
+ * 상태 전이는 전이 표에 따른 조건부 변경이므로, 취소된 주문에 늦게 도착한 성공 이벤트는 아무것도 바꾸지 않습니다.
+ * <p>
+ * 레인 그룹에 커밋된 오프셋이 없으면 시작 전에 기존 단일 리스너 그룹의 오프셋을 복사하여 처음부터 다시 읽지 않게 합니다.
+ * 기동 워밍업(app.warmup)을 켜면 자동으로 시작하지 않고 워밍업이 끝난 뒤 {@link #start()} 로 시작합니다.
+ */
+@Slf4j
+public class SagaLanes implements SmartLifecycle {
+
+    private static final long ADMIN_TIMEOUT_SECONDS = 10;
+
+    private final List<SagaLane> lanes;
+    private final String baseGroupId;
+    private final Map<String, Object> adminConfig;
+    private final boolean autoStartup;
+    private volatile boolean running;
+
+    SagaLanes(List<SagaLane> lanes, String baseGroupId, Map<String, Object> adminConfig, boolean autoStartup) {
+        this.lanes = List.copyOf(lanes);
+        this.baseGroupId = baseGroupId;
+        this.adminConfig = adminConfig;
+        this.autoStartup = autoStartup;
+    }
+
+    /**
+     * 설정된 레인마다 리스너 컨테이너를 만듭니다. 컨테이너는 운영 리스너와 같은 팩토리 설정(ack 모드, 트랜잭션, 관측)을 사용합니다.
+     *
+     * @param handler      레인 이벤트 배치를 처리할 경로 (운영 리스너와 동일)
+     * @param ackDiscarded 모두 버려진 배치를 Acknowledgment 로 확정할지 여부
+     *                     (오프셋 완료 추적 중에는 처리 중인 앞선 레코드를 건너뛰지 않도록 false이며,
+     *                     버려진 레코드의 오프셋은 추적기가 컨슈머 위치로 커밋)
+     * @param autoStartup  false 이면 컨텍스트 기동 시 시작하지 않음 (워밍업이 끝난 뒤 시작)
+     */
+    public static SagaLanes create(ConcurrentKafkaListenerContainerFactory<Object, Object> containerFactory,
+                                   SagaLaneProperties properties,
+                                   String baseGroupId,
+                                   Map<String, Object> adminConfig,
+                                   SagaBatchHandler handler,
+                                   boolean ackDiscarded,
+                                   boolean autoStartup,
+                                   MeterRegistry meterRegistry) {
+        SagaLaneRouter router = SagaLaneRouter.from(properties);
+        String[] topics = properties.getTopics().toArray(String[]::new);
+
+        List<SagaLane> lanes = new ArrayList<>();
+        properties.getDefinitions().forEach((name, definition) -> {
+            String groupId = baseGroupId + "-lane-" + name;
+            ConcurrentMessageListenerContainer<Object, Object> container = containerFactory.createContainer(topics);
+            container.setBeanName("saga-lane-" + name);
+            container.setAutoStartup(false);
+            container.setConcurrency(definition.getConcurrency());
+
+            ContainerProperties containerProperties = container.getContainerProperties();
+            containerProperties.setGroupId(groupId);
+            containerProperties.setClientId(groupId);
+            Properties consumerProperties = new Properties();
+            consumerProperties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, definition.getMaxPollRecords());
+            containerProperties.setKafkaConsumerProperties(consumerProperties);
+
+            Timer latency = Timer.builder("saga.lane.latency")
+                    .description("이벤트 발행 시각부터 레인에서 처리가 끝날 때까지")
+                    .tag("lane", name)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            // 핸들러가 없는 이벤트(null)와 다른 레인의 이벤트는 버림
+            container.setupMessageListener(new FilteringBatchMessageListenerAdapter<Object, Object>(
+                    new LaneListener(handler, latency, Clock.systemUTC()),
+                    record -> !(record.value() instanceof EventView<?> view && name.equals(router.laneOf(view.getType()))),
+                    ackDiscarded));
+
+            SagaLane lane = new SagaLane(name, groupId, new LinkedHashSet<>(definition.getEventTypes()), container, latency);
+            Gauge.builder("saga.lane.queue.depth", lane, SagaLane::getQueueDepth)
+                    .description("레인 컨슈머가 아직 가져오지 않은 레코드 수")
+                    .tag("lane", name)
+                    .register(meterRegistry);
+            lanes.add(lane);
+            log.info("Saga 레인 구성: lane={}, group={}, eventTypes={}, concurrency={}",
+                    name, groupId, definition.getEventTypes(), definition.getConcurrency());
+        });
+        return new SagaLanes(lanes, baseGroupId, adminConfig, autoStartup);
+    }
+
+    public List<SagaLane> getLanes() {
+        return lanes;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public void start() {
+        if (running) {
+            return;
+        }
+        seedOffsetsFromBaseGroup();
+        lanes.forEach(lane -> lane.getContainer().start());
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        lanes.forEach(lane -> lane.getContainer().stop());
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 리스너 컨테이너와 같은 단계에서 시작/종료
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+
+    private void seedOffsetsFromBaseGroup() {
+        try (Admin admin = Admin.create(adminConfig)) {
+            Map<TopicPartition, OffsetAndMetadata> baseOffsets = admin.listConsumerGroupOffsets(baseGroupId)
+                    .partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            if (baseOffsets.isEmpty()) {
+                return;
+            }
+            for (SagaLane lane : lanes) {
+                Map<TopicPartition, OffsetAndMetadata> laneOffsets = admin.listConsumerGroupOffsets(lane.getGroupId())
+                        .partitionsToOffsetAndMetadata().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                if (laneOffsets.isEmpty()) {
+                    admin.alterConsumerGroupOffsets(lane.getGroupId(), new HashMap<>(baseOffsets))
+                            .all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    log.info("레인 그룹 오프셋을 기존 그룹에서 복사: {} <- {} ({}개 파티션)",
+                            lane.getGroupId(), baseGroupId, baseOffsets.size());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("레인 오프셋 초기화 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            // 복사하지 못하면 auto-offset-reset 설정에 따라 시작
+            log.warn("레인 오프셋 초기화 실패: {}", e.getMessage(), e);
+        }
+    }
+}
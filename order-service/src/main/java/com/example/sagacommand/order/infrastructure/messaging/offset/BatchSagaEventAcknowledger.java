@@ -0,0 +1,93 @@
+package com.example.sagacommand.order.infrastructure.messaging.offset;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.application.SagaEventAcknowledger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 배치를 컨테이너의 Acknowledgment 로 확정합니다.
+ * exactly-once 프로필처럼 오프셋이 컨테이너의 Kafka 트랜잭션과 함께 커밋되어야 할 때 사용합니다.
+ * <p>
+ * 컨테이너는 리스너가 반환될 때 트랜잭션을 커밋하므로, 비동기 작업과 DB 반영을 모두 리스너 스레드에서 기다린 뒤 확정합니다.
+ * 비동기 작업이 실패했거나 completionTimeout 안에 끝나지 않은 레코드가 있으면 그 앞까지의 연속 구간만 확정하고
+ * 나머지는 다시 전달받습니다 ({@link Acknowledgment#nack(int, Duration)}).
+ */
+@Slf4j
+public class BatchSagaEventAcknowledger implements SagaEventAcknowledger {
+
+    private final OrderDurability orderDurability;
+    private final long completionTimeoutNanos;
+
+    public BatchSagaEventAcknowledger(OrderDurability orderDurability, Duration completionTimeout) {
+        this.orderDurability = orderDurability;
+        this.completionTimeoutNanos = completionTimeout.toNanos();
+    }
+
+    @Override
+    public void processed(List<ConsumerRecord<String, EventView<?>>> records,
+                          Map<UUID, CompletableFuture<Void>> deferred,
+                          Acknowledgment acknowledgment,
+                          Consumer<?, ?> consumer) {
+        long deadline = System.nanoTime() + completionTimeoutNanos;
+        int incomplete = firstIncomplete(records, deferred, deadline);
+        awaitDurable(deadline);
+        if (incomplete < 0) {
+            acknowledgment.acknowledge();
+            return;
+        }
+        log.warn("비동기 처리가 끝나지 않은 레코드부터 다시 전달받음: {} (확정 {}건)", records.get(incomplete), incomplete);
+        acknowledgment.nack(incomplete, Duration.ZERO);
+    }
+
+    // 비동기 작업이 실패했거나 기한 안에 끝나지 않은 주문의 첫 레코드 위치 (없으면 -1)
+    private static int firstIncomplete(List<ConsumerRecord<String, EventView<?>>> records,
+                                       Map<UUID, CompletableFuture<Void>> deferred,
+                                       long deadline) {
+        for (int index = 0; index < records.size(); index++) {
+            CompletableFuture<Void> completion = deferred.get(records.get(index).value().getOrderId());
+            if (completion != null && !await(completion, deadline)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean await(CompletableFuture<Void> completion, long deadline) {
+        try {
+            completion.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비동기 처리 대기 중 인터럽트", e);
+        }
+    }
+
+    // 확정할 변경이 DB 에 반영될 때까지 대기. 반영되지 않으면 예외로 배치 전체를 다시 전달받음
+    private void awaitDurable(long deadline) {
+        CompletableFuture<Void> durable = new CompletableFuture<>();
+        orderDurability.whenDurable(() -> durable.complete(null));
+        try {
+            durable.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            throw new IllegalStateException("주문 변경이 기한 안에 DB 에 반영되지 않아 오프셋을 확정하지 않음", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("DB 반영 대기 중 인터럽트", e);
+        }
+    }
+}
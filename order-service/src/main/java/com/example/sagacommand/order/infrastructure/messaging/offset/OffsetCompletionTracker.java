@@ -0,0 +1,97 @@
+package com.example.sagacommand.order.infrastructure.messaging.offset;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 파티션 하나의 레코드 완료 상태를 추적하여 커밋해도 되는 오프셋(연속으로 완료된 구간의 끝 + 1)을 계산합니다.
+ * <p>
+ * 수신(received), 커밋 대상 계산(committable), 커밋 반영(committed)은 컨슈머 스레드에서만 호출하고,
+ * 완료(completed)는 슬로 레인이나 지연 반영 스레드 등 어느 스레드에서든 순서와 무관하게 호출할 수 있습니다.
+ * 필터에서 버려져 수신되지 않은 오프셋은 빈 구간으로 보고 건너뜁니다.
+ * 끝부분이 모두 버려진 배치(또는 전부 버려진 배치)도 커밋되도록 컨슈머 위치(polled)까지를 끝으로 봅니다.
+ */
+class OffsetCompletionTracker {
+
+    private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+    private final AtomicLong completedSinceCommit = new AtomicLong();
+    // 컨슈머 스레드에서만 갱신
+    private volatile long highestReceived = -1L;
+    // 컨슈머가 가져간 다음 오프셋 (필터에서 버려진 레코드 포함)
+    private volatile long polled = -1L;
+    private volatile long committed = -1L;
+    private volatile long lastCommitNanos;
+
+    OffsetCompletionTracker(long nowNanos) {
+        this.lastCommitNanos = nowNanos;
+    }
+
+    void received(long offset) {
+        inFlight.add(offset);
+        if (committed < 0) {
+            // 첫 수신 레코드 앞까지는 이미 커밋된 것으로 봄
+            committed = offset;
+        }
+        if (offset > highestReceived) {
+            highestReceived = offset;
+        }
+    }
+
+    /**
+     * 컨슈머 위치(가져간 마지막 레코드 다음 오프셋)를 알립니다. 그 앞의 레코드 중 수신되지 않은 것은 필터에서 버려진 것입니다.
+     */
+    void polled(long position) {
+        if (position > polled) {
+            polled = position;
+        }
+    }
+
+    void completed(long offset) {
+        if (inFlight.remove(offset)) {
+            completedSinceCommit.incrementAndGet();
+        }
+    }
+
+    /**
+     * 커밋할 다음 오프셋을 반환합니다. 이미 커밋한 위치보다 앞으로 갈 수 없으면 -1 입니다.
+     */
+    long committable() {
+        long end = end();
+        if (end <= 0) {
+            return -1L;
+        }
+        Iterator<Long> pending = inFlight.iterator();
+        long next = pending.hasNext() ? pending.next() : end;
+        return next > committed ? next : -1L;
+    }
+
+    void committed(long offset, long nowNanos) {
+        if (offset > committed) {
+            committed = offset;
+        }
+        completedSinceCommit.set(0);
+        lastCommitNanos = nowNanos;
+    }
+
+    boolean isDue(long nowNanos, long intervalNanos, long count) {
+        return completedSinceCommit.get() >= count || nowNanos - lastCommitNanos >= intervalNanos;
+    }
+
+    int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * 수신했지만 아직 커밋되지 않은 구간의 크기입니다 (재시작 시 다시 전달될 수 있는 레코드 수의 상한).
+     */
+    long getUncommitted() {
+        long end = end();
+        return end <= 0 || committed < 0 ? 0L : Math.max(0L, end - committed);
+    }
+
+    // 수신했거나 필터에서 버린 레코드의 다음 오프셋
+    private long end() {
+        return Math.max(highestReceived + 1, polled);
+    }
+}
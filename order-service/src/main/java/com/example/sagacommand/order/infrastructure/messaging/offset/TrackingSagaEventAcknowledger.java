@@ -0,0 +1,222 @@
+package com.example.sagacommand.order.infrastructure.messaging.offset;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.application.SagaEventAcknowledger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.springframework.context.ApplicationListener;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 레코드별 완료를 파티션마다 추적하여, 연속으로 완료된 구간까지만 오프셋을 비동기 커밋합니다.
+ * <p>
+ * 핫 키 이벤트는 슬로 레인에서, 저장은 지연 반영(write-behind) 스레드에서 끝나므로 레코드는 수신 순서와 다르게 완료됩니다.
+ * 배치 단위로 확정하면 아직 끝나지 않은 앞선 레코드까지 커밋될 수 있어, 컨테이너의 Acknowledgment 대신
+ * 리스너 스레드에서 {@code commitAsync} 로 직접 커밋합니다 (시간 간격 또는 완료 건수 주기).
+ * <p>
+ * 레코드가 없는 동안에는 컨테이너 유휴 이벤트(컨슈머 스레드)에서 커밋하고,
+ * 파티션이 회수되기 직전에는 완료된 구간까지 동기 커밋한 뒤 추적을 버립니다.
+ * 필터에서 버려진 레코드는 전달되지 않으므로, 커밋할 때마다 컨슈머 위치를 읽어 끝부분이 버려진 배치나
+ * 모두 버려진 배치(다른 레인의 이벤트 등)도 커밋합니다.
+ * 같은 토픽을 여러 컨슈머 그룹(우선순위 레인)이 읽을 수 있으므로 그룹과 파티션 단위로 추적합니다.
+ */
+@Slf4j
+public class TrackingSagaEventAcknowledger implements SagaEventAcknowledger, ConsumerAwareRebalanceListener,
+        ApplicationListener<ListenerContainerIdleEvent> {
+
+    private final OrderDurability orderDurability;
+    private final long commitIntervalNanos;
+    private final long commitCount;
+    private final Timer commitLatency;
+    private final Counter commitFailures;
+    private final LongSupplier nanoTime;
+    private final Map<TrackedPartition, OffsetCompletionTracker> trackers = new ConcurrentHashMap<>();
+
+    public TrackingSagaEventAcknowledger(OrderDurability orderDurability,
+                                         Duration commitInterval,
+                                         long commitCount,
+                                         Timer commitLatency,
+                                         Counter commitFailures,
+                                         LongSupplier nanoTime) {
+        this.orderDurability = orderDurability;
+        this.commitIntervalNanos = commitInterval.toNanos();
+        this.commitCount = commitCount;
+        this.commitLatency = commitLatency;
+        this.commitFailures = commitFailures;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void processed(List<ConsumerRecord<String, EventView<?>>> records,
+                          Map<UUID, CompletableFuture<Void>> deferred,
+                          Acknowledgment acknowledgment,
+                          Consumer<?, ?> consumer) {
+        String groupId = consumer.groupMetadata().groupId();
+        List<Runnable> completedNow = new ArrayList<>(records.size());
+        Map<UUID, List<Runnable>> completedLater = new HashMap<>();
+
+        for (ConsumerRecord<String, EventView<?>> record : records) {
+            OffsetCompletionTracker tracker = tracker(groupId, new TopicPartition(record.topic(), record.partition()));
+            long offset = record.offset();
+            tracker.received(offset);
+
+            UUID orderId = record.value().getOrderId();
+            if (deferred.containsKey(orderId)) {
+                completedLater.computeIfAbsent(orderId, key -> new ArrayList<>()).add(() -> tracker.completed(offset));
+            } else {
+                completedNow.add(() -> tracker.completed(offset));
+            }
+        }
+
+        // 레코드는 처리 결과가 DB에 반영된 뒤 완료로 표시
+        orderDurability.whenDurable(() -> completedNow.forEach(Runnable::run));
+        completedLater.forEach((orderId, completions) -> deferred.get(orderId).whenComplete((ignored, failure) ->
+                orderDurability.whenDurable(() -> completions.forEach(Runnable::run))));
+
+        commitDue(consumer);
+    }
+
+    @Override
+    public boolean commitsOffsets() {
+        return true;
+    }
+
+    // 새 레코드가 없어도 비동기로 끝난 레코드의 오프셋이 커밋되도록 유휴 이벤트(컨슈머 스레드)에서 커밋
+    @Override
+    public void onApplicationEvent(ListenerContainerIdleEvent event) {
+        Consumer<?, ?> consumer = event.getConsumer();
+        if (consumer != null) {
+            commitDue(consumer);
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        String groupId = consumer.groupMetadata().groupId();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetCompletionTracker tracker = trackers.remove(new TrackedPartition(groupId, partition));
+            if (tracker == null) {
+                continue;
+            }
+            long next = tracker.committable();
+            if (next >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(next));
+            }
+            if (tracker.getInFlight() > 0) {
+                log.info("파티션 회수: {} 처리 중 {}건은 새 소유자가 다시 처리함", partition, tracker.getInFlight());
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+        long started = nanoTime.getAsLong();
+        try {
+            consumer.commitSync(offsets);
+            commitLatency.record(nanoTime.getAsLong() - started, TimeUnit.NANOSECONDS);
+        } catch (RuntimeException e) {
+            commitFailures.increment();
+            log.warn("파티션 회수 전 오프셋 커밋 실패: {}, 이유: {}", offsets, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        String groupId = consumer.groupMetadata().groupId();
+        partitions.forEach(partition -> trackers.remove(new TrackedPartition(groupId, partition)));
+    }
+
+    /**
+     * 처리 중(완료되지 않은) 레코드 수입니다.
+     */
+    public long getInFlight() {
+        long total = 0;
+        for (OffsetCompletionTracker tracker : trackers.values()) {
+            total += tracker.getInFlight();
+        }
+        return total;
+    }
+
+    /**
+     * 수신했지만 커밋되지 않은 레코드 수(모든 파티션 합)입니다.
+     */
+    public long getUncommitted() {
+        long total = 0;
+        for (OffsetCompletionTracker tracker : trackers.values()) {
+            total += tracker.getUncommitted();
+        }
+        return total;
+    }
+
+    /**
+     * 이 컨슈머에 할당된 파티션 중 커밋 주기가 된 파티션의 연속 완료 구간을 비동기 커밋합니다. 컨슈머 스레드에서만 호출합니다.
+     */
+    void commitDue(Consumer<?, ?> consumer) {
+        String groupId = consumer.groupMetadata().groupId();
+        long now = nanoTime.getAsLong();
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        Map<TopicPartition, OffsetCompletionTracker> committing = new HashMap<>();
+        for (TopicPartition partition : consumer.assignment()) {
+            OffsetCompletionTracker tracker = tracker(groupId, partition);
+            // 전달된 레코드를 모두 수신 처리한 뒤에 읽으므로, 위치 앞의 수신되지 않은 레코드는 필터에서 버려진 것
+            try {
+                tracker.polled(consumer.position(partition, Duration.ZERO));
+            } catch (TimeoutException e) {
+                // 아직 위치가 정해지지 않은 파티션 (할당 직후): 다음 주기에 다시 읽음
+            }
+            if (!tracker.isDue(now, commitIntervalNanos, commitCount)) {
+                continue;
+            }
+            long next = tracker.committable();
+            if (next >= 0) {
+                offsets.put(partition, new OffsetAndMetadata(next));
+                committing.put(partition, tracker);
+            }
+        }
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        // 콜백은 이후 poll/commit 중 컨슈머 스레드에서 호출됨
+        consumer.commitAsync(offsets, (committed, exception) -> {
+            long completedAt = nanoTime.getAsLong();
+            commitLatency.record(completedAt - now, TimeUnit.NANOSECONDS);
+            if (exception != null) {
+                // 커밋 위치를 올리지 않으므로 다음 주기에 같은 구간부터 다시 커밋
+                commitFailures.increment();
+                log.warn("오프셋 비동기 커밋 실패: {}, 이유: {}", committed, exception.getMessage());
+                return;
+            }
+            committed.forEach((partition, offset) -> committing.get(partition).committed(offset.offset(), completedAt));
+        });
+    }
+
+    private OffsetCompletionTracker tracker(String groupId, TopicPartition partition) {
+        return trackers.computeIfAbsent(new TrackedPartition(groupId, partition),
+                key -> new OffsetCompletionTracker(nanoTime.getAsLong()));
+    }
+
+    private record TrackedPartition(String groupId, TopicPartition partition) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * 재처리 중에만 사용되는 발행기입니다. 운영 토픽(order-events)으로는 발행하지 않습니다.
+ */
+class ReplayEventPublisher implements OrderEventPublisher {
+
+    private final ReplayPublishMode mode;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final String redirectTopic;
+    private final ReplayProgress progress;
+
+    ReplayEventPublisher(ReplayPublishMode mode,
+                         KafkaTemplate<String, Object> kafkaTemplate,
+                         String redirectTopic,
+                         ReplayProgress progress) {
+        this.mode = mode;
+        this.kafkaTemplate = kafkaTemplate;
+        this.redirectTopic = redirectTopic;
+        this.progress = progress;
+    }
+
+    @Override
+    public void publishEvent(String key, Object event) {
+        if (mode == ReplayPublishMode.REDIRECT) {
+            // 재처리 스레드는 리스너 트랜잭션 밖이므로 트랜잭션 템플릿이면 단건 트랜잭션으로 보냄
+            if (kafkaTemplate.isTransactional() && !kafkaTemplate.inTransaction()) {
+                kafkaTemplate.executeInTransaction(operations -> operations.send(redirectTopic, key, event));
+            } else {
+                kafkaTemplate.send(redirectTopic, key, event);
+            }
+            progress.redirected();
+        } else {
+            progress.suppressed();
+        }
+    }
+}
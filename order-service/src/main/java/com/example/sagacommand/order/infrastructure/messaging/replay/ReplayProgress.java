@@ -0,0 +1,131 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 재처리 한 건의 진행 상황입니다. 폴링 스레드와 작업 스레드가 함께 갱신합니다.
+ */
+public class ReplayProgress {
+
+    public enum State {
+        RUNNING, COMPLETED, CANCELLED, FAILED
+    }
+
+    private final ReplayRequest request;
+    private final Clock clock;
+    private final Instant startedAt;
+
+    private final LongAdder read = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private final LongAdder redirected = new LongAdder();
+    private final AtomicLong remaining = new AtomicLong();
+
+    private volatile State state = State.RUNNING;
+    private volatile boolean cancelRequested;
+    private volatile Instant finishedAt;
+    private volatile String error;
+
+    ReplayProgress(ReplayRequest request, Clock clock) {
+        this.request = request;
+        this.clock = clock;
+        this.startedAt = clock.instant();
+    }
+
+    void read(int count) {
+        read.add(count);
+    }
+
+    void matched(int count) {
+        matched.add(count);
+    }
+
+    void processed() {
+        processed.increment();
+    }
+
+    void failed() {
+        failed.increment();
+    }
+
+    void suppressed() {
+        suppressed.increment();
+    }
+
+    void redirected() {
+        redirected.increment();
+    }
+
+    void remaining(long records) {
+        remaining.set(records);
+    }
+
+    void cancel() {
+        cancelRequested = true;
+    }
+
+    boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    void finish(State finalState, String error) {
+        this.error = error;
+        this.finishedAt = clock.instant();
+        this.state = finalState;
+    }
+
+    public boolean isRunning() {
+        return state == State.RUNNING;
+    }
+
+    public ReplayStatus snapshot() {
+        Instant end = finishedAt != null ? finishedAt : clock.instant();
+        Duration elapsed = Duration.between(startedAt, end);
+        long processedCount = processed.sum();
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        return new ReplayStatus(
+                state,
+                request,
+                startedAt,
+                finishedAt,
+                elapsed,
+                read.sum(),
+                matched.sum(),
+                processedCount,
+                failed.sum(),
+                suppressed.sum(),
+                redirected.sum(),
+                remaining.get(),
+                processedCount / seconds,
+                error
+        );
+    }
+
+    /**
+     * @param remainingRecords 범위 끝까지 남은 레코드 수 (대상 이벤트가 아닌 레코드 포함)
+     * @param eventsPerSecond  시작 이후 평균 처리량
+     */
+    public record ReplayStatus(
+            State state,
+            ReplayRequest request,
+            Instant startedAt,
+            Instant finishedAt,
+            Duration elapsed,
+            long read,
+            long matched,
+            long processed,
+            long failed,
+            long suppressedPublishes,
+            long redirectedPublishes,
+            long remainingRecords,
+            double eventsPerSecond,
+            String error
+    ) {
+    }
+}
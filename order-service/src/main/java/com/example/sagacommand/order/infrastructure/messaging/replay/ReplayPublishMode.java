@@ -0,0 +1,11 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+/**
+ * 재처리 중 커맨드가 발행하는 주문 이벤트의 처리 방식
+ */
+public enum ReplayPublishMode {
+    // 발행하지 않음 (하위 서비스로 같은 이벤트가 다시 나가지 않음)
+    SUPPRESS,
+    // 운영 토픽 대신 별도 토픽으로 발행 (결과 검증용)
+    REDIRECT
+}
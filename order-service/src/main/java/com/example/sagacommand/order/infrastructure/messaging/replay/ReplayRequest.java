@@ -0,0 +1,43 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 재처리 범위와 대상 이벤트.
+ * <p>
+ * 범위는 시간(from ~ to) 또는 오프셋(fromOffset ~ toOffset) 중 하나로 지정하며, 오프셋은 모든 파티션에 같이 적용됩니다.
+ * 끝(to, toOffset)은 포함하지 않고, 지정하지 않으면 시작 시점의 마지막 오프셋까지 처리합니다.
+ *
+ * @param topics      재처리할 토픽 (비어 있으면 설정의 기본 토픽)
+ * @param eventTypes  처리할 이벤트 클래스 이름 (예: InventoryReservationFailedEvent, 비어 있으면 전체)
+ * @param publishMode 발행 처리 방식 (null 이면 설정값)
+ */
+public record ReplayRequest(
+        List<String> topics,
+        Instant from,
+        Instant to,
+        Long fromOffset,
+        Long toOffset,
+        Set<String> eventTypes,
+        ReplayPublishMode publishMode
+) {
+    public ReplayRequest {
+        topics = topics == null ? List.of() : List.copyOf(topics);
+        eventTypes = eventTypes == null ? Set.of() : Set.copyOf(eventTypes);
+        if ((from != null || to != null) && (fromOffset != null || toOffset != null)) {
+            throw new IllegalArgumentException("시간 범위와 오프셋 범위는 함께 지정할 수 없습니다");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("from 은 to 보다 앞서야 합니다: " + from + " ~ " + to);
+        }
+        if (fromOffset != null && toOffset != null && fromOffset >= toOffset) {
+            throw new IllegalArgumentException("fromOffset 은 toOffset 보다 작아야 합니다: " + fromOffset + " ~ " + toOffset);
+        }
+    }
+
+    public boolean matches(Class<?> eventType) {
+        return eventTypes.isEmpty() || eventTypes.contains(eventType.getSimpleName());
+    }
+}
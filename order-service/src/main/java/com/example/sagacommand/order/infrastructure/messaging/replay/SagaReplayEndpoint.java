@@ -0,0 +1,73 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Saga 이벤트 재처리를 시작/조회/중지하는 액추에이터 엔드포인트입니다.
+ * <pre>
+ * POST   /actuator/sagareplay  {"from": "2025-01-01T00:00:00Z", "to": "2025-01-02T00:00:00Z",
+ *                               "eventTypes": "InventoryReservationFailedEvent"}
+ * GET    /actuator/sagareplay  진행 상황과 처리량
+ * DELETE /actuator/sagareplay  현재 배치까지만 처리하고 중지
+ * </pre>
+ * topics, eventTypes 는 쉼표로 구분합니다.
+ */
+@Endpoint(id = "sagareplay")
+@RequiredArgsConstructor
+public class SagaReplayEndpoint {
+
+    private final SagaReplayer replayer;
+
+    @ReadOperation
+    public ReplayProgress.ReplayStatus status() {
+        ReplayProgress progress = replayer.getCurrent();
+        return progress == null ? null : progress.snapshot();
+    }
+
+    @WriteOperation
+    public ReplayProgress.ReplayStatus start(@Nullable String topics,
+                                             @Nullable String from,
+                                             @Nullable String to,
+                                             @Nullable Long fromOffset,
+                                             @Nullable Long toOffset,
+                                             @Nullable String eventTypes,
+                                             @Nullable ReplayPublishMode publishMode) {
+        ReplayRequest request = new ReplayRequest(
+                List.copyOf(split(topics)),
+                from == null ? null : Instant.parse(from),
+                to == null ? null : Instant.parse(to),
+                fromOffset,
+                toOffset,
+                split(eventTypes),
+                publishMode
+        );
+        return replayer.start(request).snapshot();
+    }
+
+    @DeleteOperation
+    public boolean cancel() {
+        return replayer.cancel();
+    }
+
+    private static Set<String> split(String values) {
+        if (values == null || values.isBlank()) {
+            return Set.of();
+        }
+        return Arrays.stream(values.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
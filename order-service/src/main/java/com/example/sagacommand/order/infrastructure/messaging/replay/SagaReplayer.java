@@ -0,0 +1,387 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import com.example.sagacommand.common.event.EventProcessor;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.saga.SagaCommit;
+import com.example.sagacommand.order.application.CoalescedOrderSession;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.config.ReplayProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordDeserializationException;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지정한 시간/오프셋 범위의 Saga 이벤트를 운영 리스너와 별도로 다시 처리합니다.
+ * <ul>
+ *     <li>전용 컨슈머 그룹으로 파티션을 직접 할당(assign)하고 범위 시작으로 seek 하므로 운영 그룹의 오프셋은 건드리지 않습니다.</li>
+ *     <li>폴링한 배치를 주문별로 묶고, 주문 ID 해시로 작업 스레드에 나눠 병렬 처리합니다. (같은 주문의 순서는 유지)</li>
+ *     <li>작업 스레드마다 {@link CoalescedOrderSession} 하나로 주문을 IN 조회로 미리 읽고, 변경된 주문은 한 트랜잭션에서 저장합니다.
+ *     읽은 뒤 운영 리스너가 바꾼 주문은 덮어쓰지 않고 최신 상태에서 다시 처리합니다.</li>
+ *     <li>커맨드가 발행하는 주문 이벤트는 {@link ReplayEventPublisher} 로 버리거나 별도 토픽으로 보냅니다.</li>
+ * </ul>
+ * 한 번에 하나의 재처리만 실행합니다.
+ */
+@Slf4j
+public class SagaReplayer implements AutoCloseable {
+
+    private static final int MAX_COMMIT_ATTEMPTS = 3;
+
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final EventProcessor eventProcessor;
+    private final OrderCommandFactory commandFactory;
+    private final OrderRepository orderRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final TransactionOperations transactionOperations;
+    private final ReplayProperties properties;
+    private final Clock clock;
+
+    private final ExecutorService runner;
+    private final ExecutorService workers;
+    private volatile ReplayProgress current;
+
+    public SagaReplayer(ConsumerFactory<Object, Object> consumerFactory,
+                        EventProcessor eventProcessor,
+                        OrderCommandFactory commandFactory,
+                        OrderRepository orderRepository,
+                        KafkaTemplate<String, Object> kafkaTemplate,
+                        TransactionOperations transactionOperations,
+                        ReplayProperties properties,
+                        Clock clock) {
+        this.consumerFactory = consumerFactory;
+        this.eventProcessor = eventProcessor;
+        this.commandFactory = commandFactory;
+        this.orderRepository = orderRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.clock = clock;
+        this.runner = Executors.newSingleThreadExecutor(daemon("saga-replay"));
+        this.workers = Executors.newFixedThreadPool(properties.getParallelism(), daemon("saga-replay-worker-"));
+    }
+
+    /**
+     * 재처리를 백그라운드에서 시작합니다.
+     *
+     * @throws IllegalStateException 이미 재처리가 진행 중인 경우
+     */
+    public synchronized ReplayProgress start(ReplayRequest request) {
+        if (current != null && current.isRunning()) {
+            throw new IllegalStateException("이미 재처리가 진행 중입니다");
+        }
+        ReplayProgress progress = new ReplayProgress(request, clock);
+        current = progress;
+        runner.execute(() -> run(request, progress));
+        return progress;
+    }
+
+    /**
+     * 진행 중인 재처리를 현재 배치까지만 처리하고 멈춥니다.
+     *
+     * @return 멈출 재처리가 있었으면 true
+     */
+    public boolean cancel() {
+        ReplayProgress progress = current;
+        if (progress == null || !progress.isRunning()) {
+            return false;
+        }
+        progress.cancel();
+        return true;
+    }
+
+    public ReplayProgress getCurrent() {
+        return current;
+    }
+
+    void run(ReplayRequest request, ReplayProgress progress) {
+        List<String> topics = request.topics().isEmpty() ? properties.getTopics() : request.topics();
+        ReplayPublishMode publishMode = request.publishMode() != null ? request.publishMode() : properties.getPublishMode();
+        OrderEventPublisher publisher =
+                new ReplayEventPublisher(publishMode, kafkaTemplate, properties.getRedirectTopic(), progress);
+        log.info("Saga 재처리 시작: topics={}, request={}, publishMode={}", topics, request, publishMode);
+
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                properties.getGroupId(), "saga-replay", null, consumerOverrides())) {
+            Map<TopicPartition, Long> endOffsets = seekToRange(consumer, topics, request);
+            long lastReport = System.nanoTime();
+
+            while (!endOffsets.isEmpty() && !progress.isCancelRequested()) {
+                ConsumerRecords<Object, Object> records;
+                try {
+                    records = consumer.poll(properties.getPollTimeout());
+                } catch (RecordDeserializationException e) {
+                    // 깨진 레코드는 건너뛰고 계속 진행
+                    log.warn("재처리 중 역직렬화 실패, 건너뜀: {}@{}", e.topicPartition(), e.offset(), e);
+                    progress.failed();
+                    consumer.seek(e.topicPartition(), e.offset() + 1);
+                    continue;
+                }
+
+                List<EventView<?>> matched = collect(records, endOffsets, request, progress);
+                process(matched, publisher, progress);
+                commitAndTrim(consumer, endOffsets, progress);
+
+                if (System.nanoTime() - lastReport >= properties.getProgressInterval().toNanos()) {
+                    lastReport = System.nanoTime();
+                    logProgress(progress);
+                }
+            }
+
+            progress.finish(progress.isCancelRequested() ? ReplayProgress.State.CANCELLED : ReplayProgress.State.COMPLETED, null);
+        } catch (RuntimeException e) {
+            log.error("Saga 재처리 실패", e);
+            progress.finish(ReplayProgress.State.FAILED, e.toString());
+        }
+        logProgress(progress);
+    }
+
+    // 범위 안의 레코드 중 대상 이벤트만 모음 (범위 끝을 넘어선 레코드는 버림)
+    private List<EventView<?>> collect(ConsumerRecords<Object, Object> records,
+                                       Map<TopicPartition, Long> endOffsets,
+                                       ReplayRequest request,
+                                       ReplayProgress progress) {
+        List<EventView<?>> matched = new ArrayList<>(records.count());
+        int read = 0;
+        for (TopicPartition partition : records.partitions()) {
+            Long end = endOffsets.get(partition);
+            if (end == null) {
+                continue;
+            }
+            for (ConsumerRecord<Object, Object> record : records.records(partition)) {
+                if (record.offset() >= end) {
+                    break;
+                }
+                read++;
+                if (record.value() instanceof EventView<?> view && request.matches(view.getType())) {
+                    matched.add(view);
+                }
+            }
+        }
+        progress.read(read);
+        progress.matched(matched.size());
+        return matched;
+    }
+
+    private void process(List<EventView<?>> events, OrderEventPublisher publisher, ReplayProgress progress) {
+        if (events.isEmpty()) {
+            return;
+        }
+        int parallelism = properties.getParallelism();
+        List<List<List<EventView<?>>>> slices = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            slices.add(new ArrayList<>());
+        }
+        for (Map.Entry<UUID, List<EventView<?>>> group : EventView.groupByOrder(events).entrySet()) {
+            slices.get(Math.floorMod(group.getKey().hashCode(), parallelism)).add(group.getValue());
+        }
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism);
+        for (List<List<EventView<?>>> slice : slices) {
+            if (!slice.isEmpty()) {
+                futures.add(CompletableFuture.runAsync(() -> processSlice(slice, publisher, progress), workers));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    // 운영 리스너가 그 사이 같은 주문을 바꿔 저장하지 못한 주문은 최신 상태에서 다시 처리
+    private void processSlice(List<List<EventView<?>>> groups, OrderEventPublisher publisher, ReplayProgress progress) {
+        List<List<EventView<?>>> pending = groups;
+        for (int attempt = 1; ; attempt++) {
+            Set<UUID> conflicts = processInSession(pending, publisher, progress, attempt == 1);
+            if (conflicts.isEmpty()) {
+                return;
+            }
+            pending = pending.stream()
+                    .filter(group -> conflicts.contains(group.get(0).getOrderId()))
+                    .toList();
+            if (attempt == MAX_COMMIT_ATTEMPTS) {
+                for (List<EventView<?>> group : pending) {
+                    log.warn("재처리 저장이 계속 충돌하여 건너뜀: 주문={}, 이벤트 {}건", group.get(0).getOrderId(), group.size());
+                    group.forEach(view -> progress.failed());
+                }
+                return;
+            }
+        }
+    }
+
+    private Set<UUID> processInSession(List<List<EventView<?>>> groups, OrderEventPublisher publisher,
+                                       ReplayProgress progress, boolean recordProgress) {
+        CoalescedOrderSession session = new CoalescedOrderSession(orderRepository, publisher);
+        session.prefetch(groups.stream().map(group -> OrderId.of(group.get(0).getOrderId())).toList());
+
+        // 합류 도착처럼 저장 뒤에 해야 하는 기록은 저장된 주문만 실행 (충돌한 주문은 다시 처리할 때 다시 등록됨)
+        List<SagaCommit.Pending> afterCommit = SagaCommit.capture(() -> commandFactory.withScope(session, session, () -> {
+            for (List<EventView<?>> group : groups) {
+                for (EventView<?> view : group) {
+                    try {
+                        eventProcessor.processEvent(view);
+                        if (recordProgress) {
+                            progress.processed();
+                        }
+                    } catch (RuntimeException e) {
+                        log.warn("재처리 이벤트 처리 실패: {}", view, e);
+                        if (recordProgress) {
+                            progress.failed();
+                        }
+                    }
+                }
+            }
+            return null;
+        }));
+        Set<UUID> conflicts = transactionOperations.execute(status -> session.commit());
+        if (conflicts == null) {
+            conflicts = Set.of();
+        }
+        SagaCommit.runCommitted(afterCommit, conflicts);
+        return conflicts;
+    }
+
+    private Map<TopicPartition, Long> seekToRange(Consumer<Object, Object> consumer,
+                                                  List<String> topics,
+                                                  ReplayRequest request) {
+        List<TopicPartition> partitions = new ArrayList<>();
+        for (String topic : topics) {
+            for (PartitionInfo info : consumer.partitionsFor(topic)) {
+                partitions.add(new TopicPartition(topic, info.partition()));
+            }
+        }
+        consumer.assign(partitions);
+
+        Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+        Map<TopicPartition, Long> latest = consumer.endOffsets(partitions);
+        Map<TopicPartition, Long> starts = request.from() != null
+                ? offsetsForTime(consumer, partitions, request.from(), latest)
+                : boundaries(partitions, request.fromOffset(), beginning, beginning, latest);
+        Map<TopicPartition, Long> ends = request.to() != null
+                ? offsetsForTime(consumer, partitions, request.to(), latest)
+                : boundaries(partitions, request.toOffset(), latest, beginning, latest);
+
+        Map<TopicPartition, Long> endOffsets = new HashMap<>();
+        List<TopicPartition> empty = new ArrayList<>();
+        for (TopicPartition partition : partitions) {
+            long start = starts.get(partition);
+            long end = ends.get(partition);
+            if (start < end) {
+                consumer.seek(partition, start);
+                endOffsets.put(partition, end);
+                log.info("재처리 범위: {} [{}, {})", partition, start, end);
+            } else {
+                empty.add(partition);
+            }
+        }
+        consumer.pause(empty);
+        return endOffsets;
+    }
+
+    // 해당 시각 이후 첫 레코드의 오프셋 (없으면 마지막 오프셋)
+    private static Map<TopicPartition, Long> offsetsForTime(Consumer<Object, Object> consumer,
+                                                            List<TopicPartition> partitions,
+                                                            Instant time,
+                                                            Map<TopicPartition, Long> latest) {
+        Map<TopicPartition, Long> query = new HashMap<>();
+        partitions.forEach(partition -> query.put(partition, time.toEpochMilli()));
+        Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(query);
+
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndTimestamp offset = found.get(partition);
+            offsets.put(partition, offset != null ? offset.offset() : latest.get(partition));
+        }
+        return offsets;
+    }
+
+    // 지정한 오프셋을 파티션의 유효 범위로 제한 (지정하지 않으면 fallback)
+    private static Map<TopicPartition, Long> boundaries(List<TopicPartition> partitions,
+                                                        Long requested,
+                                                        Map<TopicPartition, Long> fallback,
+                                                        Map<TopicPartition, Long> beginning,
+                                                        Map<TopicPartition, Long> latest) {
+        Map<TopicPartition, Long> offsets = new HashMap<>();
+        for (TopicPartition partition : partitions) {
+            long offset = requested == null ? fallback.get(partition)
+                    : Math.max(beginning.get(partition), Math.min(requested, latest.get(partition)));
+            offsets.put(partition, offset);
+        }
+        return offsets;
+    }
+
+    // 처리한 위치를 재처리 그룹에 커밋하고, 범위 끝에 도달한 파티션은 멈춤
+    private void commitAndTrim(Consumer<Object, Object> consumer,
+                               Map<TopicPartition, Long> endOffsets,
+                               ReplayProgress progress) {
+        Map<TopicPartition, OffsetAndMetadata> commits = new HashMap<>();
+        List<TopicPartition> finished = new ArrayList<>();
+        long remaining = 0;
+        for (Map.Entry<TopicPartition, Long> entry : endOffsets.entrySet()) {
+            long position = Math.min(consumer.position(entry.getKey()), entry.getValue());
+            commits.put(entry.getKey(), new OffsetAndMetadata(position));
+            if (position >= entry.getValue()) {
+                finished.add(entry.getKey());
+            } else {
+                remaining += entry.getValue() - position;
+            }
+        }
+        consumer.commitSync(commits);
+        consumer.pause(finished);
+        finished.forEach(endOffsets::remove);
+        progress.remaining(remaining);
+    }
+
+    private static void logProgress(ReplayProgress progress) {
+        ReplayProgress.ReplayStatus status = progress.snapshot();
+        log.info("Saga 재처리 {}: 읽음 {}, 대상 {}, 처리 {}, 실패 {}, 남은 레코드 {}, {} events/s",
+                status.state(), status.read(), status.matched(), status.processed(), status.failed(),
+                status.remainingRecords(), String.format("%.1f", status.eventsPerSecond()));
+    }
+
+    private Properties consumerOverrides() {
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getMaxPollRecords());
+        return overrides;
+    }
+
+    private static ThreadFactory daemon(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, prefix.endsWith("-") ? prefix + sequence.incrementAndGet() : prefix);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    @Override
+    public void close() {
+        cancel();
+        runner.shutdown();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.sagacommand.order.infrastructure.persistence;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 주문 조회 시 운영 테이블에 없으면 보관 테이블을 조회하는 Spring Data 리포지토리 조각(fragment)입니다.
+ * 보관 테이블에서 복원한 주문은 조회 전용이므로 저장도 이 조각에서 막습니다.
+ */
+public interface ArchiveFallbackOrderRepository {
+    Optional<Order> findById(OrderId orderId);
+
+    /**
+     * 기본 save 를 대신합니다. 보관에서 복원한 주문(조회 전용)은 운영 테이블에 다시 넣지 않고 거부합니다.
+     */
+    @Transactional
+    <S extends Order> S save(S order);
+
+    List<Order> findAllByIds(Collection<OrderId> orderIds);
+}
@@ -0,0 +1,79 @@
+package com.example.sagacommand.order.infrastructure.persistence;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.infrastructure.persistence.archive.ArchivedOrder;
+import com.example.sagacommand.order.infrastructure.persistence.archive.ArchivedOrderMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 보관된 주문은 종료 상태이므로 조회 전용으로 복원하여 반환합니다.
+ * 복원된 주문은 영속 상태가 아니며 변경할 수 없고, 저장하려 하면 거부하므로 보관 행이 남은 채 운영 테이블에 다시 들어가지 않습니다.
+ */
+@RequiredArgsConstructor
+public class ArchiveFallbackOrderRepositoryImpl implements ArchiveFallbackOrderRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ArchivedOrderMapper archivedOrderMapper;
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        Order order = entityManager.find(Order.class, orderId);
+        if (order != null) {
+            return Optional.of(order);
+        }
+
+        ArchivedOrder archived = entityManager.find(ArchivedOrder.class, orderId.getValue());
+        return Optional.ofNullable(archived).map(archivedOrderMapper::toOrder);
+    }
+
+    // 주문 ID 가 할당되어 있으므로 기본 save 와 같이 merge (없으면 INSERT, 있으면 UPDATE)
+    @Override
+    public <S extends Order> S save(S order) {
+        if (order.isReadOnly()) {
+            throw new IllegalStateException("보관된 주문은 운영 테이블에 다시 저장할 수 없습니다: " + order.getId());
+        }
+        return entityManager.merge(order);
+    }
+
+    // 운영 테이블을 IN 조회로 한 번에 읽고, 없는 주문만 보관 테이블에서 다시 IN 조회
+    @Override
+    public List<Order> findAllByIds(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        Set<UUID> missing = new HashSet<>(orderIds.size());
+        for (OrderId orderId : orderIds) {
+            missing.add(orderId.getValue());
+        }
+
+        List<Order> found = new ArrayList<>(entityManager
+                .createQuery("select o from Order o where o.id.value in :ids", Order.class)
+                .setParameter("ids", missing)
+                .getResultList());
+        for (Order order : found) {
+            missing.remove(order.getId());
+        }
+        if (missing.isEmpty()) {
+            return found;
+        }
+
+        entityManager.createQuery("select a from ArchivedOrder a where a.orderId in :ids", ArchivedOrder.class)
+                .setParameter("ids", missing)
+                .getResultList()
+                .forEach(archived -> found.add(archivedOrderMapper.toOrder(archived)));
+        return found;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.sagacommand.order.infrastructure.persistence;
+
+import com.example.sagacommand.order.application.OrderDurability;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기본 정책: 저장이 동기적으로 DB에 반영되므로 바로 실행합니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.orders.write-behind", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class ImmediateOrderDurability implements OrderDurability {
+
+    @Override
+    public void whenDurable(Runnable action) {
+        action.run();
+    }
+}
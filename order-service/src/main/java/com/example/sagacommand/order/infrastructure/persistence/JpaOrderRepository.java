@@ -1,9 +1,111 @@
 package com.example.sagacommand.order.infrastructure.persistence;
 
 import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
 import com.example.sagacommand.order.domain.repository.OrderRepository;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface JpaOrderRepository extends OrderRepository, JpaRepository<Order, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
+public interface JpaOrderRepository extends OrderRepository, ArchiveFallbackOrderRepository, JpaRepository<Order, Long> {
+
+    // SET 순서가 중요: MySQL 은 왼쪽부터 대입하므로 두 문장 모두 previousStatus 에 이전 상태를 먼저 기록
+    String TRANSITION_STATUS_QUERY = "update Order o set o.previousStatus = o.status, o.status = :target, " +
+            "o.version = o.version + 1 where o.id.value = :orderId and o.status in :sources";
+    String REVERT_STATUS_QUERY = "update Order o set o.previousStatus = o.status, o.status = :prior, " +
+            "o.version = o.version + 1 where o.id.value = :orderId and o.status = :applied";
+    String FIND_VERSION_QUERY = "select o.version from Order o where o.id.value = :orderId";
+    String FIND_PREVIOUS_STATUS_QUERY = "select o.previousStatus from Order o where o.id.value = :orderId";
+
+    /**
+     * 애그리거트를 읽지 않고 조건부 UPDATE 한 문장으로 상태를 전이합니다.
+     * 영향받은 행 수가 0이면 주문이 없거나 현재 상태에서 허용되지 않는 전이입니다.
+     */
+    @Override
+    default boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        Set<Order.OrderStatus> sources = OrderStatusTransitions.sourcesOf(target);
+        return !sources.isEmpty() && updateStatus(orderId.getValue(), sources, target) > 0;
+    }
+
+    // 출발 상태를 하나로 좁힌 같은 조건부 UPDATE
+    @Override
+    default boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        return OrderStatusTransitions.isAllowed(expected, target)
+                && updateStatus(orderId.getValue(), Set.of(expected), target) > 0;
+    }
+
+    // 보관 테이블 폴백을 포함한 IN 조회는 ArchiveFallbackOrderRepositoryImpl 에서 처리
+    @Override
+    List<Order> findAllByIds(Collection<OrderId> orderIds);
+
+    // 기본 키 (value, created_at) 의 앞부분으로 찾고 버전 컬럼만 읽음. 보관된 주문은 빈 값 (호출자가 전체 조회로 처리)
+    @Override
+    default Optional<Long> findVersion(OrderId orderId) {
+        return findVersionById(orderId.getValue());
+    }
+
+    @Override
+    default Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        return findPreviousStatusById(orderId.getValue());
+    }
+
+    /**
+     * 커맨드가 기록한 출발 상태로 되돌리는 조건부 UPDATE 입니다. 직전 상태 컬럼 하나에 의존하지 않으므로
+     * 여러 단계를 이어서 되돌려도 각 단계가 자기 출발 상태로 돌아갑니다.
+     */
+    @Override
+    default boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        return OrderStatusTransitions.isAllowed(priorStatus, appliedStatus)
+                && revertStatusById(orderId.getValue(), appliedStatus, priorStatus) > 0;
+    }
+
+    /**
+     * 버전이 같을 때만 행을 잠그는 UPDATE 를 먼저 실행하고 같은 트랜잭션에서 저장합니다.
+     * 잠근 뒤에는 다른 쓰기가 끼어들 수 없으므로 읽은 뒤 바뀐 주문을 덮어쓰지 않습니다.
+     */
+    @Override
+    @Transactional
+    default boolean saveIfVersion(Order order, long expectedVersion) {
+        if (lockVersion(order.getId(), expectedVersion) == 0) {
+            return false;
+        }
+        save(order);
+        return true;
+    }
+
+    @Query(FIND_VERSION_QUERY)
+    Optional<Long> findVersionById(@Param("orderId") UUID orderId);
+
+    @Query(FIND_PREVIOUS_STATUS_QUERY)
+    Optional<Order.OrderStatus> findPreviousStatusById(@Param("orderId") UUID orderId);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(TRANSITION_STATUS_QUERY)
+    int updateStatus(@Param("orderId") UUID orderId,
+                     @Param("sources") Collection<Order.OrderStatus> sources,
+                     @Param("target") Order.OrderStatus target);
+
+    // 버전을 올려 행을 잠금 (MySQL 은 값이 그대로인 UPDATE 를 영향받은 행으로 세지 않을 수 있음).
+    // 이어서 저장하는 주문의 버전으로 다시 덮어씀
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update Order o set o.version = o.version + 1 where o.id.value = :orderId and o.version = :expected")
+    int lockVersion(@Param("orderId") UUID orderId, @Param("expected") long expectedVersion);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(REVERT_STATUS_QUERY)
+    int revertStatusById(@Param("orderId") UUID orderId,
+                         @Param("applied") Order.OrderStatus appliedStatus,
+                         @Param("prior") Order.OrderStatus priorStatus);
 }
@@ -0,0 +1,29 @@
+package com.example.sagacommand.order.infrastructure.persistence;
+
+import com.example.sagacommand.order.domain.model.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Money를 기본 통화의 최소 단위 개수로 BIGINT 컬럼에 저장합니다.
+ * 기본 통화가 아닌 금액은 저장 시점에 거부합니다.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Money money) {
+        if (money == null) {
+            return null;
+        }
+        if (!Money.DEFAULT_CURRENCY.equals(money.getCurrency())) {
+            throw new IllegalArgumentException("기본 통화가 아닌 금액은 저장할 수 없습니다: " + money);
+        }
+        return money.getMinorUnits();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(Long minorUnits) {
+        return minorUnits == null ? null : Money.ofMinor(minorUnits);
+    }
+}
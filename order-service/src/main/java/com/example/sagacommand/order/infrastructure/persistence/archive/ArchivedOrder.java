@@ -0,0 +1,64 @@
+package com.example.sagacommand.order.infrastructure.persistence.archive;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 종료(CANCELLED/COMPLETED)된 주문의 보관 레코드입니다.
+ * 주문 항목은 별도 테이블 대신 JSON 한 컬럼에 담아 주문당 한 행만 차지합니다.
+ */
+@Entity
+@Table(name = "orders_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    private UUID customerId;
+
+    @Column(length = 32)
+    private String status;
+
+    @Column(length = 32)
+    private String previousStatus;
+
+    private UUID paymentId;
+
+    private Integer appliedPoints;
+
+    private long totalAmount;
+
+    @Lob
+    private String items;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime archivedAt;
+
+    // 보관 전 주문 버전: 복원한 주문의 ETag 가 보관 전후로 같도록 유지
+    private long version;
+
+    ArchivedOrder(UUID orderId, UUID customerId, String status, String previousStatus, UUID paymentId,
+                  Integer appliedPoints, long totalAmount, String items, LocalDateTime createdAt,
+                  LocalDateTime archivedAt, long version) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.status = status;
+        this.previousStatus = previousStatus;
+        this.paymentId = paymentId;
+        this.appliedPoints = appliedPoints;
+        this.totalAmount = totalAmount;
+        this.items = items;
+        this.createdAt = createdAt;
+        this.archivedAt = archivedAt;
+        this.version = version;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.sagacommand.order.infrastructure.persistence.archive;
+
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 ↔ 보관 레코드 변환기입니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchivedOrderMapper {
+    private static final TypeReference<List<Item>> ITEMS_TYPE = new TypeReference<>() {
+    };
+
+    private final ObjectMapper objectMapper;
+
+    public ArchivedOrder toArchive(Order order, LocalDateTime archivedAt) {
+        List<Item> items = order.getOrderItems().stream()
+                .map(item -> new Item(item.getProductId(), item.getQuantity(), item.getPrice().getMinorUnits()))
+                .toList();
+        try {
+            return new ArchivedOrder(
+                    order.getId(),
+                    order.getCustomerId(),
+                    order.getStatus().name(),
+                    order.getPreviousStatus() == null ? null : order.getPreviousStatus().name(),
+                    order.getPaymentId(),
+                    order.getAppliedPoints(),
+                    order.getTotalAmount().getMinorUnits(),
+                    objectMapper.writeValueAsString(items),
+                    order.getCreatedAt(),
+                    archivedAt,
+                    order.getVersion()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 항목 직렬화 실패: " + order.getId(), e);
+        }
+    }
+
+    /**
+     * 조회 전용 주문으로 복원합니다 (버전, 직전 상태 포함).
+     */
+    public Order toOrder(ArchivedOrder archived) {
+        try {
+            List<OrderItem> items = objectMapper.readValue(archived.getItems(), ITEMS_TYPE).stream()
+                    .map(item -> OrderItem.create(item.productId(), item.quantity(), Money.ofMinor(item.price())))
+                    .toList();
+            return Order.restore(
+                    OrderId.of(archived.getOrderId()),
+                    archived.getCustomerId(),
+                    Order.OrderStatus.valueOf(archived.getStatus()),
+                    archived.getPreviousStatus() == null ? null : Order.OrderStatus.valueOf(archived.getPreviousStatus()),
+                    archived.getPaymentId(),
+                    archived.getAppliedPoints(),
+                    items,
+                    archived.getCreatedAt(),
+                    archived.getVersion()
+            );
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("보관 주문 항목 역직렬화 실패: " + archived.getOrderId(), e);
+        }
+    }
+
+    // price: 최소 단위 금액
+    record Item(UUID productId, int quantity, long price) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sagacommand.order.infrastructure.persistence.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+
+}
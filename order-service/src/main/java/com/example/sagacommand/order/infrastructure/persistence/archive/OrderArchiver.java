@@ -0,0 +1,149 @@
+package com.example.sagacommand.order.infrastructure.persistence.archive;
+
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.domain.model.Order;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오래된 종료 주문을 orders → orders_archive 로 옮기는 배치 작업입니다.
+ * 한 번에 batchSize 건씩 옮기고 배치 사이에 throttle 만큼 쉬어서
+ * 운영 트래픽과 락/IO 를 다투지 않도록 합니다.
+ * 한 배치(보관 테이블 입력 + 운영 테이블 삭제)는 하나의 트랜잭션으로 처리되며,
+ * 커밋된 배치의 주문 수만 상태별 주문 수 카운터에서 차감합니다.
+ */
+@Slf4j
+public class OrderArchiver {
+    private static final EnumSet<Order.OrderStatus> TERMINAL_STATUSES =
+            EnumSet.of(Order.OrderStatus.CANCELLED, Order.OrderStatus.COMPLETED);
+
+    private final EntityManager entityManager;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final ArchivedOrderMapper archivedOrderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final Duration maxAge;
+    private final int batchSize;
+    private final Duration throttle;
+    private final int maxBatchesPerRun;
+    private final OrderStatusCounters statusCounters;
+
+    public OrderArchiver(EntityManager entityManager,
+                         ArchivedOrderRepository archivedOrderRepository,
+                         ArchivedOrderMapper archivedOrderMapper,
+                         TransactionTemplate transactionTemplate,
+                         Clock clock,
+                         Duration maxAge,
+                         int batchSize,
+                         Duration throttle,
+                         int maxBatchesPerRun,
+                         OrderStatusCounters statusCounters) {
+        this.entityManager = entityManager;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.archivedOrderMapper = archivedOrderMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.maxAge = maxAge;
+        this.batchSize = batchSize;
+        this.throttle = throttle;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.statusCounters = statusCounters;
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.archive.interval:10m}")
+    public void archiveScheduled() {
+        try {
+            int archived = archive();
+            if (archived > 0) {
+                log.info("주문 보관 완료: {}건", archived);
+            }
+        } catch (Exception e) {
+            log.error("주문 보관 작업 실패", e);
+        }
+    }
+
+    /**
+     * @return 이번 실행에서 보관된 주문 수
+     */
+    public int archive() {
+        LocalDateTime cutoff = LocalDateTime.now(clock).minus(maxAge);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Map<Order.OrderStatus, Long> moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            int count = 0;
+            if (moved != null) {
+                for (Map.Entry<Order.OrderStatus, Long> entry : moved.entrySet()) {
+                    statusCounters.recordRemoved(entry.getKey(), entry.getValue());
+                    count += entry.getValue().intValue();
+                }
+            }
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+            if (!pause()) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * @return 옮긴 주문의 상태별 수
+     */
+    private Map<Order.OrderStatus, Long> archiveBatch(LocalDateTime cutoff) {
+        List<Order> orders = entityManager.createQuery(
+                        "select o from Order o where o.status in :statuses and o.createdAt < :cutoff order by o.createdAt",
+                        Order.class)
+                .setParameter("statuses", TERMINAL_STATUSES)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(batchSize)
+                .getResultList();
+        Map<Order.OrderStatus, Long> moved = new EnumMap<>(Order.OrderStatus.class);
+        if (orders.isEmpty()) {
+            return moved;
+        }
+        // 보관 행 변환과 cascade 삭제가 주문마다 항목을 따로 조회하지 않도록 한 번에 가져옴
+        // (페이징 쿼리에 fetch join 을 쓰면 메모리에서 잘라내므로 따로 조회)
+        entityManager.createQuery(
+                        "select distinct o from Order o left join fetch o.orderItems where o in :orders",
+                        Order.class)
+                .setParameter("orders", orders)
+                .getResultList();
+
+        LocalDateTime archivedAt = LocalDateTime.now(clock);
+        archivedOrderRepository.saveAll(orders.stream()
+                .map(order -> archivedOrderMapper.toArchive(order, archivedAt))
+                .toList());
+        // 보관 행을 먼저 기록한 뒤 삭제 (주문 항목은 cascade 로 함께 삭제)
+        archivedOrderRepository.flush();
+        orders.forEach(order -> {
+            entityManager.remove(order);
+            moved.merge(order.getStatus(), 1L, Long::sum);
+        });
+        return moved;
+    }
+
+    private boolean pause() {
+        if (throttle.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttle.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.sagacommand.order.infrastructure.persistence.correlation;
+
+import com.example.sagacommand.common.saga.join.CorrelationStore;
+import com.example.sagacommand.order.application.OrderDurability;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 합류 상태를 주문 변경이 DB 에 반영된 뒤에 기록합니다.
+ * <p>
+ * 도착은 그 응답을 처리한 핸들러의 주문 변경 뒤에 기록되므로, 주문 변경이 지연 반영(write-behind)되는 동안 먼저 기록하면
+ * 장애 시 주문 변경은 사라지고 도착 기록만 남습니다. 그래서 {@link OrderDurability#whenDurable} 시점까지 메모리에 두고
+ * (그동안의 조회는 여기서 응답), 반영되면 가장 최근 상태만 delegate 에 기록합니다.
+ * 즉시 반영되는 저장소에서는 바로 기록합니다.
+ */
+public class DurableCorrelationBacking implements CorrelationStore.Backing {
+
+    private final CorrelationStore.Backing delegate;
+    private final OrderDurability orderDurability;
+    // 아직 delegate 에 기록하지 않은 상태
+    private final Map<UUID, CorrelationStore.Correlation> pending = new ConcurrentHashMap<>();
+
+    public DurableCorrelationBacking(CorrelationStore.Backing delegate, OrderDurability orderDurability) {
+        this.delegate = delegate;
+        this.orderDurability = orderDurability;
+    }
+
+    @Override
+    public CorrelationStore.Correlation load(UUID correlationId) {
+        CorrelationStore.Correlation latest = pending.get(correlationId);
+        return latest != null ? latest : delegate.load(correlationId);
+    }
+
+    @Override
+    public void save(UUID correlationId, CorrelationStore.Correlation correlation) {
+        pending.put(correlationId, correlation);
+        orderDurability.whenDurable(() -> flush(correlationId));
+    }
+
+    private void flush(UUID correlationId) {
+        CorrelationStore.Correlation latest = pending.get(correlationId);
+        if (latest == null) {
+            return;
+        }
+        delegate.save(correlationId, latest);
+        pending.remove(correlationId, latest);
+    }
+}
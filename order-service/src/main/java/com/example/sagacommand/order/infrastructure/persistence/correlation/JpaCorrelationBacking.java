@@ -0,0 +1,28 @@
+package com.example.sagacommand.order.infrastructure.persistence.correlation;
+
+import com.example.sagacommand.common.saga.join.CorrelationStore;
+import lombok.RequiredArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * 합류 상태를 saga_correlation 테이블에 기록합니다.
+ * 상태가 바뀔 때만 호출되므로 응답 한 건당 한 번 기록하고, 읽기는 메모리에 없는 항목(재시작/내보낸 항목)에만 발생합니다.
+ */
+@RequiredArgsConstructor
+public class JpaCorrelationBacking implements CorrelationStore.Backing {
+
+    private final SagaCorrelationRepository repository;
+
+    @Override
+    public CorrelationStore.Correlation load(UUID orderId) {
+        return repository.findById(orderId)
+                .map(SagaCorrelation::toCorrelation)
+                .orElse(null);
+    }
+
+    @Override
+    public void save(UUID orderId, CorrelationStore.Correlation correlation) {
+        repository.save(new SagaCorrelation(orderId, correlation));
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.sagacommand.order.infrastructure.persistence.correlation;
+
+import com.example.sagacommand.common.saga.join.CorrelationStore;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 합류 단계의 응답 도착 상태입니다. 주문당 한 행이며, 재시작 후 합류를 이어서 추적하는 데 사용됩니다.
+ */
+@Entity
+@Table(name = "saga_correlation")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SagaCorrelation {
+
+    @Id
+    @Column(name = "order_id")
+    private UUID orderId;
+
+    // 도착한 성공 응답의 비트 집합
+    private int arrived;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private CorrelationStore.State state;
+
+    private LocalDateTime updatedAt;
+
+    SagaCorrelation(UUID orderId, CorrelationStore.Correlation correlation) {
+        this.orderId = orderId;
+        this.arrived = correlation.arrived();
+        this.state = correlation.state();
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    CorrelationStore.Correlation toCorrelation() {
+        return new CorrelationStore.Correlation(arrived, state);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.sagacommand.order.infrastructure.persistence.correlation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface SagaCorrelationRepository extends JpaRepository<SagaCorrelation, UUID> {
+
+}
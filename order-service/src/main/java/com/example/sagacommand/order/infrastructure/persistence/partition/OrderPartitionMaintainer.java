@@ -0,0 +1,99 @@
+package com.example.sagacommand.order.infrastructure.persistence.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * orders 테이블의 월 단위 RANGE 파티션을 관리합니다 (MySQL 전용).
+ * <ul>
+ *     <li>앞으로 monthsAhead 개월 분 파티션을 p_future 에서 잘라 미리 만들어 둡니다.</li>
+ *     <li>보관 작업으로 비워진 과거 파티션은 DROP PARTITION 으로 제거합니다 (행 단위 DELETE 없이 공간 회수).</li>
+ * </ul>
+ * 테이블 구조는 init-scripts/01-orders-partitioning.sql 을 따릅니다.
+ */
+@Slf4j
+public class OrderPartitionMaintainer {
+    static final String FUTURE_PARTITION = "p_future";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+
+    public OrderPartitionMaintainer(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.partitioning.interval:1h}")
+    public void maintainScheduled() {
+        try {
+            createUpcomingPartitions();
+            dropEmptyPastPartitions();
+        } catch (Exception e) {
+            log.error("orders 파티션 관리 실패", e);
+        }
+    }
+
+    public void createUpcomingPartitions() {
+        List<String> partitions = partitionNames();
+        if (!partitions.contains(FUTURE_PARTITION)) {
+            log.warn("orders 테이블이 파티션되어 있지 않거나 {} 파티션이 없습니다", FUTURE_PARTITION);
+            return;
+        }
+
+        YearMonth current = YearMonth.now(clock);
+        StringJoiner definitions = new StringJoiner(", ");
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            String name = partitionName(month);
+            if (!partitions.contains(name)) {
+                definitions.add("PARTITION " + name + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+            }
+        }
+        if (definitions.length() == 0) {
+            return;
+        }
+
+        // p_future 는 항상 비어 있으므로 재구성 비용이 없음
+        jdbcTemplate.execute("ALTER TABLE orders REORGANIZE PARTITION " + FUTURE_PARTITION
+                + " INTO (" + definitions + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+        log.info("orders 파티션 추가: {}", definitions);
+    }
+
+    public void dropEmptyPastPartitions() {
+        String currentName = partitionName(YearMonth.now(clock));
+        for (String name : partitionNames()) {
+            if (FUTURE_PARTITION.equals(name) || name.compareTo(currentName) >= 0) {
+                continue;
+            }
+            Long rows = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM orders PARTITION (" + name + ")", Long.class);
+            if (rows != null && rows == 0L) {
+                jdbcTemplate.execute("ALTER TABLE orders DROP PARTITION " + name);
+                log.info("비어 있는 orders 파티션 제거: {}", name);
+            }
+        }
+    }
+
+    private List<String> partitionNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'orders' AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                String.class);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_NAME.format(LocalDate.of(month.getYear(), month.getMonth(), 1));
+    }
+}
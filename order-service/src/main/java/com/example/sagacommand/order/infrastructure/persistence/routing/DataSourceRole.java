@@ -0,0 +1,5 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+public enum DataSourceRole {
+    PRIMARY, REPLICA
+}
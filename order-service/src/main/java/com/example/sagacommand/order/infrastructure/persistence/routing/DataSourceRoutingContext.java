@@ -0,0 +1,32 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 조회를 원본(primary)으로 고정하기 위한 컨텍스트입니다.
+ * 커넥션은 첫 SQL 실행 시점에 결정되므로 트랜잭션 시작 이후에 고정해도 적용됩니다.
+ */
+public final class DataSourceRoutingContext {
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private DataSourceRoutingContext() {
+    }
+
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_PINNED.get();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_PINNED.remove();
+            } else {
+                PRIMARY_PINNED.set(previous);
+            }
+        }
+    }
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import com.example.sagacommand.order.application.OrderReadConsistency;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 복제본을 사용하지 않을 때의 기본 정책: 모든 조회가 원본에서 실행되므로 추가 처리가 없습니다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "false", matchIfMissing = true)
+public class DirectOrderReadConsistency implements OrderReadConsistency {
+
+    @Override
+    public void recordWrite(UUID orderId) {
+    }
+
+    @Override
+    public <T> T read(UUID orderId, Supplier<T> query) {
+        return query.get();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import com.example.sagacommand.order.application.OrderReadConsistency;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 최근 변경된 주문을 기억해 두었다가, 복제 지연 허용 시간 안에 들어온 조회는 원본으로 보냅니다.
+ * 기록은 이 인스턴스 메모리에만 유지되며, 최대 개수를 넘으면 만료된 항목부터 정리합니다.
+ * <p>
+ * 인스턴스 단위의 최선 노력(best-effort) 보장입니다. 다음 경우에는 허용 시간 안이어도 복제본에서 읽을 수 있습니다.
+ * - 변경 요청과 조회 요청이 서로 다른 인스턴스로 라우팅된 경우
+ * - 다른 인스턴스의 Saga 컨슈머가 주문 상태를 바꾼 경우
+ * 인스턴스 간에도 보장이 필요하면 로드 밸런서의 주문/클라이언트 고정(sticky) 라우팅과 함께 사용합니다.
+ */
+public class ReplicaAwareOrderReadConsistency implements OrderReadConsistency {
+
+    private final Map<UUID, Long> recentWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoTime;
+
+    public ReplicaAwareOrderReadConsistency(Duration readYourWritesWindow, int maxEntries) {
+        this(readYourWritesWindow, maxEntries, System::nanoTime);
+    }
+
+    ReplicaAwareOrderReadConsistency(Duration readYourWritesWindow, int maxEntries, LongSupplier nanoTime) {
+        this.windowNanos = readYourWritesWindow.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoTime = nanoTime;
+    }
+
+    @Override
+    public void recordWrite(UUID orderId) {
+        long now = nanoTime.getAsLong();
+        recentWrites.put(orderId, now + windowNanos);
+        if (recentWrites.size() > maxEntries) {
+            recentWrites.values().removeIf(expiresAt -> expiresAt - now < 0);
+        }
+    }
+
+    @Override
+    public <T> T read(UUID orderId, Supplier<T> query) {
+        Long expiresAt = recentWrites.get(orderId);
+        if (expiresAt == null) {
+            return query.get();
+        }
+        if (expiresAt - nanoTime.getAsLong() < 0) {
+            recentWrites.remove(orderId, expiresAt);
+            return query.get();
+        }
+        return DataSourceRoutingContext.onPrimary(query);
+    }
+
+    int size() {
+        return recentWrites.size();
+    }
+}
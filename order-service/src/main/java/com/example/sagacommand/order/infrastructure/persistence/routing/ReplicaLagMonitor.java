@@ -0,0 +1,69 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 측정합니다.
+ * 지연이 허용치를 넘거나 측정에 실패하면(복제본 장애 등) 복제본 조회를 중단하고 원본으로 우회시킵니다.
+ * 지연 측정 쿼리가 설정되지 않으면 항상 정상으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = 0L;
+    private volatile boolean lagging = false;
+
+    /**
+     * @param replicaDataSource 복제본 데이터소스
+     * @param lagQuery          복제 지연(초)을 반환하는 쿼리 (null이면 측정하지 않음)
+     * @param maxLag            복제본 조회를 허용하는 최대 지연
+     */
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+        Gauge.builder("order.datasource.replica.lag", this, monitor -> monitor.lagMillis / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval:PT1S}")
+    public void check() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+
+        boolean wasLagging = lagging;
+        try {
+            Double seconds = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+            // 복제가 멈춘 경우 MySQL 은 NULL 을 반환
+            lagMillis = seconds == null ? Long.MAX_VALUE : (long) (seconds * 1000);
+            lagging = lagMillis > maxLagMillis;
+        } catch (Exception e) {
+            lagMillis = Long.MAX_VALUE;
+            lagging = true;
+            if (!wasLagging) {
+                log.warn("복제 지연 측정 실패, 원본으로 우회: {}", e.getMessage());
+            }
+        }
+
+        if (lagging != wasLagging) {
+            log.info("복제본 조회 {}: 지연 {}ms", lagging ? "중단" : "재개", lagMillis);
+        }
+    }
+
+    public boolean isLagging() {
+        return lagging;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션은 복제본으로, 그 외(쓰기, 트랜잭션 없음)는 원본으로 보내는 라우팅 데이터소스입니다.
+ * 다음 경우에는 읽기 전용이어도 원본으로 보냅니다.
+ * - DataSourceRoutingContext 로 원본이 고정된 경우 (read-your-writes)
+ * - 복제 지연이 허용치를 넘은 경우
+ * <p>
+ * 트랜잭션의 readOnly 플래그가 결정된 뒤에 라우팅되도록 LazyConnectionDataSourceProxy 로 감싸서 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+    private final Counter lagFallbacks;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.primaryRoutes = meterRegistry.counter("order.datasource.routes", "role", "primary");
+        this.replicaRoutes = meterRegistry.counter("order.datasource.routes", "role", "replica");
+        this.lagFallbacks = meterRegistry.counter("order.datasource.replica.lag.fallbacks");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || DataSourceRoutingContext.isPrimaryPinned()) {
+            primaryRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (lagMonitor.isLagging()) {
+            lagFallbacks.increment();
+            primaryRoutes.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaRoutes.increment();
+        return DataSourceRole.REPLICA;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.sagacommand.order.infrastructure.persistence.sharding;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 가상 노드를 사용하는 일관된 해시(consistent hash) 링입니다.
+ * 노드가 추가/제거되어도 대부분의 키는 기존 노드에 그대로 매핑되므로
+ * 리샤딩 시 이동해야 하는 데이터가 전체의 일부로 제한됩니다.
+ *
+ * @param <T> 노드 타입
+ */
+public class ConsistentHashRing<T> {
+    private final NavigableMap<Long, T> ring = new TreeMap<>();
+    private final List<T> nodes;
+
+    /**
+     * @param nodes        노드 이름 → 노드
+     * @param virtualNodes 노드당 가상 노드 수
+     */
+    public ConsistentHashRing(Map<String, T> nodes, int virtualNodes) {
+        if (nodes.isEmpty()) {
+            throw new IllegalArgumentException("해시 링에는 최소 1개의 노드가 필요합니다");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다: " + virtualNodes);
+        }
+
+        for (Map.Entry<String, T> entry : nodes.entrySet()) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(entry.getKey() + "#" + i), entry.getValue());
+            }
+        }
+        this.nodes = List.copyOf(new LinkedHashSet<>(nodes.values()));
+    }
+
+    public T route(UUID key) {
+        Map.Entry<Long, T> entry = ring.ceilingEntry(hash(key));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    public List<T> getNodes() {
+        return nodes;
+    }
+
+    static long hash(UUID key) {
+        return mix(key.getMostSignificantBits() ^ mix(key.getLeastSignificantBits()));
+    }
+
+    static long hash(String value) {
+        return hash(UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // MurmurHash3 fmix64: 랜덤 UUID가 아닌 키(순차 생성 등)도 링 전체에 고르게 분산
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
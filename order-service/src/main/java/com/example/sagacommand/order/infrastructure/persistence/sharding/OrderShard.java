@@ -0,0 +1,255 @@
+package com.example.sagacommand.order.infrastructure.persistence.sharding;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
+import com.example.sagacommand.order.infrastructure.persistence.JpaOrderRepository;
+import com.example.sagacommand.order.infrastructure.persistence.MoneyConverter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 하나의 샤드 데이터소스와 그에 속한 EntityManagerFactory, 트랜잭션 매니저를 묶은 단위입니다.
+ * 샤드 간 트랜잭션은 지원하지 않으며, 모든 작업은 해당 샤드의 로컬 트랜잭션 안에서 수행됩니다.
+ */
+@Slf4j
+public class OrderShard implements AutoCloseable {
+
+    @Getter
+    private final String name;
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+
+    private OrderShard(String name, DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.name = name;
+        this.dataSource = dataSource;
+        this.entityManagerFactory = entityManagerFactory;
+        // 트랜잭션에 바인딩된 EntityManager 프록시: 해당 샤드의 트랜잭션 매니저와 함께 동작
+        this.entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 주어진 데이터소스로 샤드 전용 EntityManagerFactory를 구성합니다.
+     * 기본 데이터소스와 동일한 테이블/컬럼 이름을 쓰도록 Spring Boot의 네이밍 전략을 적용합니다.
+     */
+    public static OrderShard create(String name, DataSource dataSource, Map<String, ?> jpaProperties) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.physical_naming_strategy",
+                "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy");
+        properties.put("hibernate.implicit_naming_strategy",
+                "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy");
+        properties.putAll(jpaProperties);
+
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setPersistenceUnitName("order-" + name);
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(Order.class.getPackageName(), MoneyConverter.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+
+        log.info("주문 샤드 초기화: {}", name);
+        return new OrderShard(name, dataSource, factoryBean.getObject());
+    }
+
+    public Order save(Order order) {
+        return writeTransaction.execute(status -> entityManager.merge(order));
+    }
+
+    /**
+     * 트랜잭션 종료 후에도 주문 항목을 읽을 수 있도록 조회 시점에 초기화합니다.
+     */
+    public Optional<Order> findById(OrderId orderId) {
+        return readTransaction.execute(status -> {
+            Order order = entityManager.find(Order.class, orderId);
+            if (order != null) {
+                Hibernate.initialize(order.getOrderItems());
+            }
+            return Optional.ofNullable(order);
+        });
+    }
+
+    /**
+     * 버전 컬럼만 조회합니다. ({@link JpaOrderRepository#findVersion} 와 같은 문장, 주문 항목을 읽지 않음)
+     */
+    public Optional<Long> findVersion(OrderId orderId) {
+        return readTransaction.execute(status -> entityManager
+                .createQuery(JpaOrderRepository.FIND_VERSION_QUERY, Long.class)
+                .setParameter("orderId", orderId.getValue())
+                .getResultList()
+                .stream()
+                .findFirst());
+    }
+
+    /**
+     * 직전 상태 컬럼만 조회합니다. ({@link JpaOrderRepository#findPreviousStatus} 와 같은 문장)
+     */
+    public Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        return readTransaction.execute(status -> entityManager
+                .createQuery(JpaOrderRepository.FIND_PREVIOUS_STATUS_QUERY, Order.OrderStatus.class)
+                .setParameter("orderId", orderId.getValue())
+                .getResultList()
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst());
+    }
+
+    /**
+     * 다른 샤드에서 읽은 주문의 사본을 이 샤드에 넣습니다. 이미 있으면 덮어쓰지 않고 이 샤드의 주문을 반환합니다.
+     * (이동 중 장애 후 재시도, 동시에 같은 주문을 옮기는 경우에도 한 벌만 남음)
+     *
+     * @return 이 샤드에 있는 주문
+     */
+    public Order insertIfAbsent(Order order) {
+        OrderId orderId = OrderId.of(order.getId());
+        try {
+            return writeTransaction.execute(status -> {
+                Order existing = entityManager.find(Order.class, orderId);
+                if (existing != null) {
+                    Hibernate.initialize(existing.getOrderItems());
+                    return existing;
+                }
+                // 원본 항목의 ID 는 이 샤드에 없으므로 merge 하지 않고 새 엔티티로 저장
+                Order copy = order.copy();
+                entityManager.persist(copy);
+                return copy;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 스레드가 먼저 넣음
+            return findById(orderId).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 버전이 version 일 때만 주문을 삭제합니다. 읽은 뒤 다른 전이가 있었다면 삭제하지 않습니다.
+     *
+     * @return 삭제했으면 true, 주문이 없거나 버전이 다르면 false
+     */
+    public boolean deleteIfVersion(OrderId orderId, long version) {
+        Boolean deleted = writeTransaction.execute(status -> {
+            Order order = entityManager.find(Order.class, orderId, LockModeType.PESSIMISTIC_WRITE);
+            if (order == null || order.getVersion() != version) {
+                return false;
+            }
+            entityManager.remove(order);
+            return true;
+        });
+        return Boolean.TRUE.equals(deleted);
+    }
+
+    /**
+     * 버전이 expectedVersion 일 때만 저장합니다. 행을 잠그고 비교한 뒤 같은 트랜잭션에서 저장합니다.
+     */
+    public boolean saveIfVersion(Order order, long expectedVersion) {
+        Boolean saved = writeTransaction.execute(status -> {
+            Order current = entityManager.find(Order.class, OrderId.of(order.getId()), LockModeType.PESSIMISTIC_WRITE);
+            if (current == null || current.getVersion() != expectedVersion) {
+                return false;
+            }
+            entityManager.merge(order);
+            return true;
+        });
+        return Boolean.TRUE.equals(saved);
+    }
+
+    /**
+     * 조건부 UPDATE 로 상태를 전이합니다. ({@link JpaOrderRepository#transitionStatus} 와 같은 문장)
+     */
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        Set<Order.OrderStatus> sources = OrderStatusTransitions.sourcesOf(target);
+        return !sources.isEmpty() && updateStatus(orderId, sources, target);
+    }
+
+    /**
+     * 현재 상태가 expected 일 때만 전이하는 조건부 UPDATE 입니다.
+     */
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        return OrderStatusTransitions.isAllowed(expected, target) && updateStatus(orderId, Set.of(expected), target);
+    }
+
+    private boolean updateStatus(OrderId orderId, Set<Order.OrderStatus> sources, Order.OrderStatus target) {
+        Integer updated = writeTransaction.execute(status -> entityManager
+                .createQuery(JpaOrderRepository.TRANSITION_STATUS_QUERY)
+                .setParameter("orderId", orderId.getValue())
+                .setParameter("sources", sources)
+                .setParameter("target", target)
+                .executeUpdate());
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 조건부 UPDATE 로 커맨드가 기록한 출발 상태로 되돌립니다. ({@link JpaOrderRepository#revertStatus} 와 같은 문장)
+     */
+    public boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        if (!OrderStatusTransitions.isAllowed(priorStatus, appliedStatus)) {
+            return false;
+        }
+        Integer updated = writeTransaction.execute(status -> entityManager
+                .createQuery(JpaOrderRepository.REVERT_STATUS_QUERY)
+                .setParameter("orderId", orderId.getValue())
+                .setParameter("applied", appliedStatus)
+                .setParameter("prior", priorStatus)
+                .executeUpdate());
+        return updated != null && updated > 0;
+    }
+
+    /**
+     * 주문 ID 순으로 after 다음의 주문을 최대 size개 조회합니다. (키셋 페이지네이션)
+     */
+    public List<Order> findBatchAfter(UUID after, int size) {
+        return readTransaction.execute(status -> {
+            List<Order> orders = (after == null
+                    ? entityManager.createQuery("select o from Order o order by o.id.value", Order.class)
+                    : entityManager.createQuery("select o from Order o where o.id.value > :after order by o.id.value", Order.class)
+                            .setParameter("after", after))
+                    .setMaxResults(size)
+                    .getResultList();
+            orders.forEach(order -> Hibernate.initialize(order.getOrderItems()));
+            return orders;
+        });
+    }
+
+    @Override
+    public void close() {
+        entityManagerFactory.close();
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("샤드 데이터소스 종료 중 예외 발생: {}", name, e);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
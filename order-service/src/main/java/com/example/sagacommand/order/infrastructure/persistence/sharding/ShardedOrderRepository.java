@@ -0,0 +1,207 @@
+package com.example.sagacommand.order.infrastructure.persistence.sharding;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+
+/**
+ * 주문 ID의 일관된 해시로 샤드를 선택하는 OrderRepository 구현체입니다.
+ * <p>
+ * 리샤딩 모드에서는 이전 링(previousRing)을 함께 유지합니다.
+ * - 조회: 현재 링의 샤드에 없으면 이전 링의 샤드를 조회하고, 찾으면 현재 샤드로 옮깁니다.
+ * - 저장: 현재 링의 샤드에만 저장합니다. 기존 주문은 조회할 때 이미 옮겨졌으므로 저장 경로에서 샤드를 넘나드는 쓰기가 없습니다.
+ * - rebalance: 백그라운드에서 이전 샤드를 순회하며 남은 주문을 일괄 이동합니다.
+ * 이동은 "복사 후 삭제" 순서이므로 중간에 실패해도 주문이 유실되지 않고, 다음 접근 시 다시 정리됩니다.
+ * 복사는 대상 샤드에 없을 때만 넣고(insert-if-absent), 삭제는 읽은 버전 그대로일 때만 하므로(delete-where-version)
+ * 같은 주문을 다시 옮기거나 동시에 옮겨도 한 벌만 남고, 이동 중 일어난 전이를 덮어쓰지 않습니다.
+ */
+@Slf4j
+public class ShardedOrderRepository implements OrderRepository, AutoCloseable {
+
+    // 복사한 뒤 이전 샤드에서 주문이 바뀌면 최신 상태로 다시 옮기는 최대 횟수
+    private static final int MAX_MIGRATION_ATTEMPTS = 3;
+
+    private final ConsistentHashRing<OrderShard> ring;
+    private final ConsistentHashRing<OrderShard> previousRing;
+
+    public ShardedOrderRepository(ConsistentHashRing<OrderShard> ring) {
+        this(ring, null);
+    }
+
+    /**
+     * @param ring         현재 링
+     * @param previousRing 리샤딩 중일 때의 이전 링 (리샤딩 중이 아니면 null)
+     */
+    public ShardedOrderRepository(ConsistentHashRing<OrderShard> ring, ConsistentHashRing<OrderShard> previousRing) {
+        this.ring = ring;
+        this.previousRing = previousRing;
+    }
+
+    // 저장할 주문은 새 주문이거나 findById 가 이미 현재 샤드로 옮긴 주문이므로 이전 샤드는 건드리지 않음
+    @Override
+    public Order save(Order order) {
+        return ring.route(order.getId()).save(order);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        OrderShard owner = ring.route(orderId.getValue());
+        Optional<Order> found = owner.findById(orderId);
+        if (found.isPresent()) {
+            return found;
+        }
+
+        OrderShard previousOwner = previousOwner(orderId, owner);
+        if (previousOwner == null) {
+            return found;
+        }
+        return previousOwner.findById(orderId).map(order -> migrate(order, previousOwner, owner));
+    }
+
+    // 조건부 조회(ETag)용: 주문 항목을 읽지 않고 버전 컬럼만 조회. 리샤딩 중이면 이전 샤드에서 읽음 (옮기지 않음)
+    @Override
+    public Optional<Long> findVersion(OrderId orderId) {
+        OrderShard owner = ring.route(orderId.getValue());
+        Optional<Long> found = owner.findVersion(orderId);
+        if (found.isPresent()) {
+            return found;
+        }
+        OrderShard previousOwner = previousOwner(orderId, owner);
+        return previousOwner != null ? previousOwner.findVersion(orderId) : found;
+    }
+
+    // 조건부 UPDATE 뒤에 출발 상태만 확인하므로 애그리거트를 읽지 않고 컬럼 하나만 조회.
+    // 리샤딩 중 아직 옮기지 않은 주문이면 이전 샤드에서 읽음 (조회만 하므로 옮기지 않음)
+    @Override
+    public Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        OrderShard owner = ring.route(orderId.getValue());
+        Optional<Order.OrderStatus> found = owner.findPreviousStatus(orderId);
+        if (found.isPresent()) {
+            return found;
+        }
+        OrderShard previousOwner = previousOwner(orderId, owner);
+        return previousOwner != null ? previousOwner.findPreviousStatus(orderId) : found;
+    }
+
+    @Override
+    public boolean saveIfVersion(Order order, long expectedVersion) {
+        OrderId orderId = OrderId.of(order.getId());
+        OrderShard owner = ring.route(order.getId());
+        if (owner.saveIfVersion(order, expectedVersion)) {
+            return true;
+        }
+        return previousOwner(orderId, owner) != null
+                && findById(orderId).isPresent()
+                && owner.saveIfVersion(order, expectedVersion);
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        OrderShard owner = ring.route(orderId.getValue());
+        if (owner.transitionStatus(orderId, target)) {
+            return true;
+        }
+        // 리샤딩 중이면 아직 이전 샤드에 있을 수 있으므로 조회로 옮긴 뒤 다시 시도
+        return previousOwner(orderId, owner) != null
+                && findById(orderId).isPresent()
+                && owner.transitionStatus(orderId, target);
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        OrderShard owner = ring.route(orderId.getValue());
+        if (owner.transitionStatus(orderId, expected, target)) {
+            return true;
+        }
+        return previousOwner(orderId, owner) != null
+                && findById(orderId).isPresent()
+                && owner.transitionStatus(orderId, expected, target);
+    }
+
+    @Override
+    public boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        OrderShard owner = ring.route(orderId.getValue());
+        if (owner.revertStatus(orderId, appliedStatus, priorStatus)) {
+            return true;
+        }
+        return previousOwner(orderId, owner) != null
+                && findById(orderId).isPresent()
+                && owner.revertStatus(orderId, appliedStatus, priorStatus);
+    }
+
+    public boolean isResharding() {
+        return previousRing != null;
+    }
+
+    /**
+     * 이전 링의 샤드에 남아 있는 주문 중 소유 샤드가 바뀐 주문을 현재 샤드로 옮깁니다.
+     *
+     * @param batchSize 샤드별 한 번에 읽어올 주문 수
+     * @return 이동한 주문 수
+     */
+    public long rebalance(int batchSize) {
+        if (previousRing == null) {
+            return 0L;
+        }
+
+        long migrated = 0L;
+        for (OrderShard shard : previousRing.getNodes()) {
+            UUID cursor = null;
+            List<Order> batch;
+            do {
+                batch = shard.findBatchAfter(cursor, batchSize);
+                for (Order order : batch) {
+                    OrderShard owner = ring.route(order.getId());
+                    if (owner != shard) {
+                        migrate(order, shard, owner);
+                        migrated++;
+                    }
+                    cursor = order.getId();
+                }
+            } while (batch.size() == batchSize);
+            log.info("샤드 재분배 진행: {} 처리 완료 (누적 이동 {}건)", shard, migrated);
+        }
+        return migrated;
+    }
+
+    private OrderShard previousOwner(OrderId orderId, OrderShard owner) {
+        if (previousRing == null) {
+            return null;
+        }
+        OrderShard previousOwner = previousRing.route(orderId.getValue());
+        return previousOwner != owner ? previousOwner : null;
+    }
+
+    private Order migrate(Order order, OrderShard from, OrderShard to) {
+        OrderId orderId = OrderId.of(order.getId());
+        Order snapshot = order;
+        for (int attempt = 0; attempt < MAX_MIGRATION_ATTEMPTS; attempt++) {
+            Order migrated = to.insertIfAbsent(snapshot);
+            if (from.deleteIfVersion(orderId, snapshot.getVersion())) {
+                log.debug("주문 샤드 이동: {} [{} → {}]", orderId, from, to);
+                return migrated;
+            }
+            Optional<Order> current = from.findById(orderId);
+            if (current.isEmpty()) {
+                // 다른 스레드가 이미 옮김
+                return migrated;
+            }
+            // 복사한 뒤 이전 샤드에서 바뀜: 아무도 바꾸지 않은 사본만 지우고 최신 상태로 다시 옮김
+            to.deleteIfVersion(orderId, snapshot.getVersion());
+            snapshot = current.get();
+        }
+        throw new IllegalStateException("주문 샤드 이동 실패 (이전 샤드에서 계속 변경됨): " + orderId);
+    }
+
+    @Override
+    public void close() {
+        Set<OrderShard> shards = new LinkedHashSet<>(ring.getNodes());
+        if (previousRing != null) {
+            shards.addAll(previousRing.getNodes());
+        }
+        shards.forEach(OrderShard::close);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.sagacommand.order.infrastructure.persistence.statuscount;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.infrastructure.statuscount.StripedOrderStatusCounters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 상태별 주문 수를 order_status_summary 테이블에 기록하고, orders 테이블에서 대사 값을 셉니다.
+ */
+@RequiredArgsConstructor
+public class JpaOrderStatusSummaryStore implements StripedOrderStatusCounters.Store {
+
+    private final OrderStatusSummaryRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Override
+    public Map<Order.OrderStatus, Long> load() {
+        Map<Order.OrderStatus, Long> counts = new EnumMap<>(Order.OrderStatus.class);
+        repository.findAll().forEach(summary -> counts.put(summary.getStatus(), summary.getOrderCount()));
+        return counts;
+    }
+
+    @Override
+    public void add(Map<Order.OrderStatus, Long> deltas) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> deltas.forEach((orderStatus, delta) -> {
+            if (repository.addCount(orderStatus, delta, now) == 0) {
+                // 대사 전에 처음 보는 상태: 행을 만들고, 다음 대사에서 정확한 값으로 바로잡음
+                repository.save(new OrderStatusSummary(orderStatus, delta, now));
+            }
+        }));
+    }
+
+    @Override
+    public void replace(Map<Order.OrderStatus, Long> counts) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        transactionTemplate.executeWithoutResult(status -> repository.saveAll(counts.entrySet().stream()
+                .map(entry -> new OrderStatusSummary(entry.getKey(), entry.getValue(), now))
+                .toList()));
+    }
+
+    @Override
+    public Map<Order.OrderStatus, Long> countOrders() {
+        Map<Order.OrderStatus, Long> counts = new EnumMap<>(Order.OrderStatus.class);
+        for (Object[] row : repository.countOrdersByStatus()) {
+            counts.put((Order.OrderStatus) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.sagacommand.order.infrastructure.persistence.statuscount;
+
+import com.example.sagacommand.order.domain.model.Order;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태별 주문 수 요약입니다. 상태당 한 행이며, 각 인스턴스가 주기적으로 자신의 변경분을 더합니다.
+ */
+@Entity
+@Table(name = "order_status_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderStatusSummary {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 32)
+    private Order.OrderStatus status;
+
+    private long orderCount;
+
+    private LocalDateTime updatedAt;
+
+    OrderStatusSummary(Order.OrderStatus status, long orderCount, LocalDateTime updatedAt) {
+        this.status = status;
+        this.orderCount = orderCount;
+        this.updatedAt = updatedAt;
+    }
+}
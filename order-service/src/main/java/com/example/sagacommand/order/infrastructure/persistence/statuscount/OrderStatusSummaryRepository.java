@@ -0,0 +1,28 @@
+package com.example.sagacommand.order.infrastructure.persistence.statuscount;
+
+import com.example.sagacommand.order.domain.model.Order;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrderStatusSummaryRepository extends JpaRepository<OrderStatusSummary, Order.OrderStatus> {
+
+    /**
+     * 읽지 않고 더하므로 여러 인스턴스가 동시에 기록해도 변경분이 유실되지 않습니다.
+     *
+     * @return 갱신된 행 수 (행이 없으면 0)
+     */
+    @Modifying
+    @Query("update OrderStatusSummary s set s.orderCount = s.orderCount + :delta, s.updatedAt = :now where s.status = :status")
+    int addCount(@Param("status") Order.OrderStatus status, @Param("delta") long delta, @Param("now") LocalDateTime now);
+
+    /**
+     * @return [상태, 주문 수] 목록
+     */
+    @Query("select o.status, count(o) from Order o group by o.status")
+    List<Object[]> countOrdersByStatus();
+}
@@ -0,0 +1,409 @@
+package com.example.sagacommand.order.infrastructure.persistence.writebehind;
+
+import com.example.sagacommand.order.application.OrderDurability;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * Saga 진행 중인 주문을 메모리에 두고 DB 반영을 뒤로 미루는(write-behind) OrderRepository 입니다.
+ * <ul>
+ *     <li>저장: 메모리의 주문을 사본으로 교체하고 버전을 올린 뒤 바로 반환합니다. 반영 전 같은 주문의 여러 저장은 한 번으로 합쳐집니다.</li>
+ *     <li>조회: 메모리의 주문은 교체만 하고 변경하지 않으며 호출자에게는 사본을 반환하므로, 반영 스레드가 저장하는 인스턴스를 다른 스레드가 바꾸지 않습니다.</li>
+ *     <li>반영: flushInterval 마다 변경된 주문을 batchSize 단위 트랜잭션으로 위임 저장소에 저장합니다.
+ *     반영 중 다시 변경된 주문은 다음 주기에 다시 반영됩니다.</li>
+ *     <li>지연 한도: 반영 대기 주문이 maxPending 을 넘으면 저장하는 스레드에서 즉시 반영합니다.</li>
+ * </ul>
+ * 장애 복구는 DB 가 아니라 Kafka 오프셋에 맡깁니다. 리스너는 {@link #whenDurable}로 반영 이후에만
+ * 오프셋을 커밋하므로, 반영 전에 프로세스가 죽으면 커밋되지 않은 이벤트가 다시 전달되어 상태가 재구성됩니다.
+ * <p>
+ * 메모리 상태는 인스턴스마다 따로이므로, 주문별 쓰기가 한 인스턴스로 모이는 배포(주문 ID 파티션 키)를 전제로 합니다.
+ */
+@Slf4j
+public class WriteBehindOrderRepository implements OrderRepository, OrderDurability, AutoCloseable {
+
+    private final OrderRepository delegate;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final int maxPending;
+    private final long idleEvictionNanos;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    // 저장마다 증가하는 전역 순번, 반영이 끝난 순번
+    private final AtomicLong writeSequence = new AtomicLong();
+    private volatile long durableSequence;
+    // 저장(순번 발급 ~ dirty 등록)은 공유 락, 반영 완료 순번 계산은 배타 락으로 보호하여
+    // 순번만 발급되고 아직 dirty 에 보이지 않는 저장이 반영된 것으로 잘못 계산되지 않게 함
+    private final ReadWriteLock sequenceLock = new ReentrantReadWriteLock();
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+
+    private final AtomicLong coalescedWrites = new AtomicLong();
+    private final AtomicLong flushedOrders = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+
+    private final Object flushLock = new Object();
+    private final ScheduledExecutorService flusher;
+
+    public WriteBehindOrderRepository(OrderRepository delegate,
+                                      TransactionOperations transactionOperations,
+                                      Duration flushInterval,
+                                      int batchSize,
+                                      int maxPending,
+                                      Duration idleEviction) {
+        this.delegate = delegate;
+        this.transactionOperations = transactionOperations;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.idleEvictionNanos = idleEviction.toNanos();
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-write-behind");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public Order save(Order order) {
+        // 호출자는 저장 후에도 자기 인스턴스를 계속 변경할 수 있으므로 메모리에는 사본을 둠
+        Order snapshot = order.snapshot();
+        sequenceLock.readLock().lock();
+        try {
+            long sequence = writeSequence.incrementAndGet();
+            entries.compute(order.getId(), (id, entry) -> record(entry, snapshot, sequence));
+            dirty.add(order.getId());
+        } finally {
+            sequenceLock.readLock().unlock();
+        }
+        applyBackpressure();
+        return order;
+    }
+
+    /**
+     * 메모리의 주문은 반영 스레드가 읽는 동안 바뀌지 않도록 교체만 하고 변경하지 않습니다.
+     * 호출자에게는 항상 사본을 반환하므로, 저장하지 않은 변경은 메모리에도 반영되지 않습니다.
+     */
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return cached(orderId).map(Order::snapshot);
+    }
+
+    // 메모리에 있으면 사본을 만들지 않고 읽고, 없으면 위임 저장소의 컬럼 조회를 사용 (메모리에 올리지 않음)
+    @Override
+    public Optional<Long> findVersion(OrderId orderId) {
+        Entry cached = entries.get(orderId.getValue());
+        return cached != null ? Optional.of(cached.order.getVersion()) : delegate.findVersion(orderId);
+    }
+
+    @Override
+    public Optional<Order.OrderStatus> findPreviousStatus(OrderId orderId) {
+        Entry cached = entries.get(orderId.getValue());
+        return cached != null ? Optional.ofNullable(cached.order.getPreviousStatus()) : delegate.findPreviousStatus(orderId);
+    }
+
+    /**
+     * 메모리의 주문 버전이 expectedVersion 일 때만 교체합니다. 비교와 교체는 주문별 compute 안에서 원자적으로 수행됩니다.
+     */
+    @Override
+    public boolean saveIfVersion(Order order, long expectedVersion) {
+        Order snapshot = order.snapshot();
+        return update(OrderId.of(order.getId()), current -> current.getVersion() == expectedVersion ? snapshot : null);
+    }
+
+    /**
+     * 주문별로 원자적으로 전이합니다. 조회~저장 사이에 다른 스레드의 변경이 끼어들지 않습니다.
+     */
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus target) {
+        return update(orderId, current -> {
+            if (current.getStatus() == target || !current.canTransitionTo(target)) {
+                return null;
+            }
+            Order changed = current.snapshot();
+            changed.transitionTo(target);
+            return changed;
+        });
+    }
+
+    @Override
+    public boolean transitionStatus(OrderId orderId, Order.OrderStatus expected, Order.OrderStatus target) {
+        if (!OrderStatusTransitions.isAllowed(expected, target)) {
+            return false;
+        }
+        return update(orderId, current -> {
+            if (current.getStatus() != expected) {
+                return null;
+            }
+            Order changed = current.snapshot();
+            changed.transitionTo(target);
+            return changed;
+        });
+    }
+
+    @Override
+    public boolean revertStatus(OrderId orderId, Order.OrderStatus appliedStatus, Order.OrderStatus priorStatus) {
+        return update(orderId, current -> {
+            Order changed = current.snapshot();
+            return changed.revertFrom(appliedStatus, priorStatus) ? changed : null;
+        });
+    }
+
+    private Optional<Order> cached(OrderId orderId) {
+        Entry cached = entries.get(orderId.getValue());
+        if (cached != null) {
+            cached.lastAccess = System.nanoTime();
+            return Optional.of(cached.order);
+        }
+
+        Optional<Order> loaded = delegate.findById(orderId);
+        // 조회하는 사이 다른 스레드가 저장했다면 그 값이 우선
+        return loaded.map(order -> entries.computeIfAbsent(order.getId(), id -> {
+            Entry entry = new Entry();
+            entry.order = order;
+            entry.lastAccess = System.nanoTime();
+            return entry;
+        }).order);
+    }
+
+    // 메모리의 주문으로 바꿀 주문을 만들고(바꾸지 않으면 null), 저장과 같은 방식으로 교체 (주문별 compute 가 락 역할)
+    private boolean update(OrderId orderId, UnaryOperator<Order> change) {
+        UUID id = orderId.getValue();
+        while (cached(orderId).isPresent()) {
+            boolean[] result = {false, false};
+            sequenceLock.readLock().lock();
+            try {
+                entries.computeIfPresent(id, (key, entry) -> {
+                    result[0] = true;
+                    Order changed = change.apply(entry.order);
+                    if (changed == null) {
+                        return entry;
+                    }
+                    result[1] = true;
+                    return record(entry, changed, writeSequence.incrementAndGet());
+                });
+                if (result[1]) {
+                    dirty.add(id);
+                }
+            } finally {
+                sequenceLock.readLock().unlock();
+            }
+            if (result[0]) {
+                if (result[1]) {
+                    applyBackpressure();
+                }
+                return result[1];
+            }
+            // 조회와 변경 사이에 메모리에서 제거되었으면 다시 읽어 옴
+        }
+        return false;
+    }
+
+    private Entry record(Entry entry, Order order, long sequence) {
+        if (entry == null) {
+            entry = new Entry();
+        } else if (entry.firstUnflushedSequence != 0L) {
+            coalescedWrites.incrementAndGet();
+        }
+        entry.order = order;
+        entry.version++;
+        entry.lastSequence = sequence;
+        entry.lastAccess = System.nanoTime();
+        if (entry.firstUnflushedSequence == 0L) {
+            entry.firstUnflushedSequence = sequence;
+        }
+        return entry;
+    }
+
+    private void applyBackpressure() {
+        if (dirty.size() >= maxPending) {
+            // 반영이 밀리면 쓰는 쪽을 늦춰서 메모리에만 있는 변경이 한도를 넘지 않게 함
+            flushQuietly();
+        }
+    }
+
+    @Override
+    public void whenDurable(Runnable action) {
+        long target = writeSequence.get();
+        synchronized (waiters) {
+            if (target > durableSequence || !waiters.isEmpty()) {
+                // 먼저 등록된 작업보다 앞서 실행되지 않도록 대기열에 넣음 (오프셋 커밋 순서 유지)
+                waiters.addLast(new Waiter(target, action));
+                return;
+            }
+        }
+        action.run();
+    }
+
+    /**
+     * 반영 대기 중인 주문을 모두 위임 저장소에 저장합니다.
+     *
+     * @return 저장한 주문 수
+     */
+    public int flush() {
+        synchronized (flushLock) {
+            int flushed = 0;
+            List<UUID> pending = new ArrayList<>(dirty);
+            for (int from = 0; from < pending.size(); from += batchSize) {
+                flushed += flushBatch(pending.subList(from, Math.min(from + batchSize, pending.size())));
+            }
+            advanceDurableSequence();
+            evictIdle();
+            return flushed;
+        }
+    }
+
+    private int flushBatch(List<UUID> ids) {
+        List<Snapshot> snapshots = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            entries.computeIfPresent(id, (key, entry) -> {
+                snapshots.add(new Snapshot(key, entry.order, entry.version, entry.lastSequence));
+                return entry;
+            });
+        }
+
+        List<Order> saved = transactionOperations.execute(status -> {
+            List<Order> result = new ArrayList<>(snapshots.size());
+            for (Snapshot snapshot : snapshots) {
+                result.add(delegate.save(snapshot.order()));
+            }
+            return result;
+        });
+
+        for (int i = 0; i < snapshots.size(); i++) {
+            Snapshot snapshot = snapshots.get(i);
+            Order persisted = saved == null ? snapshot.order() : saved.get(i);
+            entries.computeIfPresent(snapshot.id(), (id, entry) -> {
+                if (entry.version == snapshot.version()) {
+                    // 반영 이후 변경이 없으면 영속화된 인스턴스(생성된 ID 포함)로 교체하고 깨끗한 상태로 표시
+                    entry.order = persisted;
+                    entry.firstUnflushedSequence = 0L;
+                    dirty.remove(id);
+                } else {
+                    // 반영 중 들어온 변경은 snapshot 이후 순번이므로 다음 주기에 반영
+                    entry.firstUnflushedSequence = snapshot.lastSequence() + 1;
+                }
+                return entry;
+            });
+        }
+        flushedOrders.addAndGet(snapshots.size());
+        return snapshots.size();
+    }
+
+    private void advanceDurableSequence() {
+        sequenceLock.writeLock().lock();
+        try {
+            long observed = writeSequence.get();
+            long oldestUnflushed = Long.MAX_VALUE;
+            for (UUID id : dirty) {
+                Entry entry = entries.get(id);
+                if (entry != null && entry.firstUnflushedSequence != 0L) {
+                    oldestUnflushed = Math.min(oldestUnflushed, entry.firstUnflushedSequence);
+                }
+            }
+            durableSequence = oldestUnflushed == Long.MAX_VALUE ? observed : oldestUnflushed - 1;
+        } finally {
+            sequenceLock.writeLock().unlock();
+        }
+
+        List<Runnable> ready = new ArrayList<>();
+        synchronized (waiters) {
+            while (!waiters.isEmpty() && waiters.peekFirst().target() <= durableSequence) {
+                ready.add(waiters.pollFirst().action());
+            }
+        }
+        for (Runnable action : ready) {
+            try {
+                action.run();
+            } catch (Exception e) {
+                log.error("반영 이후 작업 실행 실패: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    // 반영이 끝났고 오래 접근되지 않았거나 종료 상태인 주문은 메모리에서 제거
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (UUID id : entries.keySet()) {
+            // 검사와 제거를 원자적으로 수행해야 그 사이 들어온 저장이 유실되지 않음
+            entries.computeIfPresent(id, (key, entry) -> entry.firstUnflushedSequence == 0L
+                    && (entry.order.isTerminal() || now - entry.lastAccess > idleEvictionNanos) ? null : entry);
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // 변경은 dirty 로 남아 다음 주기에 재시도되고, 대기 중인 오프셋 커밋도 보류됨
+            failedFlushes.incrementAndGet();
+            log.error("주문 지연 반영 실패 (대기 {}건): {}", dirty.size(), e.getMessage(), e);
+        }
+    }
+
+    public int getPendingCount() {
+        return dirty.size();
+    }
+
+    public int getCachedCount() {
+        return entries.size();
+    }
+
+    public long getCoalescedWrites() {
+        return coalescedWrites.get();
+    }
+
+    public long getFlushedOrders() {
+        return flushedOrders.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    /**
+     * 종료 시 남은 변경을 반영합니다. 실패하면 커밋되지 않은 오프셋으로 재처리됩니다.
+     */
+    @Override
+    public void close() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(10, TimeUnit.SECONDS);
+            flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("종료 시 주문 반영 실패 (대기 {}건): {}", dirty.size(), e.getMessage(), e);
+        }
+    }
+
+    private static final class Entry {
+        volatile Order order;
+        long version;
+        long lastSequence;
+        // 반영되지 않은 가장 오래된 저장의 순번 (0이면 반영 완료)
+        volatile long firstUnflushedSequence;
+        volatile long lastAccess;
+    }
+
+    private record Snapshot(UUID id, Order order, long version, long lastSequence) {
+    }
+
+    private record Waiter(long target, Runnable action) {
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.sagacommand.order.infrastructure.saga;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
 import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
 import com.example.sagacommand.common.saga.EventHandler;
 import com.example.sagacommand.order.application.command.CancelOrderCommand;
@@ -20,26 +21,37 @@ import java.util.UUID;
 public class InventoryReservationFailedEventHandler implements EventHandler<InventoryReservationFailedEvent> {
     private final OrderCommandFactory factory;
 
+    @Override
+    public Class<InventoryReservationFailedEvent> getEventType() {
+        return InventoryReservationFailedEvent.class;
+    }
+
     @Override
     public void handle(InventoryReservationFailedEvent event, ScopedCommandInvoker invoker) {
-        UUID orderId = event.getOrderId();
-        try {
-            // 주문 상태 업데이트
-            UpdateOrderStatusCommand updateCommand = factory.updateOrderStatusCommand(
-                    orderId, Order.OrderStatus.INVENTORY_FAILED);
-            invoker.executeCommand(updateCommand);
-
-            // 보상 트랜잭션: 결제 환불
-            RefundPaymentCommand refundCommand = factory.refundPaymentCommand(orderId);
-            invoker.executeCommand(refundCommand);
-
-            // 주문 취소 (최종 보상 트랜잭션)
-            CancelOrderCommand cancelCommand = factory.cancelOrderCommand(orderId);
-            invoker.executeCommand(cancelCommand);
-
-            log.info("재고 예약 실패 처리 및 결제 환불, 주문 취소됨: {}", orderId);
-        } catch (Exception e) {
-            log.error("재고 예약 실패 처리 오류: {}, 이유: {}", orderId, e.getMessage());
-        }
+        handle(event.getOrderId(), invoker);
+    }
+
+    // 주문 ID만 사용하므로 페이로드 전체를 디코딩하지 않음
+    @Override
+    public void handleView(EventView<InventoryReservationFailedEvent> eventView, ScopedCommandInvoker invoker) {
+        handle(eventView.getOrderId(), invoker);
+    }
+
+    // 실패는 SagaOrchestrator 로 전달 (exactly-once 에서는 배치 트랜잭션을 중단시켜 재전달받음)
+    private void handle(UUID orderId, ScopedCommandInvoker invoker) {
+        // 주문 상태 업데이트 (재전달로 이미 취소된 주문이면 건너뛰고 보상은 다시 실행)
+        UpdateOrderStatusCommand updateCommand = factory.updateOrderStatusCommand(
+                orderId, Order.OrderStatus.INVENTORY_FAILED);
+        invoker.executeCommand(updateCommand);
+
+        // 보상 트랜잭션: 결제 환불
+        RefundPaymentCommand refundCommand = factory.refundPaymentCommand(orderId);
+        invoker.executeCommand(refundCommand);
+
+        // 주문 취소 (최종 보상 트랜잭션)
+        CancelOrderCommand cancelCommand = factory.cancelOrderCommand(orderId);
+        invoker.executeCommand(cancelCommand);
+
+        log.info("재고 예약 실패 처리 및 결제 환불, 주문 취소됨: {}", orderId);
     }
 }
@@ -0,0 +1,35 @@
+package com.example.sagacommand.order.infrastructure.saga;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.InventoryReservedEvent;
+import com.example.sagacommand.common.saga.EventHandler;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 예약 응답은 결제 응답과 합류(app.saga.join)할 때만 수신합니다.
+ * 상태 변경은 결제 응답까지 모인 뒤 PaymentInventoryJoin 이 하므로, 여기서는 도착만 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.saga.join", name = "enabled", havingValue = "true")
+public class InventoryReservedEventHandler implements EventHandler<InventoryReservedEvent> {
+
+    @Override
+    public Class<InventoryReservedEvent> getEventType() {
+        return InventoryReservedEvent.class;
+    }
+
+    @Override
+    public void handle(InventoryReservedEvent event, ScopedCommandInvoker invoker) {
+        log.info("재고 예약 응답 수신: {}", event.getOrderId());
+    }
+
+    // 주문 ID만 사용하므로 페이로드 전체를 디코딩하지 않음
+    @Override
+    public void handleView(EventView<InventoryReservedEvent> eventView, ScopedCommandInvoker invoker) {
+        log.info("재고 예약 응답 수신: {}", eventView.getOrderId());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.sagacommand.order.infrastructure.saga;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
 import com.example.sagacommand.common.event.PaymentCompletedEvent;
 import com.example.sagacommand.common.saga.EventHandler;
 import com.example.sagacommand.order.application.command.OrderCommandFactory;
@@ -18,9 +19,23 @@ import java.util.UUID;
 public class PaymentCompletedEventHandler implements EventHandler<PaymentCompletedEvent> {
     private final OrderCommandFactory factory;
 
+    @Override
+    public Class<PaymentCompletedEvent> getEventType() {
+        return PaymentCompletedEvent.class;
+    }
+
     @Override
     public void handle(PaymentCompletedEvent event, ScopedCommandInvoker invoker) {
-        UUID orderId = event.getOrderId();
+        handle(event.getOrderId(), invoker);
+    }
+
+    // 주문 ID만 사용하므로 페이로드 전체를 디코딩하지 않음
+    @Override
+    public void handleView(EventView<PaymentCompletedEvent> eventView, ScopedCommandInvoker invoker) {
+        handle(eventView.getOrderId(), invoker);
+    }
+
+    private void handle(UUID orderId, ScopedCommandInvoker invoker) {
         try {
             // 1. 주문 상태 업데이트 - PAID
             UpdateOrderStatusCommand updateCommand = factory.updateOrderStatusCommand(
@@ -28,9 +43,10 @@ public class PaymentCompletedEventHandler implements EventHandler<PaymentComplet
             invoker.executeCommand(updateCommand);
 
             log.info("결제 완료 처리됨: {}", orderId);
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
             log.error("결제 완료 처리 실패: {}, 이유: {}", orderId, e.getMessage());
             invoker.undoLastCommand();
+            throw e;
         }
     }
 }
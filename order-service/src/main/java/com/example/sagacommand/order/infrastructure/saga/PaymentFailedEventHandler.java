@@ -1,6 +1,7 @@
 package com.example.sagacommand.order.infrastructure.saga;
 
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
 import com.example.sagacommand.common.event.PaymentFailedEvent;
 import com.example.sagacommand.common.saga.EventHandler;
 import com.example.sagacommand.order.application.command.CancelOrderCommand;
@@ -19,22 +20,33 @@ import java.util.UUID;
 public class PaymentFailedEventHandler implements EventHandler<PaymentFailedEvent> {
     private final OrderCommandFactory factory;
 
+    @Override
+    public Class<PaymentFailedEvent> getEventType() {
+        return PaymentFailedEvent.class;
+    }
+
     @Override
     public void handle(PaymentFailedEvent event, ScopedCommandInvoker invoker) {
-        UUID orderId = event.getOrderId();
-        try {
-            // 상태 업데이트 명령 실행
-            UpdateOrderStatusCommand updateCommand = factory.updateOrderStatusCommand(
-                    orderId, Order.OrderStatus.PAYMENT_FAILED);
-            invoker.executeCommand(updateCommand);
-
-            // 보상 트랜잭션으로 주문 취소 명령 실행
-            CancelOrderCommand cancelCommand = factory.cancelOrderCommand(orderId);
-            invoker.executeCommand(cancelCommand);
-
-            log.info("결제 실패 처리 및 보상 트랜잭션 완료: {}", orderId);
-        } catch (Exception e) {
-            log.error("결제 실패 처리 오류: {}, 이유: {}", orderId, e.getMessage());
-        }
+        handle(event.getOrderId(), invoker);
+    }
+
+    // 주문 ID만 사용하므로 페이로드 전체를 디코딩하지 않음
+    @Override
+    public void handleView(EventView<PaymentFailedEvent> eventView, ScopedCommandInvoker invoker) {
+        handle(eventView.getOrderId(), invoker);
+    }
+
+    // 실패는 SagaOrchestrator 로 전달 (exactly-once 에서는 배치 트랜잭션을 중단시켜 재전달받음)
+    private void handle(UUID orderId, ScopedCommandInvoker invoker) {
+        // 상태 업데이트 명령 실행 (재전달로 이미 취소된 주문이면 건너뛰고 보상은 다시 실행)
+        UpdateOrderStatusCommand updateCommand = factory.updateOrderStatusCommand(
+                orderId, Order.OrderStatus.PAYMENT_FAILED);
+        invoker.executeCommand(updateCommand);
+
+        // 보상 트랜잭션으로 주문 취소 명령 실행
+        CancelOrderCommand cancelCommand = factory.cancelOrderCommand(orderId);
+        invoker.executeCommand(cancelCommand);
+
+        log.info("결제 실패 처리 및 보상 트랜잭션 완료: {}", orderId);
     }
 }
@@ -0,0 +1,231 @@
+package com.example.sagacommand.order.infrastructure.saga.index;
+
+import com.example.sagacommand.order.application.SagaStatusIndex;
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+
+/**
+ * Saga 진행 중인 주문의 상태 색인을 힙 밖(direct buffer)의 개방 주소법 해시 테이블에 둡니다.
+ * <p>
+ * 슬롯 하나는 32바이트 [주문 ID 상위 8][하위 8][마지막 전이 시각(ms) 8][상태 1][패딩 7] 이며,
+ * 상태 0 은 빈 슬롯입니다. 주문마다 객체를 만들지 않으므로 수백만 건이어도 GC 대상이 늘지 않습니다.
+ * 선형 탐사로 찾고, 삭제는 뒤 슬롯을 당겨 채우는(backward shift) 방식이라 삭제 표시가 쌓이지 않습니다.
+ * 사용률이 3/4 를 넘으면 두 배 크기로 다시 만듭니다.
+ * <p>
+ * 갱신은 상태 변경마다 한 번이고 조회는 관리용이므로 하나의 락으로 보호합니다.
+ */
+public class OffHeapSagaIndex implements SagaStatusIndex {
+
+    private static final int SLOT_SIZE = 32;
+    private static final int MSB = 0;
+    private static final int LSB = 8;
+    private static final int UPDATED_AT = 16;
+    private static final int STATUS = 24;
+    // direct buffer 는 int 크기까지이므로 1GB (약 2,500만 건)
+    private static final int MAX_SLOTS = 1 << 25;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final Clock clock;
+    private final int[] counts = new int[STATUSES.length];
+    private ByteBuffer table;
+    private int mask;
+    private int size;
+
+    /**
+     * @param initialCapacity 처음 잡아 둘 주문 수 (슬롯 수는 이 값의 4/3 이상인 2의 거듭제곱)
+     */
+    public OffHeapSagaIndex(int initialCapacity, Clock clock) {
+        this.clock = clock;
+        allocate(slotsFor(initialCapacity));
+    }
+
+    @Override
+    public synchronized void recordStatus(UUID orderId, OrderStatus status) {
+        put(orderId.getMostSignificantBits(), orderId.getLeastSignificantBits(), status, clock.millis());
+    }
+
+    /**
+     * 저장된 상태로 색인을 채울 때 사용합니다. 마지막 전이 시각을 알 수 없으면 생성 시각을 넘깁니다.
+     */
+    public synchronized void load(UUID orderId, OrderStatus status, Instant updatedAt) {
+        put(orderId.getMostSignificantBits(), orderId.getLeastSignificantBits(), status, updatedAt.toEpochMilli());
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized long getOffHeapBytes() {
+        return table.capacity();
+    }
+
+    public synchronized Map<OrderStatus, Integer> countsByStatus() {
+        Map<OrderStatus, Integer> result = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            if (counts[status.ordinal()] > 0) {
+                result.put(status, counts[status.ordinal()]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 마지막 전이가 가장 오래된 주문 limit 건 (오래된 순). 전체 슬롯을 한 번 훑습니다.
+     */
+    public synchronized List<Entry> oldest(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // 가장 최근 것이 머리에 오도록 하여 limit 개만 유지
+        PriorityQueue<Entry> heap = new PriorityQueue<>(Comparator.comparing(Entry::updatedAt).reversed());
+        for (int slot = 0; slot <= mask; slot++) {
+            int offset = offset(slot);
+            if (table.get(offset + STATUS) == 0) {
+                continue;
+            }
+            long updatedAt = table.getLong(offset + UPDATED_AT);
+            if (heap.size() == limit && heap.peek().updatedAt().toEpochMilli() <= updatedAt) {
+                continue;
+            }
+            heap.add(new Entry(new UUID(table.getLong(offset + MSB), table.getLong(offset + LSB)),
+                    statusAt(slot), Instant.ofEpochMilli(updatedAt)));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<Entry> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparing(Entry::updatedAt));
+        return result;
+    }
+
+    public record Entry(UUID orderId, OrderStatus status, Instant updatedAt) {
+    }
+
+    private void put(long msb, long lsb, OrderStatus status, long updatedAt) {
+        int slot = find(msb, lsb);
+        if (OrderStatusTransitions.isTerminal(status)) {
+            if (slot >= 0) {
+                remove(slot);
+            }
+            return;
+        }
+        if (slot >= 0) {
+            int offset = offset(slot);
+            OrderStatus current = statusAt(slot);
+            if (current != status) {
+                counts[current.ordinal()]--;
+                counts[status.ordinal()]++;
+                table.put(offset + STATUS, code(status));
+                table.putLong(offset + UPDATED_AT, updatedAt);
+            }
+            return;
+        }
+        if (size + 1 > (mask + 1) / 4 * 3) {
+            resize();
+        }
+        insert(msb, lsb, updatedAt, code(status));
+        counts[status.ordinal()]++;
+        size++;
+    }
+
+    private int find(long msb, long lsb) {
+        for (int slot = hash(msb, lsb) & mask; ; slot = (slot + 1) & mask) {
+            int offset = offset(slot);
+            if (table.get(offset + STATUS) == 0) {
+                return -1;
+            }
+            if (table.getLong(offset + MSB) == msb && table.getLong(offset + LSB) == lsb) {
+                return slot;
+            }
+        }
+    }
+
+    // 빈 슬롯이 있다고 가정 (사용률 3/4 이하)
+    private void insert(long msb, long lsb, long updatedAt, byte status) {
+        int slot = hash(msb, lsb) & mask;
+        while (table.get(offset(slot) + STATUS) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        int offset = offset(slot);
+        table.putLong(offset + MSB, msb);
+        table.putLong(offset + LSB, lsb);
+        table.putLong(offset + UPDATED_AT, updatedAt);
+        table.put(offset + STATUS, status);
+    }
+
+    // 지운 자리 뒤의 탐사 구간을 당겨 채워, 이후 조회가 빈 슬롯에서 끊기지 않게 함
+    private void remove(int slot) {
+        counts[statusAt(slot).ordinal()]--;
+        size--;
+        int hole = slot;
+        for (int next = (hole + 1) & mask; table.get(offset(next) + STATUS) != 0; next = (next + 1) & mask) {
+            int home = hash(table.getLong(offset(next) + MSB), table.getLong(offset(next) + LSB)) & mask;
+            // home 이 (hole, next] 구간 밖이면 hole 로 옮겨도 탐사 경로가 유지됨
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                table.put(offset(hole), table, offset(next), SLOT_SIZE);
+                hole = next;
+            }
+        }
+        table.put(offset(hole) + STATUS, (byte) 0);
+    }
+
+    private void resize() {
+        if (mask + 1 >= MAX_SLOTS) {
+            throw new IllegalStateException("Saga 색인이 최대 크기에 도달했습니다: " + size);
+        }
+        ByteBuffer old = table;
+        int oldSlots = mask + 1;
+        allocate(oldSlots * 2);
+        for (int slot = 0; slot < oldSlots; slot++) {
+            int offset = slot * SLOT_SIZE;
+            byte status = old.get(offset + STATUS);
+            if (status != 0) {
+                insert(old.getLong(offset + MSB), old.getLong(offset + LSB), old.getLong(offset + UPDATED_AT), status);
+            }
+        }
+    }
+
+    private void allocate(int slots) {
+        table = ByteBuffer.allocateDirect(slots * SLOT_SIZE);
+        mask = slots - 1;
+    }
+
+    private OrderStatus statusAt(int slot) {
+        return STATUSES[table.get(offset(slot) + STATUS) - 1];
+    }
+
+    private static byte code(OrderStatus status) {
+        return (byte) (status.ordinal() + 1);
+    }
+
+    private static int offset(int slot) {
+        return slot * SLOT_SIZE;
+    }
+
+    private static int slotsFor(int capacity) {
+        long needed = Math.max(16L, (long) capacity * 4 / 3 + 1);
+        if (needed > MAX_SLOTS) {
+            throw new IllegalArgumentException("Saga 색인 초기 용량이 너무 큽니다: " + capacity);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
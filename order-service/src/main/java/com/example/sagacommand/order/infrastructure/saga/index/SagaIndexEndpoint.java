@@ -0,0 +1,37 @@
+package com.example.sagacommand.order.infrastructure.saga.index;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Saga 진행 중인 주문 수(상태별)와 마지막 전이가 오래된 주문을 조회하는 액추에이터 엔드포인트입니다.
+ * (GET /actuator/sagaindex?oldest=50)
+ */
+@Endpoint(id = "sagaindex")
+@RequiredArgsConstructor
+public class SagaIndexEndpoint {
+
+    private final OffHeapSagaIndex index;
+    private final int defaultOldest;
+    private final int maxOldest;
+
+    @ReadOperation
+    public SagaIndexReport report(@Nullable Integer oldest) {
+        int limit = Math.min(oldest != null ? oldest : defaultOldest, maxOldest);
+        return new SagaIndexReport(index.size(), index.getOffHeapBytes(), index.countsByStatus(), index.oldest(limit));
+    }
+
+    public record SagaIndexReport(
+            int inFlight,
+            long offHeapBytes,
+            Map<OrderStatus, Integer> countsByStatus,
+            List<OffHeapSagaIndex.Entry> oldest
+    ) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.sagacommand.order.infrastructure.saga.index;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.util.UUID;
+
+/**
+ * 기동 시 orders 테이블에서 종료되지 않은 주문을 읽어 색인을 채웁니다.
+ * orders 에는 마지막 전이 시각이 없으므로 생성 시각을 대신 사용합니다 (이후 전이부터는 실제 시각).
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SagaIndexLoader {
+
+    // idx_orders_status_created_at 인덱스 범위 조회
+    static final String IN_FLIGHT_QUERY = "SELECT `value`, status, created_at FROM orders " +
+            "WHERE status NOT IN ('COMPLETED', 'CANCELLED')";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int load(OffHeapSagaIndex index) {
+        long started = System.nanoTime();
+        int[] loaded = {0};
+        jdbcTemplate.query(IN_FLIGHT_QUERY, (ResultSet rs) -> {
+            ByteBuffer id = ByteBuffer.wrap(rs.getBytes(1));
+            index.load(new UUID(id.getLong(), id.getLong()),
+                    OrderStatus.valueOf(rs.getString(2)),
+                    rs.getTimestamp(3).toInstant());
+            loaded[0]++;
+        });
+        log.info("Saga 색인 재구성: {}건, {}ms", loaded[0], (System.nanoTime() - started) / 1_000_000);
+        return loaded[0];
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sagacommand.order.infrastructure.saga.join;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.InventoryReservedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.common.saga.join.SagaJoin;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.model.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 주문 생성 이벤트 하나로 결제와 재고 예약을 동시에 요청하고(각 서비스가 order-events 를 병렬로 구독),
+ * 두 응답이 모두 오면 주문을 PAID → INVENTORY_RESERVED 로 조건부 전이합니다.
+ * <p>
+ * 결제 응답은 기존 핸들러가 PAID 로 전이하고, 재고 응답은 도착만 기록하므로 응답 순서와 관계없이 CREATED → PAID → INVENTORY_RESERVED 순서가 유지됩니다.
+ * 합류 시점에 주문이 PAID 가 아니면(결제 전이가 되돌려졌거나 아직 반영되지 않음) CREATED 에서 바로 넘어가지 않고 예외로 끝나며,
+ * 코디네이터가 합류를 끝난 것으로 기록하지 않고 다시 시도합니다.
+ * 실패 응답의 보상(환불/취소)은 기존 실패 핸들러가 하고, 그 뒤에 도착한 결제 완료는 여기서 환불을 요청합니다.
+ * 재고는 실패 핸들러의 주문 취소 이벤트로 해제되므로 따로 보상하지 않습니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PaymentInventoryJoin implements SagaJoin {
+
+    public static final String NAME = "payment-inventory";
+
+    private final OrderCommandFactory factory;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public List<Class<?>> getReplyTypes() {
+        return List.of(PaymentCompletedEvent.class, InventoryReservedEvent.class);
+    }
+
+    @Override
+    public Set<Class<?>> getFailureTypes() {
+        return Set.of(PaymentFailedEvent.class, InventoryReservationFailedEvent.class);
+    }
+
+    // 이미 INVENTORY_RESERVED 면 변경하지 않으므로 다시 실행되어도 안전함
+    @Override
+    public void onJoined(UUID orderId, ScopedCommandInvoker invoker) {
+        invoker.executeCommand(factory.updateOrderStatusCommand(
+                orderId, Order.OrderStatus.PAID, Order.OrderStatus.INVENTORY_RESERVED));
+    }
+
+    @Override
+    public void onLateReply(UUID orderId, Class<?> replyType, ScopedCommandInvoker invoker) {
+        if (replyType == PaymentCompletedEvent.class) {
+            invoker.executeCommand(factory.refundPaymentCommand(orderId));
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.sagacommand.order.infrastructure.saga.join;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.saga.join.SagaJoinCoordinator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 합류 처리가 실패한 주문(예: 합류 시점에 아직 PAID 가 아님)의 합류를 주기적으로 다시 시도합니다.
+ * 응답 이벤트는 이미 처리된 것으로 확정되었으므로 재전달을 기다리지 않고 여기서 다시 실행합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SagaJoinRetrier {
+
+    private final SagaJoinCoordinator coordinator;
+    private final ScopedCommandInvoker commandInvoker;
+
+    @Scheduled(fixedDelayString = "${app.saga.join.retry-interval:30s}")
+    public void retryScheduled() {
+        if (coordinator.getPendingJoinCount() == 0) {
+            return;
+        }
+        try {
+            int joined = coordinator.retryPending(commandInvoker);
+            log.info("합류 재시도: {}건 합류, {}건 대기", joined, coordinator.getPendingJoinCount());
+        } catch (Exception e) {
+            log.error("합류 재시도 실패", e);
+        }
+    }
+}
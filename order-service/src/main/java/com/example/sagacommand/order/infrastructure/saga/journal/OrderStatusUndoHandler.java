@@ -0,0 +1,52 @@
+package com.example.sagacommand.order.infrastructure.saga.journal;
+
+import com.example.sagacommand.common.journal.JournalUndoHandler;
+import com.example.sagacommand.order.application.command.OrderStatusUndoState;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderStatusTransitions;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 저널 복구 시 상태 전이 커맨드(UpdateOrderStatusCommand, CancelOrderCommand)를 되돌립니다.
+ * 조건부 변경이므로 주문이 이미 다른 상태로 넘어갔으면 아무것도 바꾸지 않습니다.
+ * 출발 상태가 없는 이전 형식의 기록은 커맨드와 같은 방식(전이 표의 유일한 출발 상태, 아니면 직전 상태 컬럼)으로 출발 상태를 정합니다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class OrderStatusUndoHandler implements JournalUndoHandler {
+
+    private final OrderRepository orderRepository;
+
+    @Override
+    public String getJournalType() {
+        return OrderStatusUndoState.JOURNAL_TYPE;
+    }
+
+    @Override
+    public void undo(byte[] undoState) {
+        OrderStatusUndoState state = OrderStatusUndoState.decode(undoState);
+        Optional<Order.OrderStatus> prior = state.priorStatus() != null ? Optional.of(state.priorStatus()) : legacyPrior(state);
+        if (prior.isEmpty()) {
+            log.warn("저널 복구: 주문 상태 롤백 생략 {} (출발 상태를 알 수 없음)", state.orderId());
+            return;
+        }
+        if (orderRepository.revertStatus(state.orderId(), state.appliedStatus(), prior.get())) {
+            log.info("저널 복구: 주문 상태 롤백 {} ({} -> {})", state.orderId(), state.appliedStatus(), prior.get());
+        } else {
+            log.info("저널 복구: 주문 상태 롤백 생략 {} (현재 상태가 {} 가 아님)", state.orderId(), state.appliedStatus());
+        }
+    }
+
+    private Optional<Order.OrderStatus> legacyPrior(OrderStatusUndoState state) {
+        Set<Order.OrderStatus> sources = OrderStatusTransitions.sourcesOf(state.appliedStatus());
+        if (sources.size() == 1) {
+            return Optional.of(sources.iterator().next());
+        }
+        return orderRepository.findPreviousStatus(state.orderId());
+    }
+}
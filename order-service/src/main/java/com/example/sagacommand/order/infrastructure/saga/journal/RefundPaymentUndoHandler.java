@@ -0,0 +1,28 @@
+package com.example.sagacommand.order.infrastructure.saga.journal;
+
+import com.example.sagacommand.common.journal.JournalUndoHandler;
+import com.example.sagacommand.order.application.command.RefundPaymentCommand;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * 발행된 환불 요청은 되돌릴 수 없으므로, RefundPaymentCommand#undo 와 같이 수동 처리 대상으로 경고만 남깁니다.
+ */
+@Slf4j
+public class RefundPaymentUndoHandler implements JournalUndoHandler {
+
+    @Override
+    public String getJournalType() {
+        return RefundPaymentCommand.JOURNAL_TYPE;
+    }
+
+    @Override
+    public void undo(byte[] undoState) {
+        ByteBuffer buffer = ByteBuffer.wrap(undoState);
+        UUID orderId = new UUID(buffer.getLong(), buffer.getLong());
+        UUID paymentId = new UUID(buffer.getLong(), buffer.getLong());
+        log.warn("저널 복구: 중단된 Saga 의 환불 요청은 취소할 수 없음 (수동 처리 필요): 주문={}, 결제={}", orderId, paymentId);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.sagacommand.order.infrastructure.statuscount;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 상태별 주문 수를 조회하는 액추에이터 엔드포인트입니다. orders 테이블을 조회하지 않습니다.
+ * (GET /actuator/orderstatus)
+ */
+@Endpoint(id = "orderstatus")
+@RequiredArgsConstructor
+public class OrderStatusCountEndpoint {
+
+    private final StripedOrderStatusCounters counters;
+
+    @ReadOperation
+    public OrderStatusCountReport report() {
+        Map<OrderStatus, Long> counts = counters.counts();
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new OrderStatusCountReport(total, counts, counters.getLastCheckpoint(),
+                counters.getLastReconcile(), counters.getLastDrift());
+    }
+
+    public record OrderStatusCountReport(
+            long total,
+            Map<OrderStatus, Long> counts,
+            Instant lastCheckpoint,
+            Instant lastReconcile,
+            long lastDrift
+    ) {
+    }
+}
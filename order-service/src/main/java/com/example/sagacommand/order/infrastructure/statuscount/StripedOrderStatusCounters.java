@@ -0,0 +1,244 @@
+package com.example.sagacommand.order.infrastructure.statuscount;
+
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상태별 주문 수를 메모리에서 증감하는 카운터입니다.
+ * <p>
+ * 상태마다 LongAdder(스레드별로 나뉜 셀에 더하는 카운터)를 두어 여러 컨슈머 스레드가 동시에 전이해도 경합이 없습니다.
+ * 현재 값은 "마지막으로 요약 테이블에서 읽은 합계 + 그 뒤의 이 인스턴스 변경분"이므로 조회는 테이블 크기와 무관합니다.
+ * <ul>
+ *     <li>checkpoint: 이 인스턴스의 변경분을 요약 테이블에 더하고(증분) 합계를 다시 읽습니다.
+ *     여러 인스턴스가 각자의 변경분만 더하므로 합계에는 모든 인스턴스의 변경이 모입니다.</li>
+ *     <li>reconcile: orders 를 GROUP BY 하여 요약 테이블을 덮어씁니다. 대사 직전/직후의 전이, 재처리 등으로 생긴
+ *     차이를 바로잡으며, 바로잡은 차이의 합은 lastDrift 로 남습니다.
+ *     orders 전체를 세는 무거운 조회이고 결과가 모든 인스턴스에 공유되므로, 주기 대사는 reconcileEnabled 인 한 인스턴스에서만 실행합니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class StripedOrderStatusCounters implements OrderStatusCounters {
+
+    /**
+     * 요약 테이블과 대사 조회입니다.
+     */
+    public interface Store {
+        /**
+         * @return 요약 테이블의 상태별 합계 (테이블이 비어 있으면 빈 맵)
+         */
+        Map<OrderStatus, Long> load();
+
+        /**
+         * 상태별 변경분을 요약 테이블에 더합니다 (한 트랜잭션).
+         */
+        void add(Map<OrderStatus, Long> deltas);
+
+        /**
+         * 요약 테이블을 주어진 합계로 덮어씁니다.
+         */
+        void replace(Map<OrderStatus, Long> counts);
+
+        /**
+         * orders 테이블을 상태별로 셉니다 (테이블 전체 스캔이므로 느린 주기에서만 호출).
+         */
+        Map<OrderStatus, Long> countOrders();
+    }
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    /**
+     * @param totals  마지막으로 읽은 요약 테이블 합계
+     * @param flushed 그 합계에 이미 포함된 이 인스턴스의 누적 변경분
+     */
+    private record Snapshot(long[] totals, long[] flushed) {
+    }
+
+    private final LongAdder[] changes = new LongAdder[STATUSES.length];
+    private final Store store;
+    private final Clock clock;
+    // 이 인스턴스가 주기 대사(와 요약이 비었을 때의 기동 집계)를 맡는지 여부
+    private final boolean reconcileEnabled;
+
+    private volatile Snapshot snapshot = new Snapshot(new long[STATUSES.length], new long[STATUSES.length]);
+    private volatile Instant lastCheckpoint;
+    private volatile Instant lastReconcile;
+    private volatile long lastDrift;
+
+    public StripedOrderStatusCounters(Store store, Clock clock) {
+        this(store, clock, true);
+    }
+
+    public StripedOrderStatusCounters(Store store, Clock clock, boolean reconcileEnabled) {
+        this.store = store;
+        this.clock = clock;
+        this.reconcileEnabled = reconcileEnabled;
+        for (int i = 0; i < changes.length; i++) {
+            changes[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 요약 테이블에서 합계를 읽습니다. 테이블이 비어 있으면(최초 기동) 대사를 맡은 인스턴스가 orders 에서 집계하여 채우고,
+     * 나머지 인스턴스는 0 에서 시작해 다음 checkpoint 에서 채워진 합계를 읽습니다.
+     */
+    public void start() {
+        Map<OrderStatus, Long> stored = store.load();
+        if (stored.isEmpty() && reconcileEnabled) {
+            log.info("상태별 주문 수 요약이 없어 orders 에서 집계합니다");
+            reconcile();
+            return;
+        }
+        snapshot = new Snapshot(toArray(stored), new long[STATUSES.length]);
+        lastCheckpoint = clock.instant();
+    }
+
+    @Override
+    public void recordTransition(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            changes[from.ordinal()].decrement();
+        }
+        changes[to.ordinal()].increment();
+    }
+
+    @Override
+    public void recordRemoved(OrderStatus status, long count) {
+        changes[status.ordinal()].add(-count);
+    }
+
+    public long count(OrderStatus status) {
+        Snapshot current = snapshot;
+        int i = status.ordinal();
+        return current.totals()[i] + changes[i].sum() - current.flushed()[i];
+    }
+
+    public Map<OrderStatus, Long> counts() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            counts.put(status, count(status));
+        }
+        return counts;
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.status-counts.checkpoint-interval:5s}")
+    public void checkpointScheduled() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("상태별 주문 수 기록 실패 (다음 주기에 다시 기록): {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.status-counts.reconcile-interval:1h}",
+            initialDelayString = "${app.orders.status-counts.reconcile-interval:1h}")
+    public void reconcileScheduled() {
+        if (!reconcileEnabled) {
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("상태별 주문 수 대사 실패", e);
+        }
+    }
+
+    /**
+     * 마지막 기록 이후의 변경분을 요약 테이블에 더하고 합계를 다시 읽습니다.
+     */
+    public synchronized void checkpoint() {
+        Snapshot current = snapshot;
+        long[] cumulative = cumulative();
+        Map<OrderStatus, Long> deltas = new EnumMap<>(OrderStatus.class);
+        long[] totals = current.totals().clone();
+        for (int i = 0; i < STATUSES.length; i++) {
+            long delta = cumulative[i] - current.flushed()[i];
+            if (delta != 0) {
+                deltas.put(STATUSES[i], delta);
+                totals[i] += delta;
+            }
+        }
+        if (!deltas.isEmpty()) {
+            store.add(deltas);
+        }
+        // 더한 뒤에는 합계를 다시 읽지 못해도 같은 변경분을 두 번 더하지 않도록 먼저 반영
+        snapshot = new Snapshot(totals, cumulative);
+        snapshot = new Snapshot(toArray(store.load()), cumulative);
+        lastCheckpoint = clock.instant();
+    }
+
+    /**
+     * orders 를 상태별로 세어 요약 테이블과 메모리 값을 바로잡습니다.
+     */
+    public synchronized void reconcile() {
+        checkpoint();
+        Map<OrderStatus, Long> actual = store.countOrders();
+        long[] counted = toArray(actual);
+
+        long drift = 0;
+        for (OrderStatus status : STATUSES) {
+            drift += Math.abs(counted[status.ordinal()] - count(status));
+        }
+        Map<OrderStatus, Long> replaced = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : STATUSES) {
+            replaced.put(status, counted[status.ordinal()]);
+        }
+        store.replace(replaced);
+        snapshot = new Snapshot(counted, snapshot.flushed());
+
+        lastDrift = drift;
+        lastReconcile = clock.instant();
+        if (drift != 0) {
+            log.info("상태별 주문 수 대사: 차이 {}건을 바로잡음", drift);
+        }
+    }
+
+    /**
+     * 종료 시 남은 변경분을 기록합니다.
+     */
+    public void close() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            log.warn("종료 전 상태별 주문 수 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    public Instant getLastCheckpoint() {
+        return lastCheckpoint;
+    }
+
+    public Instant getLastReconcile() {
+        return lastReconcile;
+    }
+
+    /**
+     * 마지막 대사에서 바로잡은 차이(상태별 차이 절댓값의 합)
+     */
+    public long getLastDrift() {
+        return lastDrift;
+    }
+
+    private long[] cumulative() {
+        long[] cumulative = new long[STATUSES.length];
+        for (int i = 0; i < STATUSES.length; i++) {
+            cumulative[i] = changes[i].sum();
+        }
+        return cumulative;
+    }
+
+    private static long[] toArray(Map<OrderStatus, Long> counts) {
+        long[] array = new long[STATUSES.length];
+        counts.forEach((status, count) -> array[status.ordinal()] = count);
+        return array;
+    }
+}
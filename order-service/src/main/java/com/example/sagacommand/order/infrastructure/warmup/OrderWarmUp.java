@@ -0,0 +1,251 @@
+package com.example.sagacommand.order.infrastructure.warmup;
+
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import javax.sql.DataSource;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 기동 직후 느린 첫 요청/이벤트를 줄이기 위한 워밍업 단계입니다.
+ * <p>
+ * ApplicationRunner 는 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌기 전에 실행되므로,
+ * 워밍업이 끝날 때까지 readiness 프로브(/actuator/health/readiness)는 REFUSING_TRAFFIC 으로 응답합니다.
+ * Saga 이벤트 리스너(레인 포함)는 readiness 와 무관하게 이벤트를 받으므로, 워밍업을 켜면 기동 시 시작하지 않고
+ * 워밍업이 끝난 뒤(실패해도) afterWarmUp 으로 시작합니다.
+ * <ol>
+ *     <li>DB 커넥션 풀에서 커넥션을 미리 열어 둡니다.</li>
+ *     <li>Kafka 프로듀서를 만들고 발행 토픽의 메타데이터를 미리 가져옵니다.</li>
+ *     <li>실제 저장소로 없는 주문을 조회하여 조회 문장을 미리 준비시킵니다.</li>
+ *     <li>합성 주문 흐름을 실제 DB 저장소로 dbFlows 번 실행하고 롤백하여 INSERT/UPDATE/조건부 UPDATE 경로를 준비시킵니다.</li>
+ *     <li>합성 주문 흐름(SyntheticOrderFlow)을 라운드 단위로 반복하고, 한 라운드 동안의 JIT 컴파일 시간이
+ *     기준 이하로 떨어지면(컴파일이 거의 끝나면) 종료합니다.</li>
+ * </ol>
+ * 워밍업 실패는 기동을 막지 않습니다. 단계별로 경고만 남기고 다음 단계로 넘어갑니다.
+ */
+@Slf4j
+public class OrderWarmUp implements ApplicationRunner {
+
+    /**
+     * 워밍업 결과
+     *
+     * @param firstRoundP99 첫 라운드(콜드 상태) 합성 흐름 한 번의 p99
+     * @param lastRoundP99  마지막 라운드(워밍업 후) 합성 흐름 한 번의 p99
+     * @param compilation   워밍업 동안의 JIT 컴파일 시간 (측정할 수 없으면 0)
+     */
+    public record Report(Duration duration, int connections, boolean producerReady, int dbFlows, int rounds, int iterations,
+                         int failures, Duration compilation, Duration firstRoundP99, Duration lastRoundP99) {
+        static final Report NONE = new Report(Duration.ZERO, 0, false, 0, 0, 0, 0, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param dbConnections      미리 열어 둘 DB 커넥션 수
+     * @param topics             메타데이터를 미리 가져올 발행 토픽
+     * @param dbFlows            실제 DB 저장소로 실행하고 롤백할 합성 흐름 수
+     * @param iterationsPerRound 라운드당 합성 흐름 실행 수
+     * @param compilationPlateau 한 라운드의 JIT 컴파일 시간이 이 이하이면 종료
+     */
+    public record Settings(int dbConnections, List<String> topics, int dbFlows, int minRounds, int maxRounds,
+                           int iterationsPerRound, Duration compilationPlateau, Duration maxDuration) {
+    }
+
+    private final DataSource dataSource;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OrderRepository orderRepository;
+    private final SyntheticOrderFlow flow;
+    private final Settings settings;
+    private final Runnable afterWarmUp;
+    private volatile Report report = Report.NONE;
+
+    public OrderWarmUp(DataSource dataSource, KafkaTemplate<String, Object> kafkaTemplate, OrderRepository orderRepository,
+                SyntheticOrderFlow flow, Settings settings, Runnable afterWarmUp) {
+        this.dataSource = dataSource;
+        this.kafkaTemplate = kafkaTemplate;
+        this.orderRepository = orderRepository;
+        this.flow = flow;
+        this.settings = settings;
+        this.afterWarmUp = afterWarmUp;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            warmUp();
+        } finally {
+            log.info("Saga 이벤트 리스너 시작");
+            afterWarmUp.run();
+        }
+    }
+
+    private void warmUp() {
+        long started = System.nanoTime();
+        log.info("워밍업 시작 (readiness 와 Saga 이벤트 리스너는 완료 후 시작)");
+
+        int connections = openConnections();
+        boolean producerReady = fetchProducerMetadata();
+        prepareQueries();
+        int dbFlows = prepareWrites();
+        Report result = runFlows(started, connections, producerReady, dbFlows);
+
+        report = result;
+        log.info("워밍업 완료: {}ms, 커넥션 {}개, 프로듀서 {}, DB 흐름 {}회, {}라운드 {}회 (실패 {}), JIT 컴파일 {}ms, 흐름 p99 {}ms -> {}ms",
+                result.duration().toMillis(), result.connections(), result.producerReady() ? "준비됨" : "실패",
+                result.dbFlows(), result.rounds(), result.iterations(), result.failures(), result.compilation().toMillis(),
+                millis(result.firstRoundP99()), millis(result.lastRoundP99()));
+    }
+
+    public Report getReport() {
+        return report;
+    }
+
+    // 커넥션을 동시에 빌렸다가 반납하여 풀이 그만큼 채워지게 함 (한 개씩 빌리면 같은 커넥션만 재사용됨)
+    private int openConnections() {
+        if (dataSource == null || settings.dbConnections() <= 0) {
+            return 0;
+        }
+        List<Connection> borrowed = new ArrayList<>(settings.dbConnections());
+        try {
+            for (int i = 0; i < settings.dbConnections(); i++) {
+                Connection connection = dataSource.getConnection();
+                borrowed.add(connection);
+                connection.isValid(1);
+            }
+        } catch (SQLException e) {
+            log.warn("워밍업 DB 커넥션 열기 실패 ({}개 연 뒤): {}", borrowed.size(), e.getMessage());
+        } finally {
+            for (Connection connection : borrowed) {
+                try {
+                    connection.close();
+                } catch (SQLException e) {
+                    log.debug("워밍업 커넥션 반납 실패: {}", e.getMessage());
+                }
+            }
+        }
+        return borrowed.size();
+    }
+
+    private boolean fetchProducerMetadata() {
+        if (kafkaTemplate == null) {
+            return false;
+        }
+        try {
+            for (String topic : settings.topics()) {
+                // 트랜잭션 템플릿이면 트랜잭션 프로듀서 초기화(initTransactions)까지 함께 끝냄
+                if (kafkaTemplate.isTransactional()) {
+                    kafkaTemplate.executeInTransaction(operations -> operations.partitionsFor(topic));
+                } else {
+                    kafkaTemplate.partitionsFor(topic);
+                }
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("워밍업 Kafka 프로듀서 준비 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void prepareQueries() {
+        try {
+            OrderId missing = OrderId.generate();
+            orderRepository.findById(missing);
+            orderRepository.findVersion(missing);
+        } catch (Exception e) {
+            log.warn("워밍업 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    // 흐름 종류(재고 실패 보상, 결제 실패, 고객 취소)를 번갈아 실행하므로 dbFlows 가 3 이상이면 모든 쓰기 문장이 실행됨
+    private int prepareWrites() {
+        if (!flow.writesToDatabase()) {
+            return 0;
+        }
+        int completed = 0;
+        for (int i = 0; i < settings.dbFlows(); i++) {
+            try {
+                flow.runRolledBack(i);
+                completed++;
+            } catch (Exception e) {
+                log.warn("워밍업 DB 흐름 실패: {}", e.getMessage());
+            }
+        }
+        return completed;
+    }
+
+    private Report runFlows(long started, int connections, boolean producerReady, int dbFlows) {
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean compilationMonitored = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long compilationStart = compilationMonitored ? compiler.getTotalCompilationTime() : 0;
+        long deadline = started + settings.maxDuration().toNanos();
+
+        int rounds = 0;
+        int iterations = 0;
+        int failures = 0;
+        long firstRoundP99 = 0;
+        long lastRoundP99 = 0;
+        long compilationBefore = compilationStart;
+        while (rounds < settings.maxRounds() && System.nanoTime() < deadline) {
+            long[] latencies = new long[settings.iterationsPerRound()];
+            int completed = 0;
+            for (; completed < latencies.length && System.nanoTime() < deadline; completed++) {
+                long flowStarted = System.nanoTime();
+                try {
+                    flow.run(iterations + completed);
+                } catch (Exception e) {
+                    failures++;
+                    log.debug("워밍업 합성 흐름 실패: {}", e.getMessage());
+                }
+                latencies[completed] = System.nanoTime() - flowStarted;
+            }
+            iterations += completed;
+            rounds++;
+
+            long p99 = p99(latencies, completed);
+            if (rounds == 1) {
+                firstRoundP99 = p99;
+            }
+            lastRoundP99 = p99;
+
+            if (!compilationMonitored) {
+                if (rounds >= settings.minRounds()) {
+                    break;
+                }
+                continue;
+            }
+            long compilationAfter = compiler.getTotalCompilationTime();
+            long roundCompilation = compilationAfter - compilationBefore;
+            compilationBefore = compilationAfter;
+            log.debug("워밍업 {}라운드: p99 {}ms, JIT 컴파일 {}ms", rounds, millis(Duration.ofNanos(p99)), roundCompilation);
+            if (rounds >= settings.minRounds() && roundCompilation <= settings.compilationPlateau().toMillis()) {
+                break;
+            }
+        }
+
+        return new Report(Duration.ofNanos(System.nanoTime() - started), connections, producerReady, dbFlows,
+                rounds, iterations, failures, Duration.ofMillis(compilationBefore - compilationStart),
+                Duration.ofNanos(firstRoundP99), Duration.ofNanos(lastRoundP99));
+    }
+
+    private static long p99(long[] latencies, int count) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return sorted[Math.min(count - 1, (int) Math.ceil(count * 0.99) - 1)];
+    }
+
+    private static String millis(Duration duration) {
+        return String.format("%.2f", duration.toNanos() / 1_000_000.0);
+    }
+}
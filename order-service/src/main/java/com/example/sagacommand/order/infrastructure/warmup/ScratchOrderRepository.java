@@ -0,0 +1,33 @@
+package com.example.sagacommand.order.infrastructure.warmup;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 워밍업 전용 저장소입니다. 합성 주문을 메모리에만 두어 실제 orders 테이블에 남지 않게 합니다.
+ * 워밍업 스레드 하나에서만 사용합니다.
+ */
+class ScratchOrderRepository implements OrderRepository {
+    private final Map<UUID, Order> orders = new HashMap<>();
+
+    @Override
+    public Order save(Order entity) {
+        orders.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return Optional.ofNullable(orders.get(orderId.getValue()));
+    }
+
+    void clear() {
+        orders.clear();
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.sagacommand.order.infrastructure.warmup;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.common.saga.SagaOrchestrator;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.application.dto.OrderCreation;
+import com.example.sagacommand.order.application.dto.OrderResult;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 주문 생성 → Saga 응답 처리 → 취소까지의 합성 흐름입니다.
+ * 실제 요청/이벤트와 같은 OrderCommandFactory, 이벤트 핸들러, SagaOrchestrator 코드를 실행하지만
+ * 커맨드 저장소와 발행기를 스크래치 저장소와 버리는 발행기로 바꿔서 실행하므로 DB 와 Kafka 에는 아무것도 남지 않습니다.
+ * <p>
+ * 스크래치 저장소로는 Hibernate 의 INSERT/UPDATE, 조건부 UPDATE 문장이 실행되지 않으므로,
+ * {@link #runRolledBack(int)} 은 같은 흐름을 실제 DB 저장소로 실행하고 트랜잭션을 롤백합니다.
+ * <p>
+ * Saga 저널, 응답 합류, 관측(span)은 붙이지 않은 별도 SagaOrchestrator 를 사용합니다.
+ * 상태 색인/카운터에 반영하지 않는 스코프로 실행하므로 합성 주문은 운영 지표에도 나타나지 않습니다.
+ */
+public class SyntheticOrderFlow {
+    private static final OrderEventPublisher DISCARDING_PUBLISHER = (key, event) -> {
+    };
+
+    private final OrderCommandFactory commandFactory;
+    private final SagaOrchestrator orchestrator;
+    private final ScopedCommandInvoker commandInvoker = new ScopedCommandInvoker();
+    private final ObjectMapper objectMapper;
+    private final ScratchOrderRepository scratch = new ScratchOrderRepository();
+    // 카탈로그 near-cache 를 합성 상품으로 채우지 않도록 고정된 상품만 사용
+    private final List<UUID> productIds;
+    private final RollbackOnlyDatabase database;
+
+    /**
+     * 쓰기 경로를 롤백되는 트랜잭션 안에서 실행할 DB 저장소
+     *
+     * @param repository   커맨드가 사용할 DB 저장소 (지연 반영/샤딩 래퍼가 아닌, 트랜잭션에 참여하는 JPA 저장소)
+     * @param flush        롤백 전에 쌓인 INSERT/UPDATE 를 DB 로 보냄
+     * @param transactions 흐름마다 트랜잭션을 열고 롤백함
+     */
+    public record RollbackOnlyDatabase(OrderRepository repository, Runnable flush, TransactionOperations transactions) {
+    }
+
+    public SyntheticOrderFlow(OrderCommandFactory commandFactory, List<EventHandler<?>> handlers,
+                              ObjectMapper objectMapper, int productCount) {
+        this(commandFactory, handlers, objectMapper, productCount, null);
+    }
+
+    public SyntheticOrderFlow(OrderCommandFactory commandFactory, List<EventHandler<?>> handlers,
+                              ObjectMapper objectMapper, int productCount, RollbackOnlyDatabase database) {
+        this.commandFactory = commandFactory;
+        this.orchestrator = new SagaOrchestrator(new ScopedCommandInvoker(), new EventHandlerRegistry(), handlers);
+        this.objectMapper = objectMapper;
+        this.productIds = IntStream.range(0, productCount).mapToObj(i -> UUID.randomUUID()).toList();
+        this.database = database;
+    }
+
+    /**
+     * 흐름 한 번을 실행합니다. iteration 에 따라 재고 실패 보상, 결제 실패, 고객 취소 흐름을 번갈아 실행합니다.
+     *
+     * @return 흐름의 마지막 주문 상태
+     */
+    Order.OrderStatus run(int iteration) {
+        try {
+            return commandFactory.withUntrackedScope(scratch, DISCARDING_PUBLISHER, () -> runInScope(iteration, scratch));
+        } finally {
+            scratch.clear();
+        }
+    }
+
+    boolean writesToDatabase() {
+        return database != null;
+    }
+
+    /**
+     * 흐름 한 번을 실제 DB 저장소로 실행하고 롤백합니다. 조회/INSERT/UPDATE/조건부 UPDATE 문장이 모두 실행되지만 커밋되지 않습니다.
+     */
+    Order.OrderStatus runRolledBack(int iteration) {
+        if (database == null) {
+            throw new IllegalStateException("DB 저장소가 설정되지 않았습니다");
+        }
+        return database.transactions().execute(status -> {
+            status.setRollbackOnly();
+            return commandFactory.withUntrackedScope(database.repository(), DISCARDING_PUBLISHER, () -> {
+                Order.OrderStatus result = runInScope(iteration, database.repository());
+                database.flush().run();
+                return result;
+            });
+        });
+    }
+
+    private Order.OrderStatus runInScope(int iteration, OrderRepository repository) {
+        Order order;
+        try {
+            order = commandInvoker.executeCommand(commandFactory.createOrderCommand(
+                    new OrderCreation(UUID.randomUUID(), items(iteration))));
+        } finally {
+            commandInvoker.clear();
+        }
+        UUID orderId = order.getId();
+        // 결제 서비스가 결제 ID 를 기록한 상태를 흉내 내어 보상 시 환불 요청 경로까지 실행
+        UUID paymentId = UUID.randomUUID();
+        order.updatePaymentId(paymentId);
+
+        switch (iteration % 3) {
+            case 0 -> {
+                orchestrator.processEvent(PaymentCompletedEvent.of(orderId, paymentId, BigDecimal.valueOf(10_000)));
+                orchestrator.processEvent(InventoryReservationFailedEvent.of(orderId, "warm-up"));
+            }
+            case 1 -> orchestrator.processEvent(PaymentFailedEvent.of(orderId, "warm-up"));
+            default -> {
+                orchestrator.processEvent(PaymentCompletedEvent.of(orderId, paymentId, BigDecimal.valueOf(10_000)));
+                cancel(orderId);
+            }
+        }
+
+        Order result = repository.findById(OrderId.of(orderId)).orElseThrow();
+        // 어느 단계에서 실패했더라도 취소 경로까지 실행되도록 종료 상태로 마무리
+        if (!result.isTerminal()) {
+            cancel(orderId);
+        }
+        serialize(OrderResult.from(result));
+        return result.getStatus();
+    }
+
+    private void cancel(UUID orderId) {
+        try {
+            commandInvoker.executeCommand(commandFactory.cancelOrderCommand(orderId));
+        } finally {
+            commandInvoker.clear();
+        }
+    }
+
+    private List<UUID> items(int iteration) {
+        // 같은 상품이 반복되는 주문도 섞어서 가격 단계의 수량 합치기 경로까지 실행
+        int count = 1 + iteration % productIds.size();
+        List<UUID> items = new ArrayList<>(count + 1);
+        for (int i = 0; i < count; i++) {
+            items.add(productIds.get((iteration + i) % productIds.size()));
+        }
+        items.add(productIds.get(iteration % productIds.size()));
+        return items;
+    }
+
+    private void serialize(OrderResult result) {
+        try {
+            objectMapper.writeValueAsBytes(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("주문 응답 직렬화 실패", e);
+        }
+    }
+}
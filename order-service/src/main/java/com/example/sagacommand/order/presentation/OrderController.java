@@ -6,9 +6,13 @@ import com.example.sagacommand.order.presentation.dto.CreateOrderRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/orders")
@@ -33,12 +37,44 @@ public class OrderController {
         return ResponseEntity.ok(result);
     }
 
+    // 응답에 주문 버전 기반 ETag 를 붙이고, If-None-Match 가 현재 버전과 같으면
+    // 버전 컬럼 하나만 조회한 뒤 본문 없이 304 로 응답 (주문 항목 조회/직렬화 생략)
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResult> getOrder(@PathVariable String orderId) {
+    public ResponseEntity<OrderResult> getOrder(@PathVariable String orderId,
+                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+                                                String ifNoneMatch) {
         log.info("[Order] Get request received - orderId: {}", orderId);
+        if (ifNoneMatch != null) {
+            Optional<Long> version = orderService.getOrderVersion(orderId);
+            if (version.isPresent() && matches(ifNoneMatch, eTag(version.get()))) {
+                log.info("[Order] Not modified - orderId: {}", orderId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag(version.get())).build();
+            }
+        }
         OrderResult result = orderService.getOrder(orderId);
         log.info("[Order] Retrieved successfully - orderId: {}", result.orderId());
-        return ResponseEntity.ok(result);
+        return ResponseEntity.ok().eTag(eTag(result.version())).body(result);
+    }
+
+    static String eTag(long version) {
+        return "\"v" + version + "\"";
+    }
+
+    // If-None-Match 는 약한 비교: W/ 접두사를 무시하고, 목록 중 하나라도 같거나 * 이면 일치
+    static boolean matches(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
 
@@ -0,0 +1,193 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.common.event.OrderCancelledEvent;
+import com.example.sagacommand.common.event.OrderCreatedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.order.application.dto.OrderCreation;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.messaging.offset.BatchSagaEventAcknowledger;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.listener.AfterRollbackProcessor;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.support.mapping.DefaultJackson2JavaTypeMapper;
+import org.springframework.kafka.support.mapping.Jackson2JavaTypeMapper;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * exactly-once(Kafka 트랜잭션) 설정에서 배치 하나가 하나의 트랜잭션으로 커밋/중단되는지 확인합니다.
+ * 리스너는 두 레코드가 같은 배치로 전달되도록 레코드를 보낸 뒤 직접 시작하고,
+ * 중단된 배치는 성공할 때까지 다시 전달받도록 재시도 횟수 제한을 두지 않습니다.
+ */
+@SpringBootTest(properties = {
+        "spring.kafka.producer.transaction-id-prefix=order-service-tx-",
+        "spring.kafka.producer.acks=all",
+        "spring.kafka.consumer.isolation-level=read-committed",
+        "spring.kafka.listener.auto-startup=false"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1,
+        topics = {"order-events", "payment-events", "inventory-events", "shipping-events"},
+        brokerProperties = {
+                "transaction.state.log.replication.factor=1",
+                "transaction.state.log.min.isr=1"
+        })
+@DirtiesContext
+class OrderServiceExactlyOnceIntegrationTest {
+
+    private static final TopicPartition PAYMENT_EVENTS = new TopicPartition("payment-events", 0);
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private SagaEventAcknowledger sagaEventAcknowledger;
+    @Autowired
+    private KafkaTransactionManager<?, ?> kafkaTransactionManager;
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    private Consumer<String, Object> orderEventsConsumer;
+    private Consumer<String, Object> offsetsConsumer;
+    private Producer<String, Object> paymentEventsProducer;
+    private final List<UUID> cancelledOrders = new ArrayList<>();
+
+    @TestConfiguration
+    static class RetryUntilCommitted {
+        @Bean
+        AfterRollbackProcessor<Object, Object> afterRollbackProcessor() {
+            return new DefaultAfterRollbackProcessor<>(new FixedBackOff(200L, FixedBackOff.UNLIMITED_ATTEMPTS));
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("test-order-events-group", "true", embeddedKafkaBroker);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        JsonDeserializer<Object> deserializer = new JsonDeserializer<>();
+        deserializer.addTrustedPackages("com.example");
+        DefaultJackson2JavaTypeMapper typeMapper = new DefaultJackson2JavaTypeMapper();
+        typeMapper.setTypePrecedence(Jackson2JavaTypeMapper.TypePrecedence.TYPE_ID);
+        typeMapper.setIdClassMapping(Map.of(
+                "order-created", OrderCreatedEvent.class,
+                "order-cancelled", OrderCancelledEvent.class
+        ));
+        deserializer.setTypeMapper(typeMapper);
+        orderEventsConsumer = new DefaultKafkaConsumerFactory<>(consumerProps, new StringDeserializer(), deserializer)
+                .createConsumer();
+        orderEventsConsumer.subscribe(Collections.singletonList("order-events"));
+
+        // 리스너 컨테이너와 같은 그룹의 커밋된 오프셋만 조회 (구독하지 않음)
+        offsetsConsumer = new DefaultKafkaConsumerFactory<>(
+                KafkaTestUtils.consumerProps("test-consumer-group", "false", embeddedKafkaBroker),
+                new StringDeserializer(), new JsonDeserializer<>()).createConsumer();
+
+        JsonSerializer<Object> serializer = new JsonSerializer<>();
+        serializer.setAddTypeInfo(true);
+        paymentEventsProducer = new DefaultKafkaProducerFactory<>(
+                KafkaTestUtils.producerProps(embeddedKafkaBroker), new StringSerializer(), serializer).createProducer();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderEventsConsumer.close();
+        offsetsConsumer.close();
+        paymentEventsProducer.close();
+    }
+
+    @Test
+    @DisplayName("중단된 배치는 발행도 오프셋도 커밋하지 않고, 재전달로 커밋될 때 보상 이벤트를 다시 발행한다")
+    void shouldCommitPublishesAndOffsetsTogether_andRepublishCompensationOnRedelivery() {
+        assertThat(sagaEventAcknowledger).isInstanceOf(BatchSagaEventAcknowledger.class);
+        assertThat(kafkaTransactionManager).isNotNull();
+
+        UUID cancelled = orderService.createOrder(new OrderCreation(UUID.randomUUID(), List.of())).orderId();
+        UUID missing = UUID.randomUUID();  // 아직 없는 주문: 결제 완료 처리가 실패하여 배치를 중단시킴
+        paymentEventsProducer.send(new ProducerRecord<>("payment-events", cancelled.toString(),
+                PaymentFailedEvent.of(cancelled, "Insufficient funds")));
+        paymentEventsProducer.send(new ProducerRecord<>("payment-events", missing.toString(),
+                PaymentCompletedEvent.of(missing, UUID.randomUUID(), BigDecimal.TEN)));
+        paymentEventsProducer.flush();
+        listenerRegistry.getListenerContainer(OrderService.SAGA_LISTENER_ID).start();
+
+        // 첫 레코드의 DB 반영은 트랜잭션 밖이라 남지만, 배치가 중단을 반복하는 동안 발행과 오프셋은 커밋되지 않음
+        await().atMost(Duration.ofSeconds(10)).until(() -> status(cancelled) == Order.OrderStatus.CANCELLED);
+        await().during(Duration.ofSeconds(2)).atMost(Duration.ofSeconds(5)).until(() -> committedOffset() == null);
+        pollCancelledOrders(Duration.ofSeconds(1));
+        assertThat(cancelledOrders).isEmpty();
+
+        // 실패 원인이 사라지면 재전달된 배치가 커밋됨: 이미 취소된 주문의 취소 이벤트도 다시 발행되어 한 번만 보임
+        orderRepository.save(Order.create(OrderId.of(missing), UUID.randomUUID(), List.of()));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(committedOffset()).isEqualTo(2L));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            pollCancelledOrders(Duration.ofMillis(500));
+            assertThat(cancelledOrders).contains(cancelled);
+        });
+        pollCancelledOrders(Duration.ofSeconds(1));
+        assertThat(cancelledOrders).containsExactly(cancelled);
+        assertThat(status(missing)).isEqualTo(Order.OrderStatus.PAID);
+    }
+
+    private Order.OrderStatus status(UUID orderId) {
+        return orderRepository.findById(OrderId.of(orderId)).map(Order::getStatus).orElse(null);
+    }
+
+    private Long committedOffset() {
+        OffsetAndMetadata committed = offsetsConsumer.committed(Set.of(PAYMENT_EVENTS)).get(PAYMENT_EVENTS);
+        return committed != null ? committed.offset() : null;
+    }
+
+    // read_committed 로 보이는 order-events 중 취소 이벤트의 주문 ID 를 모음
+    private void pollCancelledOrders(Duration timeout) {
+        for (ConsumerRecord<String, Object> record : KafkaTestUtils.getRecords(orderEventsConsumer, timeout)) {
+            if (record.value() instanceof OrderCancelledEvent event) {
+                cancelledOrders.add(event.getOrderId());
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.OrderCancelledEvent;
+import com.example.sagacommand.common.event.OrderCreatedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.order.application.dto.OrderCreation;
+import com.example.sagacommand.order.application.dto.OrderResult;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.messaging.inprocess.InProcessEventBus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * OrderServiceKafkaIntegrationTest 와 같은 Saga 흐름을 in-process 프로필(링 버퍼 버스)로 검증합니다. (EmbeddedKafka 불필요)
+ */
+@SpringBootTest(properties = "spring.kafka.bootstrap-servers=localhost:9092")
+@ActiveProfiles({"test", "in-process"})
+class OrderServiceInProcessIntegrationTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private InProcessEventBus bus;
+
+    @Autowired
+    private Queue<Object> publishedOrderEvents;
+
+    @Test
+    void shouldPublishOrderCreatedEvent_whenOrderIsCreated() {
+        OrderResult result = orderService.createOrder(createSampleOrderRequest());
+
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(publishedOrderEvents)
+                .anySatisfy(event -> assertThat(event).isInstanceOfSatisfying(OrderCreatedEvent.class,
+                        created -> assertThat(created.getOrderId()).isEqualTo(result.orderId()))));
+    }
+
+    @Test
+    void shouldUpdateOrderStatusToPaid_whenPaymentCompletedEventReceived() {
+        UUID orderId = orderService.createOrder(createSampleOrderRequest()).orderId();
+
+        bus.publish("payment-events", orderId.toString(), PaymentCompletedEvent.of(orderId, orderId, BigDecimal.valueOf(50000)));
+
+        awaitStatus(orderId, Order.OrderStatus.PAID);
+    }
+
+    @Test
+    void shouldCancelOrder_whenPaymentFailedEventReceived() {
+        UUID orderId = orderService.createOrder(createSampleOrderRequest()).orderId();
+
+        bus.publish("payment-events", orderId.toString(), PaymentFailedEvent.of(orderId, "Insufficient funds"));
+
+        awaitStatus(orderId, Order.OrderStatus.CANCELLED);
+    }
+
+    @Test
+    void shouldCancelOrderAndPublishCancellation_whenInventoryReservationFailedEventReceived() {
+        UUID orderId = orderService.createOrder(createSampleOrderRequest()).orderId();
+
+        bus.publish("inventory-events", orderId.toString(), InventoryReservationFailedEvent.of(orderId, "Out of stock"));
+
+        awaitStatus(orderId, Order.OrderStatus.CANCELLED);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(publishedOrderEvents)
+                .anySatisfy(event -> assertThat(event).isInstanceOfSatisfying(OrderCancelledEvent.class,
+                        cancelled -> assertThat(cancelled.getOrderId()).isEqualTo(orderId))));
+    }
+
+    private void awaitStatus(UUID orderId, Order.OrderStatus expected) {
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(
+                orderRepository.findById(OrderId.of(orderId)).map(Order::getStatus)).contains(expected));
+    }
+
+    private OrderCreation createSampleOrderRequest() {
+        return new OrderCreation(UUID.randomUUID(), List.of());
+    }
+
+    @TestConfiguration
+    static class OrderEventsCapture {
+        @Bean
+        Queue<Object> publishedOrderEvents(InProcessEventBus bus) {
+            Queue<Object> events = new ConcurrentLinkedQueue<>();
+            bus.subscribe("order-events", batch -> batch.forEach(record -> events.add(record.value())));
+            return events;
+        }
+    }
+}
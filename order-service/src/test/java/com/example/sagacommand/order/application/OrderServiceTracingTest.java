@@ -0,0 +1,179 @@
+package com.example.sagacommand.order.application;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.common.saga.SagaEventProcessor;
+import com.example.sagacommand.common.saga.SagaOrchestrator;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.transport.SenderContext;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class OrderServiceTracingTest {
+
+    private static final String TOPIC = "payment-events";
+
+    private final List<SpanData> spans = new CopyOnWriteArrayList<>();
+    private final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+            .addSpanProcessor(SimpleSpanProcessor.create(new SpanExporter() {
+                @Override
+                public CompletableResultCode export(Collection<SpanData> exported) {
+                    spans.addAll(exported);
+                    return CompletableResultCode.ofSuccess();
+                }
+
+                @Override
+                public CompletableResultCode flush() {
+                    return CompletableResultCode.ofSuccess();
+                }
+
+                @Override
+                public CompletableResultCode shutdown() {
+                    return CompletableResultCode.ofSuccess();
+                }
+            }))
+            .build();
+    private final ObservationRegistry observationRegistry = tracingRegistry();
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    @DisplayName("배치로 받은 레코드마다 헤더의 trace 를 이어받아 saga.event 가 발행 측 span 아래에 남는다")
+    void shouldContinueProducerTrace_perRecordInBatch() {
+        RecordHeaders firstHeaders = new RecordHeaders();
+        String firstProducer = publish(firstHeaders);
+        RecordHeaders secondHeaders = new RecordHeaders();
+        String secondProducer = publish(secondHeaders);
+
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        orderService().handlePaymentEvents(
+                List.of(record(0, first, firstHeaders), record(1, second, secondHeaders)),
+                mock(Acknowledgment.class), mock(Consumer.class));
+
+        List<SpanData> sagaEvents = spans.stream().filter(span -> span.getName().equals("saga PaymentCompletedEvent")).toList();
+        List<SpanData> receives = spans.stream().filter(span -> span.getName().equals(TOPIC + " receive")).toList();
+        assertThat(sagaEvents).hasSize(2);
+        assertThat(receives).hasSize(2);
+
+        SpanData firstPublish = span(firstProducer);
+        SpanData secondPublish = span(secondProducer);
+        assertThat(sagaEvents).extracting(SpanData::getTraceId)
+                .containsExactlyInAnyOrder(firstPublish.getTraceId(), secondPublish.getTraceId());
+        // saga.event → 수신 span → 발행 span
+        for (SpanData sagaEvent : sagaEvents) {
+            SpanData receive = span(sagaEvent.getParentSpanId());
+            assertThat(receive.getName()).isEqualTo(TOPIC + " receive");
+            assertThat(receive.getParentSpanId()).isIn(firstProducer, secondProducer);
+        }
+    }
+
+    private OrderService orderService() {
+        EventHandler<PaymentCompletedEvent> handler = new EventHandler<>() {
+            @Override
+            public void handle(PaymentCompletedEvent event, ScopedCommandInvoker invoker) {
+            }
+
+            @Override
+            public Class<PaymentCompletedEvent> getEventType() {
+                return PaymentCompletedEvent.class;
+            }
+        };
+        SagaOrchestrator orchestrator = new SagaOrchestrator(
+                new ScopedCommandInvoker(), new EventHandlerRegistry(), List.of(handler), observationRegistry);
+        return new OrderService(mock(OrderCommandFactory.class), new ScopedCommandInvoker(),
+                new SagaEventProcessor(orchestrator), mock(OrderRepository.class), mock(OrderReadConsistency.class),
+                mock(SagaEventAcknowledger.class), observationRegistry);
+    }
+
+    // 발행 측(KafkaTemplate 관측과 같은 방식)으로 헤더에 traceparent 를 기록하고 발행 span 의 ID 를 반환
+    private String publish(RecordHeaders headers) {
+        SenderContext<RecordHeaders> context = new SenderContext<>(
+                (carrier, key, value) -> carrier.add(key, value.getBytes(StandardCharsets.UTF_8)));
+        context.setCarrier(headers);
+        Observation observation = Observation.createNotStarted("publish", () -> context, observationRegistry).start();
+        observation.stop();
+        return spans.get(spans.size() - 1).getSpanId();
+    }
+
+    private SpanData span(String spanId) {
+        return spans.stream().filter(span -> span.getSpanId().equals(spanId)).findFirst().orElseThrow();
+    }
+
+    private ObservationRegistry tracingRegistry() {
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        OtelTracer tracer = new OtelTracer(otelTracer, currentTraceContext, event -> {
+        });
+        OtelPropagator propagator = new OtelPropagator(
+                ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer);
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler.FirstMatchingCompositeObservationHandler(
+                new PropagatingSenderTracingObservationHandler<>(tracer, propagator),
+                new PropagatingReceiverTracingObservationHandler<>(tracer, propagator),
+                new DefaultTracingObservationHandler(tracer)));
+        return registry;
+    }
+
+    private static ConsumerRecord<String, EventView<?>> record(long offset, UUID orderId, RecordHeaders headers) {
+        PaymentCompletedEvent event = PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.TEN);
+        EventView<PaymentCompletedEvent> view = new EventView<>() {
+            @Override
+            public Class<PaymentCompletedEvent> getType() {
+                return PaymentCompletedEvent.class;
+            }
+
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public PaymentCompletedEvent get() {
+                return event;
+            }
+        };
+        return new ConsumerRecord<>(TOPIC, 0, offset, System.currentTimeMillis(), TimestampType.CREATE_TIME,
+                -1, -1, orderId.toString(), view, headers, Optional.empty());
+    }
+}
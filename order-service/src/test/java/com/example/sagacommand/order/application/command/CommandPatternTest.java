@@ -3,25 +3,35 @@ package com.example.sagacommand.order.application.command;
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
 import com.example.sagacommand.common.event.OrderCreatedEvent;
 import com.example.sagacommand.common.event.PaymentRefundRequestedEvent;
+import com.example.sagacommand.common.saga.SagaCommit;
 import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.OrderStatusCounters;
+import com.example.sagacommand.order.application.SagaStatusIndex;
 import com.example.sagacommand.order.application.dto.OrderCreation;
+import com.example.sagacommand.order.domain.model.Money;
 import com.example.sagacommand.order.domain.model.Order;
 import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
 import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.catalog.StubProductCatalog;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -50,8 +60,12 @@ class CommandPatternTest {
 
         lenient().when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
         lenient().when(orderRepository.findById(any(OrderId.class))).thenReturn(Optional.of(mockOrder));
+        lenient().when(orderRepository.transitionStatus(any(OrderId.class), any(Order.OrderStatus.class))).thenReturn(true);
+        lenient().when(orderRepository.revertStatus(any(OrderId.class), any(Order.OrderStatus.class), any(Order.OrderStatus.class)))
+                .thenReturn(true);
 
-        createOrderCommand = new CreateOrderCommand(new OrderCreation(customerId, List.of()), orderRepository, eventPublisher);
+        createOrderCommand = new CreateOrderCommand(new OrderCreation(customerId, List.of()), orderRepository, eventPublisher,
+                new StubProductCatalog(Money.ofMinor(10_000)));
 
         updateOrderStatusCommand = new UpdateOrderStatusCommand(orderIdObj, Order.OrderStatus.PAID, orderRepository);
         refundPaymentCommand = new RefundPaymentCommand(orderIdObj, orderRepository, eventPublisher);
@@ -67,6 +81,35 @@ class CommandPatternTest {
         verify(eventPublisher).publishEvent(anyString(), any(OrderCreatedEvent.class));
     }
 
+    @Test
+    @DisplayName("주문 생성 시 같은 상품은 수량으로 합치고 모든 가격을 카탈로그 대량 조회 한 번으로 매긴다")
+    void shouldPriceItemsWithSingleBulkLookup_whenCreateOrderCommandExecuted() {
+        UUID book = UUID.randomUUID();
+        UUID pen = UUID.randomUUID();
+        StubProductCatalog catalog = new StubProductCatalog(Map.of(book, Money.ofMinor(12_000)), Money.ofMinor(1_500));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Order order = new CreateOrderCommand(new OrderCreation(UUID.randomUUID(), List.of(book, pen, book, pen, book)),
+                orderRepository, eventPublisher, catalog).execute();
+
+        assertEquals(1, catalog.getLookups());
+        assertEquals(2, catalog.getRequestedProducts());
+        assertEquals(List.of(book, pen), order.getOrderItems().stream().map(OrderItem::getProductId).toList());
+        assertEquals(List.of(3, 2), order.getOrderItems().stream().map(OrderItem::getQuantity).toList());
+        assertEquals(Money.ofMinor(39_000), order.getTotalAmount());
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 상품이 있으면 주문을 저장하지 않는다")
+    void shouldRejectUnknownProduct_whenCreateOrderCommandExecuted() {
+        StubProductCatalog catalog = new StubProductCatalog(Map.of(), null);
+        CreateOrderCommand command = new CreateOrderCommand(
+                new OrderCreation(UUID.randomUUID(), List.of(UUID.randomUUID())), orderRepository, eventPublisher, catalog);
+
+        assertThrows(IllegalArgumentException.class, command::execute);
+        verify(orderRepository, never()).save(any(Order.class));
+    }
+
     @Test
     @DisplayName("주문 생성 이후 Undo 실행 시 주문 취소 처리가 수행된다")
     void shouldUndoOrder_whenUndoAfterCreateOrderCommand() {
@@ -81,13 +124,14 @@ class CommandPatternTest {
     }
 
     @Test
-    @DisplayName("주문 상태 변경 커맨드 실행 시 주문 상태가 갱신된다")
+    @DisplayName("주문 상태 변경 커맨드 실행 시 주문을 읽지 않고 조건부로 상태가 갱신된다")
     void shouldUpdateOrderStatus_whenUpdateOrderStatusCommandExecuted() {
-        Order result = commandInvoker.executeCommand(updateOrderStatusCommand);
+        Boolean result = commandInvoker.executeCommand(updateOrderStatusCommand);
 
-        assertNotNull(result);
-        verify(orderRepository).findById(any(OrderId.class));
-        verify(orderRepository).save(any(Order.class));
+        assertTrue(result);
+        verify(orderRepository).transitionStatus(any(OrderId.class), eq(Order.OrderStatus.PAID));
+        verify(orderRepository, never()).findById(any(OrderId.class));
+        verify(orderRepository, never()).save(any(Order.class));
     }
 
     @Test
@@ -108,7 +152,79 @@ class CommandPatternTest {
 
         commandInvoker.undoAllCommands();
 
-        verify(orderRepository, times(3)).findById(any(OrderId.class));
-        verify(orderRepository, times(4)).save(any(Order.class));
+        verify(orderRepository).revertStatus(any(OrderId.class), eq(Order.OrderStatus.PAID), eq(Order.OrderStatus.CREATED));
+        verify(orderRepository).findById(any(OrderId.class));
+        verify(orderRepository, times(2)).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("이어서 적용한 상태 전이는 각 커맨드가 기록한 출발 상태로 역순으로 되돌린다")
+    void shouldRevertEachStepToItsOwnPriorStatus_whenUndoingStackedTransitions() {
+        OrderId orderId = OrderId.generate();
+        // INVENTORY_RESERVED 는 출발 상태가 여럿이므로 같은 UPDATE 에서 기록된 직전 상태를 읽음
+        when(orderRepository.findPreviousStatus(orderId)).thenReturn(Optional.of(Order.OrderStatus.PAID));
+
+        commandInvoker.executeCommand(new UpdateOrderStatusCommand(orderId, Order.OrderStatus.PAID, orderRepository));
+        commandInvoker.executeCommand(new UpdateOrderStatusCommand(orderId, Order.OrderStatus.INVENTORY_RESERVED, orderRepository));
+        commandInvoker.undoAllCommands();
+
+        InOrder inOrder = inOrder(orderRepository);
+        inOrder.verify(orderRepository).revertStatus(orderId, Order.OrderStatus.INVENTORY_RESERVED, Order.OrderStatus.PAID);
+        inOrder.verify(orderRepository).revertStatus(orderId, Order.OrderStatus.PAID, Order.OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("상태 카운터가 있으면 생성/전이/보상마다 출발 상태와 도착 상태를 한 번씩 반영한다")
+    void shouldRecordEachTransitionOnce_whenStatusCountersEnabled() {
+        List<String> transitions = new ArrayList<>();
+        OrderCommandFactory factory = new OrderCommandFactory(orderRepository, eventPublisher,
+                new StubProductCatalog(Money.ofMinor(10_000)), SagaStatusIndex.NOOP, recordingCounters(transitions));
+        UUID orderId = UUID.randomUUID();
+
+        commandInvoker.executeCommand(factory.createOrderCommand(new OrderCreation(UUID.randomUUID(), List.of())));
+        commandInvoker.executeCommand(factory.updateOrderStatusCommand(orderId, Order.OrderStatus.PAID));
+        commandInvoker.undoAllCommands();
+
+        // 출발 상태가 하나(CREATED)뿐인 전이는 직전 상태를 조회하지 않음
+        verify(orderRepository, never()).findPreviousStatus(any(OrderId.class));
+        assertEquals(List.of("null->CREATED", "CREATED->PAID", "PAID->CREATED", "CREATED->CANCELLED"), transitions);
+    }
+
+    @Test
+    @DisplayName("상태 카운터는 모아 저장하는 작업 단위에서는 저장된 주문만, DB 반영 뒤에 반영한다")
+    void shouldRecordTransitions_onlyAfterCommitAndDurable() {
+        List<String> transitions = new ArrayList<>();
+        List<Runnable> awaitingDurable = new ArrayList<>();
+        OrderCommandFactory factory = new OrderCommandFactory(orderRepository, eventPublisher,
+                new StubProductCatalog(Money.ofMinor(10_000)), SagaStatusIndex.NOOP, recordingCounters(transitions),
+                awaitingDurable::add);
+        UUID committed = UUID.randomUUID();
+        UUID conflicted = UUID.randomUUID();
+
+        List<SagaCommit.Pending> afterCommit = SagaCommit.capture(() -> {
+            commandInvoker.executeCommand(factory.updateOrderStatusCommand(committed, Order.OrderStatus.PAID));
+            commandInvoker.executeCommand(factory.updateOrderStatusCommand(conflicted, Order.OrderStatus.PAID));
+        });
+        assertTrue(awaitingDurable.isEmpty());
+
+        // 충돌로 저장하지 못한 주문의 전이는 버려짐
+        SagaCommit.runCommitted(afterCommit, Set.of(conflicted));
+        assertTrue(transitions.isEmpty());
+
+        awaitingDurable.forEach(Runnable::run);
+        assertEquals(List.of("CREATED->PAID"), transitions);
+    }
+
+    private static OrderStatusCounters recordingCounters(List<String> transitions) {
+        return new OrderStatusCounters() {
+            @Override
+            public void recordTransition(Order.OrderStatus from, Order.OrderStatus to) {
+                transitions.add(from + "->" + to);
+            }
+
+            @Override
+            public void recordRemoved(Order.OrderStatus status, long count) {
+            }
+        };
     }
 }
@@ -3,6 +3,7 @@ package com.example.sagacommand.order.application.saga;
 import com.example.sagacommand.common.command.ScopedCommandInvoker;
 import com.example.sagacommand.common.event.EventProcessor;
 import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.OrderCancelledEvent;
 import com.example.sagacommand.common.event.PaymentCompletedEvent;
 import com.example.sagacommand.common.event.PaymentFailedEvent;
 import com.example.sagacommand.common.saga.EventHandler;
@@ -20,6 +21,7 @@ import com.example.sagacommand.order.domain.repository.OrderRepository;
 import com.example.sagacommand.order.infrastructure.saga.InventoryReservationFailedEventHandler;
 import com.example.sagacommand.order.infrastructure.saga.PaymentCompletedEventHandler;
 import com.example.sagacommand.order.infrastructure.saga.PaymentFailedEventHandler;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -73,8 +76,7 @@ class OrderSagaOrchestratorTest {
     @DisplayName("결제가 완료되면 주문 상태가 PAID로 변경된다")
     void shouldUpdateOrderStatusToPaid_whenPaymentIsCompleted() {
         // given
-        when(orderRepository.findById(eq(orderIdObj))).thenReturn(Optional.of(mockOrder));
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        when(orderRepository.transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.PAID))).thenReturn(true);
 
         PaymentCompletedEvent event = PaymentCompletedEvent.of(orderId, orderId, BigDecimal.valueOf(30000));
         UpdateOrderStatusCommand updateCommand = new UpdateOrderStatusCommand(orderIdObj, Order.OrderStatus.PAID, orderRepository);
@@ -85,13 +87,14 @@ class OrderSagaOrchestratorTest {
 
         // then
         verify(commandFactory).updateOrderStatusCommand(eq(orderId), eq(Order.OrderStatus.PAID));
-        verify(orderRepository).save(any(Order.class));
+        verify(orderRepository).transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.PAID));
     }
 
     @Test
     @DisplayName("결제 실패 시 주문 상태가 PAYMENT_FAILED로 변경되고 주문이 취소된다")
     void shouldCancelOrder_whenPaymentFails() {
         // given
+        when(orderRepository.transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.PAYMENT_FAILED))).thenReturn(true);
         when(orderRepository.findById(eq(orderIdObj))).thenReturn(Optional.of(mockOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
@@ -106,13 +109,55 @@ class OrderSagaOrchestratorTest {
 
         // then
         verify(commandFactory).cancelOrderCommand(eq(orderId));
-        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(orderRepository).transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.PAYMENT_FAILED));
+        verify(orderRepository).save(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("이미 취소된 주문에 결제 실패가 재전달되면 상태 전이는 건너뛰고 취소 이벤트를 다시 발행한다")
+    void shouldRepublishCancellation_whenPaymentFailureIsRedelivered() {
+        // given: 이전 처리의 DB 반영은 남았지만 발행은 중단된 Kafka 트랜잭션과 함께 사라진 상태
+        mockOrder.cancel();
+        when(orderRepository.transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.PAYMENT_FAILED))).thenReturn(false);
+        when(orderRepository.findById(eq(orderIdObj))).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+
+        PaymentFailedEvent event = PaymentFailedEvent.of(orderId, "Insufficient funds");
+        UpdateOrderStatusCommand updateCommand = new UpdateOrderStatusCommand(orderIdObj, Order.OrderStatus.PAYMENT_FAILED, orderRepository);
+        CancelOrderCommand cancelCommand = new CancelOrderCommand(orderIdObj, orderRepository, eventPublisher);
+        when(commandFactory.updateOrderStatusCommand(eq(orderId), eq(Order.OrderStatus.PAYMENT_FAILED))).thenReturn(updateCommand);
+        when(commandFactory.cancelOrderCommand(eq(orderId))).thenReturn(cancelCommand);
+
+        // when
+        eventProcessor.processEvent(event);
+
+        // then
+        verify(eventPublisher).publishEvent(eq(orderId.toString()), any(OrderCancelledEvent.class));
+        verify(commandInvoker, never()).undoLastCommand();
+    }
+
+    @Test
+    @DisplayName("Kafka 트랜잭션으로 처리할 때는 핸들러 실패가 호출자에게 전달된다")
+    void shouldPropagateHandlerFailure_whenConfiguredForTransactions() {
+        // given
+        EventProcessor transactional = new SagaEventProcessor(new SagaOrchestrator(commandInvoker, new EventHandlerRegistry(),
+                List.of(new PaymentFailedEventHandler(commandFactory)), ObservationRegistry.NOOP, null, true));
+        UpdateOrderStatusCommand mockCommand = mock(UpdateOrderStatusCommand.class);
+        when(mockCommand.execute()).thenThrow(new IllegalStateException("Database error"));
+        when(commandFactory.updateOrderStatusCommand(eq(orderId), any())).thenReturn(mockCommand);
+
+        // when & then
+        assertThatThrownBy(() -> transactional.processEvent(PaymentFailedEvent.of(orderId, "Insufficient funds")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Database error");
+        verify(commandFactory, never()).cancelOrderCommand(any());
     }
 
     @Test
     @DisplayName("재고 예약 실패 시 주문 상태가 INVENTORY_FAILED로 변경되고 주문이 취소된다")
     void shouldCancelOrder_whenInventoryReservationFails() {
         // given
+        when(orderRepository.transitionStatus(eq(orderIdObj), eq(Order.OrderStatus.INVENTORY_FAILED))).thenReturn(true);
         when(orderRepository.findById(eq(orderIdObj))).thenReturn(Optional.of(mockOrder));
         when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
 
@@ -130,7 +175,7 @@ class OrderSagaOrchestratorTest {
         // then
         verify(commandFactory).updateOrderStatusCommand(eq(orderId), eq(Order.OrderStatus.INVENTORY_FAILED));
         verify(commandFactory).cancelOrderCommand(eq(orderId));
-        verify(orderRepository, times(2)).save(any(Order.class));
+        verify(orderRepository).save(any(Order.class));
     }
 
     @Test
@@ -0,0 +1,55 @@
+package com.example.sagacommand.order.domain.model;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    @DisplayName("주문 총액은 항목별 가격과 수량의 합으로 계산된다")
+    void shouldCalculateTotalAmount_fromItemPricesAndQuantities() {
+        Order order = Order.create(OrderId.generate(), UUID.randomUUID(), List.of(
+                OrderItem.create(UUID.randomUUID(), 2, Money.ofMinor(15_000)),
+                OrderItem.create(UUID.randomUUID(), 3, Money.ofMinor(1_000))
+        ));
+
+        assertThat(order.getTotalAmount()).isEqualTo(Money.ofMinor(33_000));
+        assertThat(order.getTotalAmount().getValue()).isEqualByComparingTo(BigDecimal.valueOf(33_000));
+    }
+
+    @Test
+    @DisplayName("BigDecimal 변환 시 통화의 소수 자릿수를 넘으면 예외가 발생한다")
+    void shouldRejectFractionBeyondCurrencyScale() {
+        Currency usd = Currency.getInstance("USD");
+
+        assertThat(Money.of(new BigDecimal("12.34"), usd).getMinorUnits()).isEqualTo(1234L);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("12.345"), usd))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("연산 중 오버플로가 발생하면 예외가 발생한다")
+    void shouldThrow_whenArithmeticOverflows() {
+        Money large = Money.ofMinor(Long.MAX_VALUE / 2 + 1);
+
+        assertThatThrownBy(() -> large.multiply(2)).isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> large.add(large)).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("통화가 다른 금액끼리는 더할 수 없다")
+    void shouldRejectAddition_whenCurrenciesDiffer() {
+        Money krw = Money.ofMinor(1_000);
+        Money usd = Money.ofMinor(1_000, Currency.getInstance("USD"));
+
+        assertThatThrownBy(() -> krw.add(usd)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.sagacommand.order.domain.model;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStatusTransitionsTest {
+
+    @Test
+    @DisplayName("전이 표의 역방향 조회는 조건부 UPDATE 의 IN 목록이 된다")
+    void shouldDeriveSourcesFromTable() {
+        assertThat(OrderStatusTransitions.sourcesOf(OrderStatus.PAID)).containsExactly(OrderStatus.CREATED);
+        assertThat(OrderStatusTransitions.sourcesOf(OrderStatus.CANCELLED))
+                .doesNotContain(OrderStatus.COMPLETED, OrderStatus.CANCELLED);
+        assertThat(OrderStatusTransitions.sourcesOf(OrderStatus.CREATED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다음 상태가 하나뿐인 실패 상태만 그 다음 상태로 이어진 것으로 본다")
+    void shouldDetectSingleFollowingStatus() {
+        assertThat(OrderStatusTransitions.isFollowedOnlyBy(OrderStatus.PAYMENT_FAILED, OrderStatus.CANCELLED)).isTrue();
+        assertThat(OrderStatusTransitions.isFollowedOnlyBy(OrderStatus.INVENTORY_FAILED, OrderStatus.CANCELLED)).isTrue();
+        assertThat(OrderStatusTransitions.isFollowedOnlyBy(OrderStatus.PAID, OrderStatus.CANCELLED)).isFalse();
+        assertThat(OrderStatusTransitions.isFollowedOnlyBy(OrderStatus.CANCELLED, OrderStatus.CANCELLED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("종료 상태에서는 어떤 상태로도 전이할 수 없다")
+    void shouldRejectTransitionsOutOfTerminalStates() {
+        Order order = newOrder();
+        order.cancel();
+
+        assertThat(order.isTerminal()).isTrue();
+        assertThatThrownBy(order::markAsPaid).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 상태로의 전이는 중복 이벤트로 보고 무시한다")
+    void shouldIgnoreSameStatusTransition() {
+        Order order = newOrder();
+        order.markAsPaid();
+        order.markAsPaid();
+
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(order.getPreviousStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("보상 시 현재 상태가 적용한 상태일 때만 기록된 출발 상태로 되돌린다")
+    void shouldRevertOnlyFromAppliedStatus() {
+        Order order = newOrder();
+        order.markAsPaid();
+
+        assertThat(order.revertFrom(OrderStatus.CANCELLED, OrderStatus.PAID)).isFalse();
+        // 전이 표에 없는 출발 상태로는 되돌리지 않음
+        assertThat(order.revertFrom(OrderStatus.PAID, OrderStatus.INVENTORY_RESERVED)).isFalse();
+        assertThat(order.revertFrom(OrderStatus.PAID, OrderStatus.CREATED)).isTrue();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+        assertThat(order.revertFrom(OrderStatus.PAID, OrderStatus.CREATED)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이어서 적용한 전이를 역순으로 하나씩 되돌릴 수 있다")
+    void shouldRevertStackedTransitions() {
+        Order order = newOrder();
+        order.markAsPaid();
+        order.markAsInventoryReserved();
+
+        assertThat(order.revertFrom(OrderStatus.INVENTORY_RESERVED, OrderStatus.PAID)).isTrue();
+        assertThat(order.revertFrom(OrderStatus.PAID, OrderStatus.CREATED)).isTrue();
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CREATED);
+    }
+
+    private Order newOrder() {
+        return Order.create(OrderId.generate(), UUID.randomUUID(), List.of());
+    }
+}
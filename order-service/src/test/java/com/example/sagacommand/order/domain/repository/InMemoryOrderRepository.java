@@ -0,0 +1,96 @@
+package com.example.sagacommand.order.domain.repository;
+
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테스트용 메모리 저장소입니다.
+ * DB 처럼 조회마다 다른 인스턴스를 반환하므로 작업 단위의 버전 조건 저장이 실제와 같게 동작하며,
+ * 주문별 조회/저장 횟수를 기록합니다.
+ */
+public class InMemoryOrderRepository implements OrderRepository {
+    private final Map<UUID, Order> orders = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> loads = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> saves = new ConcurrentHashMap<>();
+    private volatile Runnable beforeConditionalSave;
+
+    /**
+     * 결제까지 마친 응답을 기다리는 주문(CREATED, 결제 ID 있음)을 orderIds 마다 하나씩 넣어 둡니다.
+     */
+    public static InMemoryOrderRepository withOrders(UUID... orderIds) {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository();
+        for (UUID orderId : orderIds) {
+            Order order = Order.create(OrderId.of(orderId), UUID.randomUUID(), List.of());
+            order.updatePaymentId(UUID.randomUUID());
+            repository.orders.put(orderId, order);
+        }
+        return repository;
+    }
+
+    @Override
+    public Order save(Order entity) {
+        saves.merge(entity.getId(), 1, Integer::sum);
+        orders.put(entity.getId(), entity);
+        return entity;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        loads.merge(orderId.getValue(), 1, Integer::sum);
+        return Optional.ofNullable(orders.get(orderId.getValue())).map(Order::snapshot);
+    }
+
+    @Override
+    public synchronized boolean saveIfVersion(Order order, long expectedVersion) {
+        Runnable hook = beforeConditionalSave;
+        if (hook != null) {
+            beforeConditionalSave = null;
+            hook.run();
+        }
+        Order current = orders.get(order.getId());
+        if (current == null || current.getVersion() != expectedVersion) {
+            return false;
+        }
+        save(order);
+        return true;
+    }
+
+    /**
+     * 다음 조건부 저장 직전에 한 번 실행할 작업 (동시에 다른 작업이 주문을 바꾼 상황 재현용)
+     */
+    public void beforeNextConditionalSave(Runnable hook) {
+        this.beforeConditionalSave = hook;
+    }
+
+    /**
+     * 저장된 인스턴스를 그대로 반환합니다 (조회 횟수에 포함되지 않음).
+     */
+    public Order stored(UUID orderId) {
+        return orders.get(orderId);
+    }
+
+    /**
+     * 저장 횟수를 세지 않고 저장된 주문을 바꿉니다.
+     */
+    public void replace(Order order) {
+        orders.put(order.getId(), order);
+    }
+
+    public Order.OrderStatus status(UUID orderId) {
+        return orders.get(orderId).getStatus();
+    }
+
+    public int loads(UUID orderId) {
+        return loads.getOrDefault(orderId, 0);
+    }
+
+    public int saves(UUID orderId) {
+        return saves.getOrDefault(orderId, 0);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.sagacommand.order.infrastructure.catalog;
+
+import com.example.sagacommand.order.application.ProductCatalog;
+import com.example.sagacommand.order.domain.model.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingProductCatalogTest {
+
+    @Test
+    @DisplayName("캐시에 없는 상품만 모아 한 번 조회하고, 이후에는 캐시에서 응답한다")
+    void shouldLoadOnlyMissingProducts() {
+        UUID cachedProduct = UUID.randomUUID();
+        UUID newProduct = UUID.randomUUID();
+        StubProductCatalog stub = new StubProductCatalog(Money.ofMinor(1_000));
+        CachingProductCatalog catalog = new CachingProductCatalog(stub, 100, Duration.ofMinutes(1));
+
+        catalog.findPrices(Set.of(cachedProduct));
+        Map<UUID, Money> prices = catalog.findPrices(Set.of(cachedProduct, newProduct));
+        catalog.findPrices(Set.of(cachedProduct, newProduct));
+
+        assertThat(prices).containsOnlyKeys(cachedProduct, newProduct);
+        assertThat(stub.getLookups()).isEqualTo(2);
+        assertThat(stub.getRequestedProducts()).isEqualTo(2);
+        assertThat(catalog.getHits()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("동시에 같은 상품을 찾으면 먼저 시작한 조회 결과를 함께 기다린다")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        UUID productId = UUID.randomUUID();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        StubProductCatalog stub = new StubProductCatalog(Money.ofMinor(2_500));
+        ProductCatalog slow = productIds -> {
+            loading.countDown();
+            await(release);
+            return stub.findPrices(productIds);
+        };
+        CachingProductCatalog catalog = new CachingProductCatalog(slow, 100, Duration.ofMinutes(1));
+
+        CompletableFuture<Map<UUID, Money>> first = CompletableFuture.supplyAsync(() -> catalog.findPrices(Set.of(productId)));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<UUID, Money>> second = CompletableFuture.supplyAsync(() -> catalog.findPrices(Set.of(productId)));
+        while (catalog.getCoalesced() == 0) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry(productId, Money.ofMinor(2_500));
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry(productId, Money.ofMinor(2_500));
+        assertThat(stub.getLookups()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("ttl 이 지나거나 최대 개수를 넘으면 내보내고 다시 조회한다")
+    void shouldEvictByTtlAndSize() throws Exception {
+        StubProductCatalog stub = new StubProductCatalog(Money.ofMinor(1_000));
+        CachingProductCatalog bounded = new CachingProductCatalog(stub, 2, Duration.ofMinutes(1));
+        for (int i = 0; i < 5; i++) {
+            bounded.findPrices(Set.of(UUID.randomUUID()));
+        }
+        assertThat(bounded.getSize()).isEqualTo(2);
+        assertThat(bounded.getEvictions()).isEqualTo(3);
+
+        UUID productId = UUID.randomUUID();
+        CachingProductCatalog expiring = new CachingProductCatalog(stub, 100, Duration.ofMillis(1));
+        expiring.findPrices(Set.of(productId));
+        Thread.sleep(5);
+        expiring.findPrices(Set.of(productId));
+        assertThat(expiring.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("카탈로그에 없는 상품은 결과에서 빠지고 캐시하지 않는다")
+    void shouldNotCacheUnknownProducts() {
+        UUID unknown = UUID.randomUUID();
+        StubProductCatalog stub = new StubProductCatalog(Map.of(), null);
+        CachingProductCatalog catalog = new CachingProductCatalog(stub, 100, Duration.ofMinutes(1));
+
+        assertThat(catalog.findPrices(Set.of(unknown))).isEmpty();
+        assertThat(catalog.findPrices(Set.of(unknown))).isEmpty();
+        assertThat(stub.getLookups()).isEqualTo(2);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.sagacommand.order.infrastructure.messaging;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 수신-처리-발행(consume-process-produce) 루프의 처리량을 at-least-once 와 exactly-once(Kafka 트랜잭션)로 비교합니다.
+ * <p>
+ * at-least-once: 배치 발행 후 flush, 오프셋 commitSync
+ * exactly-once: 배치마다 트랜잭션 시작 → 발행 → sendOffsetsToTransaction → 커밋
+ * <p>
+ * 배치 크기(max.poll.records)별로 측정하여 트랜잭션 비용이 배치에 나눠지는 정도를 보여줍니다.
+ * 기본 test 태스크에서는 제외되며 benchmarkTest 태스크로 실행합니다. 결과는 build/benchmark 에 남습니다.
+ * <pre>./gradlew :order-service:benchmarkTest --tests '*ExactlyOnceThroughputTest'</pre>
+ */
+@Tag("benchmark")
+@EmbeddedKafka(partitions = 1, topics = {ExactlyOnceThroughputTest.INPUT, ExactlyOnceThroughputTest.OUTPUT},
+        brokerProperties = {
+                "transaction.state.log.replication.factor=1",
+                "transaction.state.log.min.isr=1"
+        })
+class ExactlyOnceThroughputTest {
+
+    static final String INPUT = "bench-payment-events";
+    static final String OUTPUT = "bench-order-events";
+
+    private static final Logger log = LoggerFactory.getLogger(ExactlyOnceThroughputTest.class);
+    private static final Path REPORT_DIR = Path.of(System.getProperty("benchmark.report-dir", "build/benchmark"));
+    private static final int RECORDS = Integer.getInteger("benchmark.records", 20_000);
+    private static final List<Integer> BATCH_SIZES = List.of(1, 100, 1_000);
+
+    private enum Mode {
+        AT_LEAST_ONCE, EXACTLY_ONCE
+    }
+
+    @Test
+    void compareThroughput(EmbeddedKafkaBroker broker) throws IOException {
+        fillInput(broker);
+
+        StringBuilder report = new StringBuilder("consume-process-produce ")
+                .append(RECORDS).append(" records\n");
+        for (int batchSize : BATCH_SIZES) {
+            for (Mode mode : Mode.values()) {
+                long elapsedNanos = run(broker, mode, batchSize);
+                report.append(String.format("  %-14s batch=%5d  %,10.0f records/s%n",
+                        mode, batchSize, RECORDS / (elapsedNanos / 1e9)));
+            }
+        }
+        Files.createDirectories(REPORT_DIR);
+        Files.writeString(REPORT_DIR.resolve("exactly-once-throughput.txt"), report);
+        log.info("[benchmark]\n{}", report);
+
+        // 모든 실행의 출력 중 커밋된 레코드만 보임 (중단된 트랜잭션 없음)
+        assertThat(countCommitted(broker)).isEqualTo((long) RECORDS * BATCH_SIZES.size() * Mode.values().length);
+    }
+
+    private long run(EmbeddedKafkaBroker broker, Mode mode, int batchSize) {
+        String groupId = "bench-" + mode + "-" + batchSize;
+        try (Consumer<String, String> consumer = consumer(broker, groupId, batchSize);
+             Producer<String, String> producer = producer(broker, mode == Mode.EXACTLY_ONCE ? groupId : null)) {
+            consumer.subscribe(List.of(INPUT));
+            if (mode == Mode.EXACTLY_ONCE) {
+                producer.initTransactions();
+            }
+
+            long started = System.nanoTime();
+            int consumed = 0;
+            while (consumed < RECORDS) {
+                ConsumerRecords<String, String> records = consumer.poll(Duration.ofMillis(100));
+                if (records.isEmpty()) {
+                    continue;
+                }
+                if (mode == Mode.EXACTLY_ONCE) {
+                    producer.beginTransaction();
+                }
+                for (ConsumerRecord<String, String> record : records) {
+                    producer.send(new ProducerRecord<>(OUTPUT, record.key(), "processed:" + record.value()));
+                }
+                if (mode == Mode.EXACTLY_ONCE) {
+                    producer.sendOffsetsToTransaction(nextOffsets(records), consumer.groupMetadata());
+                    producer.commitTransaction();
+                } else {
+                    producer.flush();
+                    consumer.commitSync(nextOffsets(records));
+                }
+                consumed += records.count();
+            }
+            return System.nanoTime() - started;
+        }
+    }
+
+    private static Map<TopicPartition, OffsetAndMetadata> nextOffsets(ConsumerRecords<String, String> records) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        for (TopicPartition partition : records.partitions()) {
+            List<ConsumerRecord<String, String>> partitionRecords = records.records(partition);
+            offsets.put(partition, new OffsetAndMetadata(partitionRecords.get(partitionRecords.size() - 1).offset() + 1));
+        }
+        return offsets;
+    }
+
+    private static void fillInput(EmbeddedKafkaBroker broker) {
+        try (Producer<String, String> producer = producer(broker, null)) {
+            for (int i = 0; i < RECORDS; i++) {
+                String orderId = UUID.randomUUID().toString();
+                producer.send(new ProducerRecord<>(INPUT, orderId, "{\"orderId\":\"" + orderId + "\"}"));
+            }
+            producer.flush();
+        }
+    }
+
+    private static long countCommitted(EmbeddedKafkaBroker broker) {
+        try (Consumer<String, String> consumer = consumer(broker, "bench-verify", 5_000)) {
+            consumer.subscribe(List.of(OUTPUT));
+            long count = 0;
+            int emptyPolls = 0;
+            while (emptyPolls < 5) {
+                int polled = consumer.poll(Duration.ofMillis(500)).count();
+                count += polled;
+                emptyPolls = polled == 0 ? emptyPolls + 1 : 0;
+            }
+            return count;
+        }
+    }
+
+    private static Consumer<String, String> consumer(EmbeddedKafkaBroker broker, String groupId, int maxPollRecords) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps(groupId, "false", broker);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        return new KafkaConsumer<>(props, new StringDeserializer(), new StringDeserializer());
+    }
+
+    private static Producer<String, String> producer(EmbeddedKafkaBroker broker, String transactionalId) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        if (transactionalId != null) {
+            props.put(ProducerConfig.TRANSACTIONAL_ID_CONFIG, transactionalId);
+        }
+        return new KafkaProducer<>(props, new StringSerializer(), new StringSerializer());
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sagacommand.order.infrastructure.messaging;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.PaymentCancelledEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SagaEventDeserializerTest {
+
+    private static final String TOPIC = "payment-events";
+
+    private final JsonSerializer<Object> serializer = new JsonSerializer<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SagaEventDeserializer deserializer;
+
+    @BeforeEach
+    void setUp() {
+        EventHandlerRegistry registry = new EventHandlerRegistry();
+        registry.registerHandler(PaymentCompletedEvent.class, (event, invoker) -> {
+        });
+
+        meterRegistry = new SimpleMeterRegistry();
+        deserializer = new SagaEventDeserializer(registry, meterRegistry);
+        deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example",
+                JsonDeserializer.TYPE_MAPPINGS, "payment-completed:" + PaymentCompletedEvent.class.getName()
+        ), false);
+    }
+
+    @Test
+    @DisplayName("핸들러가 없는 이벤트 타입은 본문을 디코딩하지 않고 건너뛴다")
+    void shouldSkipUnhandledEventType_beforeDecoding() {
+        RecordHeaders headers = new RecordHeaders();
+        // 본문이 JSON 이 아니어도 헤더만으로 걸러지므로 예외가 발생하지 않음
+        byte[] data = serializer.serialize(TOPIC, headers, PaymentCancelledEvent.of(UUID.randomUUID(), UUID.randomUUID()));
+        data[0] = 'x';
+
+        assertThat(deserializer.deserialize(TOPIC, headers, data)).isNull();
+        assertThat(meterRegistry.counter("saga.events.skipped", "type", "PaymentCancelledEvent").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("핸들러가 있는 이벤트는 주문 ID만 먼저 읽고 나머지는 접근 시 디코딩한다")
+    void shouldExposeOrderIdFirst_andDecodeRestLazily() {
+        UUID orderId = UUID.randomUUID();
+        UUID paymentId = UUID.randomUUID();
+        RecordHeaders headers = new RecordHeaders();
+        byte[] data = serializer.serialize(TOPIC, headers, PaymentCompletedEvent.of(orderId, paymentId, BigDecimal.TEN));
+
+        Object value = deserializer.deserialize(TOPIC, headers, data);
+
+        assertThat(value).isInstanceOf(EventView.class);
+        EventView<?> view = (EventView<?>) value;
+        assertThat(view.getType()).isEqualTo(PaymentCompletedEvent.class);
+        assertThat(view.getOrderId()).isEqualTo(orderId);
+
+        PaymentCompletedEvent event = (PaymentCompletedEvent) view.get();
+        assertThat(event.getPaymentId()).isEqualTo(paymentId);
+        assertThat(event.getAmount()).isEqualByComparingTo(BigDecimal.TEN);
+    }
+
+    @Test
+    @DisplayName("헤더 없이 호출되면 타입을 알 수 없으므로 SerializationException 으로 실패한다")
+    void shouldFailWithSerializationException_whenCalledWithoutHeaders() {
+        byte[] data = serializer.serialize(TOPIC, PaymentCompletedEvent.of(UUID.randomUUID(), UUID.randomUUID(), BigDecimal.TEN));
+
+        assertThatThrownBy(() -> deserializer.deserialize(TOPIC, data))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining(TOPIC);
+        assertThat(deserializer.deserialize(TOPIC, null)).isNull();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.sagacommand.order.infrastructure.messaging.coalescing;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.*;
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.common.saga.SagaEventProcessor;
+import com.example.sagacommand.common.saga.SagaOrchestrator;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.repository.InMemoryOrderRepository;
+import com.example.sagacommand.order.infrastructure.catalog.StubProductCatalog;
+import com.example.sagacommand.order.infrastructure.saga.InventoryReservationFailedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentCompletedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentFailedEventHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoalescingEventProcessorTest {
+
+    @Test
+    @DisplayName("같은 주문의 이벤트를 묶어 처리해도 최종 상태와 발행 이벤트는 한 건씩 처리한 결과와 같다")
+    void shouldMatchSequentialProcessing_whenEventsForSameOrderAreCoalesced() {
+        UUID orderId = UUID.randomUUID();
+        UUID otherOrderId = UUID.randomUUID();
+        List<EventView<?>> batch = List.of(
+                view(orderId, PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.valueOf(30_000))),
+                view(otherOrderId, PaymentCompletedEvent.of(otherOrderId, UUID.randomUUID(), BigDecimal.valueOf(10_000))),
+                view(orderId, InventoryReservationFailedEvent.of(orderId, "Out of stock"))
+        );
+
+        Fixture sequential = new Fixture(orderId, otherOrderId);
+        batch.forEach(sequential.processor::processEvent);
+
+        Fixture coalesced = new Fixture(orderId, otherOrderId);
+        coalesced.processor.processEvents(batch);
+
+        assertThat(coalesced.repository.status(orderId)).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(coalesced.repository.status(orderId)).isEqualTo(sequential.repository.status(orderId));
+        assertThat(coalesced.repository.status(otherOrderId)).isEqualTo(sequential.repository.status(otherOrderId));
+        assertThat(coalesced.publisher.published).isEqualTo(sequential.publisher.published);
+
+        // 묶인 주문은 조회/저장 1회, 나머지 주문은 기존과 같음
+        assertThat(coalesced.repository.loads(orderId)).isEqualTo(1);
+        assertThat(coalesced.repository.saves(orderId)).isEqualTo(1);
+        assertThat(sequential.repository.saves(orderId)).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("처리하는 사이 다른 작업이 주문을 바꿨으면 덮어쓰지 않고 최신 상태에서 다시 처리한다")
+    void shouldReprocessFromLatestState_whenOrderChangedConcurrently() {
+        UUID orderId = UUID.randomUUID();
+        List<EventView<?>> batch = List.of(
+                view(orderId, PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.valueOf(30_000))),
+                view(orderId, InventoryReservationFailedEvent.of(orderId, "Out of stock"))
+        );
+
+        Fixture sequential = new Fixture(orderId);
+        batch.forEach(sequential.processor::processEvent);
+
+        Fixture coalesced = new Fixture(orderId);
+        // 첫 저장 직전에 다른 작업이 같은 주문에 포인트를 적용
+        coalesced.repository.beforeNextConditionalSave(() -> {
+            Order concurrent = coalesced.repository.stored(orderId).snapshot();
+            concurrent.applyPoints(500);
+            coalesced.repository.replace(concurrent);
+        });
+        coalesced.processor.processEvents(batch);
+
+        Order stored = coalesced.repository.stored(orderId);
+        assertThat(stored.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(stored.getAppliedPoints()).isEqualTo(500);
+        // 충돌한 시도의 이벤트는 발행되지 않으므로 한 건씩 처리한 결과와 같음
+        assertThat(coalesced.publisher.published).isEqualTo(sequential.publisher.published);
+        assertThat(coalesced.meterRegistry.counter("saga.events.coalesced.conflicts").count()).isEqualTo(1.0);
+    }
+
+    private static <T extends Event> EventView<T> view(UUID orderId, T event) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) event.getClass();
+        return new EventView<>() {
+            @Override
+            public Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public T get() {
+                return event;
+            }
+        };
+    }
+
+    private static class Fixture {
+        final InMemoryOrderRepository repository;
+        final RecordingPublisher publisher = new RecordingPublisher();
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final EventProcessor processor;
+
+        Fixture(UUID... orderIds) {
+            repository = InMemoryOrderRepository.withOrders(orderIds);
+
+            OrderCommandFactory factory = new OrderCommandFactory(repository, publisher, new StubProductCatalog(Money.ofMinor(10_000)));
+            List<EventHandler<?>> handlers = List.of(
+                    new PaymentCompletedEventHandler(factory),
+                    new PaymentFailedEventHandler(factory),
+                    new InventoryReservationFailedEventHandler(factory)
+            );
+            EventProcessor saga = new SagaEventProcessor(
+                    new SagaOrchestrator(new ScopedCommandInvoker(), new EventHandlerRegistry(), handlers));
+            processor = new CoalescingEventProcessor(saga, factory, repository, publisher, meterRegistry);
+        }
+    }
+
+    private static class RecordingPublisher implements OrderEventPublisher {
+        final List<String> published = new ArrayList<>();
+
+        @Override
+        public void publishEvent(String key, Object event) {
+            published.add(key + ":" + event.getClass().getSimpleName());
+        }
+    }
+}
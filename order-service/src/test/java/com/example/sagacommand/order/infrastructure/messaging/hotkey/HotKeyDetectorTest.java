@@ -0,0 +1,49 @@
+package com.example.sagacommand.order.infrastructure.messaging.hotkey;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotKeyDetectorTest {
+
+    private final HotKeyDetector detector = new HotKeyDetector(
+            20, Duration.ofMinutes(1), Duration.ofMinutes(1), 10, 4, 1_024);
+
+    @Test
+    @DisplayName("임계치 이상 이벤트가 들어온 키만 핫 키로 판단한다")
+    void shouldDetectOnlyKeysAboveThreshold() {
+        UUID hotKey = UUID.randomUUID();
+        IntStream.range(0, 1_000).forEach(i -> detector.record(UUID.randomUUID()));
+
+        boolean hot = false;
+        for (int i = 0; i < 20; i++) {
+            hot = detector.record(hotKey);
+        }
+
+        assertThat(hot).isTrue();
+        assertThat(detector.snapshot())
+                .extracting(HotKeyDetector.HotKeySnapshot::orderId)
+                .containsExactly(hotKey);
+    }
+
+    @Test
+    @DisplayName("슬로 레인에 남은 이벤트가 있는 핫 키는 만료시키지 않는다")
+    void shouldKeepHotKey_whileSlowLaneHasPendingEvents() {
+        HotKeyDetector shortCooldown = new HotKeyDetector(
+                2, Duration.ofMinutes(1), Duration.ZERO, 10, 4, 1_024);
+        UUID key = UUID.randomUUID();
+        shortCooldown.record(key);
+        shortCooldown.record(key);
+
+        shortCooldown.expire(k -> true);
+        assertThat(shortCooldown.snapshot()).hasSize(1);
+
+        shortCooldown.expire(k -> false);
+        assertThat(shortCooldown.snapshot()).isEmpty();
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EventRingBufferTest {
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 발행해도 유실 없이 생산자별 발행 순서대로 꺼낸다")
+    void shouldKeepPerProducerOrder_withMultipleProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        // 버퍼를 작게 잡아 슬롯 재사용과 대기(backpressure)를 함께 검증
+        EventRingBuffer ring = new EventRingBuffer(64, ProducerType.MULTI, Duration.ofSeconds(10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            String key = "producer-" + p;
+            executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i++) {
+                    ring.publish(key, i);
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        Map<String, Integer> lastSeen = new HashMap<>();
+        List<InProcessEventBus.KeyedEvent> batch = new ArrayList<>();
+        int received = 0;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (received < producers * perProducer && System.nanoTime() < deadline) {
+            ring.drain(32, batch);
+            for (InProcessEventBus.KeyedEvent event : batch) {
+                int value = (Integer) event.value();
+                Integer previous = lastSeen.put(event.key(), value);
+                assertThat(value).isEqualTo(previous == null ? 0 : previous + 1);
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        executor.shutdown();
+
+        assertThat(received).isEqualTo(producers * perProducer);
+        assertThat(lastSeen).hasSize(producers).allSatisfy((key, last) -> assertThat(last).isEqualTo(perProducer - 1));
+        assertThat(ring.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("소비자가 따라오지 않아 버퍼가 가득 차면 제한 시간 후 발행을 거부한다")
+    void shouldRejectPublish_whenFullBeyondTimeout() {
+        EventRingBuffer ring = new EventRingBuffer(2, ProducerType.SINGLE, Duration.ofMillis(20));
+        ring.publish("k", 1);
+        ring.publish("k", 2);
+
+        assertThatThrownBy(() -> ring.publish("k", 3)).isInstanceOf(IllegalStateException.class);
+
+        // 꺼내고 나면 다시 발행 가능하고, 거부된 발행이 순서를 깨지 않음
+        List<InProcessEventBus.KeyedEvent> batch = new ArrayList<>();
+        assertThat(ring.drain(10, batch)).isEqualTo(2);
+        ring.publish("k", 3);
+        assertThat(ring.drain(10, batch)).isEqualTo(1);
+        assertThat(batch).extracting(InProcessEventBus.KeyedEvent::value).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("링 버퍼 크기는 2의 거듭제곱이어야 한다")
+    void shouldRejectNonPowerOfTwoCapacity() {
+        assertThatThrownBy(() -> new EventRingBuffer(100, ProducerType.MULTI, Duration.ofSeconds(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
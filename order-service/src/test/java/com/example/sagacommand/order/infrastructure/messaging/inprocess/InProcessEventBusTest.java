@@ -0,0 +1,97 @@
+package com.example.sagacommand.order.infrastructure.messaging.inprocess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InProcessEventBusTest {
+
+    private final InProcessEventBus bus = new InProcessEventBus(
+            1, 64, 16, ProducerType.MULTI, Duration.ofSeconds(1),
+            Duration.ofNanos(50_000), Duration.ofMillis(10), 3, Duration.ofMillis(1), 16);
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @Test
+    @DisplayName("구독자가 일시적으로 실패하면 같은 배치를 다시 전달하고 보류하지 않는다")
+    void shouldRetryFailedBatch_whenSubscriberFailsTransiently() throws Exception {
+        AtomicInteger attempts = new AtomicInteger();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        bus.subscribe("topic", batch -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new IllegalStateException("일시 장애");
+            }
+            batch.forEach(event -> delivered.add(event.value()));
+        });
+
+        bus.publish("topic", "key", "event-1");
+
+        awaitUntil(() -> delivered.size() == 1);
+        assertThat(delivered).containsExactly("event-1");
+        assertThat(bus.getFailedBatchCount()).isZero();
+        assertThat(bus.getParkedBatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도까지 모두 실패한 배치는 보류되고, 복구 후 다시 전달할 수 있다")
+    void shouldParkBatch_afterRetriesExhausted_andRedeliverLater() throws Exception {
+        AtomicBoolean healthy = new AtomicBoolean(false);
+        AtomicInteger attempts = new AtomicInteger();
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        bus.subscribe("topic", batch -> {
+            attempts.incrementAndGet();
+            if (!healthy.get()) {
+                throw new IllegalStateException("장애");
+            }
+            batch.forEach(event -> delivered.add(event.value()));
+        });
+
+        bus.publish("topic", "key", "event-1");
+
+        awaitUntil(() -> bus.getParkedBatchCount() == 1);
+        assertThat(attempts).hasValue(3);
+        assertThat(bus.getFailedBatchCount()).isEqualTo(1);
+        assertThat(delivered).isEmpty();
+
+        healthy.set(true);
+        assertThat(bus.redeliverParked()).isEqualTo(1);
+        assertThat(delivered).containsExactly("event-1");
+        assertThat(bus.getParkedBatchCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래 쉬던 소비자도 발행 즉시 깨어나 이벤트를 전달한다")
+    void shouldWakeIdleConsumer_onPublish() throws Exception {
+        List<Object> delivered = new CopyOnWriteArrayList<>();
+        bus.subscribe("topic", batch -> batch.forEach(event -> delivered.add(event.value())));
+
+        // park 시간이 최대치까지 늘어날 만큼 쉬게 둠
+        Thread.sleep(100);
+        long start = System.nanoTime();
+        bus.publish("topic", "key", "event-1");
+
+        awaitUntil(() -> delivered.size() == 1);
+        assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.sagacommand.order.infrastructure.messaging.lane;
+
+import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.order.infrastructure.config.SagaLaneProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SagaLaneRouterTest {
+
+    @Test
+    @DisplayName("설정한 타입은 지정한 레인으로, 나머지 타입은 기본 레인으로 보낸다")
+    void shouldRouteConfiguredTypes_andFallBackToDefaultLane() {
+        SagaLaneRouter router = SagaLaneRouter.from(properties(
+                List.of("PaymentFailedEvent", "InventoryReservationFailedEvent"), List.of()));
+
+        assertThat(router.laneOf(PaymentFailedEvent.class)).isEqualTo("compensation");
+        assertThat(router.laneOf(InventoryReservationFailedEvent.class)).isEqualTo("compensation");
+        assertThat(router.laneOf(PaymentCompletedEvent.class)).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("한 이벤트 타입을 여러 레인에 지정하면 거부한다")
+    void shouldRejectTypeMappedToMultipleLanes() {
+        assertThatThrownBy(() -> SagaLaneRouter.from(properties(
+                List.of("PaymentFailedEvent"), List.of("PaymentFailedEvent"))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("기본 레인이 정의되어 있지 않으면 거부한다")
+    void shouldRejectMissingDefaultLane() {
+        SagaLaneProperties properties = properties(List.of("PaymentFailedEvent"), List.of());
+        properties.setDefaultLane("bulk");
+
+        assertThatThrownBy(() -> SagaLaneRouter.from(properties)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private static SagaLaneProperties properties(List<String> compensationTypes, List<String> defaultTypes) {
+        SagaLaneProperties properties = new SagaLaneProperties();
+        SagaLaneProperties.Lane compensation = new SagaLaneProperties.Lane();
+        compensation.setEventTypes(compensationTypes);
+        SagaLaneProperties.Lane defaultLane = new SagaLaneProperties.Lane();
+        defaultLane.setEventTypes(defaultTypes);
+        properties.getDefinitions().put("compensation", compensation);
+        properties.getDefinitions().put("default", defaultLane);
+        return properties;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.sagacommand.order.infrastructure.messaging.offset;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class BatchSagaEventAcknowledgerTest {
+
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+    @Test
+    @DisplayName("비동기 작업이 끝날 때까지 리스너 스레드에서 기다린 뒤 배치를 확정한다")
+    void shouldAcknowledgeOnListenerThread_afterDeferredWorkCompletes() {
+        BatchSagaEventAcknowledger acknowledger = new BatchSagaEventAcknowledger(Runnable::run, Duration.ofSeconds(5));
+        UUID hotOrder = UUID.randomUUID();
+        CompletableFuture<Void> slowLane = new CompletableFuture<>();
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> slowLane.complete(null), 50, TimeUnit.MILLISECONDS);
+
+            acknowledger.processed(List.of(record(0, UUID.randomUUID()), record(1, hotOrder)),
+                    Map.of(hotOrder, slowLane), acknowledgment, consumer);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // processed 가 반환되기 전에 확정됨 (컨테이너 트랜잭션에 포함)
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("비동기 작업이 실패한 주문의 첫 레코드 앞까지만 확정하고 나머지는 다시 전달받는다")
+    void shouldCommitContiguousPrefix_whenDeferredWorkFails() {
+        BatchSagaEventAcknowledger acknowledger = new BatchSagaEventAcknowledger(Runnable::run, Duration.ofSeconds(5));
+        UUID failedOrder = UUID.randomUUID();
+
+        acknowledger.processed(
+                List.of(record(0, UUID.randomUUID()), record(1, failedOrder), record(2, UUID.randomUUID()),
+                        record(3, failedOrder)),
+                Map.of(failedOrder, CompletableFuture.failedFuture(new IllegalStateException("슬로 레인 실패"))),
+                acknowledgment,
+                consumer);
+
+        verify(acknowledgment).nack(1, Duration.ZERO);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("기한 안에 끝나지 않은 비동기 작업은 실패로 보고 그 앞까지만 확정한다")
+    void shouldCommitContiguousPrefix_whenDeferredWorkTimesOut() {
+        BatchSagaEventAcknowledger acknowledger = new BatchSagaEventAcknowledger(Runnable::run, Duration.ofMillis(20));
+        UUID hotOrder = UUID.randomUUID();
+
+        acknowledger.processed(List.of(record(0, UUID.randomUUID()), record(1, UUID.randomUUID()), record(2, hotOrder)),
+                Map.of(hotOrder, new CompletableFuture<>()), acknowledgment, consumer);
+
+        verify(acknowledgment).nack(2, Duration.ZERO);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("변경이 DB 에 반영되지 않으면 확정하지 않고 예외로 배치 전체를 다시 전달받는다")
+    void shouldNotAcknowledge_whenChangesAreNotDurable() {
+        BatchSagaEventAcknowledger acknowledger = new BatchSagaEventAcknowledger(action -> {
+        }, Duration.ofMillis(20));
+
+        assertThatThrownBy(() -> acknowledger.processed(List.of(record(0, UUID.randomUUID())), Map.of(),
+                acknowledgment, consumer))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(acknowledgment);
+    }
+
+    private static ConsumerRecord<String, EventView<?>> record(long offset, UUID orderId) {
+        PaymentCompletedEvent event = PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.TEN);
+        EventView<PaymentCompletedEvent> view = new EventView<>() {
+            @Override
+            public Class<PaymentCompletedEvent> getType() {
+                return PaymentCompletedEvent.class;
+            }
+
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public PaymentCompletedEvent get() {
+                return event;
+            }
+        };
+        return new ConsumerRecord<>("payment-events", 0, offset, orderId.toString(), view);
+    }
+}
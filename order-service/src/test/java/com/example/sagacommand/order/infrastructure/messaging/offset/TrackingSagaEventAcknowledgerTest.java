@@ -0,0 +1,152 @@
+package com.example.sagacommand.order.infrastructure.messaging.offset;
+
+import com.example.sagacommand.common.event.EventView;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class TrackingSagaEventAcknowledgerTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("payment-events", 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final TrackingSagaEventAcknowledger acknowledger = new TrackingSagaEventAcknowledger(
+            Runnable::run,
+            Duration.ofSeconds(1),
+            2,
+            meterRegistry.timer("saga.offsets.commit.latency"),
+            meterRegistry.counter("saga.offsets.commit.failures"),
+            nanoTime::get
+    );
+
+    TrackingSagaEventAcknowledgerTest() {
+        consumer.assign(List.of(PARTITION));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+    }
+
+    @Test
+    @DisplayName("슬로 레인 작업이 끝나지 않은 레코드 앞까지만 커밋하고, 작업이 끝나면 이어서 커밋한다")
+    void shouldCommitHighestContiguousOffset_whenRecordsCompleteOutOfOrder() {
+        UUID hotOrder = UUID.randomUUID();
+        CompletableFuture<Void> slowLane = new CompletableFuture<>();
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // 오프셋 0, 2, 4 는 바로 완료, 1, 3 은 슬로 레인에서 처리 중
+        acknowledger.processed(
+                List.of(record(0, UUID.randomUUID()), record(1, hotOrder), record(2, UUID.randomUUID()),
+                        record(3, hotOrder), record(4, UUID.randomUUID())),
+                Map.of(hotOrder, slowLane),
+                acknowledgment,
+                consumer);
+
+        assertThat(committedOffset()).isEqualTo(1L);
+        assertThat(acknowledger.getInFlight()).isEqualTo(2);
+        assertThat(acknowledger.getUncommitted()).isEqualTo(4);
+
+        slowLane.complete(null);
+        acknowledger.commitDue(consumer);
+
+        assertThat(committedOffset()).isEqualTo(5L);
+        assertThat(acknowledger.getInFlight()).isZero();
+        assertThat(acknowledger.getUncommitted()).isZero();
+        // 컨테이너의 배치 확정은 사용하지 않음
+        verifyNoInteractions(acknowledgment);
+    }
+
+    @Test
+    @DisplayName("완료 건수도 간격도 채우지 못하면 커밋하지 않고, 간격이 지나면 커밋한다")
+    void shouldCommitOnCountOrTimeCadence() {
+        acknowledger.processed(List.of(record(0, UUID.randomUUID())), Map.of(), mock(Acknowledgment.class), consumer);
+        assertThat(committedOffset()).isNull();
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        acknowledger.commitDue(consumer);
+
+        assertThat(committedOffset()).isEqualTo(1L);
+        assertThat(meterRegistry.timer("saga.offsets.commit.latency").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파티션이 회수되기 전에 완료된 구간까지 커밋하고 추적을 버린다")
+    void shouldCommitCompletedRange_beforePartitionsRevoked() {
+        UUID hotOrder = UUID.randomUUID();
+        acknowledger.processed(List.of(record(0, UUID.randomUUID()), record(1, hotOrder)),
+                Map.of(hotOrder, new CompletableFuture<>()), mock(Acknowledgment.class), consumer);
+
+        acknowledger.onPartitionsRevokedBeforeCommit(consumer, Set.of(PARTITION));
+
+        assertThat(committedOffset()).isEqualTo(1L);
+        assertThat(acknowledger.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("필터에서 버려진 끝부분과 모두 버려진 배치도 컨슈머 위치까지 커밋한다")
+    void shouldCommitFilteredTail_andFullyFilteredBatches() {
+        // 0~3 을 가져왔고 2, 3 은 필터에서 버려짐
+        consumer.seek(PARTITION, 4L);
+        acknowledger.processed(List.of(record(0, UUID.randomUUID()), record(1, UUID.randomUUID())),
+                Map.of(), mock(Acknowledgment.class), consumer);
+
+        assertThat(committedOffset()).isEqualTo(4L);
+        assertThat(acknowledger.getUncommitted()).isZero();
+
+        // 4~6 을 가져왔지만 모두 버려짐 (다른 레인의 이벤트 등)
+        consumer.seek(PARTITION, 7L);
+        acknowledger.processed(List.of(), Map.of(), mock(Acknowledgment.class), consumer);
+        assertThat(committedOffset()).isEqualTo(4L);
+
+        nanoTime.addAndGet(Duration.ofSeconds(1).toNanos());
+        acknowledger.commitDue(consumer);
+
+        assertThat(committedOffset()).isEqualTo(7L);
+    }
+
+    private Long committedOffset() {
+        OffsetAndMetadata committed = consumer.committed(Set.of(PARTITION)).get(PARTITION);
+        return committed == null ? null : committed.offset();
+    }
+
+    private static ConsumerRecord<String, EventView<?>> record(long offset, UUID orderId) {
+        PaymentCompletedEvent event = PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.TEN);
+        EventView<PaymentCompletedEvent> view = new EventView<>() {
+            @Override
+            public Class<PaymentCompletedEvent> getType() {
+                return PaymentCompletedEvent.class;
+            }
+
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public PaymentCompletedEvent get() {
+                return event;
+            }
+        };
+        return new ConsumerRecord<>(PARTITION.topic(), PARTITION.partition(), offset, orderId.toString(), view);
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.sagacommand.order.infrastructure.messaging.replay;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.event.*;
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.common.saga.EventHandlerRegistry;
+import com.example.sagacommand.common.saga.SagaEventProcessor;
+import com.example.sagacommand.common.saga.SagaOrchestrator;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.repository.InMemoryOrderRepository;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.config.ReplayProperties;
+import com.example.sagacommand.order.infrastructure.catalog.StubProductCatalog;
+import com.example.sagacommand.order.infrastructure.saga.InventoryReservationFailedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentCompletedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentFailedEventHandler;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SagaReplayerTest {
+
+    private static final String TOPIC = "payment-events";
+    private static final TopicPartition PARTITION = new TopicPartition(TOPIC, 0);
+
+    @Test
+    @DisplayName("오프셋 범위 안의 대상 이벤트만 다시 처리하고, 발행은 운영 토픽으로 나가지 않는다")
+    void shouldReplayOnlyMatchingEventsInRange_andSuppressPublishes() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID outOfRange = UUID.randomUUID();
+        List<EventView<?>> log = List.of(
+                view(first, PaymentCompletedEvent.of(first, UUID.randomUUID(), BigDecimal.valueOf(10_000))),
+                view(first, InventoryReservationFailedEvent.of(first, "Out of stock")),
+                view(second, PaymentCompletedEvent.of(second, UUID.randomUUID(), BigDecimal.valueOf(10_000))),
+                view(second, InventoryReservationFailedEvent.of(second, "Out of stock")),
+                view(outOfRange, InventoryReservationFailedEvent.of(outOfRange, "Out of stock"))
+        );
+
+        InMemoryOrderRepository repository = InMemoryOrderRepository.withOrders(first, second, outOfRange);
+        RecordingPublisher livePublisher = new RecordingPublisher();
+        MockConsumer<Object, Object> consumer = consumerWith(log);
+        SagaReplayer replayer = replayer(consumer, repository, livePublisher);
+
+        // [1, 4) 범위의 InventoryReservationFailedEvent 만 재처리
+        ReplayRequest request = new ReplayRequest(List.of(TOPIC), null, null, 1L, 4L,
+                Set.of("InventoryReservationFailedEvent"), ReplayPublishMode.SUPPRESS);
+        ReplayProgress progress = new ReplayProgress(request, Clock.systemUTC());
+        replayer.run(request, progress);
+        replayer.close();
+
+        ReplayProgress.ReplayStatus status = progress.snapshot();
+        assertThat(status.state()).isEqualTo(ReplayProgress.State.COMPLETED);
+        assertThat(status.read()).isEqualTo(3);
+        assertThat(status.matched()).isEqualTo(2);
+        assertThat(status.processed()).isEqualTo(2);
+        assertThat(status.failed()).isZero();
+        assertThat(status.remainingRecords()).isZero();
+
+        assertThat(repository.status(first)).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(repository.status(second)).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(repository.status(outOfRange)).isEqualTo(Order.OrderStatus.CREATED);
+
+        assertThat(livePublisher.published).isEmpty();
+        assertThat(status.suppressedPublishes()).isPositive();
+        assertThat(consumer.committed(Set.of(PARTITION)).get(PARTITION).offset()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("시간 범위와 오프셋 범위를 함께 지정하면 거부한다")
+    void shouldRejectMixedRange() {
+        assertThatThrownBy(() -> new ReplayRequest(List.of(), Instant.now(), null, 0L, null, Set.of(), null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static MockConsumer<Object, Object> consumerWith(List<EventView<?>> log) {
+        MockConsumer<Object, Object> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.updatePartitions(TOPIC, List.of(new PartitionInfo(TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        consumer.updateEndOffsets(Map.of(PARTITION, (long) log.size()));
+        consumer.schedulePollTask(() -> {
+            for (int offset = 0; offset < log.size(); offset++) {
+                EventView<?> view = log.get(offset);
+                consumer.addRecord(new ConsumerRecord<>(TOPIC, 0, offset, view.getOrderId().toString(), view));
+            }
+        });
+        return consumer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SagaReplayer replayer(MockConsumer<Object, Object> consumer,
+                                         OrderRepository repository,
+                                         OrderEventPublisher livePublisher) {
+        ConsumerFactory<Object, Object> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer(anyString(), anyString(), isNull(), any(Properties.class))).thenReturn(consumer);
+
+        OrderCommandFactory factory = new OrderCommandFactory(repository, livePublisher, new StubProductCatalog(Money.ofMinor(10_000)));
+        List<EventHandler<?>> handlers = List.of(
+                new PaymentCompletedEventHandler(factory),
+                new PaymentFailedEventHandler(factory),
+                new InventoryReservationFailedEventHandler(factory)
+        );
+        EventProcessor saga = new SagaEventProcessor(
+                new SagaOrchestrator(new ScopedCommandInvoker(), new EventHandlerRegistry(), handlers));
+
+        ReplayProperties properties = new ReplayProperties();
+        properties.setParallelism(2);
+        return new SagaReplayer(consumerFactory, saga, factory, repository, mock(KafkaTemplate.class),
+                TransactionOperations.withoutTransaction(), properties, Clock.systemUTC());
+    }
+
+    private static <T extends Event> EventView<T> view(UUID orderId, T event) {
+        @SuppressWarnings("unchecked")
+        Class<T> type = (Class<T>) event.getClass();
+        return new EventView<>() {
+            @Override
+            public Class<T> getType() {
+                return type;
+            }
+
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public T get() {
+                return event;
+            }
+        };
+    }
+
+    private static class RecordingPublisher implements OrderEventPublisher {
+        final List<String> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publishEvent(String key, Object event) {
+            published.add(key + ":" + event.getClass().getSimpleName());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.sagacommand.order.infrastructure.persistence.archive;
+
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArchivedOrderMapperTest {
+
+    private final ArchivedOrderMapper mapper = new ArchivedOrderMapper(new ObjectMapper());
+
+    @Test
+    @DisplayName("보관 후 복원한 주문은 버전과 직전 상태를 그대로 갖고 조회 전용이다")
+    void shouldKeepVersionAndPreviousStatus_andRestoreReadOnly() {
+        UUID productId = UUID.randomUUID();
+        Order order = Order.create(OrderId.generate(), UUID.randomUUID(),
+                List.of(OrderItem.create(productId, 3, Money.ofMinor(2_000))));
+        order.updatePaymentId(UUID.randomUUID());
+        order.markAsPaid();
+        order.cancel();
+
+        Order restored = mapper.toOrder(mapper.toArchive(order, LocalDateTime.now()));
+
+        assertThat(restored.getVersion()).isEqualTo(order.getVersion()).isEqualTo(3);
+        assertThat(restored.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+        assertThat(restored.getPreviousStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(restored.getTotalAmount()).isEqualTo(Money.ofMinor(6_000));
+        assertThat(restored.getOrderItems()).extracting(OrderItem::getProductId).containsExactly(productId);
+
+        assertThat(restored.isReadOnly()).isTrue();
+        assertThatThrownBy(restored::cancel).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> restored.revertFrom(Order.OrderStatus.CANCELLED, Order.OrderStatus.PAID)).isInstanceOf(IllegalStateException.class);
+        assertThat(restored.getStatus()).isEqualTo(Order.OrderStatus.CANCELLED);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaAwareOrderReadConsistencyTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final ReplicaAwareOrderReadConsistency consistency =
+            new ReplicaAwareOrderReadConsistency(Duration.ofSeconds(5), 2, now::get);
+
+    @Test
+    @DisplayName("방금 변경한 주문은 허용 시간 동안 원본에서, 다른 주문은 라우팅 정책대로 조회한다")
+    void shouldPinPrimary_onlyForRecentlyWrittenOrderWithinWindow() {
+        UUID written = UUID.randomUUID();
+        consistency.recordWrite(written);
+
+        assertThat(consistency.read(written, DataSourceRoutingContext::isPrimaryPinned)).isTrue();
+        assertThat(consistency.read(UUID.randomUUID(), DataSourceRoutingContext::isPrimaryPinned)).isFalse();
+        assertThat(DataSourceRoutingContext.isPrimaryPinned()).isFalse();
+
+        now.addAndGet(Duration.ofSeconds(5).toNanos() - 1);
+        assertThat(consistency.read(written, DataSourceRoutingContext::isPrimaryPinned)).isTrue();
+
+        now.addAndGet(2);
+        assertThat(consistency.read(written, DataSourceRoutingContext::isPrimaryPinned)).isFalse();
+        assertThat(consistency.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("기록이 최대 개수를 넘으면 만료된 항목을 정리하고 유효한 항목은 남긴다")
+    void shouldEvictExpiredEntries_whenMaxEntriesExceeded() {
+        UUID expired = UUID.randomUUID();
+        consistency.recordWrite(expired);
+        consistency.recordWrite(UUID.randomUUID());
+        now.addAndGet(Duration.ofSeconds(6).toNanos());
+
+        UUID fresh = UUID.randomUUID();
+        consistency.recordWrite(UUID.randomUUID());
+        consistency.recordWrite(fresh);
+
+        assertThat(consistency.size()).isEqualTo(2);
+        assertThat(consistency.read(fresh, DataSourceRoutingContext::isPrimaryPinned)).isTrue();
+        assertThat(consistency.read(expired, DataSourceRoutingContext::isPrimaryPinned)).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.sagacommand.order.infrastructure.persistence.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션만 복제본으로 보내고, 쓰기와 원본 고정 조회는 원본으로 보낸다")
+    void shouldRouteReadOnlyToReplica_andWritesOrPinnedReadsToPrimary() {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagMonitor("select 0"), meterRegistry);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(DataSourceRole.REPLICA);
+        assertThat(DataSourceRoutingContext.onPrimary(routing::determineCurrentLookupKey)).isEqualTo(DataSourceRole.PRIMARY);
+
+        assertThat(meterRegistry.counter("order.datasource.routes", "role", "replica").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("order.datasource.routes", "role", "primary").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 측정에 실패하면 읽기 전용 조회도 원본으로 우회한다")
+    void shouldFallBackToPrimary_whenReplicaLags() {
+        ReplicaLagMonitor lagging = lagMonitor("select 5");
+        ReplicaLagMonitor failing = lagMonitor("select * from no_such_table");
+        lagging.check();
+        failing.check();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(lagging.isLagging()).isTrue();
+        assertThat(failing.isLagging()).isTrue();
+        assertThat(new ReplicaRoutingDataSource(lagging, meterRegistry).determineCurrentLookupKey())
+                .isEqualTo(DataSourceRole.PRIMARY);
+        assertThat(meterRegistry.counter("order.datasource.replica.lag.fallbacks").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("지연이 허용치 아래로 돌아오면 복제본 조회를 재개한다")
+    void shouldResumeReplica_whenLagRecovers() {
+        JdbcDataSource replica = h2();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "select lag_seconds from replication_lag",
+                Duration.ofSeconds(2), meterRegistry);
+        monitor.check();
+        assertThat(monitor.isLagging()).isTrue();
+
+        new JdbcTemplate(replica)
+                .execute("create table replication_lag as select 1 as lag_seconds");
+        monitor.check();
+        assertThat(monitor.isLagging()).isFalse();
+    }
+
+    private ReplicaLagMonitor lagMonitor(String lagQuery) {
+        return new ReplicaLagMonitor(h2(), lagQuery, Duration.ofSeconds(2), meterRegistry);
+    }
+
+    private static JdbcDataSource h2() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:replica-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
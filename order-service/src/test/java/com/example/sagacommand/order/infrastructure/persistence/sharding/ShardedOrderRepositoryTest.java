@@ -0,0 +1,261 @@
+package com.example.sagacommand.order.infrastructure.persistence.sharding;
+
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardedOrderRepositoryTest {
+
+    private static final int VIRTUAL_NODES = 64;
+
+    private Map<String, OrderShard> shards;
+
+    @BeforeEach
+    void setUp() {
+        shards = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            String name = "shard-" + i;
+            shards.put(name, OrderShard.create(name, h2(name), Map.of(
+                    "hibernate.hbm2ddl.auto", "create-drop",
+                    "hibernate.dialect", "org.hibernate.dialect.H2Dialect")));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.values().forEach(OrderShard::close);
+    }
+
+    @Test
+    @DisplayName("주문은 해시에 따라 여러 샤드에 분산 저장되고 같은 샤드에서 조회된다")
+    void shouldDistributeOrdersAcrossShards() {
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1", "shard-2");
+        ShardedOrderRepository repository = new ShardedOrderRepository(ring);
+
+        List<Order> orders = createOrders(repository, 60);
+
+        for (Order order : orders) {
+            OrderId orderId = OrderId.of(order.getId());
+            Order found = repository.findById(orderId).orElseThrow();
+            assertThat(found.getStatus()).isEqualTo(Order.OrderStatus.CREATED);
+            assertThat(found.getOrderItems()).hasSize(1);
+            assertThat(ring.route(order.getId()).findById(orderId)).isPresent();
+        }
+        shards.values().forEach(shard -> assertThat(shard.findBatchAfter(null, 100)).isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("리샤딩 중에는 이전 샤드의 주문을 조회 시점에 현재 샤드로 옮긴다")
+    void shouldMigrateOnRead_whenResharding() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0", "shard-1"));
+        List<Order> orders = createOrders(before, 60);
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1", "shard-2");
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0", "shard-1"));
+
+        for (Order order : orders) {
+            OrderId orderId = OrderId.of(order.getId());
+            assertThat(resharding.findById(orderId)).isPresent();
+            assertThat(ring.route(order.getId()).findById(orderId)).isPresent();
+        }
+        assertThat(shards.get("shard-2").findBatchAfter(null, 100)).isNotEmpty();
+        assertThat(totalOrders()).isEqualTo(orders.size());
+    }
+
+    @Test
+    @DisplayName("재분배 실행 시 소유 샤드가 바뀐 주문만 이동한다")
+    void shouldMoveOnlyReassignedOrders_whenRebalancing() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0", "shard-1"));
+        List<Order> orders = createOrders(before, 60);
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1", "shard-2");
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0", "shard-1"));
+
+        long migrated = resharding.rebalance(7);
+
+        long reassigned = orders.stream()
+                .filter(order -> ring.route(order.getId()) == shards.get("shard-2"))
+                .count();
+        assertThat(migrated).isEqualTo(reassigned);
+        assertThat(shards.get("shard-2").findBatchAfter(null, 100)).hasSize((int) reassigned);
+        assertThat(totalOrders()).isEqualTo(orders.size());
+        assertThat(resharding.rebalance(7)).isZero();
+    }
+
+    @Test
+    @DisplayName("항목이 있는 주문을 다른 샤드로 옮기면 항목, 상태, 버전이 그대로 남고 이전 샤드에서는 지워진다")
+    void shouldCopyItemsAndState_whenMigratingBetweenShards() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0"));
+        List<UUID> productIds = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        List<Order> orders = IntStream.range(0, 30)
+                .mapToObj(i -> before.save(Order.create(OrderId.generate(), UUID.randomUUID(), productIds.stream()
+                        .map(productId -> OrderItem.create(productId, 2, Money.ofMinor(1_500)))
+                        .toList())))
+                .toList();
+        orders.forEach(order -> assertThat(before.transitionStatus(OrderId.of(order.getId()), Order.OrderStatus.PAID)).isTrue());
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1");
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0"));
+        List<Order> moved = orders.stream()
+                .filter(order -> ring.route(order.getId()) == shards.get("shard-1"))
+                .toList();
+        assertThat(moved).isNotEmpty();
+
+        for (Order order : moved) {
+            OrderId orderId = OrderId.of(order.getId());
+            Order migrated = resharding.findById(orderId).orElseThrow();
+
+            Order stored = shards.get("shard-1").findById(orderId).orElseThrow();
+            assertThat(stored.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+            assertThat(stored.getPreviousStatus()).isEqualTo(Order.OrderStatus.CREATED);
+            assertThat(stored.getVersion()).isEqualTo(1);
+            assertThat(stored.getTotalAmount()).isEqualTo(Money.ofMinor(9_000));
+            assertThat(stored.getOrderItems())
+                    .extracting(OrderItem::getProductId)
+                    .containsExactlyInAnyOrderElementsOf(productIds);
+            assertThat(migrated.getOrderItems()).hasSize(3);
+            assertThat(shards.get("shard-0").findById(orderId)).isEmpty();
+        }
+        assertThat(totalOrders()).isEqualTo(orders.size());
+    }
+
+    @Test
+    @DisplayName("복사 후 삭제 전에 중단되어 사본이 남아 있어도 다시 옮기면 한 벌만 남는다")
+    void shouldLeaveSingleCopy_whenMigrationIsRetriedAfterCrash() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0"));
+        List<Order> orders = createOrders(before, 30);
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1");
+        List<Order> moved = orders.stream()
+                .filter(order -> ring.route(order.getId()) == shards.get("shard-1"))
+                .toList();
+        // 복사만 하고 이전 샤드의 삭제 전에 중단된 상황
+        moved.forEach(order -> shards.get("shard-1").insertIfAbsent(order));
+
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0"));
+        assertThat(resharding.rebalance(7)).isEqualTo(moved.size());
+
+        assertThat(shards.get("shard-1").findBatchAfter(null, 100)).hasSize(moved.size());
+        assertThat(totalOrders()).isEqualTo(orders.size());
+    }
+
+    @Test
+    @DisplayName("대상 샤드에서 이미 전이된 주문은 재분배가 이전 샤드의 사본으로 덮어쓰지 않는다")
+    void shouldNotOverwriteNewerCopy_whenRebalancing() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0"));
+        List<Order> orders = createOrders(before, 30);
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1");
+        Order order = orders.stream()
+                .filter(candidate -> ring.route(candidate.getId()) == shards.get("shard-1"))
+                .findFirst()
+                .orElseThrow();
+        OrderId orderId = OrderId.of(order.getId());
+        // 조회 시점 이동 후 새 샤드에서 전이가 일어났고, 이전 샤드의 삭제는 아직인 상황
+        shards.get("shard-1").insertIfAbsent(order);
+        assertThat(shards.get("shard-1").transitionStatus(orderId, Order.OrderStatus.PAID)).isTrue();
+
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0"));
+        resharding.rebalance(100);
+
+        Order stored = shards.get("shard-1").findById(orderId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(stored.getVersion()).isEqualTo(1);
+        assertThat(shards.get("shard-0").findById(orderId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이어서 적용한 두 전이를 조건부 UPDATE 로 역순으로 되돌리면 각자 기록된 출발 상태로 돌아간다")
+    void shouldRevertStackedTransitions_toEachRecordedPriorStatus() {
+        ShardedOrderRepository repository = new ShardedOrderRepository(ring("shard-0"));
+        OrderId orderId = OrderId.of(createOrders(repository, 1).get(0).getId());
+
+        assertThat(repository.transitionStatus(orderId, Order.OrderStatus.PAID)).isTrue();
+        assertThat(repository.transitionStatus(orderId, Order.OrderStatus.INVENTORY_RESERVED)).isTrue();
+
+        // 적용한 상태가 아니면 되돌리지 않음
+        assertThat(repository.revertStatus(orderId, Order.OrderStatus.PAID, Order.OrderStatus.CREATED)).isFalse();
+        assertThat(repository.revertStatus(orderId, Order.OrderStatus.INVENTORY_RESERVED, Order.OrderStatus.PAID)).isTrue();
+        assertThat(repository.findById(orderId).orElseThrow().getStatus()).isEqualTo(Order.OrderStatus.PAID);
+
+        assertThat(repository.revertStatus(orderId, Order.OrderStatus.PAID, Order.OrderStatus.CREATED)).isTrue();
+        Order reverted = repository.findById(orderId).orElseThrow();
+        assertThat(reverted.getStatus()).isEqualTo(Order.OrderStatus.CREATED);
+        assertThat(reverted.getPreviousStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(reverted.getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("직전 상태는 컬럼만 조회하고, 리샤딩 중이면 아직 옮기지 않은 주문을 이전 샤드에서 읽는다")
+    void shouldReadPreviousStatusColumn_fromOwnerOrPreviousShard() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0", "shard-1"));
+        List<Order> orders = createOrders(before, 30);
+        orders.forEach(order -> before.transitionStatus(OrderId.of(order.getId()), Order.OrderStatus.PAID));
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1", "shard-2");
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0", "shard-1"));
+
+        for (Order order : orders) {
+            OrderId orderId = OrderId.of(order.getId());
+            assertThat(resharding.findPreviousStatus(orderId)).contains(Order.OrderStatus.CREATED);
+        }
+        // 조회만 했으므로 옮기지 않음
+        assertThat(shards.get("shard-2").findBatchAfter(null, 100)).isEmpty();
+        assertThat(resharding.findPreviousStatus(OrderId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("버전은 컬럼만 조회하고, 리샤딩 중이면 아직 옮기지 않은 주문을 이전 샤드에서 읽는다")
+    void shouldReadVersionColumn_fromOwnerOrPreviousShard() {
+        ShardedOrderRepository before = new ShardedOrderRepository(ring("shard-0", "shard-1"));
+        List<Order> orders = createOrders(before, 30);
+
+        ConsistentHashRing<OrderShard> ring = ring("shard-0", "shard-1", "shard-2");
+        ShardedOrderRepository resharding = new ShardedOrderRepository(ring, ring("shard-0", "shard-1"));
+
+        for (Order order : orders) {
+            assertThat(resharding.findVersion(OrderId.of(order.getId()))).contains(order.getVersion());
+        }
+        assertThat(shards.get("shard-2").findBatchAfter(null, 100)).isEmpty();
+        assertThat(resharding.findVersion(OrderId.generate())).isEmpty();
+    }
+
+    private List<Order> createOrders(ShardedOrderRepository repository, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> repository.save(Order.create(OrderId.generate(), UUID.randomUUID(),
+                        List.of(OrderItem.create(UUID.randomUUID(), 1, Money.ofMinor(1_000))))))
+                .toList();
+    }
+
+    private int totalOrders() {
+        return shards.values().stream()
+                .mapToInt(shard -> shard.findBatchAfter(null, 1_000).size())
+                .sum();
+    }
+
+    private ConsistentHashRing<OrderShard> ring(String... names) {
+        Map<String, OrderShard> members = new LinkedHashMap<>();
+        for (String name : names) {
+            members.put(name, shards.get(name));
+        }
+        return new ConsistentHashRing<>(members, VIRTUAL_NODES);
+    }
+
+    private JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
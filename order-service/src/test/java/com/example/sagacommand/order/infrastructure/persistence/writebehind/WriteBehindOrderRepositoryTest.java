@@ -0,0 +1,205 @@
+package com.example.sagacommand.order.infrastructure.persistence.writebehind;
+
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WriteBehindOrderRepositoryTest {
+
+    private RecordingOrderRepository delegate;
+    private WriteBehindOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new RecordingOrderRepository();
+        // 주기 반영이 테스트에 끼어들지 않도록 긴 주기로 두고 flush()를 직접 호출
+        repository = new WriteBehindOrderRepository(delegate, TransactionOperations.withoutTransaction(),
+                Duration.ofHours(1), 2, 1_000, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        delegate.failing = false;
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("반영 전 같은 주문의 여러 저장은 한 번의 저장으로 합쳐진다")
+    void shouldCoalesceWritesToSameOrder() {
+        Order order = newOrder();
+        repository.save(order);
+        order.markAsPaid();
+        repository.save(order);
+        order.markAsInventoryFailed();
+        repository.save(order);
+
+        assertThat(delegate.saves.get()).isZero();
+        assertThat(repository.getCoalescedWrites()).isEqualTo(2);
+
+        assertThat(repository.flush()).isEqualTo(1);
+
+        assertThat(delegate.saves.get()).isEqualTo(1);
+        assertThat(delegate.store.get(order.getId()).getStatus()).isEqualTo(Order.OrderStatus.INVENTORY_FAILED);
+        assertThat(repository.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 전에도 조회는 메모리의 최신 상태를 반환한다")
+    void shouldReadOwnWritesBeforeFlush() {
+        Order order = newOrder();
+        repository.save(order);
+        order.markAsPaid();
+        repository.save(order);
+
+        Order found = repository.findById(OrderId.of(order.getId())).orElseThrow();
+
+        assertThat(found.getStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(delegate.store).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영 이후 작업은 그 시점까지의 변경이 DB에 반영된 뒤에만 실행된다")
+    void shouldRunDurableActionOnlyAfterFlush() {
+        Order order = newOrder();
+        repository.save(order);
+
+        AtomicBoolean acknowledged = new AtomicBoolean();
+        repository.whenDurable(() -> acknowledged.set(true));
+        assertThat(acknowledged).isFalse();
+
+        repository.flush();
+
+        assertThat(acknowledged).isTrue();
+    }
+
+    @Test
+    @DisplayName("반영이 실패하면 변경이 남아 있고 대기 중인 작업도 실행되지 않는다")
+    void shouldKeepPendingWrites_whenFlushFails() {
+        Order order = newOrder();
+        repository.save(order);
+        AtomicBoolean acknowledged = new AtomicBoolean();
+        repository.whenDurable(() -> acknowledged.set(true));
+
+        delegate.failing = true;
+        assertThatThrownBy(() -> repository.flush()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(acknowledged).isFalse();
+        assertThat(repository.getPendingCount()).isEqualTo(1);
+
+        delegate.failing = false;
+        repository.flush();
+
+        assertThat(acknowledged).isTrue();
+        assertThat(delegate.store).containsKey(order.getId());
+    }
+
+    @Test
+    @DisplayName("메모리에 없는 주문은 위임 저장소에서 읽어 온다")
+    void shouldLoadFromDelegate_whenNotCached() {
+        Order order = newOrder();
+        delegate.store.put(order.getId(), order);
+
+        Order found = repository.findById(OrderId.of(order.getId())).orElseThrow();
+
+        assertThat(found).isNotSameAs(order);
+        assertThat(found.getStatus()).isEqualTo(order.getStatus());
+        assertThat(repository.findById(OrderId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조회한 주문은 사본이라 저장하지 않은 변경이 반영 대상에 섞이지 않는다")
+    void shouldReturnCopy_soUnsavedChangesDoNotLeakIntoFlush() {
+        Order order = newOrder();
+        repository.save(order);
+        // 저장 이후 호출자 인스턴스의 변경도 메모리에 영향을 주지 않음
+        order.markAsPaid();
+
+        Order found = repository.findById(OrderId.of(order.getId())).orElseThrow();
+        found.markAsInventoryFailed();
+        repository.flush();
+
+        assertThat(delegate.store.get(order.getId()).getStatus()).isEqualTo(Order.OrderStatus.CREATED);
+        assertThat(repository.findById(OrderId.of(order.getId())).orElseThrow().getStatus())
+                .isEqualTo(Order.OrderStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("조건부 전이는 메모리의 주문에 원자적으로 적용되고 반영 대상이 된다")
+    void shouldTransitionCachedOrderAtomically() throws Exception {
+        Order order = newOrder();
+        repository.save(order);
+        OrderId orderId = OrderId.of(order.getId());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return repository.transitionStatus(orderId, Order.OrderStatus.PAID);
+            }));
+        }
+        start.countDown();
+        int applied = 0;
+        for (Future<Boolean> result : results) {
+            applied += result.get(5, TimeUnit.SECONDS) ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(applied).isEqualTo(1);
+        assertThat(repository.revertStatus(orderId, Order.OrderStatus.PAID, Order.OrderStatus.CREATED)).isTrue();
+        assertThat(repository.revertStatus(orderId, Order.OrderStatus.PAID, Order.OrderStatus.CREATED)).isFalse();
+
+        repository.flush();
+        Order flushed = delegate.store.get(order.getId());
+        assertThat(flushed.getStatus()).isEqualTo(Order.OrderStatus.CREATED);
+        assertThat(flushed.getVersion()).isEqualTo(2);
+    }
+
+    private Order newOrder() {
+        return Order.create(OrderId.generate(), UUID.randomUUID(),
+                List.of(OrderItem.create(UUID.randomUUID(), 1, Money.ofMinor(1_000))));
+    }
+
+    private static class RecordingOrderRepository implements OrderRepository {
+        final Map<UUID, Order> store = new HashMap<>();
+        final AtomicInteger saves = new AtomicInteger();
+        volatile boolean failing;
+
+        @Override
+        public Order save(Order entity) {
+            if (failing) {
+                throw new IllegalStateException("DB 장애");
+            }
+            saves.incrementAndGet();
+            store.put(entity.getId(), entity);
+            return entity;
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId orderId) {
+            return Optional.ofNullable(store.get(orderId.getValue()));
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.sagacommand.order.infrastructure.saga.index;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapSagaIndexTest {
+
+    @Test
+    @DisplayName("전이/되돌리기/종료를 반영하고, 테이블을 늘리거나 지워도 남은 주문을 모두 찾는다")
+    void shouldTrackInFlightOrders_acrossResizeAndRemoval() {
+        OffHeapSagaIndex index = new OffHeapSagaIndex(16, Clock.systemUTC());
+        Map<UUID, OrderStatus> expected = new HashMap<>();
+        Random random = new Random(42);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.recordStatus(id, OrderStatus.CREATED);
+            expected.put(id, OrderStatus.CREATED);
+        }
+        for (UUID id : ids) {
+            switch (random.nextInt(3)) {
+                case 0 -> {
+                    index.recordStatus(id, OrderStatus.CANCELLED);
+                    expected.remove(id);
+                }
+                case 1 -> {
+                    index.recordStatus(id, OrderStatus.PAID);
+                    expected.put(id, OrderStatus.PAID);
+                }
+                default -> {
+                    // 보상으로 되돌린 경우도 되돌아간 상태를 그대로 기록
+                    index.recordStatus(id, OrderStatus.PAYMENT_FAILED);
+                    index.recordStatus(id, OrderStatus.CREATED);
+                }
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        Map<OrderStatus, Integer> counts = new HashMap<>();
+        expected.values().forEach(status -> counts.merge(status, 1, Integer::sum));
+        assertThat(index.countsByStatus()).isEqualTo(counts);
+        assertThat(index.oldest(expected.size()))
+                .extracting(OffHeapSagaIndex.Entry::orderId)
+                .containsExactlyInAnyOrderElementsOf(expected.keySet());
+    }
+
+    @Test
+    @DisplayName("마지막 전이가 오래된 순으로 N건을 반환한다")
+    void shouldReturnOldestByLastTransition() {
+        OffHeapSagaIndex index = new OffHeapSagaIndex(16, Clock.fixed(Instant.EPOCH, ZoneOffset.UTC));
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            index.load(id, OrderStatus.CREATED, Instant.ofEpochSecond(1_000 - i));
+        }
+
+        assertThat(index.oldest(3))
+                .extracting(OffHeapSagaIndex.Entry::orderId)
+                .containsExactly(ids.get(99), ids.get(98), ids.get(97));
+    }
+}
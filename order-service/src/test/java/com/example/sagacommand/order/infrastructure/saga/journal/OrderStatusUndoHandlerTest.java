@@ -0,0 +1,131 @@
+package com.example.sagacommand.order.infrastructure.saga.journal;
+
+import com.example.sagacommand.common.command.ScopedCommandInvoker;
+import com.example.sagacommand.common.journal.MappedSagaJournal;
+import com.example.sagacommand.order.application.command.OrderStatusUndoState;
+import com.example.sagacommand.order.application.command.UpdateOrderStatusCommand;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.model.OrderItem;
+import com.example.sagacommand.order.infrastructure.persistence.sharding.ConsistentHashRing;
+import com.example.sagacommand.order.infrastructure.persistence.sharding.OrderShard;
+import com.example.sagacommand.order.infrastructure.persistence.sharding.ShardedOrderRepository;
+import io.micrometer.observation.ObservationRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderStatusUndoHandlerTest {
+
+    @TempDir
+    Path directory;
+
+    private ShardedOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:journal-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        OrderShard shard = OrderShard.create("shard-0", dataSource, Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        repository = new ShardedOrderRepository(new ConsistentHashRing<>(Map.of("shard-0", shard), 16));
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("두 상태 전이를 기록한 Saga 가 중단되면 재시작 시 각 단계를 기록된 출발 상태로 역순 복구한다")
+    void shouldRevertEachJournaledStatusStep_onRecovery() {
+        OrderId orderId = createOrder();
+
+        try (MappedSagaJournal journal = open()) {
+            ScopedCommandInvoker invoker = new ScopedCommandInvoker(ObservationRegistry.NOOP, journal);
+            invoker.beginSaga(orderId.getValue(), "InventoryReservedEvent");
+            invoker.executeCommand(new UpdateOrderStatusCommand(orderId, Order.OrderStatus.PAID, repository));
+            invoker.executeCommand(new UpdateOrderStatusCommand(orderId, Order.OrderStatus.INVENTORY_RESERVED, repository));
+            // endSaga 없이 종료 (프로세스 중단)
+        }
+        assertThat(status(orderId)).isEqualTo(Order.OrderStatus.INVENTORY_RESERVED);
+
+        try (MappedSagaJournal journal = open()) {
+            assertThat(journal.getActiveSagas()).isZero();
+        }
+
+        Order recovered = repository.findById(orderId).orElseThrow();
+        assertThat(recovered.getStatus()).isEqualTo(Order.OrderStatus.CREATED);
+        assertThat(recovered.getPreviousStatus()).isEqualTo(Order.OrderStatus.PAID);
+        assertThat(recovered.getVersion()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("출발 상태가 없는 이전 형식의 기록도 전이 표로 출발 상태를 정해 복구한다")
+    void shouldRevertLegacyUndoState_withoutPriorStatus() {
+        OrderId orderId = createOrder();
+        repository.transitionStatus(orderId, Order.OrderStatus.PAID);
+
+        try (MappedSagaJournal journal = open()) {
+            long sagaId = journal.begin(orderId.getValue(), "PaymentCompletedEvent");
+            journal.intent(sagaId, 0, OrderStatusUndoState.JOURNAL_TYPE);
+            journal.completed(sagaId, 0, OrderStatusUndoState.JOURNAL_TYPE, legacyState(orderId, Order.OrderStatus.PAID));
+        }
+
+        try (MappedSagaJournal ignored = open()) {
+            assertThat(status(orderId)).isEqualTo(Order.OrderStatus.CREATED);
+        }
+    }
+
+    @Test
+    @DisplayName("되돌리기 상태는 적용 상태와 출발 상태를 함께 보존하고, 이전 형식은 출발 상태 없이 읽는다")
+    void shouldRoundTripUndoState_andReadLegacyFormat() {
+        OrderId orderId = OrderId.generate();
+        OrderStatusUndoState state = new OrderStatusUndoState(orderId, Order.OrderStatus.CANCELLED, Order.OrderStatus.PAID);
+
+        assertThat(OrderStatusUndoState.decode(state.encode())).isEqualTo(state);
+        assertThat(OrderStatusUndoState.decode(legacyState(orderId, Order.OrderStatus.CANCELLED)))
+                .isEqualTo(new OrderStatusUndoState(orderId, Order.OrderStatus.CANCELLED, null));
+    }
+
+    private MappedSagaJournal open() {
+        return MappedSagaJournal.open(directory, 1024 * 1024, true, Duration.ZERO,
+                List.of(new OrderStatusUndoHandler(repository)));
+    }
+
+    private OrderId createOrder() {
+        Order order = repository.save(Order.create(OrderId.generate(), UUID.randomUUID(),
+                List.of(OrderItem.create(UUID.randomUUID(), 1, Money.ofMinor(1_000)))));
+        return OrderId.of(order.getId());
+    }
+
+    private Order.OrderStatus status(OrderId orderId) {
+        return repository.findById(orderId).orElseThrow().getStatus();
+    }
+
+    // 출발 상태를 기록하기 전 형식: [주문 ID 상위][주문 ID 하위][적용 상태 이름]
+    private static byte[] legacyState(OrderId orderId, Order.OrderStatus applied) {
+        byte[] status = applied.name().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(Long.BYTES * 2 + status.length)
+                .putLong(orderId.getValue().getMostSignificantBits())
+                .putLong(orderId.getValue().getLeastSignificantBits())
+                .put(status)
+                .array();
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.sagacommand.order.infrastructure.statuscount;
+
+import com.example.sagacommand.order.domain.model.Order.OrderStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedOrderStatusCountersTest {
+
+    @Test
+    @DisplayName("여러 스레드의 전이를 잃지 않고, 기록 전후로 같은 값을 보인다")
+    void shouldKeepCounts_acrossConcurrentTransitionsAndCheckpoint() throws InterruptedException {
+        InMemoryStore store = new InMemoryStore();
+        store.orders.put(OrderStatus.COMPLETED, 100L);
+        StripedOrderStatusCounters counters = new StripedOrderStatusCounters(store, Clock.systemUTC());
+        counters.start();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8_000; i++) {
+            executor.execute(() -> {
+                counters.recordTransition(null, OrderStatus.CREATED);
+                counters.recordTransition(OrderStatus.CREATED, OrderStatus.PAID);
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counters.count(OrderStatus.CREATED)).isZero();
+        assertThat(counters.count(OrderStatus.PAID)).isEqualTo(8_000);
+        assertThat(counters.count(OrderStatus.COMPLETED)).isEqualTo(100);
+
+        counters.checkpoint();
+        counters.checkpoint();
+
+        assertThat(store.summary).containsEntry(OrderStatus.PAID, 8_000L).containsEntry(OrderStatus.COMPLETED, 100L);
+        assertThat(counters.count(OrderStatus.PAID)).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("인스턴스마다 자신의 변경분만 더하므로 기록 후에는 모든 인스턴스의 변경이 합계에 보인다")
+    void shouldMergeChangesFromAllInstances_whenCheckpointed() {
+        InMemoryStore store = new InMemoryStore();
+        StripedOrderStatusCounters first = new StripedOrderStatusCounters(store, Clock.systemUTC());
+        StripedOrderStatusCounters second = new StripedOrderStatusCounters(store, Clock.systemUTC());
+        first.start();
+        second.start();
+
+        first.recordTransition(null, OrderStatus.CREATED);
+        first.recordTransition(null, OrderStatus.CREATED);
+        second.recordTransition(OrderStatus.CREATED, OrderStatus.CANCELLED);
+        second.recordRemoved(OrderStatus.CANCELLED, 1);
+        first.checkpoint();
+        second.checkpoint();
+        first.checkpoint();
+
+        assertThat(first.count(OrderStatus.CREATED)).isEqualTo(1);
+        assertThat(second.count(OrderStatus.CREATED)).isEqualTo(1);
+        assertThat(first.count(OrderStatus.CANCELLED)).isZero();
+    }
+
+    @Test
+    @DisplayName("대사하면 orders 기준으로 바로잡고 바로잡은 차이를 남긴다")
+    void shouldCorrectDrift_whenReconciled() {
+        InMemoryStore store = new InMemoryStore();
+        store.orders.put(OrderStatus.CREATED, 3L);
+        StripedOrderStatusCounters counters = new StripedOrderStatusCounters(store, Clock.systemUTC());
+        counters.start();
+        assertThat(counters.count(OrderStatus.CREATED)).isEqualTo(3);
+
+        // 카운터를 거치지 않은 변경 (예: 수동 수정)
+        store.orders.put(OrderStatus.CREATED, 1L);
+        store.orders.put(OrderStatus.PAID, 2L);
+        counters.recordTransition(null, OrderStatus.CREATED);
+        store.orders.merge(OrderStatus.CREATED, 1L, Long::sum);
+
+        counters.reconcile();
+
+        assertThat(counters.getLastDrift()).isEqualTo(4);
+        assertThat(counters.counts()).containsEntry(OrderStatus.CREATED, 2L).containsEntry(OrderStatus.PAID, 2L);
+        assertThat(store.summary).containsEntry(OrderStatus.CREATED, 2L).containsEntry(OrderStatus.PAID, 2L);
+    }
+
+    @Test
+    @DisplayName("대사를 맡지 않은 인스턴스는 orders 를 세지 않고, 맡은 인스턴스가 채운 합계를 읽는다")
+    void shouldSkipOrdersScan_whenReconcileDisabled() {
+        InMemoryStore store = new InMemoryStore();
+        store.orders.put(OrderStatus.CREATED, 5L);
+        StripedOrderStatusCounters follower = new StripedOrderStatusCounters(store, Clock.systemUTC(), false);
+        follower.start();
+        follower.reconcileScheduled();
+
+        assertThat(store.countQueries).isZero();
+        assertThat(follower.count(OrderStatus.CREATED)).isZero();
+
+        StripedOrderStatusCounters reconciler = new StripedOrderStatusCounters(store, Clock.systemUTC(), true);
+        reconciler.start();
+        follower.checkpoint();
+
+        assertThat(store.countQueries).isEqualTo(1);
+        assertThat(follower.count(OrderStatus.CREATED)).isEqualTo(5);
+    }
+
+    private static class InMemoryStore implements StripedOrderStatusCounters.Store {
+        final Map<OrderStatus, Long> summary = new EnumMap<>(OrderStatus.class);
+        final Map<OrderStatus, Long> orders = new EnumMap<>(OrderStatus.class);
+        int countQueries;
+
+        @Override
+        public synchronized Map<OrderStatus, Long> load() {
+            return new EnumMap<>(summary);
+        }
+
+        @Override
+        public synchronized void add(Map<OrderStatus, Long> deltas) {
+            deltas.forEach((status, delta) -> summary.merge(status, delta, Long::sum));
+        }
+
+        @Override
+        public synchronized void replace(Map<OrderStatus, Long> counts) {
+            summary.putAll(counts);
+        }
+
+        @Override
+        public synchronized Map<OrderStatus, Long> countOrders() {
+            countQueries++;
+            return new EnumMap<>(orders);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.sagacommand.order.infrastructure.warmup;
+
+import com.example.sagacommand.common.saga.EventHandler;
+import com.example.sagacommand.order.application.OrderEventPublisher;
+import com.example.sagacommand.order.application.command.OrderCommandFactory;
+import com.example.sagacommand.order.domain.model.Money;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.InMemoryOrderRepository;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.infrastructure.catalog.StubProductCatalog;
+import com.example.sagacommand.order.infrastructure.saga.InventoryReservationFailedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentCompletedEventHandler;
+import com.example.sagacommand.order.infrastructure.saga.PaymentFailedEventHandler;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderWarmUpTest {
+
+    private final OrderRepository repository = mock(OrderRepository.class);
+    private final OrderEventPublisher publisher = mock(OrderEventPublisher.class);
+    private final OrderCommandFactory factory =
+            new OrderCommandFactory(repository, publisher, new StubProductCatalog(Money.ofMinor(10_000)));
+    private final List<EventHandler<?>> handlers = List.of(
+            new PaymentCompletedEventHandler(factory),
+            new PaymentFailedEventHandler(factory),
+            new InventoryReservationFailedEventHandler(factory)
+    );
+
+    @Test
+    @DisplayName("합성 흐름은 실제 커맨드/Saga 코드를 실행하지만 실제 저장소와 발행기는 사용하지 않고 종료 상태로 끝난다")
+    void shouldRunFlowsAgainstScratchRepository() {
+        SyntheticOrderFlow flow = new SyntheticOrderFlow(factory, handlers, new ObjectMapper(), 4);
+
+        for (int i = 0; i < 6; i++) {
+            assertThat(flow.run(i)).isEqualTo(Order.OrderStatus.CANCELLED);
+        }
+        verifyNoInteractions(repository, publisher);
+    }
+
+    @Test
+    @DisplayName("라운드를 반복한 뒤 결과를 보고하고, 실제 저장소에는 조회만 한다")
+    void shouldReportRoundsAndOnlyReadFromRepository() {
+        SyntheticOrderFlow flow = new SyntheticOrderFlow(factory, handlers, new ObjectMapper(), 4);
+        AtomicInteger listenerStarts = new AtomicInteger();
+        OrderWarmUp warmUp = new OrderWarmUp(null, null, repository, flow, new OrderWarmUp.Settings(
+                0, List.of(), 3, 2, 3, 20, Duration.ZERO, Duration.ofSeconds(30)), listenerStarts::incrementAndGet);
+
+        warmUp.run(null);
+
+        OrderWarmUp.Report report = warmUp.getReport();
+        assertThat(report.rounds()).isBetween(2, 3);
+        assertThat(report.iterations()).isEqualTo(report.rounds() * 20);
+        assertThat(report.failures()).isZero();
+        assertThat(report.firstRoundP99()).isPositive();
+        verify(repository).findById(any(OrderId.class));
+        verify(repository).findVersion(any(OrderId.class));
+        verify(repository, never()).save(any(Order.class));
+        verifyNoInteractions(publisher);
+        // DB 저장소가 없으면 DB 흐름은 건너뛰고, 리스너는 워밍업이 끝난 뒤 한 번 시작
+        assertThat(report.dbFlows()).isZero();
+        assertThat(listenerStarts).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("DB 흐름은 쓰기 경로를 실제 저장소로 실행하고 트랜잭션을 롤백하며, 리스너는 그 뒤에 시작한다")
+    void shouldRunWritePathsInRollbackOnlyTransactions_beforeStartingListeners() {
+        InMemoryOrderRepository database = new InMemoryOrderRepository();
+        AtomicInteger flushes = new AtomicInteger();
+        List<Boolean> rolledBack = new ArrayList<>();
+        TransactionOperations transactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                SimpleTransactionStatus status = new SimpleTransactionStatus();
+                T result = action.doInTransaction(status);
+                rolledBack.add(status.isRollbackOnly());
+                return result;
+            }
+        };
+        SyntheticOrderFlow flow = new SyntheticOrderFlow(factory, handlers, new ObjectMapper(), 4,
+                new SyntheticOrderFlow.RollbackOnlyDatabase(database, flushes::incrementAndGet, transactions));
+        List<String> steps = new ArrayList<>();
+        OrderWarmUp warmUp = new OrderWarmUp(null, null, repository, flow, new OrderWarmUp.Settings(
+                0, List.of(), 3, 1, 1, 5, Duration.ZERO, Duration.ofSeconds(30)),
+                () -> steps.add("listeners after " + rolledBack.size() + " db flows"));
+
+        warmUp.run(null);
+
+        assertThat(warmUp.getReport().dbFlows()).isEqualTo(3);
+        assertThat(rolledBack).containsExactly(true, true, true);
+        assertThat(flushes).hasValue(3);
+        assertThat(steps).containsExactly("listeners after 3 db flows");
+        verify(repository, never()).save(any(Order.class));
+        verifyNoInteractions(publisher);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.sagacommand.order.presentation;
+
+import com.example.sagacommand.order.application.OrderService;
+import com.example.sagacommand.order.application.dto.OrderResult;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class OrderControllerTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+    private final OrderController controller = new OrderController(orderService);
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 버전과 같으면 버전만 조회하고 본문 없이 304 로 응답한다")
+    void shouldAnswerNotModified_whenVersionMatches() {
+        String orderId = UUID.randomUUID().toString();
+        when(orderService.getOrderVersion(orderId)).thenReturn(Optional.of(3L));
+
+        ResponseEntity<OrderResult> response = controller.getOrder(orderId, "W/\"v2\", \"v3\"");
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"v3\"");
+        assertThat(response.getBody()).isNull();
+        verify(orderService, never()).getOrder(orderId);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었거나 버전 조회가 안 되면 전체를 조회해 새 ETag 와 함께 응답한다")
+    void shouldReturnBodyWithETag_whenVersionChangedOrUnknown() {
+        Order order = Order.create(OrderId.generate(), UUID.randomUUID(), List.of());
+        order.markAsPaid();
+        String orderId = order.getId().toString();
+        when(orderService.getOrder(orderId)).thenReturn(OrderResult.from(order));
+
+        when(orderService.getOrderVersion(orderId)).thenReturn(Optional.of(order.getVersion()));
+        ResponseEntity<OrderResult> changed = controller.getOrder(orderId, "\"v0\"");
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getHeaders().getETag()).isEqualTo("\"v1\"");
+
+        // 보관된 주문 등 버전 컬럼으로 찾지 못한 경우
+        when(orderService.getOrderVersion(orderId)).thenReturn(Optional.empty());
+        assertThat(controller.getOrder(orderId, "\"v1\"").getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        assertThat(controller.getOrder(orderId, null).getBody()).isNotNull();
+        verify(orderService, times(2)).getOrderVersion(orderId);
+    }
+}
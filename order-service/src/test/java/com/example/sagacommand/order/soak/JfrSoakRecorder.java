@@ -0,0 +1,107 @@
+package com.example.sagacommand.order.soak;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트 JVM 안에서 JFR 이벤트를 스트리밍으로 받아 soak 지표를 집계합니다.
+ * <ul>
+ *     <li>jdk.ObjectAllocationSample: 샘플 가중치(weight) 합으로 누적 할당량 추정</li>
+ *     <li>jdk.GCHeapSummary (After GC): GC 직후 힙 사용량 (System.gc() 로 강제한 GC 의 값을 잔존 힙으로 사용)</li>
+ *     <li>jdk.GarbageCollection: GC 횟수와 정지 시간 (강제 GC 는 최대 정지 시간에서 제외)</li>
+ * </ul>
+ */
+class JfrSoakRecorder implements AutoCloseable {
+    private static final String SYSTEM_GC = "System.gc()";
+
+    private final RecordingStream stream = new RecordingStream();
+
+    private final AtomicLong allocatedBytes = new AtomicLong();
+    private final AtomicLong gcCount = new AtomicLong();
+    private final AtomicLong totalPauseNanos = new AtomicLong();
+    private final AtomicLong longestPauseNanos = new AtomicLong();
+
+    private final Map<Long, Long> heapAfterGc = new ConcurrentHashMap<>();
+    private final AtomicLong lastSystemGcId = new AtomicLong(-1);
+
+    JfrSoakRecorder() {
+        stream.enable("jdk.ObjectAllocationSample").with("throttle", "1000/s");
+        stream.enable("jdk.GCHeapSummary");
+        stream.enable("jdk.GarbageCollection");
+
+        stream.onEvent("jdk.ObjectAllocationSample", event -> allocatedBytes.addAndGet(event.getLong("weight")));
+        stream.onEvent("jdk.GCHeapSummary", event -> {
+            if ("After GC".equals(event.getString("when"))) {
+                heapAfterGc.put((long) event.getInt("gcId"), event.getLong("heapUsed"));
+            }
+        });
+        stream.onEvent("jdk.GarbageCollection", this::onGarbageCollection);
+        stream.startAsync();
+    }
+
+    private void onGarbageCollection(RecordedEvent event) {
+        gcCount.incrementAndGet();
+        totalPauseNanos.addAndGet(event.getDuration("sumOfPauses").toNanos());
+        if (SYSTEM_GC.equals(event.getString("cause"))) {
+            lastSystemGcId.accumulateAndGet(event.getInt("gcId"), Math::max);
+            return;
+        }
+        longestPauseNanos.accumulateAndGet(event.getDuration("longestPause").toNanos(), Math::max);
+    }
+
+    /**
+     * 전체 GC 를 강제한 뒤 그 GC 직후의 힙 사용량을 JFR 이벤트로 받아 반환합니다.
+     */
+    long retainedHeapAfterFullGc(Duration timeout) throws InterruptedException {
+        long previous = lastSystemGcId.get();
+        System.gc();
+
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            long gcId = lastSystemGcId.get();
+            if (gcId > previous) {
+                Long heapUsed = heapAfterGc.get(gcId);
+                if (heapUsed != null) {
+                    return heapUsed;
+                }
+            }
+            Thread.sleep(100);
+        }
+        throw new IllegalStateException("JFR 에서 강제 GC 이후 힙 사용량을 받지 못했습니다 (" + timeout + ")");
+    }
+
+    long allocatedBytes() {
+        return allocatedBytes.get();
+    }
+
+    long gcCount() {
+        return gcCount.get();
+    }
+
+    Duration totalPause() {
+        return Duration.ofNanos(totalPauseNanos.get());
+    }
+
+    Duration longestPause() {
+        return Duration.ofNanos(longestPauseNanos.get());
+    }
+
+    /**
+     * 분석용으로 지금까지의 기록을 .jfr 파일로 남깁니다 (JDK Mission Control 등에서 열람).
+     */
+    void dump(Path file) throws IOException {
+        stream.dump(file);
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+}
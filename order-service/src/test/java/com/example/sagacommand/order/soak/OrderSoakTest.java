@@ -0,0 +1,208 @@
+package com.example.sagacommand.order.soak;
+
+import com.example.sagacommand.common.event.InventoryReservationFailedEvent;
+import com.example.sagacommand.common.event.PaymentCompletedEvent;
+import com.example.sagacommand.common.event.PaymentFailedEvent;
+import com.example.sagacommand.order.application.dto.OrderResult;
+import com.example.sagacommand.order.domain.model.Order;
+import com.example.sagacommand.order.domain.model.OrderId;
+import com.example.sagacommand.order.domain.repository.OrderRepository;
+import com.example.sagacommand.order.presentation.dto.CreateOrderRequest;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * 장시간 부하(soak) 테스트: HTTP 주문 생성/조회와 Saga 이벤트를 일정 시간 동안 계속 흘려보내며
+ * 잔존 힙 증가, 연산당 할당량, GC 정지 시간을 JFR 로 측정하고 임계치를 넘으면 실패합니다.
+ * <p>
+ * 기본 test 태스크에서는 제외되며 soakTest 태스크로 실행합니다.
+ * <pre>./gradlew :order-service:soakTest -PsoakDuration=10m</pre>
+ * 주문 데이터가 힙에 쌓이지 않도록 H2 는 파일 모드로 사용합니다 (힙 증가는 누수로만 나타남).
+ * 이전 실행의 데이터가 남지 않도록 컨텍스트를 띄우기 전에 DB 파일을 지웁니다.
+ */
+@Tag("soak")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.springframework.kafka=INFO"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1,
+        topics = {"order-events", "payment-events", "inventory-events", "shipping-events"})
+class OrderSoakTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderSoakTest.class);
+    private static final Path REPORT_DIR = Path.of(System.getProperty("soak.report-dir", "build/soak"));
+
+    private final Duration duration = DurationStyle.detectAndParse(System.getProperty("soak.duration", "1m"));
+    private final Duration warmUp = DurationStyle.detectAndParse(System.getProperty("soak.warm-up", "15s"));
+    private final int concurrency = Integer.getInteger("soak.concurrency", 4);
+    private final long maxRetainedBytesPerOp = Long.getLong("soak.max-retained-bytes-per-op", 256);
+    private final long maxAllocatedBytesPerOp = Long.getLong("soak.max-allocated-bytes-per-op", 2 * 1024 * 1024);
+    private final Duration maxGcPause = DurationStyle.detectAndParse(System.getProperty("soak.max-gc-pause", "200ms"));
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private final AtomicLong operations = new AtomicLong();
+
+    @DynamicPropertySource
+    static void soakDatabase(DynamicPropertyRegistry registry) throws IOException {
+        Files.createDirectories(REPORT_DIR);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(REPORT_DIR, "orderdb.*")) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        String url = "jdbc:h2:file:" + REPORT_DIR.resolve("orderdb").toAbsolutePath() + ";CACHE_SIZE=8192";
+        registry.add("spring.datasource.url", () -> url);
+    }
+
+    @Test
+    void shouldKeepHeapAndAllocationStable_underSustainedLoad() throws Exception {
+        try (JfrSoakRecorder recorder = new JfrSoakRecorder();
+             Producer<String, Object> producer = producer()) {
+
+            // 워밍업: JIT, 커넥션 풀, 캐시 등이 안정화된 뒤를 기준선으로 삼음
+            drive(producer, warmUp);
+            long baselineHeap = recorder.retainedHeapAfterFullGc(Duration.ofSeconds(30));
+            long baselineAllocated = recorder.allocatedBytes();
+            long baselineOps = operations.get();
+
+            UUID lastOrderId = drive(producer, duration);
+            // 마지막 주문의 이벤트까지 처리된 뒤 측정
+            await().atMost(30, TimeUnit.SECONDS).untilAsserted(() -> assertThat(
+                    orderRepository.findById(OrderId.of(lastOrderId)).orElseThrow().getStatus())
+                    .isNotEqualTo(Order.OrderStatus.CREATED));
+
+            long ops = operations.get() - baselineOps;
+            long retainedHeap = recorder.retainedHeapAfterFullGc(Duration.ofSeconds(30));
+            long retainedPerOp = Math.max(0, retainedHeap - baselineHeap) / ops;
+            long allocatedPerOp = (recorder.allocatedBytes() - baselineAllocated) / ops;
+
+            recorder.dump(REPORT_DIR.resolve("soak.jfr"));
+            String summary = String.format("""
+                            duration=%s, operations=%d (%.0f ops/s)
+                            retained heap: baseline=%,d B, end=%,d B, per op=%d B (limit %d B)
+                            allocation per op=%,d B (limit %,d B)
+                            gc: count=%d, total pause=%s, longest pause=%s (limit %s, System.gc() 제외)
+                            """,
+                    duration, ops, ops / (double) duration.toSeconds(),
+                    baselineHeap, retainedHeap, retainedPerOp, maxRetainedBytesPerOp,
+                    allocatedPerOp, maxAllocatedBytesPerOp,
+                    recorder.gcCount(), recorder.totalPause(), recorder.longestPause(), maxGcPause);
+            Files.writeString(REPORT_DIR.resolve("soak-summary.txt"), summary);
+            log.info("[soak]\n{}", summary);
+
+            assertThat(retainedPerOp).as("연산당 잔존 힙 증가 (누수 의심)").isLessThanOrEqualTo(maxRetainedBytesPerOp);
+            assertThat(allocatedPerOp).as("연산당 할당량").isLessThanOrEqualTo(maxAllocatedBytesPerOp);
+            assertThat(recorder.longestPause()).as("최대 GC 정지 시간").isLessThanOrEqualTo(maxGcPause);
+        }
+    }
+
+    /**
+     * 주어진 시간 동안 concurrency 개의 스레드가 주문 생성 → Saga 이벤트 발행 → 조회를 반복합니다.
+     *
+     * @return 마지막으로 생성된 주문 ID
+     */
+    private UUID drive(Producer<String, Object> producer, Duration period) throws Exception {
+        long deadline = System.nanoTime() + period.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<UUID>> workers = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> {
+                    UUID last = null;
+                    for (long n = 0; System.nanoTime() < deadline; n++) {
+                        last = runIteration(producer, n);
+                    }
+                    return last;
+                }));
+            }
+            UUID last = null;
+            for (Future<UUID> worker : workers) {
+                last = worker.get();
+            }
+            producer.flush();
+            return last;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private UUID runIteration(Producer<String, Object> producer, long n) {
+        ResponseEntity<OrderResult> created = restTemplate.postForEntity("/api/orders",
+                new CreateOrderRequest(UUID.randomUUID(), List.of(UUID.randomUUID(), UUID.randomUUID())),
+                OrderResult.class);
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.OK);
+        UUID orderId = created.getBody().orderId();
+        operations.incrementAndGet();
+
+        // 성공 80%, 결제 실패 10%, 재고 실패 10%
+        String key = orderId.toString();
+        switch ((int) (n % 10)) {
+            case 0 -> producer.send(new ProducerRecord<>("payment-events", key, PaymentFailedEvent.of(orderId, "soak")));
+            case 1 -> producer.send(new ProducerRecord<>("inventory-events", key,
+                    InventoryReservationFailedEvent.of(orderId, "soak")));
+            default -> producer.send(new ProducerRecord<>("payment-events", key,
+                    PaymentCompletedEvent.of(orderId, UUID.randomUUID(), BigDecimal.valueOf(10_000))));
+        }
+        operations.incrementAndGet();
+
+        restTemplate.getForEntity("/api/orders/{orderId}", OrderResult.class, orderId);
+        operations.incrementAndGet();
+        return orderId;
+    }
+
+    private Producer<String, Object> producer() {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(embeddedKafkaBroker);
+        JsonSerializer<Object> serializer = new JsonSerializer<>();
+        serializer.setAddTypeInfo(true);
+        return new DefaultKafkaProducerFactory<>(producerProps, new StringSerializer(), serializer).createProducer();
+    }
+}